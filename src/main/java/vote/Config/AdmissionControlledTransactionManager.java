@@ -0,0 +1,66 @@
+package vote.Config;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import vote.Exception.ServiceUnavailableException;
+import vote.Util.AdmissionGate;
+
+/**
+ * JPA transaction manager that admits at most as many transactions as the
+ * connection pool can serve. Callers beyond that queue on the
+ * {@link AdmissionGate} and get 503 + Retry-After if no connection frees up
+ * in time, rather than a pool timeout. Repository calls outside a service
+ * transaction still open one, so they are gated too. Only new physical
+ * transactions reach {@link #doBegin}, and each takes its own permit: a
+ * REQUIRES_NEW inside another transaction holds a second connection, so it
+ * draws on the gate's nested reserve rather than passing through.
+ */
+public class AdmissionControlledTransactionManager extends JpaTransactionManager {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient AdmissionGate gate;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlledTransactionManager(AdmissionGate gate, long timeoutMillis, long retryAfterSeconds) {
+        this.gate = gate;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        boolean admitted;
+        try {
+            admitted = gate.enter(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for a database connection", retryAfterSeconds);
+        }
+        if (!admitted) {
+            throw new ServiceUnavailableException("Database is busy, please retry shortly", retryAfterSeconds);
+        }
+
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            // No completion callback follows a failed begin
+            gate.exit();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            gate.exit();
+        }
+    }
+}
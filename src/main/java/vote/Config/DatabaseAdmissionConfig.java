@@ -0,0 +1,43 @@
+package vote.Config;
+
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import vote.Util.AdmissionGate;
+
+/**
+ * Puts an {@link AdmissionGate} sized to the connection pool in front of
+ * every JPA transaction. With virtual threads there is no request thread
+ * pool to cap concurrency, so this is what keeps a burst of voters from
+ * piling into HikariCP and timing out there.
+ */
+@Configuration
+public class DatabaseAdmissionConfig {
+
+    @Bean
+    public AdmissionGate databaseAdmissionGate(
+            @Value("${voting.db.admission.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${voting.db.admission.nested-reserve:2}") int nestedReserve) {
+        if (nestedReserve < 0 || nestedReserve >= permits) {
+            throw new IllegalArgumentException("voting.db.admission.nested-reserve must be between 0 and permits - 1");
+        }
+        return new AdmissionGate(permits, nestedReserve);
+    }
+
+    // Replaces Boot's default JpaTransactionManager (same customizers, same bean name)
+    @Bean
+    public PlatformTransactionManager transactionManager(AdmissionGate databaseAdmissionGate,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers,
+                                                         @Value("${voting.db.admission.timeout-ms:30000}") long timeoutMillis,
+                                                         @Value("${voting.db.admission.retry-after-seconds:2}") long retryAfterSeconds) {
+        AdmissionControlledTransactionManager transactionManager =
+                new AdmissionControlledTransactionManager(databaseAdmissionGate, timeoutMillis, retryAfterSeconds);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,74 @@
+package vote.Config;
+
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Moves every id sequence (or sequence table on MySQL) past the highest id
+ * already in its entity table. Rows written while ids were IDENTITY columns
+ * would otherwise collide with the first ids handed out by the new pooled
+ * sequences. Runs once at startup, before anything is inserted.
+ */
+@Configuration
+public class IdSequenceConfig implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceConfig.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceConfig(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator) {
+                try {
+                    align(dialect, generator.getDatabaseStructure(), persister);
+                } catch (DataAccessException e) {
+                    logger.warn("Could not align id sequence for {}: {}", persister.getEntityName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void align(Dialect dialect, DatabaseStructure structure, EntityPersister persister) {
+        String idColumn = ((AbstractEntityPersister) persister).getIdentifierColumnNames()[0];
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + idColumn + ") FROM " + persister.getRootTableName(), Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        long floor = maxId + 1;
+        String name = structure.getPhysicalName().render();
+        if (structure.isPhysicalSequence()) {
+            Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(name), Long.class);
+            if (next != null && next < floor) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + floor);
+                logger.info("Restarted id sequence {} at {}", name, floor);
+            }
+        } else if (jdbcTemplate.update("UPDATE " + name + " SET next_val = ? WHERE next_val < ?", floor, floor) > 0) {
+            logger.info("Moved id table {} to {}", name, floor);
+        }
+    }
+}
@@ -1,5 +1,22 @@
 package vote.Config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import vote.Util.AdaptiveConcurrencyLimiter;
+
+@Configuration
 public class RateLimitConfig {
 
+    // Shared by the voting and verification endpoints
+    @Bean
+    public AdaptiveConcurrencyLimiter votingConcurrencyLimiter(
+            @Value("${voting.limiter.initial-limit:20}") int initialLimit,
+            @Value("${voting.limiter.min-limit:4}") int minLimit,
+            @Value("${voting.limiter.max-limit:500}") int maxLimit,
+            @Value("${voting.limiter.tolerance:2.0}") double tolerance,
+            @Value("${voting.limiter.low-priority-share:0.5}") double lowPriorityShare) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, lowPriorityShare);
+    }
 }
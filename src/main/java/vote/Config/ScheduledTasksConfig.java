@@ -7,8 +7,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import vote.Service.CardinalityService;
+import vote.Service.ElectionResultService;
 import vote.Service.ElectionService;
+import vote.Service.IdempotencyService;
+import vote.Service.LiveTallyService;
+import vote.Service.LiveTallyStreamService;
 import vote.Service.OTPService;
+import vote.Service.ParticipationService;
 
 @Configuration
 @EnableScheduling
@@ -18,10 +24,27 @@ public class ScheduledTasksConfig {
 
     private final ElectionService electionService;
     private final OTPService otpService;
+    private final LiveTallyService liveTallyService;
+    private final IdempotencyService idempotencyService;
+    private final ParticipationService participationService;
+    private final ElectionResultService electionResultService;
+    private final LiveTallyStreamService liveTallyStreamService;
+    private final CardinalityService cardinalityService;
 
-    public ScheduledTasksConfig(ElectionService electionService, OTPService otpService) {
+    public ScheduledTasksConfig(ElectionService electionService, OTPService otpService,
+                                LiveTallyService liveTallyService, IdempotencyService idempotencyService,
+                                ParticipationService participationService,
+                                ElectionResultService electionResultService,
+                                LiveTallyStreamService liveTallyStreamService,
+                                CardinalityService cardinalityService) {
         this.electionService = electionService;
         this.otpService = otpService;
+        this.liveTallyService = liveTallyService;
+        this.idempotencyService = idempotencyService;
+        this.participationService = participationService;
+        this.electionResultService = electionResultService;
+        this.liveTallyStreamService = liveTallyStreamService;
+        this.cardinalityService = cardinalityService;
     }
 
     // Run every minute to update election statuses
@@ -35,6 +58,68 @@ public class ScheduledTasksConfig {
         }
     }
 
+    // Persist in-memory live tallies to the candidate rows
+    @Scheduled(fixedDelayString = "${voting.tally.flush-interval-ms:5000}")
+    public void flushLiveTallies() {
+        try {
+            int updated = liveTallyService.flush();
+            if (updated > 0) {
+                logger.debug("Flushed {} candidate tallies", updated);
+            }
+        } catch (Exception e) {
+            logger.error("Error flushing live tallies: {}", e.getMessage(), e);
+        }
+    }
+
+    // Persist participation bitmaps that changed since their last snapshot
+    @Scheduled(fixedDelayString = "${voting.participation.snapshot-interval-ms:60000}")
+    public void snapshotParticipation() {
+        try {
+            int written = participationService.snapshot();
+            if (written > 0) {
+                logger.debug("Snapshotted participation for {} elections", written);
+            }
+        } catch (Exception e) {
+            logger.error("Error snapshotting participation: {}", e.getMessage(), e);
+        }
+    }
+
+    // Recompute the results read model for elections that received votes
+    @Scheduled(fixedDelayString = "${voting.results.refresh-interval-ms:2000}")
+    public void refreshElectionResults() {
+        try {
+            int refreshed = electionResultService.refresh();
+            if (refreshed > 0) {
+                logger.debug("Refreshed results for {} elections", refreshed);
+            }
+        } catch (Exception e) {
+            logger.error("Error refreshing election results: {}", e.getMessage(), e);
+        }
+    }
+
+    // Push one coalesced frame per watched election that received votes since the last tick
+    @Scheduled(fixedRateString = "#{@liveTallyStreamServiceImpl.framePeriodMillis}")
+    public void publishLiveTallies() {
+        try {
+            liveTallyStreamService.publish();
+        } catch (Exception e) {
+            logger.error("Error publishing live tallies: {}", e.getMessage(), e);
+        }
+    }
+
+    // Merge distinct-count sketches gathered since the last flush into cardinality_sketches
+    @Scheduled(fixedDelayString = "${voting.cardinality.flush-interval-ms:60000}")
+    public void flushCardinalitySketches() {
+        try {
+            int written = cardinalityService.flush();
+            if (written > 0) {
+                logger.debug("Flushed {} cardinality sketches", written);
+            }
+        } catch (Exception e) {
+            logger.error("Error flushing cardinality sketches: {}", e.getMessage(), e);
+        }
+    }
+
     // Run every hour to cleanup expired OTPs
     @Scheduled(fixedDelay = 3600000) // 60 minutes
     public void cleanupExpiredOtps() {
@@ -46,6 +131,19 @@ public class ScheduledTasksConfig {
         }
     }
 
+    // Run every hour to drop expired idempotency keys
+    @Scheduled(fixedDelay = 3600000) // 60 minutes
+    public void cleanupExpiredIdempotencyKeys() {
+        try {
+            int removed = idempotencyService.purgeExpired();
+            if (removed > 0) {
+                logger.debug("Removed {} expired idempotency keys", removed);
+            }
+        } catch (Exception e) {
+            logger.error("Error cleaning up idempotency keys: {}", e.getMessage(), e);
+        }
+    }
+
     // Run every day at midnight to cleanup old data
     @Scheduled(cron = "0 0 0 * * *") // Midnight daily
     public void dailyCleanup() {
@@ -0,0 +1,94 @@
+package vote.Config;
+
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Drops the unique key on {@code votes (election_id, voter_registry_id)}
+ * left behind by schemas created before ballots could hold several
+ * selections. {@code ddl-auto=update} adds the three-column ballot key but
+ * never drops the old one, which would reject every selection after the
+ * first. The key is looked up in the database's index metadata (backed by
+ * {@code information_schema} on MySQL), so this is a no-op once it is gone.
+ * Runs once at startup, before anything is inserted.
+ */
+@Configuration
+public class VoteKeyMigrationConfig implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteKeyMigrationConfig.class);
+
+    private static final String TABLE = "votes";
+    private static final Set<String> LEGACY_KEY_COLUMNS = Set.of("election_id", "voter_registry_id");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public VoteKeyMigrationConfig(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        try {
+            for (String index : legacyKeys()) {
+                // MySQL keeps unique constraints as indexes on their table
+                jdbcTemplate.execute(dialect instanceof MySQLDialect
+                        ? "ALTER TABLE " + TABLE + " DROP INDEX " + index
+                        : "DROP INDEX " + index);
+                logger.info("Dropped legacy unique key {} on {} (election_id, voter_registry_id)", index, TABLE);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not drop the legacy unique key on {}: {}", TABLE, e.getMessage());
+        }
+    }
+
+    // Unique indexes on votes whose columns are exactly the legacy pair
+    private List<String> legacyKeys() {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+            Map<String, Set<String>> columns = new LinkedHashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true,
+                    false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columns.computeIfAbsent(index, name -> new TreeSet<>())
+                                .add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            List<String> legacy = new ArrayList<>();
+            columns.forEach((index, indexColumns) -> {
+                if (indexColumns.equals(LEGACY_KEY_COLUMNS)) {
+                    legacy.add(index);
+                }
+            });
+            return legacy;
+        });
+    }
+}
@@ -1,5 +1,30 @@
 package vote.Config;
 
-public class WebConfig {
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import vote.Util.AdaptiveConcurrencyLimiter;
+import vote.interceptor.ConcurrencyLimitInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdaptiveConcurrencyLimiter votingConcurrencyLimiter;
+    private final long retryAfterSeconds;
+
+    public WebConfig(AdaptiveConcurrencyLimiter votingConcurrencyLimiter,
+                     @Value("${voting.limiter.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.votingConcurrencyLimiter = votingConcurrencyLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(votingConcurrencyLimiter, retryAfterSeconds))
+                .addPathPatterns("/api/votes/**", "/api/voters/**")
+                // Exports and live tally streams stay open for minutes and would drag the latency baseline with them
+                .excludePathPatterns("/api/votes/election/*/export", "/api/votes/election/*/stream");
+    }
 }
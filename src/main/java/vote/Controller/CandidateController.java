@@ -25,6 +25,7 @@ import jakarta.validation.Valid;
 import vote.Request.CandidateRequest;
 import vote.Response.ApiResponse;
 import vote.Response.CandidateResponse;
+import vote.Response.CursorPage;
 import vote.Service.CandidateService;
 
 @RestController
@@ -58,13 +59,17 @@ public class CandidateController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN', 'VOTER')")
-    @Operation(summary = "Get election candidates", description = "Gets all candidates for an election")
-    public ResponseEntity<ApiResponse<List<CandidateResponse>>> getElectionCandidates(
+    @Operation(summary = "Get election candidates", description = "Gets a page of an election's candidates in id order. "
+            + "Pass the returned nextCursor as cursor to get the next page")
+    public ResponseEntity<ApiResponse<CursorPage<CandidateResponse>>> getElectionCandidates(
             @PathVariable Long electionId,
-            @RequestParam(value = "activeOnly", defaultValue = "true") boolean activeOnly) {
+            @RequestParam(value = "activeOnly", defaultValue = "true") boolean activeOnly,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
 
         logger.debug("Getting candidates for election ID: {}", electionId);
-        List<CandidateResponse> responses = candidateService.getCandidatesByElection(electionId, activeOnly);
+        CursorPage<CandidateResponse> responses = candidateService.getCandidatesByElection(electionId, activeOnly,
+                cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(responses, "Candidates retrieved successfully"));
     }
@@ -6,6 +6,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,9 +25,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import vote.Request.ElectionRequest;
 import vote.Response.ApiResponse;
+import vote.Response.ApprovalResultResponse;
+import vote.Response.CursorPage;
 import vote.Response.ElectionResponse;
+import vote.Response.ElectionResultResponse;
 import vote.Response.ElectionSummaryResponse;
+import vote.Response.RankedChoiceResultResponse;
+import vote.Response.RecountResponse;
+import vote.Response.TurnoutBucketResponse;
+import vote.Service.ApprovalVotingService;
 import vote.Service.ElectionService;
+import vote.Service.RankedChoiceService;
+import vote.Service.ResultSnapshotService;
+import vote.Service.SealedResults;
+import vote.Service.TallyRecountService;
+import vote.Service.TurnoutTrendService;
 
 @RestController
 @RequestMapping("/api/admin/elections")
@@ -37,9 +50,22 @@ public class ElectionController {
     private static final Logger logger = LoggerFactory.getLogger(ElectionController.class);
 
     private final ElectionService electionService;
-
-    public ElectionController(ElectionService electionService) {
+    private final TurnoutTrendService turnoutTrendService;
+    private final TallyRecountService tallyRecountService;
+    private final RankedChoiceService rankedChoiceService;
+    private final ApprovalVotingService approvalVotingService;
+    private final ResultSnapshotService resultSnapshotService;
+
+    public ElectionController(ElectionService electionService, TurnoutTrendService turnoutTrendService,
+                              TallyRecountService tallyRecountService, RankedChoiceService rankedChoiceService,
+                              ApprovalVotingService approvalVotingService,
+                              ResultSnapshotService resultSnapshotService) {
         this.electionService = electionService;
+        this.turnoutTrendService = turnoutTrendService;
+        this.tallyRecountService = tallyRecountService;
+        this.rankedChoiceService = rankedChoiceService;
+        this.approvalVotingService = approvalVotingService;
+        this.resultSnapshotService = resultSnapshotService;
     }
 
     @PostMapping
@@ -69,13 +95,17 @@ public class ElectionController {
 
     @GetMapping("/organization/{organizationId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN', 'VOTER')")
-    @Operation(summary = "Get organization elections", description = "Gets all elections for an organization")
-    public ResponseEntity<ApiResponse<List<ElectionResponse>>> getOrganizationElections(
+    @Operation(summary = "Get organization elections", description = "Gets a page of an organization's elections in id order. "
+            + "Pass the returned nextCursor as cursor to get the next page")
+    public ResponseEntity<ApiResponse<CursorPage<ElectionResponse>>> getOrganizationElections(
             @PathVariable Long organizationId,
-            @RequestParam(value = "status", required = false) String status) {
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
 
         logger.debug("Getting elections for organization: {}", organizationId);
-        List<ElectionResponse> responses = electionService.getElectionsByOrganization(organizationId, status);
+        CursorPage<ElectionResponse> responses = electionService.getElectionsByOrganization(organizationId, status,
+                cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(responses, "Elections retrieved successfully"));
     }
@@ -91,6 +121,34 @@ public class ElectionController {
         return ResponseEntity.ok(ApiResponse.success(responses, "Active elections retrieved successfully"));
     }
 
+    @GetMapping(value = "/public/{id}/results", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get published results (public)", description = "Gets the results sealed when the "
+            + "election completed, as stored; the ETag is the snapshot's SHA-256 checksum")
+    public ResponseEntity<byte[]> getPublishedResults(@PathVariable Long id) {
+
+        logger.debug("Getting published results for election ID: {}", id);
+        SealedResults results = resultSnapshotService.getPublishedResults(id);
+
+        // A matching If-None-Match is answered with 304 Not Modified
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(results.getChecksum())
+                .body(results.getPayload());
+    }
+
+    @GetMapping(value = "/public/organization/{organizationId}/results", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get published results for organization (public)",
+            description = "Gets the sealed results of every published election of the organization, latest first")
+    public ResponseEntity<byte[]> getPublishedResultsByOrganization(@PathVariable Long organizationId) {
+
+        logger.debug("Getting published results for organization: {}", organizationId);
+        byte[] payload = resultSnapshotService.getPublishedResultsPayload(organizationId);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
     @Operation(summary = "Update election", description = "Updates election details")
@@ -170,6 +228,70 @@ public class ElectionController {
         return ResponseEntity.ok(ApiResponse.success(response, "Election summary retrieved successfully"));
     }
 
+    @GetMapping("/{id}/ranked-results")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get ranked election results", description = "Counts an instant-runoff or single "
+            + "transferable vote election position by position, with every elimination and transfer round")
+    public ResponseEntity<ApiResponse<RankedChoiceResultResponse>> getRankedChoiceResults(@PathVariable Long id) {
+
+        logger.debug("Getting ranked results for election ID: {}", id);
+        RankedChoiceResultResponse response = rankedChoiceService.getRankedChoiceResults(id);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Ranked results retrieved successfully"));
+    }
+
+    @GetMapping("/{id}/approval-results")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get approval election results", description = "Counts approvals per candidate and "
+            + "the most approved candidates of each position for its seats")
+    public ResponseEntity<ApiResponse<ApprovalResultResponse>> getApprovalResults(@PathVariable Long id) {
+
+        logger.debug("Getting approval results for election ID: {}", id);
+        ApprovalResultResponse response = approvalVotingService.getApprovalResults(id);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Approval results retrieved successfully"));
+    }
+
+    @GetMapping("/{id}/results")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get election results", description = "Gets candidates ranked by votes, optionally for one position")
+    public ResponseEntity<ApiResponse<List<ElectionResultResponse>>> getElectionResults(
+            @PathVariable Long id,
+            @RequestParam(required = false) String position) {
+
+        logger.debug("Getting results for election ID: {}", id);
+        List<ElectionResultResponse> response = electionService.getElectionResults(id, position);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Election results retrieved successfully"));
+    }
+
+    @GetMapping("/{id}/turnout-trend")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get turnout trend", description = "Gets votes cast per minute (last 24 hours) or per hour")
+    public ResponseEntity<ApiResponse<List<TurnoutBucketResponse>>> getTurnoutTrend(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "minute") String interval) {
+
+        logger.debug("Getting {} turnout trend for election ID: {}", interval, id);
+        List<TurnoutBucketResponse> response = turnoutTrendService.getVoterTurnoutTrend(id, interval);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Turnout trend retrieved successfully"));
+    }
+
+    @PostMapping("/{id}/recount")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Recount election", description = "Recounts an election from its votes and compares the "
+            + "result with the stored candidate counts, counters and turnout; repair=true overwrites them")
+    public ResponseEntity<ApiResponse<RecountResponse>> recountElection(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean repair) {
+
+        logger.info("Recounting election ID: {} (repair={})", id, repair);
+        RecountResponse response = tallyRecountService.recount(id, repair);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Election recounted successfully"));
+    }
+
     @GetMapping("/{id}/check-status")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN', 'VOTER')")
     @Operation(summary = "Check election status", description = "Checks if election is active and ongoing")
@@ -0,0 +1,106 @@
+package vote.Controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import vote.Response.ApiResponse;
+import vote.Response.CardinalityResponse;
+import vote.Response.ConcurrencyLimitResponse;
+import vote.Response.DatabaseLoadResponse;
+import vote.Response.SuspiciousIpResponse;
+import vote.Service.CardinalityService;
+import vote.Service.MonitoringService;
+import vote.Service.VoteAnomalyService;
+
+@RestController
+@RequestMapping("/api/admin/monitoring")
+@Tag(name = "Monitoring", description = "System load APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class MonitoringController {
+
+    private final MonitoringService monitoringService;
+    private final VoteAnomalyService voteAnomalyService;
+    private final CardinalityService cardinalityService;
+
+    public MonitoringController(MonitoringService monitoringService, VoteAnomalyService voteAnomalyService,
+                                CardinalityService cardinalityService) {
+        this.monitoringService = monitoringService;
+        this.voteAnomalyService = voteAnomalyService;
+        this.cardinalityService = cardinalityService;
+    }
+
+    @GetMapping("/database")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Get database load", description = "Gets database admission queue depth, wait times "
+            + "and the vote writer backlog")
+    public ResponseEntity<ApiResponse<DatabaseLoadResponse>> getDatabaseLoad() {
+
+        DatabaseLoadResponse response = monitoringService.getDatabaseLoad();
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Database load retrieved successfully"));
+    }
+
+    @GetMapping("/limiter")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Get concurrency limit", description = "Gets the adaptive concurrency limit on the voting "
+            + "and verification endpoints, requests in flight and requests shed")
+    public ResponseEntity<ApiResponse<ConcurrencyLimitResponse>> getConcurrencyLimit() {
+
+        ConcurrencyLimitResponse response = monitoringService.getConcurrencyLimit();
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Concurrency limit retrieved successfully"));
+    }
+
+    @GetMapping("/elections/{electionId}/suspicious-ips")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get suspicious IPs", description = "Gets IP addresses casting an unusual number of an "
+            + "election's votes, with estimated counts, distinct user agents and votes flagged or throttled")
+    public ResponseEntity<ApiResponse<List<SuspiciousIpResponse>>> getSuspiciousIps(@PathVariable Long electionId) {
+
+        List<SuspiciousIpResponse> response = voteAnomalyService.getSuspiciousIps(electionId);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Suspicious IPs retrieved successfully"));
+    }
+
+    @GetMapping("/elections/{electionId}/cardinality")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get election distinct counts", description = "Gets estimated distinct voters, IP "
+            + "addresses and user agents for an election, optionally between two dates; exact=true recounts "
+            + "from the votes table")
+    public ResponseEntity<ApiResponse<CardinalityResponse>> getElectionCardinality(
+            @PathVariable Long electionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean exact) {
+
+        CardinalityResponse response = cardinalityService.getElectionCardinality(electionId, from, to, exact);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Distinct counts retrieved successfully"));
+    }
+
+    @GetMapping("/organizations/{organizationId}/cardinality")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Get organization distinct counts", description = "Gets estimated distinct voters, IP "
+            + "addresses, user agents and verification identifiers across an organization's elections")
+    public ResponseEntity<ApiResponse<CardinalityResponse>> getOrganizationCardinality(
+            @PathVariable Long organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        CardinalityResponse response = cardinalityService.getOrganizationCardinality(organizationId, from, to);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Distinct counts retrieved successfully"));
+    }
+}
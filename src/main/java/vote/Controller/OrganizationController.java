@@ -1,7 +1,5 @@
 package vote.Controller;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -14,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +21,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import vote.Request.OrganizationRequest;
 import vote.Response.ApiResponse;
+import vote.Response.CursorPage;
 import vote.Response.OrganizationResponse;
 import vote.Service.OrganizationService;
 
@@ -77,11 +77,14 @@ public class OrganizationController {
 
     @GetMapping
     @PreAuthorize("hasRole('SUPER_ADMIN')")
-    @Operation(summary = "Get all organizations", description = "Retrieves all organizations")
-    public ResponseEntity<ApiResponse<List<OrganizationResponse>>> getAllOrganizations() {
+    @Operation(summary = "Get all organizations", description = "Retrieves a page of organizations in id order. "
+            + "Pass the returned nextCursor as cursor to get the next page")
+    public ResponseEntity<ApiResponse<CursorPage<OrganizationResponse>>> getAllOrganizations(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
 
         logger.debug("Getting all organizations");
-        List<OrganizationResponse> responses = organizationService.getAllOrganizations();
+        CursorPage<OrganizationResponse> responses = organizationService.getAllOrganizations(cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(responses, "Organizations retrieved successfully"));
     }
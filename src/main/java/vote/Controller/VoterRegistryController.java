@@ -24,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import vote.Request.VoterRegistryRequest;
 import vote.Response.ApiResponse;
+import vote.Response.CursorPage;
 import vote.Response.VoterRegistryResponse;
 import vote.Response.VoterRegistrySummaryResponse;
 import vote.Service.VoterRegistryService;
@@ -75,13 +76,17 @@ public class VoterRegistryController {
 
     @GetMapping("/organization/{organizationId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
-    @Operation(summary = "Get organization registry", description = "Gets all voters in organization registry")
-    public ResponseEntity<ApiResponse<List<VoterRegistryResponse>>> getOrganizationRegistry(
+    @Operation(summary = "Get organization registry", description = "Gets a page of the organization registry in id order. "
+            + "Pass the returned nextCursor as cursor to get the next page")
+    public ResponseEntity<ApiResponse<CursorPage<VoterRegistryResponse>>> getOrganizationRegistry(
             @PathVariable Long organizationId,
-            @RequestParam(value = "used", required = false) Boolean used) {
+            @RequestParam(value = "used", required = false) Boolean used,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
 
         logger.debug("Getting voter registry for organization: {}", organizationId);
-        List<VoterRegistryResponse> responses = voterRegistryService.getVotersByOrganization(organizationId, used);
+        CursorPage<VoterRegistryResponse> responses = voterRegistryService.getVotersByOrganization(organizationId, used,
+                cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(responses, "Voter registry retrieved successfully"));
     }
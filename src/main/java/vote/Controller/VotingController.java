@@ -1,28 +1,44 @@
 package vote.Controller;
 
 
-import java.util.List;
+import java.io.IOException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import vote.Enum.ExportFormat;
+import vote.Exception.BusinessRuleException;
+import vote.Request.BallotRequest;
 import vote.Request.VoteRequest;
 import vote.Response.ApiResponse;
+import vote.Response.BallotResponse;
+import vote.Response.CursorPage;
 import vote.Response.VoteResponse;
+import vote.Service.IdempotencyService;
+import vote.Service.LiveTallyStreamService;
+import vote.Service.VoteIngestionService;
 import vote.Service.VoteService;
 
 @RestController
@@ -34,16 +50,26 @@ public class VotingController {
     private static final Logger logger = LoggerFactory.getLogger(VotingController.class);
 
     private final VoteService voteService;
+    private final VoteIngestionService voteIngestionService;
+    private final IdempotencyService idempotencyService;
+    private final LiveTallyStreamService liveTallyStreamService;
 
-    public VotingController(VoteService voteService) {
+    public VotingController(VoteService voteService, VoteIngestionService voteIngestionService,
+                            IdempotencyService idempotencyService, LiveTallyStreamService liveTallyStreamService) {
         this.voteService = voteService;
+        this.voteIngestionService = voteIngestionService;
+        this.idempotencyService = idempotencyService;
+        this.liveTallyStreamService = liveTallyStreamService;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('VOTER')")
-    @Operation(summary = "Cast vote", description = "Casts a vote in an election")
+    @Operation(summary = "Cast vote", description = "Casts a vote in an election. Send an Idempotency-Key header "
+            + "to make retries safe: a repeated request with the same key returns the original receipt")
     public ResponseEntity<ApiResponse<VoteResponse>> castVote(
             @Valid @RequestBody VoteRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            Authentication authentication,
             HttpServletRequest servletRequest) {
 
         logger.info("Casting vote for election ID: {}", request.getElectionId());
@@ -52,24 +78,83 @@ public class VotingController {
         String ipAddress = getClientIpAddress(servletRequest);
         String userAgent = servletRequest.getHeader("User-Agent");
 
-        VoteResponse response = voteService.castVote(request, ipAddress, userAgent);
+        VoteResponse response;
+        if (idempotencyKey == null) {
+            response = voteIngestionService.castVote(request, ipAddress, userAgent);
+        } else {
+            String scope = authentication != null ? authentication.getName() : "anonymous";
+            response = idempotencyService.castVote(scope, idempotencyKey, request,
+                    inTransaction -> voteIngestionService.submitVote(request, ipAddress, userAgent, inTransaction));
+        }
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response, "Vote cast successfully"));
     }
 
+    @PostMapping("/ballot")
+    @PreAuthorize("hasRole('VOTER')")
+    @Operation(summary = "Cast ballot", description = "Casts all of a voter's selections for an election at once. "
+            + "Each position accepts up to the election's max votes per voter; the ballot is recorded in full or not at all")
+    public ResponseEntity<ApiResponse<BallotResponse>> castBallot(
+            @Valid @RequestBody BallotRequest request,
+            HttpServletRequest servletRequest) {
+
+        logger.info("Casting ballot for election ID: {}", request.getElectionId());
+
+        String ipAddress = getClientIpAddress(servletRequest);
+        String userAgent = servletRequest.getHeader("User-Agent");
+        BallotResponse response = voteService.castBallot(request, ipAddress, userAgent);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Ballot cast successfully"));
+    }
+
     @GetMapping("/election/{electionId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
-    @Operation(summary = "Get election votes", description = "Gets all votes for an election")
-    public ResponseEntity<ApiResponse<List<VoteResponse>>> getElectionVotes(@PathVariable Long electionId) {
+    @Operation(summary = "Get election votes", description = "Gets a page of an election's votes in id order. "
+            + "Pass the returned nextCursor as cursor to get the next page")
+    public ResponseEntity<ApiResponse<CursorPage<VoteResponse>>> getElectionVotes(
+            @PathVariable Long electionId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
 
         logger.debug("Getting votes for election ID: {}", electionId);
-        List<VoteResponse> responses = voteService.getVotesByElection(electionId);
+        CursorPage<VoteResponse> responses = voteService.getVotesByElection(electionId, cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(responses, "Votes retrieved successfully"));
     }
 
+    @GetMapping("/election/{electionId}/export")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
+    @Operation(summary = "Export election votes", description = "Streams every vote for an election as NDJSON "
+            + "(format=ndjson, the default) or CSV (format=csv). Rows are written as they are read, so exports "
+            + "of any size run in constant memory")
+    public void exportElectionVotes(
+            @PathVariable Long electionId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Invalid export format: " + format);
+        }
+
+        logger.info("Exporting votes for election ID: {} as {}", electionId, exportFormat);
+        String extension = exportFormat == ExportFormat.CSV ? "csv" : "ndjson";
+        response.setContentType(exportFormat == ExportFormat.CSV ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("election-" + electionId + "-votes." + extension)
+                .build()
+                .toString());
+
+        voteService.exportVotes(electionId, exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/{voteId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
     @Operation(summary = "Get vote by ID", description = "Gets vote details by ID")
@@ -83,11 +168,15 @@ public class VotingController {
 
     @GetMapping("/voter/{voterRegistryId}")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN')")
-    @Operation(summary = "Get voter's votes", description = "Gets all votes by a voter")
-    public ResponseEntity<ApiResponse<List<VoteResponse>>> getVoterVotes(@PathVariable Long voterRegistryId) {
+    @Operation(summary = "Get voter's votes", description = "Gets a page of a voter's votes in id order. "
+            + "Pass the returned nextCursor as cursor to get the next page")
+    public ResponseEntity<ApiResponse<CursorPage<VoteResponse>>> getVoterVotes(
+            @PathVariable Long voterRegistryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
 
         logger.debug("Getting votes for voter registry ID: {}", voterRegistryId);
-        List<VoteResponse> responses = voteService.getVotesByVoter(voterRegistryId);
+        CursorPage<VoteResponse> responses = voteService.getVotesByVoter(voterRegistryId, cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(responses, "Voter votes retrieved successfully"));
     }
@@ -116,6 +205,17 @@ public class VotingController {
         return ResponseEntity.ok(ApiResponse.success(voteCount, "Vote count retrieved"));
     }
 
+    @GetMapping(value = "/election/{electionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN', 'VOTER')")
+    @Operation(summary = "Stream live tally", description = "Server-sent events with the election's vote counts and "
+            + "turnout. The first tally event is full; later ones carry only the candidates whose count changed, "
+            + "at most a few per second however fast votes arrive")
+    public SseEmitter streamElectionTally(@PathVariable Long electionId) {
+
+        logger.debug("Streaming live tally for election ID: {}", electionId);
+        return liveTallyStreamService.subscribe(electionId);
+    }
+
     @GetMapping("/candidate/{candidateId}/count")
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ORGANIZATION_ADMIN', 'VOTER')")
     @Operation(summary = "Get candidate vote count", description = "Gets vote count for candidate")
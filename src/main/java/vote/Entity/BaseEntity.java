@@ -26,8 +26,10 @@ public abstract class BaseEntity implements Serializable {
 	 */
 	private static final long serialVersionUID = 1L;
 
+	// Pooled per-entity sequence (emulated with a table on MySQL); unlike
+	// IDENTITY it lets Hibernate batch inserts
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
 	private Long id;
 
 	@CreatedDate
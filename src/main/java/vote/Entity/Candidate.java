@@ -11,6 +11,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import vote.Util.VoteWeight;
 
 @Entity
 @Table(name = "candidates")
@@ -44,6 +45,9 @@ public class Candidate extends BaseEntity {
 	@Column(name = "vote_count", nullable = false)
 	private Integer voteCount = 0;
 
+	@Column(name = "weighted_votes")
+	private Long weightedVotes; // Sum of vote weights in fixed-point units of VoteWeight
+
 	@OneToMany(mappedBy = "candidate", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private List<Vote> votes = new ArrayList<>();
 
@@ -114,6 +118,11 @@ public class Candidate extends BaseEntity {
 		return voteCount;
 	}
 
+	// Counts persisted before weights existed were all single votes
+	public long getWeightedVotes() {
+		return weightedVotes != null ? weightedVotes : (long) voteCount * VoteWeight.ONE;
+	}
+
 	public List<Vote> getVotes() {
 		return votes;
 	}
@@ -174,6 +183,10 @@ public class Candidate extends BaseEntity {
 		this.voteCount = voteCount;
 	}
 
+	public void setWeightedVotes(Long weightedVotes) {
+		this.weightedVotes = weightedVotes;
+	}
+
 	public void setVotes(List<Vote> votes) {
 		this.votes = votes;
 	}
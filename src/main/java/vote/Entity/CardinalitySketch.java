@@ -0,0 +1,107 @@
+package vote.Entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import vote.Enum.CardinalityDimension;
+
+/**
+ * Serialized HyperLogLog of one distinct count (voters, IPs, ...) for one
+ * day of an election, or of an organization when {@code electionId} is
+ * null. Nodes merge their in-memory sketches into these rows, and reads
+ * merge the rows of a range; duplicate rows for a key are harmless since
+ * merging is idempotent.
+ */
+@Entity
+@Table(name = "cardinality_sketches", indexes = {
+		@Index(name = "idx_cardinality_sketches_election", columnList = "election_id, bucket_date"),
+		@Index(name = "idx_cardinality_sketches_org", columnList = "organization_id, bucket_date") })
+public class CardinalitySketch extends BaseEntity {
+
+	@Column(name = "organization_id", nullable = false)
+	private Long organizationId;
+
+	@Column(name = "election_id")
+	private Long electionId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "dimension", nullable = false, length = 30)
+	private CardinalityDimension dimension;
+
+	@Column(name = "bucket_date", nullable = false)
+	private LocalDate bucketDate;
+
+	@Lob
+	@Basic(fetch = FetchType.LAZY)
+	@Column(name = "registers", nullable = false, length = Integer.MAX_VALUE)
+	private byte[] registers;
+
+	// Default constructor
+	public CardinalitySketch() {
+	}
+
+	// Parameterized constructor
+	public CardinalitySketch(Long organizationId, Long electionId, CardinalityDimension dimension,
+			LocalDate bucketDate) {
+		this.organizationId = organizationId;
+		this.electionId = electionId;
+		this.dimension = dimension;
+		this.bucketDate = bucketDate;
+	}
+
+	// Getters and Setters
+	public Long getOrganizationId() {
+		return organizationId;
+	}
+
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public CardinalityDimension getDimension() {
+		return dimension;
+	}
+
+	public LocalDate getBucketDate() {
+		return bucketDate;
+	}
+
+	public byte[] getRegisters() {
+		return registers;
+	}
+
+	public void setOrganizationId(Long organizationId) {
+		this.organizationId = organizationId;
+	}
+
+	public void setElectionId(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public void setDimension(CardinalityDimension dimension) {
+		this.dimension = dimension;
+	}
+
+	public void setBucketDate(LocalDate bucketDate) {
+		this.bucketDate = bucketDate;
+	}
+
+	public void setRegisters(byte[] registers) {
+		this.registers = registers;
+	}
+
+	// toString method
+	@Override
+	public String toString() {
+		return "CardinalitySketch{" + "id=" + getId() + ", organizationId=" + organizationId + ", electionId="
+				+ electionId + ", dimension=" + dimension + ", bucketDate=" + bucketDate + '}';
+	}
+}
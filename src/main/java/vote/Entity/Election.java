@@ -10,14 +10,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import vote.Enum.ElectionStatus;
+import vote.Enum.VotingMethod;
 
 @Entity
-@Table(name = "elections")
+@Table(name = "elections", indexes = {
+		@Index(name = "idx_elections_org_status", columnList = "organization_id, status, id") })
 public class Election extends BaseEntity {
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +55,16 @@ public class Election extends BaseEntity {
 	@Column(name = "max_votes_per_voter")
 	private Integer maxVotesPerVoter = 1;
 
+	@Enumerated(EnumType.STRING)
+	@Column(name = "voting_method")
+	private VotingMethod votingMethod = VotingMethod.PLURALITY;
+
+	@Column(name = "seats")
+	private Integer seats = 1; // Winners per position under single transferable vote and approval
+
+	@Column(name = "weighted")
+	private Boolean weighted = false; // Votes count with the voter's registry weight rather than one each
+
 	@Column(name = "allow_write_in", nullable = false)
 	private boolean allowWriteIn = false;
 
@@ -120,6 +133,19 @@ public class Election extends BaseEntity {
 		return maxVotesPerVoter;
 	}
 
+	// Elections created before voting methods existed are plurality
+	public VotingMethod getVotingMethod() {
+		return votingMethod != null ? votingMethod : VotingMethod.PLURALITY;
+	}
+
+	public int getSeats() {
+		return seats != null && seats > 0 ? seats : 1;
+	}
+
+	public boolean isWeighted() {
+		return Boolean.TRUE.equals(weighted);
+	}
+
 	// Getters and Setters
 	public Organization getOrganization() {
 		return organization;
@@ -220,6 +246,18 @@ public class Election extends BaseEntity {
 		this.endTime = endTime;
 	}
 
+	public void setVotingMethod(VotingMethod votingMethod) {
+		this.votingMethod = votingMethod;
+	}
+
+	public void setSeats(Integer seats) {
+		this.seats = seats;
+	}
+
+	public void setWeighted(boolean weighted) {
+		this.weighted = weighted;
+	}
+
 	public void setMaxVotesPerVoter(Integer maxVotesPerVoter) {
 		this.maxVotesPerVoter = maxVotesPerVoter;
 	}
@@ -267,10 +305,15 @@ public class Election extends BaseEntity {
 				+ (organization != null ? organization.getId() : "null") + '}';
 	}
 
-	public void updateVoterTurnout() {
-		if (totalVoters > 0) {
-			double turnout = (double) votes.size() / totalVoters * 100;
-			this.voterTurnout = (int) Math.round(turnout);
+	public void updateVoterTurnout(long participants) {
+		this.voterTurnout = calculateVoterTurnout(participants);
+	}
+
+	public Integer calculateVoterTurnout(long participants) {
+		if (totalVoters == null || totalVoters <= 0) {
+			return voterTurnout;
 		}
+		double turnout = (double) participants / totalVoters * 100;
+		return (int) Math.round(turnout);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package vote.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import vote.Util.VoteWeight;
+
+/**
+ * One candidate's line in an election's results: votes and their weighted
+ * sum, rank overall and within the candidate's position, and share of the
+ * position's weighted votes (in an unweighted election every vote weighs
+ * one, so these are plain vote ranks and shares).
+ * Maintained by {@code ElectionResultService} from vote events and
+ * recounted from {@code votes} when the election completes, so summaries
+ * and leaderboards are index reads rather than scans over candidates.
+ */
+@Entity
+@Table(name = "election_results", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "election_id", "candidate_id" }) }, indexes = {
+				@Index(name = "idx_election_results_rank", columnList = "election_id, overall_rank"),
+				@Index(name = "idx_election_results_position", columnList = "election_id, position, position_rank") })
+public class ElectionResult extends BaseEntity {
+
+	@Column(name = "election_id", nullable = false)
+	private Long electionId;
+
+	@Column(name = "candidate_id", nullable = false)
+	private Long candidateId;
+
+	@Column(name = "candidate_name", nullable = false)
+	private String candidateName;
+
+	@Column(name = "position", nullable = false)
+	private String position;
+
+	@Column(name = "votes", nullable = false)
+	private long votes;
+
+	@Column(name = "weighted_votes")
+	private Long weightedVotes; // Fixed-point units of VoteWeight
+
+	@Column(name = "overall_rank", nullable = false)
+	private int overallRank;
+
+	@Column(name = "position_rank", nullable = false)
+	private int positionRank;
+
+	@Column(name = "share", nullable = false)
+	private double share;
+
+	@Column(name = "finalized", nullable = false)
+	private boolean finalized = false;
+
+	// Default constructor
+	public ElectionResult() {
+	}
+
+	// Parameterized constructor
+	public ElectionResult(Long electionId, Long candidateId) {
+		this.electionId = electionId;
+		this.candidateId = candidateId;
+	}
+
+	// Getters and Setters
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public Long getCandidateId() {
+		return candidateId;
+	}
+
+	public String getCandidateName() {
+		return candidateName;
+	}
+
+	public String getPosition() {
+		return position;
+	}
+
+	public long getVotes() {
+		return votes;
+	}
+
+	// Rows written before weights existed were all single votes
+	public long getWeightedVotes() {
+		return weightedVotes != null ? weightedVotes : votes * VoteWeight.ONE;
+	}
+
+	public int getOverallRank() {
+		return overallRank;
+	}
+
+	public int getPositionRank() {
+		return positionRank;
+	}
+
+	public double getShare() {
+		return share;
+	}
+
+	public boolean isFinalized() {
+		return finalized;
+	}
+
+	public void setElectionId(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public void setCandidateId(Long candidateId) {
+		this.candidateId = candidateId;
+	}
+
+	public void setCandidateName(String candidateName) {
+		this.candidateName = candidateName;
+	}
+
+	public void setPosition(String position) {
+		this.position = position;
+	}
+
+	public void setVotes(long votes) {
+		this.votes = votes;
+	}
+
+	public void setWeightedVotes(long weightedVotes) {
+		this.weightedVotes = weightedVotes;
+	}
+
+	public void setOverallRank(int overallRank) {
+		this.overallRank = overallRank;
+	}
+
+	public void setPositionRank(int positionRank) {
+		this.positionRank = positionRank;
+	}
+
+	public void setShare(double share) {
+		this.share = share;
+	}
+
+	public void setFinalized(boolean finalized) {
+		this.finalized = finalized;
+	}
+
+	// toString method
+	@Override
+	public String toString() {
+		return "ElectionResult{" + "electionId=" + electionId + ", candidateId=" + candidateId + ", position='"
+				+ position + '\'' + ", votes=" + votes + ", overallRank=" + overallRank + ", positionRank="
+				+ positionRank + ", finalized=" + finalized + '}';
+	}
+}
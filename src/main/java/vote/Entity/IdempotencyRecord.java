@@ -0,0 +1,209 @@
+package vote.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A vote submitted with an {@code Idempotency-Key}, kept until it expires so
+ * a retried request can be answered with the original receipt. The receipt
+ * is copied here rather than re-read from {@code votes}.
+ */
+@Entity
+@Table(name = "idempotency_keys", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "scope", "idempotency_key" }) }, indexes = {
+				@Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at") })
+public class IdempotencyRecord extends BaseEntity {
+
+	@Column(name = "scope", nullable = false, length = 100)
+	private String scope; // the authenticated user the key belongs to
+
+	@Column(name = "idempotency_key", nullable = false, length = 128)
+	private String idempotencyKey;
+
+	@Column(name = "request_hash", nullable = false, length = 64)
+	private String requestHash;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(name = "vote_id", nullable = false)
+	private Long voteId;
+
+	@Column(name = "election_id", nullable = false)
+	private Long electionId;
+
+	@Column(name = "election_title")
+	private String electionTitle;
+
+	@Column(name = "candidate_id", nullable = false)
+	private Long candidateId;
+
+	@Column(name = "candidate_name")
+	private String candidateName;
+
+	@Column(name = "voter_registry_id", nullable = false)
+	private Long voterRegistryId;
+
+	@Column(name = "voter_identifier")
+	private String voterIdentifier;
+
+	@Column(name = "cast_at")
+	private LocalDateTime castAt;
+
+	@Column(name = "ip_address")
+	private String ipAddress;
+
+	@Column(name = "is_anonymous", nullable = false)
+	private boolean anonymous;
+
+	@Column(name = "write_in_candidate_name")
+	private String writeInCandidateName;
+
+	@Column(name = "verification_method")
+	private String verificationMethod;
+
+	@Column(name = "vote_created_at")
+	private LocalDateTime voteCreatedAt;
+
+	// Default constructor
+	public IdempotencyRecord() {
+	}
+
+	// Parameterized constructor
+	public IdempotencyRecord(String scope, String idempotencyKey, String requestHash, LocalDateTime expiresAt) {
+		this.scope = scope;
+		this.idempotencyKey = idempotencyKey;
+		this.requestHash = requestHash;
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isAnonymous() {
+		return anonymous;
+	}
+
+	public String getCandidateName() {
+		return candidateName;
+	}
+
+	public Long getCandidateId() {
+		return candidateId;
+	}
+
+	public LocalDateTime getCastAt() {
+		return castAt;
+	}
+
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public String getElectionTitle() {
+		return electionTitle;
+	}
+
+	public LocalDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public String getIpAddress() {
+		return ipAddress;
+	}
+
+	public String getRequestHash() {
+		return requestHash;
+	}
+
+	public String getScope() {
+		return scope;
+	}
+
+	public String getVerificationMethod() {
+		return verificationMethod;
+	}
+
+	public LocalDateTime getVoteCreatedAt() {
+		return voteCreatedAt;
+	}
+
+	public Long getVoteId() {
+		return voteId;
+	}
+
+	public String getVoterIdentifier() {
+		return voterIdentifier;
+	}
+
+	public Long getVoterRegistryId() {
+		return voterRegistryId;
+	}
+
+	public String getWriteInCandidateName() {
+		return writeInCandidateName;
+	}
+
+	// Helper method
+	public boolean isExpired() {
+		return LocalDateTime.now().isAfter(expiresAt);
+	}
+
+	public void setAnonymous(boolean anonymous) {
+		this.anonymous = anonymous;
+	}
+
+	public void setCandidateId(Long candidateId) {
+		this.candidateId = candidateId;
+	}
+
+	public void setCandidateName(String candidateName) {
+		this.candidateName = candidateName;
+	}
+
+	public void setCastAt(LocalDateTime castAt) {
+		this.castAt = castAt;
+	}
+
+	public void setElectionId(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public void setElectionTitle(String electionTitle) {
+		this.electionTitle = electionTitle;
+	}
+
+	public void setIpAddress(String ipAddress) {
+		this.ipAddress = ipAddress;
+	}
+
+	public void setVerificationMethod(String verificationMethod) {
+		this.verificationMethod = verificationMethod;
+	}
+
+	public void setVoteCreatedAt(LocalDateTime voteCreatedAt) {
+		this.voteCreatedAt = voteCreatedAt;
+	}
+
+	public void setVoteId(Long voteId) {
+		this.voteId = voteId;
+	}
+
+	public void setVoterIdentifier(String voterIdentifier) {
+		this.voterIdentifier = voterIdentifier;
+	}
+
+	public void setVoterRegistryId(Long voterRegistryId) {
+		this.voterRegistryId = voterRegistryId;
+	}
+
+	public void setWriteInCandidateName(String writeInCandidateName) {
+		this.writeInCandidateName = writeInCandidateName;
+	}
+}
@@ -0,0 +1,94 @@
+package vote.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * Serialized participation bitmap for one election: which voter registry
+ * ids have voted, as of the vote with id {@code lastVoteId}. Loaded at
+ * startup so the bitmap only has to replay votes written after it.
+ */
+@Entity
+@Table(name = "participation_snapshots")
+public class ParticipationSnapshot extends BaseEntity {
+
+	@Column(name = "election_id", nullable = false, unique = true)
+	private Long electionId;
+
+	@Column(name = "voter_count", nullable = false)
+	private long voterCount;
+
+	@Column(name = "last_vote_id", nullable = false)
+	private long lastVoteId;
+
+	@Column(name = "taken_at", nullable = false)
+	private LocalDateTime takenAt;
+
+	@Lob
+	@Basic(fetch = FetchType.LAZY)
+	@Column(name = "bitmap", nullable = false, length = Integer.MAX_VALUE)
+	private byte[] bitmap;
+
+	// Default constructor
+	public ParticipationSnapshot() {
+	}
+
+	// Parameterized constructor
+	public ParticipationSnapshot(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	// Getters and Setters
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public long getVoterCount() {
+		return voterCount;
+	}
+
+	public long getLastVoteId() {
+		return lastVoteId;
+	}
+
+	public LocalDateTime getTakenAt() {
+		return takenAt;
+	}
+
+	public byte[] getBitmap() {
+		return bitmap;
+	}
+
+	public void setElectionId(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public void setVoterCount(long voterCount) {
+		this.voterCount = voterCount;
+	}
+
+	public void setLastVoteId(long lastVoteId) {
+		this.lastVoteId = lastVoteId;
+	}
+
+	public void setTakenAt(LocalDateTime takenAt) {
+		this.takenAt = takenAt;
+	}
+
+	public void setBitmap(byte[] bitmap) {
+		this.bitmap = bitmap;
+	}
+
+	// toString method
+	@Override
+	public String toString() {
+		return "ParticipationSnapshot{" + "id=" + getId() + ", electionId=" + electionId + ", voterCount=" + voterCount
+				+ ", lastVoteId=" + lastVoteId + ", takenAt=" + takenAt + '}';
+	}
+}
@@ -0,0 +1,84 @@
+package vote.Entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * Results of a completed election, sealed when it completed: the final
+ * tally serialized as a JSON payload with its SHA-256 checksum. Written
+ * once and never updated, so published results cannot drift from what was
+ * counted at close.
+ */
+@Entity
+@Immutable
+@Table(name = "result_snapshots")
+public class ResultSnapshot extends BaseEntity {
+
+	@Column(name = "election_id", nullable = false, unique = true, updatable = false)
+	private Long electionId;
+
+	@Column(name = "organization_id", nullable = false, updatable = false)
+	private Long organizationId;
+
+	@Column(name = "sealed_at", nullable = false, updatable = false)
+	private LocalDateTime sealedAt;
+
+	// Lowercase hex SHA-256 of the payload
+	@Column(name = "checksum", nullable = false, updatable = false, length = 64)
+	private String checksum;
+
+	@Lob
+	@Basic(fetch = FetchType.LAZY)
+	@Column(name = "payload", nullable = false, updatable = false, length = Integer.MAX_VALUE)
+	private byte[] payload;
+
+	// Default constructor
+	protected ResultSnapshot() {
+	}
+
+	// Parameterized constructor
+	public ResultSnapshot(Long electionId, Long organizationId, LocalDateTime sealedAt, String checksum,
+			byte[] payload) {
+		this.electionId = electionId;
+		this.organizationId = organizationId;
+		this.sealedAt = sealedAt;
+		this.checksum = checksum;
+		this.payload = payload.clone();
+	}
+
+	// Getters
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public Long getOrganizationId() {
+		return organizationId;
+	}
+
+	public LocalDateTime getSealedAt() {
+		return sealedAt;
+	}
+
+	public String getChecksum() {
+		return checksum;
+	}
+
+	public byte[] getPayload() {
+		return payload.clone();
+	}
+
+	// toString method
+	@Override
+	public String toString() {
+		return "ResultSnapshot{" + "id=" + getId() + ", electionId=" + electionId + ", organizationId="
+				+ organizationId + ", sealedAt=" + sealedAt + ", checksum=" + checksum + '}';
+	}
+}
@@ -0,0 +1,87 @@
+package vote.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import vote.Enum.TurnoutInterval;
+
+/**
+ * Votes cast in one minute or hour of an election. Written from the
+ * in-memory turnout series when the election completes, so turnout charts
+ * of past elections never scan {@code votes}. Empty buckets are not stored.
+ */
+@Entity
+@Table(name = "turnout_buckets", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "election_id", "bucket_interval", "bucket_start" }) })
+public class TurnoutBucket extends BaseEntity {
+
+	@Column(name = "election_id", nullable = false)
+	private Long electionId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "bucket_interval", nullable = false, length = 10)
+	private TurnoutInterval interval;
+
+	@Column(name = "bucket_start", nullable = false)
+	private LocalDateTime bucketStart;
+
+	@Column(name = "votes", nullable = false)
+	private long votes;
+
+	// Default constructor
+	public TurnoutBucket() {
+	}
+
+	// Parameterized constructor
+	public TurnoutBucket(Long electionId, TurnoutInterval interval, LocalDateTime bucketStart, long votes) {
+		this.electionId = electionId;
+		this.interval = interval;
+		this.bucketStart = bucketStart;
+		this.votes = votes;
+	}
+
+	// Getters and Setters
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public TurnoutInterval getInterval() {
+		return interval;
+	}
+
+	public LocalDateTime getBucketStart() {
+		return bucketStart;
+	}
+
+	public long getVotes() {
+		return votes;
+	}
+
+	public void setElectionId(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public void setInterval(TurnoutInterval interval) {
+		this.interval = interval;
+	}
+
+	public void setBucketStart(LocalDateTime bucketStart) {
+		this.bucketStart = bucketStart;
+	}
+
+	public void setVotes(long votes) {
+		this.votes = votes;
+	}
+
+	// toString method
+	@Override
+	public String toString() {
+		return "TurnoutBucket{" + "id=" + getId() + ", electionId=" + electionId + ", interval=" + interval
+				+ ", bucketStart=" + bucketStart + ", votes=" + votes + '}';
+	}
+}
@@ -9,9 +9,14 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import vote.Util.VoteConstraints;
+import vote.Util.VoteWeight;
 
 @Entity
-@Table(name = "votes", uniqueConstraints = { @UniqueConstraint(columnNames = { "election_id", "voter_registry_id" }) })
+// Every ballot has a selection 0, so a second ballot from the same voter collides on it
+@Table(name = "votes", uniqueConstraints = {
+		@UniqueConstraint(name = VoteConstraints.BALLOT_SELECTION_KEY,
+				columnNames = { "election_id", "voter_registry_id", "selection_index" }) })
 public class Vote extends BaseEntity {
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +49,12 @@ public class Vote extends BaseEntity {
 	@Column(name = "verification_method")
 	private String verificationMethod; // OTP, BIOMETRIC, etc.
 
+	@Column(name = "selection_index", nullable = false)
+	private int selectionIndex = 0; // Position of this selection within the voter's ballot
+
+	@Column(name = "weight")
+	private Long weight; // Fixed-point units of VoteWeight, copied from the voter when the vote is cast
+
 	// Default constructor
 	public Vote() {
 		this.castAt = LocalDateTime.now();
@@ -97,15 +108,18 @@ public class Vote extends BaseEntity {
 		return verificationMethod;
 	}
 
+	public int getSelectionIndex() {
+		return selectionIndex;
+	}
+
+	// Votes cast before weights existed count once
+	public long getWeight() {
+		return weight != null ? weight : VoteWeight.ONE;
+	}
+
 	public String getVoterIdentifier() {
-		if (voterRegistry != null) {
-			if (voterRegistry.getMatricNumber() != null) {
-				return voterRegistry.getMatricNumber();
-			} else if (voterRegistry.getEmail() != null) {
-				return voterRegistry.getEmail();
-			} else if (voterRegistry.getPhone() != null) {
-				return voterRegistry.getPhone();
-			}
+		if (voterRegistry != null && voterRegistry.getIdentifier() != null) {
+			return voterRegistry.getIdentifier();
 		}
 		return "Unknown";
 	}
@@ -152,6 +166,14 @@ public class Vote extends BaseEntity {
 		this.ipAddress = ipAddress;
 	}
 
+	public void setSelectionIndex(int selectionIndex) {
+		this.selectionIndex = selectionIndex;
+	}
+
+	public void setWeight(long weight) {
+		this.weight = weight;
+	}
+
 	public void setUserAgent(String userAgent) {
 		this.userAgent = userAgent;
 	}
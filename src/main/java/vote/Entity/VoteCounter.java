@@ -0,0 +1,117 @@
+package vote.Entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import vote.Enum.CounterScope;
+
+/**
+ * One stripe of a sharded vote counter. A logical counter (e.g. a candidate's
+ * vote total) is spread over several stripe rows that are incremented with
+ * in-place UPDATEs and summed on read, so concurrent votes for the same
+ * candidate do not serialise on a single row.
+ *
+ * Deliberately not a {@link BaseEntity}: stripes are never loaded and saved
+ * back, so they carry no {@code @Version} column.
+ */
+@Entity
+@Table(name = "vote_counters", uniqueConstraints = {
+		@UniqueConstraint(columnNames = { "scope", "owner_id", "stripe" }) }, indexes = {
+				@Index(name = "idx_vote_counters_election", columnList = "election_id, scope") })
+public class VoteCounter {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "scope", nullable = false, length = 20)
+	private CounterScope scope;
+
+	@Column(name = "owner_id", nullable = false)
+	private Long ownerId;
+
+	@Column(name = "election_id", nullable = false)
+	private Long electionId;
+
+	@Column(name = "stripe", nullable = false)
+	private int stripe;
+
+	@Column(name = "tally", nullable = false)
+	private long tally;
+
+	// Default constructor
+	public VoteCounter() {
+	}
+
+	// Parameterized constructor
+	public VoteCounter(CounterScope scope, Long ownerId, Long electionId, int stripe, long tally) {
+		this.scope = scope;
+		this.ownerId = ownerId;
+		this.electionId = electionId;
+		this.stripe = stripe;
+		this.tally = tally;
+	}
+
+	// Getters and Setters
+	public Long getId() {
+		return id;
+	}
+
+	public CounterScope getScope() {
+		return scope;
+	}
+
+	public Long getOwnerId() {
+		return ownerId;
+	}
+
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public int getStripe() {
+		return stripe;
+	}
+
+	public long getTally() {
+		return tally;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public void setScope(CounterScope scope) {
+		this.scope = scope;
+	}
+
+	public void setOwnerId(Long ownerId) {
+		this.ownerId = ownerId;
+	}
+
+	public void setElectionId(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public void setStripe(int stripe) {
+		this.stripe = stripe;
+	}
+
+	public void setTally(long tally) {
+		this.tally = tally;
+	}
+
+	@Override
+	public String toString() {
+		return "VoteCounter{" + "scope=" + scope + ", ownerId=" + ownerId + ", stripe=" + stripe + ", tally=" + tally
+				+ '}';
+	}
+}
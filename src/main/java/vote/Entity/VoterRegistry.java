@@ -5,16 +5,19 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import vote.Util.VoteWeight;
 
 @Entity
 @Table(name = "voter_registry", uniqueConstraints = {
 		@UniqueConstraint(columnNames = { "organization_id", "matric_number" }),
 		@UniqueConstraint(columnNames = { "organization_id", "email" }),
-		@UniqueConstraint(columnNames = { "organization_id", "phone" }) })
+		@UniqueConstraint(columnNames = { "organization_id", "phone" }) }, indexes = {
+				@Index(name = "idx_voter_registry_org_used", columnList = "organization_id, used, id") })
 public class VoterRegistry extends BaseEntity {
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +36,9 @@ public class VoterRegistry extends BaseEntity {
 	@Column(name = "full_name")
 	private String fullName;
 
+	@Column(name = "voting_weight")
+	private Long weight; // Fixed-point units of VoteWeight; entries without one carry a single vote
+
 	@Column(name = "used", nullable = false)
 	private boolean used = false;
 
@@ -77,6 +83,16 @@ public class VoterRegistry extends BaseEntity {
 		return email;
 	}
 
+	// First identifier on file: matric number, then email, then phone
+	public String getIdentifier() {
+		if (matricNumber != null) {
+			return matricNumber;
+		} else if (email != null) {
+			return email;
+		}
+		return phone;
+	}
+
 	public String getFullName() {
 		return fullName;
 	}
@@ -106,6 +122,10 @@ public class VoterRegistry extends BaseEntity {
 		return votedAt;
 	}
 
+	public long getWeight() {
+		return weight != null ? weight : VoteWeight.ONE;
+	}
+
 	@Override
 	public int hashCode() {
 		return getId() != null ? getId().hashCode() : 0;
@@ -117,9 +137,9 @@ public class VoterRegistry extends BaseEntity {
 		this.lastVerificationAttempt = LocalDateTime.now();
 	}
 
-	// Check if voter is eligible to vote
+	// Check if voter is eligible to vote; having voted is tracked per election
 	public boolean isEligible() {
-		return !used && verificationAttempts < 5; // Max 5 verification attempts
+		return verificationAttempts < 5; // Max 5 verification attempts
 	}
 
 	public boolean isUsed() {
@@ -174,6 +194,10 @@ public class VoterRegistry extends BaseEntity {
 		this.votedAt = votedAt;
 	}
 
+	public void setWeight(Long weight) {
+		this.weight = weight;
+	}
+
 	// toString method
 	@Override
 	public String toString() {
@@ -0,0 +1,7 @@
+package vote.Enum;
+
+public enum AnomalyAction {
+	NONE, // only report hot IPs
+	FLAG, // accept votes from hot IPs but log and count them
+	THROTTLE // cap the votes per minute a hot IP may cast
+}
@@ -0,0 +1,8 @@
+package vote.Enum;
+
+public enum CardinalityDimension {
+	VOTERS, // voter registry ids with a vote
+	IP_ADDRESSES, // addresses votes came from
+	USER_AGENTS, // user agents votes came from
+	VERIFICATION_IDENTIFIERS // registry identifiers that asked to be verified; organization-wide
+}
@@ -0,0 +1,5 @@
+package vote.Enum;
+
+public enum CounterScope {
+	CANDIDATE, ELECTION
+}
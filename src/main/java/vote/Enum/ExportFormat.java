@@ -0,0 +1,6 @@
+package vote.Enum;
+
+public enum ExportFormat {
+	NDJSON, // one JSON object per line
+	CSV // header row, then one record per line
+}
@@ -0,0 +1,6 @@
+package vote.Enum;
+
+public enum IngestionMode {
+	DIRECT, // one transaction per vote
+	BATCHED // queued and group-committed by the vote writer
+}
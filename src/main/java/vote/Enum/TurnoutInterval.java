@@ -0,0 +1,16 @@
+package vote.Enum;
+
+public enum TurnoutInterval {
+	MINUTE(1), // kept for the last 24 hours of an election
+	HOUR(60); // kept for the whole election
+
+	private final int minutes;
+
+	TurnoutInterval(int minutes) {
+		this.minutes = minutes;
+	}
+
+	public int getMinutes() {
+		return minutes;
+	}
+}
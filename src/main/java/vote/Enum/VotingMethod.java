@@ -0,0 +1,15 @@
+package vote.Enum;
+
+public enum VotingMethod {
+	PLURALITY, INSTANT_RUNOFF, SINGLE_TRANSFERABLE_VOTE, APPROVAL;
+
+	// Ranked methods read a voter's selections for a position in ballot order as preferences
+	public boolean isRanked() {
+		return this == INSTANT_RUNOFF || this == SINGLE_TRANSFERABLE_VOTE;
+	}
+
+	// Plurality caps selections per position at max votes per voter; the others let voters select everyone
+	public boolean isSelectionLimited() {
+		return this == PLURALITY;
+	}
+}
@@ -0,0 +1,20 @@
+package vote.Event;
+
+/**
+ * Published by the election service when an election is completed.
+ * Listeners that drop in-memory state for the election should bind to the
+ * AFTER_COMMIT phase, so that state stays in place until the completed
+ * status is visible to the vote path.
+ */
+public class ElectionCompletedEvent {
+
+	private final Long electionId;
+
+	public ElectionCompletedEvent(Long electionId) {
+		this.electionId = electionId;
+	}
+
+	public Long getElectionId() {
+		return electionId;
+	}
+}
@@ -0,0 +1,71 @@
+package vote.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the voting service once a vote has been written. Listeners
+ * that maintain in-memory views should bind to the AFTER_COMMIT phase so a
+ * rolled-back vote is never counted.
+ */
+public class VoteCastEvent {
+
+	private final Long voteId;
+	private final Long electionId;
+	private final Long candidateId;
+	private final Long voterRegistryId;
+	private final LocalDateTime castAt;
+	private final String ipAddress;
+	private final String userAgent;
+	private final long weight;
+
+	public VoteCastEvent(Long voteId, Long electionId, Long candidateId, Long voterRegistryId, LocalDateTime castAt,
+			String ipAddress, String userAgent, long weight) {
+		this.voteId = voteId;
+		this.electionId = electionId;
+		this.candidateId = candidateId;
+		this.voterRegistryId = voterRegistryId;
+		this.castAt = castAt;
+		this.ipAddress = ipAddress;
+		this.userAgent = userAgent;
+		this.weight = weight;
+	}
+
+	public Long getVoteId() {
+		return voteId;
+	}
+
+	public Long getElectionId() {
+		return electionId;
+	}
+
+	public Long getCandidateId() {
+		return candidateId;
+	}
+
+	public Long getVoterRegistryId() {
+		return voterRegistryId;
+	}
+
+	public LocalDateTime getCastAt() {
+		return castAt;
+	}
+
+	public String getIpAddress() {
+		return ipAddress;
+	}
+
+	public String getUserAgent() {
+		return userAgent;
+	}
+
+	// Fixed-point units of VoteWeight
+	public long getWeight() {
+		return weight;
+	}
+
+	@Override
+	public String toString() {
+		return "VoteCastEvent{" + "voteId=" + voteId + ", electionId=" + electionId + ", candidateId=" + candidateId
+				+ '}';
+	}
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -58,6 +59,19 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex,
+			WebRequest request) {
+
+		ErrorResponse errorResponse = ErrorResponse.builder().timestamp(LocalDateTime.now())
+				.status(HttpStatus.SERVICE_UNAVAILABLE.value()).error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+				.message(ex.getMessage()).path(request.getDescription(false)).build();
+
+		log.warn("Service unavailable: {}", ex.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(errorResponse);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex,
 			WebRequest request) {
@@ -0,0 +1,19 @@
+package vote.Exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+	/**
+	 *
+	 */
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfterSeconds;
+
+	public ServiceUnavailableException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -1,14 +1,20 @@
 package vote.Repository;
 
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import vote.Entity.Candidate;
+import vote.Enum.ElectionStatus;
+import vote.Service.CandidateRow;
+import vote.Util.VoteWeight;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
@@ -17,10 +23,31 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 
     List<Candidate> findByElectionIdAndActiveTrue(Long electionId);
 
+    // Keyset pages: rows after a given id, in id order, projected to the columns the response shows
+    @Query("SELECT new vote.Service.CandidateRow(c.id, e.id, e.title, c.name, c.position, c.bio, c.photoUrl, " +
+           "c.partyAffiliation, c.active, c.writeIn, c.voteCount, c.createdAt, c.updatedAt) " +
+           "FROM Candidate c JOIN c.election e " +
+           "WHERE e.id = :electionId AND c.id > :afterId ORDER BY c.id")
+    List<CandidateRow> findPageByElectionId(@Param("electionId") Long electionId, @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    @Query("SELECT new vote.Service.CandidateRow(c.id, e.id, e.title, c.name, c.position, c.bio, c.photoUrl, " +
+           "c.partyAffiliation, c.active, c.writeIn, c.voteCount, c.createdAt, c.updatedAt) " +
+           "FROM Candidate c JOIN c.election e " +
+           "WHERE e.id = :electionId AND c.active = true AND c.id > :afterId ORDER BY c.id")
+    List<CandidateRow> findActivePageByElectionId(@Param("electionId") Long electionId,
+                                                  @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new vote.Service.CandidateRow(c.id, e.id, e.title, c.name, c.position, c.bio, c.photoUrl, " +
+           "c.partyAffiliation, c.active, c.writeIn, c.voteCount, c.createdAt, c.updatedAt) " +
+           "FROM Candidate c JOIN c.election e " +
+           "WHERE e.id = :electionId AND c.active = true ORDER BY c.id")
+    List<CandidateRow> findActiveRowsByElectionId(@Param("electionId") Long electionId);
+
     List<Candidate> findByElectionIdAndPosition(Long electionId, String position);
 
-    @Query("SELECT c FROM Candidate c WHERE c.election.id = :electionId ORDER BY c.voteCount DESC")
-    List<Candidate> findByElectionIdOrderByVoteCountDesc(@Param("electionId") Long electionId);
+    @Query("SELECT c.id, c.name, c.position FROM Candidate c WHERE c.election.id = :electionId AND c.active = true")
+    List<Object[]> findActiveCandidateLabels(@Param("electionId") Long electionId);
 
     long countByElectionId(Long electionId);
 
@@ -46,4 +73,21 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 
     @Query("SELECT c FROM Candidate c WHERE c.election.organization.id = :orgId")
     List<Candidate> findByOrganizationId(@Param("orgId") Long organizationId);
+
+    @Query("SELECT c.id, c.election.id, c.voteCount, c.weightedVotes FROM Candidate c " +
+           "WHERE c.election.status IN :statuses")
+    List<Object[]> findVoteCountsByElectionStatus(@Param("statuses") Collection<ElectionStatus> statuses);
+
+    // Counts persisted before weights existed were all single votes
+    @Query("SELECT c.id, COALESCE(c.weightedVotes, c.voteCount * " + VoteWeight.ONE + "L) FROM Candidate c " +
+           "WHERE c.election.id = :electionId")
+    List<Object[]> findWeightedVotesByElectionId(@Param("electionId") Long electionId);
+
+    @Modifying
+    @Query("UPDATE Candidate c SET c.voteCount = :voteCount WHERE c.id = :candidateId")
+    int updateVoteCount(@Param("candidateId") Long candidateId, @Param("voteCount") Integer voteCount);
+
+    @Modifying
+    @Query("UPDATE Candidate c SET c.weightedVotes = :weightedVotes WHERE c.id = :candidateId")
+    int updateWeightedVotes(@Param("candidateId") Long candidateId, @Param("weightedVotes") Long weightedVotes);
 }
\ No newline at end of file
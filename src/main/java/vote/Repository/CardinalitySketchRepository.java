@@ -0,0 +1,30 @@
+package vote.Repository;
+
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import vote.Entity.CardinalitySketch;
+import vote.Enum.CardinalityDimension;
+
+@Repository
+public interface CardinalitySketchRepository extends JpaRepository<CardinalitySketch, Long> {
+
+    @Query("SELECT s FROM CardinalitySketch s WHERE s.organizationId = :organizationId " +
+           "AND ((:electionId IS NULL AND s.electionId IS NULL) OR s.electionId = :electionId) " +
+           "AND s.dimension = :dimension AND s.bucketDate = :bucketDate")
+    List<CardinalitySketch> findByKey(@Param("organizationId") Long organizationId,
+                                      @Param("electionId") Long electionId,
+                                      @Param("dimension") CardinalityDimension dimension,
+                                      @Param("bucketDate") LocalDate bucketDate);
+
+    List<CardinalitySketch> findByElectionIdAndBucketDateBetween(Long electionId, LocalDate from, LocalDate to);
+
+    List<CardinalitySketch> findByOrganizationIdAndBucketDateBetween(Long organizationId, LocalDate from,
+                                                                     LocalDate to);
+}
@@ -2,8 +2,11 @@ package vote.Repository;
 
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,9 +22,32 @@ public interface ElectionRepository extends JpaRepository<Election, Long> {
 
     List<Election> findByOrganizationIdAndStatus(Long organizationId, ElectionStatus status);
 
+    // Keyset pages: rows after a given id, in id order. The organization is fetched with them because the
+    // response shows its name, and ongoing/turnout come from the entity's own rules
+    @Query("SELECT e FROM Election e JOIN FETCH e.organization o " +
+           "WHERE o.id = :orgId AND e.id > :afterId ORDER BY e.id")
+    List<Election> findPageByOrganizationId(@Param("orgId") Long organizationId, @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    @Query("SELECT e FROM Election e JOIN FETCH e.organization o " +
+           "WHERE o.id = :orgId AND e.status = :status AND e.id > :afterId ORDER BY e.id")
+    List<Election> findPageByOrganizationIdAndStatus(@Param("orgId") Long organizationId,
+                                                     @Param("status") ElectionStatus status,
+                                                     @Param("afterId") Long afterId, Limit limit);
+
     List<Election> findByStatus(ElectionStatus status);
 
-    @Query("SELECT e FROM Election e WHERE e.organization.id = :orgId AND e.startTime <= :now AND e.endTime >= :now")
+    @Query("SELECT e.organization.id FROM Election e WHERE e.id = :electionId")
+    Optional<Long> findOrganizationIdById(@Param("electionId") Long electionId);
+
+    @Query("SELECT e.status FROM Election e WHERE e.id = :electionId")
+    Optional<ElectionStatus> findStatusById(@Param("electionId") Long electionId);
+
+    @Query("SELECT e.id FROM Election e WHERE e.status IN :statuses")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<ElectionStatus> statuses);
+
+    @Query("SELECT e FROM Election e JOIN FETCH e.organization o " +
+           "WHERE o.id = :orgId AND e.startTime <= :now AND e.endTime >= :now")
     List<Election> findActiveElectionsByOrganization(@Param("orgId") Long organizationId,
                                                     @Param("now") LocalDateTime now);
 
@@ -40,10 +66,11 @@ public interface ElectionRepository extends JpaRepository<Election, Long> {
     List<Election> searchElections(@Param("orgId") Long organizationId,
                                   @Param("searchTerm") String searchTerm);
 
-    @Query("SELECT e FROM Election e WHERE e.resultsPublished = true " +
+    // Ids only: published results are served from their sealed snapshots
+    @Query("SELECT e.id FROM Election e WHERE e.resultsPublished = true " +
            "AND e.organization.id = :orgId " +
-           "ORDER BY e.endTime DESC")
-    List<Election> findPublishedResults(@Param("orgId") Long organizationId);
+           "ORDER BY e.endTime DESC, e.id DESC")
+    List<Long> findPublishedResults(@Param("orgId") Long organizationId);
 
     @Query("SELECT e FROM Election e WHERE e.startTime > :date")
     List<Election> findUpcomingElections(@Param("date") LocalDateTime date);
@@ -0,0 +1,25 @@
+package vote.Repository;
+
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import vote.Entity.ElectionResult;
+
+@Repository
+public interface ElectionResultRepository extends JpaRepository<ElectionResult, Long> {
+
+    List<ElectionResult> findByElectionId(Long electionId);
+
+    List<ElectionResult> findByElectionIdOrderByOverallRankAscCandidateIdAsc(Long electionId);
+
+    List<ElectionResult> findByElectionIdAndPositionOrderByPositionRankAscCandidateIdAsc(Long electionId,
+                                                                                          String position);
+
+    Optional<ElectionResult> findFirstByElectionIdOrderByOverallRankAscCandidateIdAsc(Long electionId);
+
+    boolean existsByElectionIdAndFinalizedTrue(Long electionId);
+}
@@ -4,6 +4,7 @@ package vote.Repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,9 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
 
     Optional<Organization> findByCode(String code);
 
+    // Keyset page: rows after a given id, in id order
+    List<Organization> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
     boolean existsByName(String name);
 
     boolean existsByCode(String code);
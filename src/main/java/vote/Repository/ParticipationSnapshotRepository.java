@@ -0,0 +1,15 @@
+package vote.Repository;
+
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import vote.Entity.ParticipationSnapshot;
+
+@Repository
+public interface ParticipationSnapshotRepository extends JpaRepository<ParticipationSnapshot, Long> {
+
+    Optional<ParticipationSnapshot> findByElectionId(Long electionId);
+}
@@ -0,0 +1,17 @@
+package vote.Repository;
+
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import vote.Entity.ResultSnapshot;
+
+@Repository
+public interface ResultSnapshotRepository extends JpaRepository<ResultSnapshot, Long> {
+
+    Optional<ResultSnapshot> findByElectionId(Long electionId);
+
+    boolean existsByElectionId(Long electionId);
+}
@@ -0,0 +1,22 @@
+package vote.Repository;
+
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import vote.Entity.TurnoutBucket;
+
+@Repository
+public interface TurnoutBucketRepository extends JpaRepository<TurnoutBucket, Long> {
+
+    List<TurnoutBucket> findByElectionId(Long electionId);
+
+    @Modifying
+    @Query("DELETE FROM TurnoutBucket b WHERE b.electionId = :electionId")
+    int deleteByElectionId(@Param("electionId") Long electionId);
+}
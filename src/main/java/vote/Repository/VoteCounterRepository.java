@@ -0,0 +1,44 @@
+package vote.Repository;
+
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import vote.Entity.VoteCounter;
+import vote.Enum.CounterScope;
+
+@Repository
+public interface VoteCounterRepository extends JpaRepository<VoteCounter, Long> {
+
+    @Modifying
+    @Query("UPDATE VoteCounter c SET c.tally = c.tally + :delta " +
+           "WHERE c.scope = :scope AND c.ownerId = :ownerId AND c.stripe = :stripe")
+    int increment(@Param("scope") CounterScope scope,
+                  @Param("ownerId") Long ownerId,
+                  @Param("stripe") int stripe,
+                  @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.tally), 0) FROM VoteCounter c WHERE c.scope = :scope AND c.ownerId = :ownerId")
+    long sumByScopeAndOwnerId(@Param("scope") CounterScope scope,
+                              @Param("ownerId") Long ownerId);
+
+    @Query("SELECT c.ownerId, SUM(c.tally) FROM VoteCounter c WHERE c.scope = :scope " +
+           "AND c.electionId = :electionId GROUP BY c.ownerId")
+    List<Object[]> sumByElectionGroupedByOwner(@Param("scope") CounterScope scope,
+                                               @Param("electionId") Long electionId);
+
+    @Query("SELECT c.ownerId, SUM(c.tally) FROM VoteCounter c WHERE c.scope = :scope " +
+           "AND c.ownerId IN :ownerIds GROUP BY c.ownerId")
+    List<Object[]> sumByOwnerIds(@Param("scope") CounterScope scope,
+                                 @Param("ownerIds") Collection<Long> ownerIds);
+
+    @Query("SELECT c.stripe FROM VoteCounter c WHERE c.scope = :scope AND c.ownerId = :ownerId")
+    List<Integer> findStripes(@Param("scope") CounterScope scope,
+                              @Param("ownerId") Long ownerId);
+}
@@ -2,14 +2,24 @@ package vote.Repository;
 
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import vote.Entity.Vote;
+import vote.Enum.ElectionStatus;
+import vote.Service.VoteExportRow;
+import vote.Service.VoteRow;
+import vote.Util.VoteWeight;
 
 @Repository
 public interface VoteRepository extends JpaRepository<Vote, Long> {
@@ -20,6 +30,23 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
 
     List<Vote> findByVoterRegistryId(Long voterRegistryId);
 
+    // Keyset pages: votes after a given id, in id order, projected to the columns the response shows
+    @Query("SELECT new vote.Service.VoteRow(v.id, e.id, e.title, c.id, c.name, vr.id, " +
+           "COALESCE(vr.matricNumber, vr.email, vr.phone, 'Unknown'), v.castAt, v.ipAddress, v.anonymous, " +
+           "v.writeInCandidateName, v.verificationMethod, v.createdAt, v.updatedAt) " +
+           "FROM Vote v JOIN v.election e JOIN v.candidate c JOIN v.voterRegistry vr " +
+           "WHERE e.id = :electionId AND v.id > :afterId ORDER BY v.id")
+    List<VoteRow> findPageByElectionId(@Param("electionId") Long electionId, @Param("afterId") Long afterId,
+                                       Limit limit);
+
+    @Query("SELECT new vote.Service.VoteRow(v.id, e.id, e.title, c.id, c.name, vr.id, " +
+           "COALESCE(vr.matricNumber, vr.email, vr.phone, 'Unknown'), v.castAt, v.ipAddress, v.anonymous, " +
+           "v.writeInCandidateName, v.verificationMethod, v.createdAt, v.updatedAt) " +
+           "FROM Vote v JOIN v.election e JOIN v.candidate c JOIN v.voterRegistry vr " +
+           "WHERE vr.id = :voterRegistryId AND v.id > :afterId ORDER BY v.id")
+    List<VoteRow> findPageByVoterRegistryId(@Param("voterRegistryId") Long voterRegistryId,
+                                            @Param("afterId") Long afterId, Limit limit);
+
     @Query("SELECT v FROM Vote v WHERE v.election.id = :electionId AND v.voterRegistry.id = :voterRegistryId")
     List<Vote> findByElectionAndVoter(@Param("electionId") Long electionId,
                                      @Param("voterRegistryId") Long voterRegistryId);
@@ -52,6 +79,25 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
                               @Param("startDate") LocalDateTime startDate,
                               @Param("endDate") LocalDateTime endDate);
 
+    // Exact distinct counts over a cast_at range; the fallback when sketch estimates are not enough
+    @Query("SELECT COUNT(DISTINCT v.voterRegistry.id) FROM Vote v WHERE v.election.id = :electionId " +
+           "AND v.castAt >= :from AND v.castAt < :to")
+    long countUniqueVotersBetween(@Param("electionId") Long electionId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(DISTINCT v.ipAddress) FROM Vote v WHERE v.election.id = :electionId " +
+           "AND v.castAt >= :from AND v.castAt < :to")
+    long countDistinctIpAddressesBetween(@Param("electionId") Long electionId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(DISTINCT v.userAgent) FROM Vote v WHERE v.election.id = :electionId " +
+           "AND v.castAt >= :from AND v.castAt < :to")
+    long countDistinctUserAgentsBetween(@Param("electionId") Long electionId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
     @Query("SELECT v.ipAddress, COUNT(v) FROM Vote v WHERE v.election.id = :electionId " +
            "GROUP BY v.ipAddress HAVING COUNT(v) > 1")
     List<Object[]> findDuplicateIPVotes(@Param("electionId") Long electionId);
@@ -62,4 +108,43 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
 
     @Query("SELECT COUNT(DISTINCT v.voterRegistry.id) FROM Vote v WHERE v.election.id = :electionId")
     long countUniqueVoters(@Param("electionId") Long electionId);
-}
\ No newline at end of file
+
+    // Votes and their summed weight per candidate; votes cast before weights existed weigh one
+    @Query("SELECT v.candidate.id, COUNT(v), SUM(COALESCE(v.weight, " + VoteWeight.ONE + "L)) FROM Vote v " +
+           "WHERE v.election.id = :electionId GROUP BY v.candidate.id")
+    List<Object[]> countVotesGroupedByCandidate(@Param("electionId") Long electionId);
+
+    @Query("SELECT v.election.id, v.candidate.id, COUNT(v), SUM(COALESCE(v.weight, " + VoteWeight.ONE + "L)) " +
+           "FROM Vote v WHERE v.election.status IN :statuses GROUP BY v.election.id, v.candidate.id")
+    List<Object[]> countVotesGroupedByElectionAndCandidate(@Param("statuses") Collection<ElectionStatus> statuses);
+
+    // Id, candidate and weight of every vote in an election; loads a live tally vote by vote
+    @Query("SELECT v.id, v.candidate.id, COALESCE(v.weight, " + VoteWeight.ONE + "L) FROM Vote v " +
+           "WHERE v.election.id = :electionId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamTallyRowsByElectionId(@Param("electionId") Long electionId);
+
+    // Vote id and voter of every vote after a given id; rebuilds participation bitmaps
+    @Query("SELECT v.id, v.voterRegistry.id FROM Vote v WHERE v.election.id = :electionId AND v.id > :afterVoteId")
+    Stream<Object[]> streamVotersByElectionIdAfter(@Param("electionId") Long electionId,
+                                                   @Param("afterVoteId") long afterVoteId);
+
+    // Cast time of every vote in an election; rebuilds the in-memory turnout series
+    @Query("SELECT v.castAt FROM Vote v WHERE v.election.id = :electionId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<LocalDateTime> streamCastTimesByElectionId(@Param("electionId") Long electionId);
+
+    // Voter and candidate of every selection, a voter's selections together in ballot order; ranked counts
+    @Query("SELECT v.voterRegistry.id, v.candidate.id FROM Vote v WHERE v.election.id = :electionId " +
+           "ORDER BY v.voterRegistry.id, v.selectionIndex")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamBallotSelectionsByElectionId(@Param("electionId") Long electionId);
+
+    // Forward-only cursor over an election's votes in id order, for streaming exports
+    @Query("SELECT new vote.Service.VoteExportRow(v.id, c.id, c.name, c.position, vr.id, " +
+           "COALESCE(vr.matricNumber, vr.email, vr.phone), v.castAt, v.anonymous, v.writeInCandidateName, " +
+           "v.verificationMethod) FROM Vote v JOIN v.candidate c JOIN v.voterRegistry vr " +
+           "WHERE v.election.id = :electionId ORDER BY v.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<VoteExportRow> streamExportRowsByElectionId(@Param("electionId") Long electionId);
+}
@@ -5,12 +5,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import vote.Entity.VoterRegistry;
+import vote.Service.VoterRegistryRow;
 
 @Repository
 public interface VoterRegistryRepository extends JpaRepository<VoterRegistry, Long> {
@@ -19,6 +22,28 @@ public interface VoterRegistryRepository extends JpaRepository<VoterRegistry, Lo
 
     List<VoterRegistry> findByOrganizationIdAndUsedFalse(Long organizationId);
 
+    // Keyset pages: rows after a given id, in id order, projected to the columns the response shows
+    @Query("SELECT new vote.Service.VoterRegistryRow(vr.id, o.id, o.name, vr.matricNumber, vr.email, vr.phone, " +
+           "vr.fullName, vr.used, vr.votedAt, vr.verificationAttempts, vr.lastVerificationAttempt, vr.weight, " +
+           "vr.createdAt, vr.updatedAt) FROM VoterRegistry vr JOIN vr.organization o " +
+           "WHERE o.id = :orgId AND vr.id > :afterId ORDER BY vr.id")
+    List<VoterRegistryRow> findPageByOrganizationId(@Param("orgId") Long organizationId,
+                                                    @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new vote.Service.VoterRegistryRow(vr.id, o.id, o.name, vr.matricNumber, vr.email, vr.phone, " +
+           "vr.fullName, vr.used, vr.votedAt, vr.verificationAttempts, vr.lastVerificationAttempt, vr.weight, " +
+           "vr.createdAt, vr.updatedAt) FROM VoterRegistry vr JOIN vr.organization o " +
+           "WHERE o.id = :orgId AND vr.used = :used AND vr.id > :afterId ORDER BY vr.id")
+    List<VoterRegistryRow> findPageByOrganizationIdAndUsed(@Param("orgId") Long organizationId,
+                                                           @Param("used") boolean used,
+                                                           @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new vote.Service.VoterRegistryRow(vr.id, o.id, o.name, vr.matricNumber, vr.email, vr.phone, " +
+           "vr.fullName, vr.used, vr.votedAt, vr.verificationAttempts, vr.lastVerificationAttempt, vr.weight, " +
+           "vr.createdAt, vr.updatedAt) FROM VoterRegistry vr JOIN vr.organization o " +
+           "WHERE o.id = :orgId ORDER BY vr.id")
+    List<VoterRegistryRow> findRowsByOrganizationId(@Param("orgId") Long organizationId);
+
     List<VoterRegistry> findByOrganizationIdAndUsedTrue(Long organizationId);
 
     Optional<VoterRegistry> findByOrganizationIdAndMatricNumber(Long organizationId, String matricNumber);
@@ -28,7 +53,6 @@ public interface VoterRegistryRepository extends JpaRepository<VoterRegistry, Lo
     Optional<VoterRegistry> findByOrganizationIdAndPhone(Long organizationId, String phone);
 
     @Query("SELECT vr FROM VoterRegistry vr WHERE vr.organization.id = :orgId " +
-           "AND vr.used = false " +
            "AND (:matricNumber IS NULL OR vr.matricNumber = :matricNumber) " +
            "AND (:email IS NULL OR vr.email = :email) " +
            "AND (:phone IS NULL OR vr.phone = :phone)")
@@ -51,7 +75,6 @@ public interface VoterRegistryRepository extends JpaRepository<VoterRegistry, Lo
                                     @Param("searchTerm") String searchTerm);
 
     @Query("SELECT vr FROM VoterRegistry vr WHERE vr.organization.id = :orgId " +
-           "AND vr.used = false " +
            "AND vr.verificationAttempts >= 5")
     List<VoterRegistry> findLockedVoters(@Param("orgId") Long organizationId);
 
@@ -70,4 +93,13 @@ public interface VoterRegistryRepository extends JpaRepository<VoterRegistry, Lo
     long countVotersVotedBetween(@Param("orgId") Long organizationId,
                                 @Param("startDate") LocalDateTime startDate,
                                 @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    // Registry-level "has voted somewhere" flag; per-election participation lives in the bitmaps
+    @Modifying
+    @Query("UPDATE VoterRegistry vr SET vr.used = true, vr.votedAt = :votedAt, vr.updatedAt = :now, " +
+           "vr.version = COALESCE(vr.version, 0) + 1 WHERE vr.id = :voterRegistryId")
+    int markVoted(@Param("voterRegistryId") Long voterRegistryId,
+                  @Param("votedAt") LocalDateTime votedAt,
+                  @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,56 @@
+package vote.Request;
+
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public class BallotRequest {
+
+    @NotNull(message = "Election ID is required")
+    private Long electionId;
+
+    @NotNull(message = "Voter registry ID is required")
+    private Long voterRegistryId;
+
+    private boolean anonymous = false;
+
+    @NotEmpty(message = "At least one selection is required")
+    @Valid
+    private List<BallotSelectionRequest> selections;
+
+    // Getters and Setters
+    public Long getElectionId() {
+        return electionId;
+    }
+
+    public void setElectionId(Long electionId) {
+        this.electionId = electionId;
+    }
+
+    public Long getVoterRegistryId() {
+        return voterRegistryId;
+    }
+
+    public void setVoterRegistryId(Long voterRegistryId) {
+        this.voterRegistryId = voterRegistryId;
+    }
+
+    public boolean isAnonymous() {
+        return anonymous;
+    }
+
+    public void setAnonymous(boolean anonymous) {
+        this.anonymous = anonymous;
+    }
+
+    public List<BallotSelectionRequest> getSelections() {
+        return selections;
+    }
+
+    public void setSelections(List<BallotSelectionRequest> selections) {
+        this.selections = selections;
+    }
+}
@@ -0,0 +1,29 @@
+package vote.Request;
+
+
+import jakarta.validation.constraints.NotNull;
+
+public class BallotSelectionRequest {
+
+    @NotNull(message = "Candidate ID is required")
+    private Long candidateId;
+
+    private String writeInCandidateName;
+
+    // Getters and Setters
+    public Long getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(Long candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getWriteInCandidateName() {
+        return writeInCandidateName;
+    }
+
+    public void setWriteInCandidateName(String writeInCandidateName) {
+        this.writeInCandidateName = writeInCandidateName;
+    }
+}
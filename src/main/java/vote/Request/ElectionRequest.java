@@ -3,8 +3,10 @@ package vote.Request;
 
 import java.time.LocalDateTime;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import vote.Enum.VotingMethod;
 
 public class ElectionRequest {
 
@@ -24,6 +26,13 @@ public class ElectionRequest {
 
     private Integer maxVotesPerVoter = 1;
 
+    private VotingMethod votingMethod = VotingMethod.PLURALITY;
+
+    @Min(value = 1, message = "At least one seat is required")
+    private Integer seats = 1;
+
+    private boolean weighted = false;
+
     private boolean allowWriteIn = false;
 
     private boolean requirePhotoId = false;
@@ -77,6 +86,30 @@ public class ElectionRequest {
         this.maxVotesPerVoter = maxVotesPerVoter;
     }
 
+    public VotingMethod getVotingMethod() {
+        return votingMethod;
+    }
+
+    public void setVotingMethod(VotingMethod votingMethod) {
+        this.votingMethod = votingMethod;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    public void setWeighted(boolean weighted) {
+        this.weighted = weighted;
+    }
+
     public boolean isAllowWriteIn() {
         return allowWriteIn;
     }
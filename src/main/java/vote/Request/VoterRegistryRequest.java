@@ -1,5 +1,7 @@
 package vote.Request;
 
+import java.math.BigDecimal;
+
 import jakarta.validation.constraints.NotNull;
 
 public class VoterRegistryRequest {
@@ -15,6 +17,8 @@ public class VoterRegistryRequest {
 
     private String fullName;
 
+    private BigDecimal weight; // Votes this entry carries in weighted elections; one when left out
+
     // Getters and Setters
     public Long getOrganizationId() {
         return organizationId;
@@ -55,4 +59,12 @@ public class VoterRegistryRequest {
     public void setFullName(String fullName) {
         this.fullName = fullName;
     }
+
+    public BigDecimal getWeight() {
+        return weight;
+    }
+
+    public void setWeight(BigDecimal weight) {
+        this.weight = weight;
+    }
 }
\ No newline at end of file
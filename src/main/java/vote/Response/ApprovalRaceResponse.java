@@ -0,0 +1,79 @@
+package vote.Response;
+
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approval count of one position: approvals per candidate, and the seats
+ * most approved candidates as winners. {@code tiedAtCutoff} is set when
+ * the last winner has as many approvals as the first runner-up, so the
+ * last seat was decided by candidate order and needs a tie-break.
+ */
+public class ApprovalRaceResponse {
+
+    private String position;
+    private int seats;
+    private int ballots;
+    private Map<Long, String> candidates;
+    private Map<Long, Long> approvals;
+    private List<Long> winners;
+    private boolean tiedAtCutoff;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ApprovalRaceResponse response = new ApprovalRaceResponse();
+
+        public Builder position(String position) {
+            response.position = position;
+            return this;
+        }
+
+        public Builder seats(int seats) {
+            response.seats = seats;
+            return this;
+        }
+
+        public Builder ballots(int ballots) {
+            response.ballots = ballots;
+            return this;
+        }
+
+        public Builder candidates(Map<Long, String> candidates) {
+            response.candidates = candidates;
+            return this;
+        }
+
+        public Builder approvals(Map<Long, Long> approvals) {
+            response.approvals = approvals;
+            return this;
+        }
+
+        public Builder winners(List<Long> winners) {
+            response.winners = winners;
+            return this;
+        }
+
+        public Builder tiedAtCutoff(boolean tiedAtCutoff) {
+            response.tiedAtCutoff = tiedAtCutoff;
+            return this;
+        }
+
+        public ApprovalRaceResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public String getPosition() { return position; }
+    public int getSeats() { return seats; }
+    public int getBallots() { return ballots; }
+    public Map<Long, String> getCandidates() { return candidates; }
+    public Map<Long, Long> getApprovals() { return approvals; }
+    public List<Long> getWinners() { return winners; }
+    public boolean isTiedAtCutoff() { return tiedAtCutoff; }
+}
@@ -0,0 +1,54 @@
+package vote.Response;
+
+
+import java.util.List;
+
+/**
+ * Results of an approval election, counted per position from the ballots.
+ */
+public class ApprovalResultResponse {
+
+    private Long electionId;
+    private long ballots;
+    private List<ApprovalRaceResponse> races;
+    private long elapsedMillis;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ApprovalResultResponse response = new ApprovalResultResponse();
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder ballots(long ballots) {
+            response.ballots = ballots;
+            return this;
+        }
+
+        public Builder races(List<ApprovalRaceResponse> races) {
+            response.races = races;
+            return this;
+        }
+
+        public Builder elapsedMillis(long elapsedMillis) {
+            response.elapsedMillis = elapsedMillis;
+            return this;
+        }
+
+        public ApprovalResultResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getElectionId() { return electionId; }
+    public long getBallots() { return ballots; }
+    public List<ApprovalRaceResponse> getRaces() { return races; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
@@ -0,0 +1,72 @@
+package vote.Response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BallotResponse {
+
+    private Long electionId;
+    private String electionTitle;
+    private Long voterRegistryId;
+    private String voterIdentifier;
+    private LocalDateTime castAt;
+    private boolean anonymous;
+    private List<VoteResponse> votes;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private BallotResponse response = new BallotResponse();
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder electionTitle(String electionTitle) {
+            response.electionTitle = electionTitle;
+            return this;
+        }
+
+        public Builder voterRegistryId(Long voterRegistryId) {
+            response.voterRegistryId = voterRegistryId;
+            return this;
+        }
+
+        public Builder voterIdentifier(String voterIdentifier) {
+            response.voterIdentifier = voterIdentifier;
+            return this;
+        }
+
+        public Builder castAt(LocalDateTime castAt) {
+            response.castAt = castAt;
+            return this;
+        }
+
+        public Builder anonymous(boolean anonymous) {
+            response.anonymous = anonymous;
+            return this;
+        }
+
+        public Builder votes(List<VoteResponse> votes) {
+            response.votes = votes;
+            return this;
+        }
+
+        public BallotResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getElectionId() { return electionId; }
+    public String getElectionTitle() { return electionTitle; }
+    public Long getVoterRegistryId() { return voterRegistryId; }
+    public String getVoterIdentifier() { return voterIdentifier; }
+    public LocalDateTime getCastAt() { return castAt; }
+    public boolean isAnonymous() { return anonymous; }
+    public List<VoteResponse> getVotes() { return votes; }
+}
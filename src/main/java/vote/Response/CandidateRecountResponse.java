@@ -0,0 +1,86 @@
+package vote.Response;
+
+
+import java.math.BigDecimal;
+
+/**
+ * One candidate's votes as recounted from {@code votes}, next to the
+ * count persisted on the candidate and the striped counter, and the
+ * candidate's summed vote weight next to the persisted weighted votes.
+ * Differences are the stored value minus the recount.
+ */
+public class CandidateRecountResponse {
+
+    private Long candidateId;
+    private String candidateName;
+    private long recountedVotes;
+    private long persistedVotes;
+    private long counterVotes;
+    private BigDecimal recountedWeight;
+    private BigDecimal persistedWeight;
+    private boolean consistent;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private CandidateRecountResponse response = new CandidateRecountResponse();
+
+        public Builder candidateId(Long candidateId) {
+            response.candidateId = candidateId;
+            return this;
+        }
+
+        public Builder candidateName(String candidateName) {
+            response.candidateName = candidateName;
+            return this;
+        }
+
+        public Builder recountedVotes(long recountedVotes) {
+            response.recountedVotes = recountedVotes;
+            return this;
+        }
+
+        public Builder persistedVotes(long persistedVotes) {
+            response.persistedVotes = persistedVotes;
+            return this;
+        }
+
+        public Builder counterVotes(long counterVotes) {
+            response.counterVotes = counterVotes;
+            return this;
+        }
+
+        public Builder recountedWeight(BigDecimal recountedWeight) {
+            response.recountedWeight = recountedWeight;
+            return this;
+        }
+
+        public Builder persistedWeight(BigDecimal persistedWeight) {
+            response.persistedWeight = persistedWeight;
+            return this;
+        }
+
+        public CandidateRecountResponse build() {
+            response.consistent = response.persistedVotes == response.recountedVotes
+                    && response.counterVotes == response.recountedVotes
+                    && response.persistedWeight.compareTo(response.recountedWeight) == 0;
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getCandidateId() { return candidateId; }
+    public String getCandidateName() { return candidateName; }
+    public long getRecountedVotes() { return recountedVotes; }
+    public long getPersistedVotes() { return persistedVotes; }
+    public long getCounterVotes() { return counterVotes; }
+    public BigDecimal getRecountedWeight() { return recountedWeight; }
+    public BigDecimal getPersistedWeight() { return persistedWeight; }
+    public long getPersistedDifference() { return persistedVotes - recountedVotes; }
+    public long getCounterDifference() { return counterVotes - recountedVotes; }
+    public BigDecimal getPersistedWeightDifference() { return persistedWeight.subtract(recountedWeight); }
+    public boolean isConsistent() { return consistent; }
+}
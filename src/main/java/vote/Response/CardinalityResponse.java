@@ -0,0 +1,98 @@
+package vote.Response;
+
+
+import java.time.LocalDate;
+
+/**
+ * Distinct counts for an election or organization over a range of days.
+ * Estimates carry a relative standard error; exact counts (elections
+ * only) are recounted from {@code votes} and have none.
+ */
+public class CardinalityResponse {
+
+    private Long organizationId;
+    private Long electionId;
+    private LocalDate from;
+    private LocalDate to;
+    private long voters;
+    private long ipAddresses;
+    private long userAgents;
+    private Long verificationIdentifiers;
+    private double standardError;
+    private boolean exact;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private CardinalityResponse response = new CardinalityResponse();
+
+        public Builder organizationId(Long organizationId) {
+            response.organizationId = organizationId;
+            return this;
+        }
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder from(LocalDate from) {
+            response.from = from;
+            return this;
+        }
+
+        public Builder to(LocalDate to) {
+            response.to = to;
+            return this;
+        }
+
+        public Builder voters(long voters) {
+            response.voters = voters;
+            return this;
+        }
+
+        public Builder ipAddresses(long ipAddresses) {
+            response.ipAddresses = ipAddresses;
+            return this;
+        }
+
+        public Builder userAgents(long userAgents) {
+            response.userAgents = userAgents;
+            return this;
+        }
+
+        public Builder verificationIdentifiers(Long verificationIdentifiers) {
+            response.verificationIdentifiers = verificationIdentifiers;
+            return this;
+        }
+
+        public Builder standardError(double standardError) {
+            response.standardError = standardError;
+            return this;
+        }
+
+        public Builder exact(boolean exact) {
+            response.exact = exact;
+            return this;
+        }
+
+        public CardinalityResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getOrganizationId() { return organizationId; }
+    public Long getElectionId() { return electionId; }
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+    public long getVoters() { return voters; }
+    public long getIpAddresses() { return ipAddresses; }
+    public long getUserAgents() { return userAgents; }
+    public Long getVerificationIdentifiers() { return verificationIdentifiers; }
+    public double getStandardError() { return standardError; }
+    public boolean isExact() { return exact; }
+}
@@ -0,0 +1,62 @@
+package vote.Response;
+
+public class ConcurrencyLimitResponse {
+
+    private int limit;
+    private int lowPriorityLimit;
+    private int inFlight;
+    private long rejectedCritical;
+    private long rejectedLowPriority;
+    private double baselineLatencyMillis;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ConcurrencyLimitResponse response = new ConcurrencyLimitResponse();
+
+        public Builder limit(int limit) {
+            response.limit = limit;
+            return this;
+        }
+
+        public Builder lowPriorityLimit(int lowPriorityLimit) {
+            response.lowPriorityLimit = lowPriorityLimit;
+            return this;
+        }
+
+        public Builder inFlight(int inFlight) {
+            response.inFlight = inFlight;
+            return this;
+        }
+
+        public Builder rejectedCritical(long rejectedCritical) {
+            response.rejectedCritical = rejectedCritical;
+            return this;
+        }
+
+        public Builder rejectedLowPriority(long rejectedLowPriority) {
+            response.rejectedLowPriority = rejectedLowPriority;
+            return this;
+        }
+
+        public Builder baselineLatencyMillis(double baselineLatencyMillis) {
+            response.baselineLatencyMillis = baselineLatencyMillis;
+            return this;
+        }
+
+        public ConcurrencyLimitResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public int getLimit() { return limit; }
+    public int getLowPriorityLimit() { return lowPriorityLimit; }
+    public int getInFlight() { return inFlight; }
+    public long getRejectedCritical() { return rejectedCritical; }
+    public long getRejectedLowPriority() { return rejectedLowPriority; }
+    public double getBaselineLatencyMillis() { return baselineLatencyMillis; }
+}
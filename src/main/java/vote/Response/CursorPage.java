@@ -0,0 +1,55 @@
+package vote.Response;
+
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. Pass {@code nextCursor} back as
+ * {@code cursor} to get the following page; it is null on the last page.
+ */
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+
+    // Builder
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private CursorPage<T> response = new CursorPage<>();
+
+        public Builder<T> items(List<T> items) {
+            response.items = items;
+            return this;
+        }
+
+        public Builder<T> nextCursor(String nextCursor) {
+            response.nextCursor = nextCursor;
+            return this;
+        }
+
+        public Builder<T> hasMore(boolean hasMore) {
+            response.hasMore = hasMore;
+            return this;
+        }
+
+        public Builder<T> limit(int limit) {
+            response.limit = limit;
+            return this;
+        }
+
+        public CursorPage<T> build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasMore() { return hasMore; }
+    public int getLimit() { return limit; }
+}
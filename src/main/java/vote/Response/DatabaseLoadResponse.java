@@ -0,0 +1,83 @@
+package vote.Response;
+
+public class DatabaseLoadResponse {
+
+    private boolean virtualThreads;
+    private int admissionPermits;
+    private int connectionsInUse;
+    private int admissionQueueDepth;
+    private long admittedCount;
+    private long rejectedCount;
+    private double averageWaitMillis;
+    private double maxWaitMillis;
+    private int voteQueueDepth;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private DatabaseLoadResponse response = new DatabaseLoadResponse();
+
+        public Builder virtualThreads(boolean virtualThreads) {
+            response.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public Builder admissionPermits(int admissionPermits) {
+            response.admissionPermits = admissionPermits;
+            return this;
+        }
+
+        public Builder connectionsInUse(int connectionsInUse) {
+            response.connectionsInUse = connectionsInUse;
+            return this;
+        }
+
+        public Builder admissionQueueDepth(int admissionQueueDepth) {
+            response.admissionQueueDepth = admissionQueueDepth;
+            return this;
+        }
+
+        public Builder admittedCount(long admittedCount) {
+            response.admittedCount = admittedCount;
+            return this;
+        }
+
+        public Builder rejectedCount(long rejectedCount) {
+            response.rejectedCount = rejectedCount;
+            return this;
+        }
+
+        public Builder averageWaitMillis(double averageWaitMillis) {
+            response.averageWaitMillis = averageWaitMillis;
+            return this;
+        }
+
+        public Builder maxWaitMillis(double maxWaitMillis) {
+            response.maxWaitMillis = maxWaitMillis;
+            return this;
+        }
+
+        public Builder voteQueueDepth(int voteQueueDepth) {
+            response.voteQueueDepth = voteQueueDepth;
+            return this;
+        }
+
+        public DatabaseLoadResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public boolean isVirtualThreads() { return virtualThreads; }
+    public int getAdmissionPermits() { return admissionPermits; }
+    public int getConnectionsInUse() { return connectionsInUse; }
+    public int getAdmissionQueueDepth() { return admissionQueueDepth; }
+    public long getAdmittedCount() { return admittedCount; }
+    public long getRejectedCount() { return rejectedCount; }
+    public double getAverageWaitMillis() { return averageWaitMillis; }
+    public double getMaxWaitMillis() { return maxWaitMillis; }
+    public int getVoteQueueDepth() { return voteQueueDepth; }
+}
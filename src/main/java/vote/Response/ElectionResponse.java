@@ -4,6 +4,7 @@ package vote.Response;
 import java.time.LocalDateTime;
 
 import vote.Enum.ElectionStatus;
+import vote.Enum.VotingMethod;
 
 public class ElectionResponse {
 
@@ -19,6 +20,9 @@ public class ElectionResponse {
     private Integer voterTurnout;
     private Integer totalVoters;
     private Integer maxVotesPerVoter;
+    private VotingMethod votingMethod;
+    private int seats;
+    private boolean weighted;
     private boolean allowWriteIn;
     private boolean requirePhotoId;
     private boolean isOngoing;
@@ -94,6 +98,21 @@ public class ElectionResponse {
             return this;
         }
 
+        public Builder votingMethod(VotingMethod votingMethod) {
+            response.votingMethod = votingMethod;
+            return this;
+        }
+
+        public Builder seats(int seats) {
+            response.seats = seats;
+            return this;
+        }
+
+        public Builder weighted(boolean weighted) {
+            response.weighted = weighted;
+            return this;
+        }
+
         public Builder allowWriteIn(boolean allowWriteIn) {
             response.allowWriteIn = allowWriteIn;
             return this;
@@ -142,6 +161,9 @@ public class ElectionResponse {
     public Integer getVoterTurnout() { return voterTurnout; }
     public Integer getTotalVoters() { return totalVoters; }
     public Integer getMaxVotesPerVoter() { return maxVotesPerVoter; }
+    public VotingMethod getVotingMethod() { return votingMethod; }
+    public int getSeats() { return seats; }
+    public boolean isWeighted() { return weighted; }
     public boolean isAllowWriteIn() { return allowWriteIn; }
     public boolean isRequirePhotoId() { return requirePhotoId; }
     public boolean isOngoing() { return isOngoing; }
@@ -0,0 +1,93 @@
+package vote.Response;
+
+
+import java.math.BigDecimal;
+
+public class ElectionResultResponse {
+
+    private Long electionId;
+    private Long candidateId;
+    private String candidateName;
+    private String position;
+    private long votes;
+    private BigDecimal weightedVotes;
+    private int overallRank;
+    private int positionRank;
+    private double sharePercentage;
+    private boolean finalized;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ElectionResultResponse response = new ElectionResultResponse();
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder candidateId(Long candidateId) {
+            response.candidateId = candidateId;
+            return this;
+        }
+
+        public Builder candidateName(String candidateName) {
+            response.candidateName = candidateName;
+            return this;
+        }
+
+        public Builder position(String position) {
+            response.position = position;
+            return this;
+        }
+
+        public Builder votes(long votes) {
+            response.votes = votes;
+            return this;
+        }
+
+        public Builder weightedVotes(BigDecimal weightedVotes) {
+            response.weightedVotes = weightedVotes;
+            return this;
+        }
+
+        public Builder overallRank(int overallRank) {
+            response.overallRank = overallRank;
+            return this;
+        }
+
+        public Builder positionRank(int positionRank) {
+            response.positionRank = positionRank;
+            return this;
+        }
+
+        public Builder sharePercentage(double sharePercentage) {
+            response.sharePercentage = sharePercentage;
+            return this;
+        }
+
+        public Builder finalized(boolean finalized) {
+            response.finalized = finalized;
+            return this;
+        }
+
+        public ElectionResultResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getElectionId() { return electionId; }
+    public Long getCandidateId() { return candidateId; }
+    public String getCandidateName() { return candidateName; }
+    public String getPosition() { return position; }
+    public long getVotes() { return votes; }
+    public BigDecimal getWeightedVotes() { return weightedVotes; }
+    public int getOverallRank() { return overallRank; }
+    public int getPositionRank() { return positionRank; }
+    public double getSharePercentage() { return sharePercentage; }
+    public boolean isFinalized() { return finalized; }
+}
@@ -0,0 +1,91 @@
+package vote.Response;
+
+
+import java.util.Map;
+
+/**
+ * One frame of an election's live tally stream. A full frame carries every
+ * candidate's count; the frames after it carry only the candidates whose
+ * count changed since the previous frame.
+ */
+public class LiveTallyResponse {
+
+    private Long electionId;
+    private long sequence;
+    private boolean full;
+    private long totalVotes;
+    private long participants;
+    private long totalVoters;
+    private double turnoutPercentage;
+    private Map<Long, Long> candidateVotes;
+    private long timestamp;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private LiveTallyResponse response = new LiveTallyResponse();
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder sequence(long sequence) {
+            response.sequence = sequence;
+            return this;
+        }
+
+        public Builder full(boolean full) {
+            response.full = full;
+            return this;
+        }
+
+        public Builder totalVotes(long totalVotes) {
+            response.totalVotes = totalVotes;
+            return this;
+        }
+
+        public Builder participants(long participants) {
+            response.participants = participants;
+            return this;
+        }
+
+        public Builder totalVoters(long totalVoters) {
+            response.totalVoters = totalVoters;
+            return this;
+        }
+
+        public Builder turnoutPercentage(double turnoutPercentage) {
+            response.turnoutPercentage = turnoutPercentage;
+            return this;
+        }
+
+        public Builder candidateVotes(Map<Long, Long> candidateVotes) {
+            response.candidateVotes = candidateVotes;
+            return this;
+        }
+
+        public Builder timestamp(long timestamp) {
+            response.timestamp = timestamp;
+            return this;
+        }
+
+        public LiveTallyResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getElectionId() { return electionId; }
+    public long getSequence() { return sequence; }
+    public boolean isFull() { return full; }
+    public long getTotalVotes() { return totalVotes; }
+    public long getParticipants() { return participants; }
+    public long getTotalVoters() { return totalVoters; }
+    public double getTurnoutPercentage() { return turnoutPercentage; }
+    public Map<Long, Long> getCandidateVotes() { return candidateVotes; }
+    public long getTimestamp() { return timestamp; }
+}
@@ -0,0 +1,63 @@
+package vote.Response;
+
+
+import java.util.List;
+
+import vote.Enum.VotingMethod;
+
+/**
+ * Results of a ranked election, counted per position from the ballots.
+ */
+public class RankedChoiceResultResponse {
+
+    private Long electionId;
+    private VotingMethod votingMethod;
+    private long ballots;
+    private List<RankedRaceResponse> races;
+    private long elapsedMillis;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private RankedChoiceResultResponse response = new RankedChoiceResultResponse();
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder votingMethod(VotingMethod votingMethod) {
+            response.votingMethod = votingMethod;
+            return this;
+        }
+
+        public Builder ballots(long ballots) {
+            response.ballots = ballots;
+            return this;
+        }
+
+        public Builder races(List<RankedRaceResponse> races) {
+            response.races = races;
+            return this;
+        }
+
+        public Builder elapsedMillis(long elapsedMillis) {
+            response.elapsedMillis = elapsedMillis;
+            return this;
+        }
+
+        public RankedChoiceResultResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getElectionId() { return electionId; }
+    public VotingMethod getVotingMethod() { return votingMethod; }
+    public long getBallots() { return ballots; }
+    public List<RankedRaceResponse> getRaces() { return races; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
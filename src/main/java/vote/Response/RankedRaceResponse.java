@@ -0,0 +1,70 @@
+package vote.Response;
+
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked count of one position: its candidates, the winners in the order
+ * they were elected, and every round of the count.
+ */
+public class RankedRaceResponse {
+
+    private String position;
+    private int seats;
+    private int validBallots;
+    private Map<Long, String> candidates;
+    private List<Long> winners;
+    private List<RankedRoundResponse> rounds;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private RankedRaceResponse response = new RankedRaceResponse();
+
+        public Builder position(String position) {
+            response.position = position;
+            return this;
+        }
+
+        public Builder seats(int seats) {
+            response.seats = seats;
+            return this;
+        }
+
+        public Builder validBallots(int validBallots) {
+            response.validBallots = validBallots;
+            return this;
+        }
+
+        public Builder candidates(Map<Long, String> candidates) {
+            response.candidates = candidates;
+            return this;
+        }
+
+        public Builder winners(List<Long> winners) {
+            response.winners = winners;
+            return this;
+        }
+
+        public Builder rounds(List<RankedRoundResponse> rounds) {
+            response.rounds = rounds;
+            return this;
+        }
+
+        public RankedRaceResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public String getPosition() { return position; }
+    public int getSeats() { return seats; }
+    public int getValidBallots() { return validBallots; }
+    public Map<Long, String> getCandidates() { return candidates; }
+    public List<Long> getWinners() { return winners; }
+    public List<RankedRoundResponse> getRounds() { return rounds; }
+}
@@ -0,0 +1,71 @@
+package vote.Response;
+
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One round of a ranked count: each candidate's votes at the start of the
+ * round (fractional under single transferable vote), the weight of ballots
+ * with no preferences left, the quota, and who was elected or eliminated.
+ */
+public class RankedRoundResponse {
+
+    private int round;
+    private Map<Long, Double> votes;
+    private double exhausted;
+    private double quota;
+    private List<Long> elected;
+    private Long eliminated;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private RankedRoundResponse response = new RankedRoundResponse();
+
+        public Builder round(int round) {
+            response.round = round;
+            return this;
+        }
+
+        public Builder votes(Map<Long, Double> votes) {
+            response.votes = votes;
+            return this;
+        }
+
+        public Builder exhausted(double exhausted) {
+            response.exhausted = exhausted;
+            return this;
+        }
+
+        public Builder quota(double quota) {
+            response.quota = quota;
+            return this;
+        }
+
+        public Builder elected(List<Long> elected) {
+            response.elected = elected;
+            return this;
+        }
+
+        public Builder eliminated(Long eliminated) {
+            response.eliminated = eliminated;
+            return this;
+        }
+
+        public RankedRoundResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public int getRound() { return round; }
+    public Map<Long, Double> getVotes() { return votes; }
+    public double getExhausted() { return exhausted; }
+    public double getQuota() { return quota; }
+    public List<Long> getElected() { return elected; }
+    public Long getEliminated() { return eliminated; }
+}
@@ -0,0 +1,144 @@
+package vote.Response;
+
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Result of recounting an election from {@code votes}: totals, the turnout
+ * they imply next to the stored turnout and participation counter, and a
+ * per-candidate diff. {@code reconciled} is set when the scanned votes and
+ * weights equal the database's own aggregate over the same rows.
+ * {@code repaired} is set when the stored values were overwritten with the
+ * recount.
+ */
+public class RecountResponse {
+
+    private Long electionId;
+    private long votes;
+    private long voters;
+    private long unknownCandidateVotes;
+    private BigDecimal weightedVotes;
+    private long aggregateVotes;
+    private BigDecimal aggregateWeightedVotes;
+    private boolean reconciled;
+    private long participationCount;
+    private Integer persistedTurnout;
+    private Integer recountedTurnout;
+    private List<CandidateRecountResponse> candidates;
+    private int partitions;
+    private long elapsedMillis;
+    private boolean consistent;
+    private boolean repaired;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private RecountResponse response = new RecountResponse();
+
+        public Builder electionId(Long electionId) {
+            response.electionId = electionId;
+            return this;
+        }
+
+        public Builder votes(long votes) {
+            response.votes = votes;
+            return this;
+        }
+
+        public Builder voters(long voters) {
+            response.voters = voters;
+            return this;
+        }
+
+        public Builder unknownCandidateVotes(long unknownCandidateVotes) {
+            response.unknownCandidateVotes = unknownCandidateVotes;
+            return this;
+        }
+
+        public Builder weightedVotes(BigDecimal weightedVotes) {
+            response.weightedVotes = weightedVotes;
+            return this;
+        }
+
+        public Builder aggregateVotes(long aggregateVotes) {
+            response.aggregateVotes = aggregateVotes;
+            return this;
+        }
+
+        public Builder aggregateWeightedVotes(BigDecimal aggregateWeightedVotes) {
+            response.aggregateWeightedVotes = aggregateWeightedVotes;
+            return this;
+        }
+
+        public Builder reconciled(boolean reconciled) {
+            response.reconciled = reconciled;
+            return this;
+        }
+
+        public Builder participationCount(long participationCount) {
+            response.participationCount = participationCount;
+            return this;
+        }
+
+        public Builder persistedTurnout(Integer persistedTurnout) {
+            response.persistedTurnout = persistedTurnout;
+            return this;
+        }
+
+        public Builder recountedTurnout(Integer recountedTurnout) {
+            response.recountedTurnout = recountedTurnout;
+            return this;
+        }
+
+        public Builder candidates(List<CandidateRecountResponse> candidates) {
+            response.candidates = candidates;
+            return this;
+        }
+
+        public Builder partitions(int partitions) {
+            response.partitions = partitions;
+            return this;
+        }
+
+        public Builder elapsedMillis(long elapsedMillis) {
+            response.elapsedMillis = elapsedMillis;
+            return this;
+        }
+
+        public Builder consistent(boolean consistent) {
+            response.consistent = consistent;
+            return this;
+        }
+
+        public Builder repaired(boolean repaired) {
+            response.repaired = repaired;
+            return this;
+        }
+
+        public RecountResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public Long getElectionId() { return electionId; }
+    public long getVotes() { return votes; }
+    public long getVoters() { return voters; }
+    public long getUnknownCandidateVotes() { return unknownCandidateVotes; }
+    public BigDecimal getWeightedVotes() { return weightedVotes; }
+    public long getAggregateVotes() { return aggregateVotes; }
+    public BigDecimal getAggregateWeightedVotes() { return aggregateWeightedVotes; }
+    public boolean isReconciled() { return reconciled; }
+    public long getParticipationCount() { return participationCount; }
+    public Integer getPersistedTurnout() { return persistedTurnout; }
+    public Integer getRecountedTurnout() { return recountedTurnout; }
+    public List<CandidateRecountResponse> getCandidates() { return candidates; }
+    public int getPartitions() { return partitions; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public boolean isConsistent() { return consistent; }
+    public boolean isRepaired() { return repaired; }
+}
@@ -0,0 +1,84 @@
+package vote.Response;
+
+
+import java.time.LocalDateTime;
+
+/**
+ * An IP address casting an unusual share of an election's votes. Vote
+ * counts are sketch estimates: never lower than the truth, and higher by
+ * at most a small fraction of the election's votes.
+ */
+public class SuspiciousIpResponse {
+
+    private String ipAddress;
+    private long estimatedVotes;
+    private double sharePercentage;
+    private int distinctUserAgents;
+    private LocalDateTime firstSeenAt;
+    private LocalDateTime lastSeenAt;
+    private long flaggedVotes;
+    private long throttledVotes;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private SuspiciousIpResponse response = new SuspiciousIpResponse();
+
+        public Builder ipAddress(String ipAddress) {
+            response.ipAddress = ipAddress;
+            return this;
+        }
+
+        public Builder estimatedVotes(long estimatedVotes) {
+            response.estimatedVotes = estimatedVotes;
+            return this;
+        }
+
+        public Builder sharePercentage(double sharePercentage) {
+            response.sharePercentage = sharePercentage;
+            return this;
+        }
+
+        public Builder distinctUserAgents(int distinctUserAgents) {
+            response.distinctUserAgents = distinctUserAgents;
+            return this;
+        }
+
+        public Builder firstSeenAt(LocalDateTime firstSeenAt) {
+            response.firstSeenAt = firstSeenAt;
+            return this;
+        }
+
+        public Builder lastSeenAt(LocalDateTime lastSeenAt) {
+            response.lastSeenAt = lastSeenAt;
+            return this;
+        }
+
+        public Builder flaggedVotes(long flaggedVotes) {
+            response.flaggedVotes = flaggedVotes;
+            return this;
+        }
+
+        public Builder throttledVotes(long throttledVotes) {
+            response.throttledVotes = throttledVotes;
+            return this;
+        }
+
+        public SuspiciousIpResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public String getIpAddress() { return ipAddress; }
+    public long getEstimatedVotes() { return estimatedVotes; }
+    public double getSharePercentage() { return sharePercentage; }
+    public int getDistinctUserAgents() { return distinctUserAgents; }
+    public LocalDateTime getFirstSeenAt() { return firstSeenAt; }
+    public LocalDateTime getLastSeenAt() { return lastSeenAt; }
+    public long getFlaggedVotes() { return flaggedVotes; }
+    public long getThrottledVotes() { return throttledVotes; }
+}
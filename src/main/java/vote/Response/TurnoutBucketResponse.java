@@ -0,0 +1,48 @@
+package vote.Response;
+
+
+import java.time.LocalDateTime;
+
+/**
+ * Votes cast in one minute or hour of an election, and the running total
+ * up to the end of that bucket.
+ */
+public class TurnoutBucketResponse {
+
+    private LocalDateTime bucketStart;
+    private long votes;
+    private long cumulativeVotes;
+
+    // Builder
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private TurnoutBucketResponse response = new TurnoutBucketResponse();
+
+        public Builder bucketStart(LocalDateTime bucketStart) {
+            response.bucketStart = bucketStart;
+            return this;
+        }
+
+        public Builder votes(long votes) {
+            response.votes = votes;
+            return this;
+        }
+
+        public Builder cumulativeVotes(long cumulativeVotes) {
+            response.cumulativeVotes = cumulativeVotes;
+            return this;
+        }
+
+        public TurnoutBucketResponse build() {
+            return response;
+        }
+    }
+
+    // Getters
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public long getVotes() { return votes; }
+    public long getCumulativeVotes() { return cumulativeVotes; }
+}
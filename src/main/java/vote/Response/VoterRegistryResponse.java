@@ -1,6 +1,7 @@
 package vote.Response;
 
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public class VoterRegistryResponse {
@@ -12,6 +13,7 @@ public class VoterRegistryResponse {
     private String email;
     private String phone;
     private String fullName;
+    private BigDecimal weight;
     private boolean used;
     private LocalDateTime votedAt;
     private int verificationAttempts;
@@ -62,6 +64,11 @@ public class VoterRegistryResponse {
             return this;
         }
 
+        public Builder weight(BigDecimal weight) {
+            response.weight = weight;
+            return this;
+        }
+
         public Builder used(boolean used) {
             response.used = used;
             return this;
@@ -105,6 +112,7 @@ public class VoterRegistryResponse {
     public String getEmail() { return email; }
     public String getPhone() { return phone; }
     public String getFullName() { return fullName; }
+    public BigDecimal getWeight() { return weight; }
     public boolean isUsed() { return used; }
     public LocalDateTime getVotedAt() { return votedAt; }
     public int getVerificationAttempts() { return verificationAttempts; }
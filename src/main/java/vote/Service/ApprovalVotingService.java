@@ -0,0 +1,10 @@
+package vote.Service;
+
+
+
+import vote.Response.ApprovalResultResponse;
+
+public interface ApprovalVotingService {
+
+    ApprovalResultResponse getApprovalResults(Long electionId);
+}
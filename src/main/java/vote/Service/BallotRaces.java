@@ -0,0 +1,113 @@
+package vote.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import vote.Entity.Candidate;
+
+/**
+ * An election's candidates grouped into one race per position, indexed
+ * from 0 in id order within each race, for counts that look at whole
+ * ballots rather than candidate totals. {@link #replay} turns the
+ * election's selections, ordered by voter, into one list of candidate
+ * indexes per voter and race, in selection order.
+ */
+public final class BallotRaces {
+
+    private final List<String> positions = new ArrayList<>();
+    private final List<List<Candidate>> candidates = new ArrayList<>();
+    // Race and index within the race of every candidate, found by binary search on the sorted ids
+    private final long[] candidateIds;
+    private final int[] raceOf;
+    private final int[] indexInRace;
+
+    public BallotRaces(List<Candidate> electionCandidates) {
+        List<Candidate> sorted = new ArrayList<>(electionCandidates);
+        sorted.sort(Comparator.comparing(Candidate::getId));
+        this.candidateIds = new long[sorted.size()];
+        this.raceOf = new int[sorted.size()];
+        this.indexInRace = new int[sorted.size()];
+
+        Map<String, Integer> races = new LinkedHashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            Candidate candidate = sorted.get(i);
+            int race = races.computeIfAbsent(candidate.getPosition(), position -> {
+                positions.add(position);
+                candidates.add(new ArrayList<>());
+                return positions.size() - 1;
+            });
+            candidateIds[i] = candidate.getId();
+            raceOf[i] = race;
+            indexInRace[i] = candidates.get(race).size();
+            candidates.get(race).add(candidate);
+        }
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public String getPosition(int race) {
+        return positions.get(race);
+    }
+
+    public List<Candidate> getCandidates(int race) {
+        return candidates.get(race);
+    }
+
+    public Long getCandidateId(int race, int index) {
+        return candidates.get(race).get(index).getId();
+    }
+
+    // Selections are (voter id, candidate id) rows with each voter's rows together; returns the number of voters
+    public long replay(Stream<Object[]> selections, BallotConsumer consumer) {
+        int[][] ballots = new int[size()][];
+        int[] lengths = new int[size()];
+        for (int race = 0; race < size(); race++) {
+            ballots[race] = new int[candidates.get(race).size()];
+        }
+
+        long voters = 0;
+        long currentVoter = Long.MIN_VALUE;
+        Iterator<Object[]> iterator = selections.iterator();
+        while (iterator.hasNext()) {
+            Object[] selection = iterator.next();
+            long voter = (Long) selection[0];
+            if (voter != currentVoter) {
+                flush(ballots, lengths, consumer);
+                currentVoter = voter;
+                voters++;
+            }
+            int candidate = Arrays.binarySearch(candidateIds, (Long) selection[1]);
+            // Selections are unique per ballot, so a race's list never outgrows its candidates
+            if (candidate >= 0 && lengths[raceOf[candidate]] < ballots[raceOf[candidate]].length) {
+                ballots[raceOf[candidate]][lengths[raceOf[candidate]]++] = indexInRace[candidate];
+            }
+        }
+        flush(ballots, lengths, consumer);
+        return voters;
+    }
+
+    // Private helper methods
+    private static void flush(int[][] ballots, int[] lengths, BallotConsumer consumer) {
+        for (int race = 0; race < ballots.length; race++) {
+            if (lengths[race] > 0) {
+                consumer.accept(race, ballots[race], lengths[race]);
+                lengths[race] = 0;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface BallotConsumer {
+
+        // The array is reused for the next ballot; only the first length entries belong to this one
+        void accept(int race, int[] candidates, int length);
+    }
+}
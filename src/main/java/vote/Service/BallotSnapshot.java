@@ -0,0 +1,133 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import vote.Enum.ElectionStatus;
+
+/**
+ * Immutable view of everything vote validation needs to know about an
+ * election: status and voting window, owning organization, the active
+ * candidates (ids sorted for binary search, with names, ballot positions
+ * and write-in flags at matching indexes), how many selections a voter may
+ * make per position, whether votes carry the voter's registry weight, and
+ * the organization's active identity policy.
+ * Built once and shared by all voting threads; replaced, never mutated.
+ */
+public final class BallotSnapshot {
+
+    private final Long electionId;
+    private final String title;
+    private final Long organizationId;
+    private final ElectionStatus status;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final long[] candidateIds;
+    private final String[] candidateNames;
+    private final String[] positions;
+    private final boolean[] writeIn;
+    private final int maxSelectionsPerPosition;
+    private final boolean weighted;
+    private final boolean policyActive;
+    private final boolean policyLocked;
+
+    public BallotSnapshot(Long electionId, String title, Long organizationId, ElectionStatus status,
+                          LocalDateTime startTime, LocalDateTime endTime, long[] candidateIds,
+                          String[] candidateNames, String[] positions, boolean[] writeIn,
+                          int maxSelectionsPerPosition, boolean weighted, boolean policyActive,
+                          boolean policyLocked) {
+        if (candidateIds.length != candidateNames.length || candidateIds.length != positions.length
+                || candidateIds.length != writeIn.length) {
+            throw new IllegalArgumentException("Candidate arrays must have the same length");
+        }
+        for (int i = 1; i < candidateIds.length; i++) {
+            if (candidateIds[i - 1] >= candidateIds[i]) {
+                throw new IllegalArgumentException("Candidate ids must be sorted and unique");
+            }
+        }
+        this.electionId = electionId;
+        this.title = title;
+        this.organizationId = organizationId;
+        this.status = status;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.candidateIds = candidateIds.clone();
+        this.candidateNames = candidateNames.clone();
+        this.positions = positions.clone();
+        this.writeIn = writeIn.clone();
+        this.maxSelectionsPerPosition = Math.max(maxSelectionsPerPosition, 1);
+        this.weighted = weighted;
+        this.policyActive = policyActive;
+        this.policyLocked = policyLocked;
+    }
+
+    public Long getElectionId() {
+        return electionId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public ElectionStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public boolean isPolicyActive() {
+        return policyActive;
+    }
+
+    public boolean isPolicyLocked() {
+        return policyLocked;
+    }
+
+    public int getMaxSelectionsPerPosition() {
+        return maxSelectionsPerPosition;
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    public int getCandidateCount() {
+        return candidateIds.length;
+    }
+
+    // Same rule as Election.isOngoing()
+    public boolean isOngoing(LocalDateTime now) {
+        return status == ElectionStatus.ACTIVE && now.isAfter(startTime) && now.isBefore(endTime);
+    }
+
+    // Position of an active candidate, or a negative value if it is not on this ballot
+    public int indexOfCandidate(long candidateId) {
+        return Arrays.binarySearch(candidateIds, candidateId);
+    }
+
+    public long getCandidateId(int index) {
+        return candidateIds[index];
+    }
+
+    public String getCandidateName(int index) {
+        return candidateNames[index];
+    }
+
+    public String getPosition(int index) {
+        return positions[index];
+    }
+
+    public boolean isWriteIn(int index) {
+        return writeIn[index];
+    }
+}
@@ -0,0 +1,14 @@
+package vote.Service;
+
+
+
+public interface BallotSnapshotService {
+
+    BallotSnapshot getSnapshot(Long electionId);
+
+    void refresh(Long electionId);
+
+    void invalidate(Long electionId);
+
+    void invalidateOrganization(Long organizationId);
+}
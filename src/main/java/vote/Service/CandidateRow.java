@@ -0,0 +1,95 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * One candidate as listed by the candidate endpoints, with its election's
+ * title joined in by the projection query. {@code voteCount} is the
+ * persisted count, used when the live tally has no figure for the candidate.
+ */
+public final class CandidateRow {
+
+    private final Long id;
+    private final Long electionId;
+    private final String electionTitle;
+    private final String name;
+    private final String position;
+    private final String bio;
+    private final String photoUrl;
+    private final String partyAffiliation;
+    private final boolean active;
+    private final boolean writeIn;
+    private final Integer voteCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public CandidateRow(Long id, Long electionId, String electionTitle, String name, String position,
+                        String bio, String photoUrl, String partyAffiliation, boolean active, boolean writeIn,
+                        Integer voteCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.electionId = electionId;
+        this.electionTitle = electionTitle;
+        this.name = name;
+        this.position = position;
+        this.bio = bio;
+        this.photoUrl = photoUrl;
+        this.partyAffiliation = partyAffiliation;
+        this.active = active;
+        this.writeIn = writeIn;
+        this.voteCount = voteCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getElectionId() {
+        return electionId;
+    }
+
+    public String getElectionTitle() {
+        return electionTitle;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public String getPhotoUrl() {
+        return photoUrl;
+    }
+
+    public String getPartyAffiliation() {
+        return partyAffiliation;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isWriteIn() {
+        return writeIn;
+    }
+
+    public Integer getVoteCount() {
+        return voteCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
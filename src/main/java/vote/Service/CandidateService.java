@@ -5,13 +5,14 @@ package vote.Service;
 import java.util.List;
 
 import vote.Request.CandidateRequest;
+import vote.Response.CursorPage;
 import vote.Response.CandidateResponse;
 
 public interface CandidateService {
 
     CandidateResponse addCandidate(Long electionId, CandidateRequest request);
 
-    List<CandidateResponse> getCandidatesByElection(Long electionId, boolean activeOnly);
+    CursorPage<CandidateResponse> getCandidatesByElection(Long electionId, boolean activeOnly, String cursor, int limit);
 
     List<CandidateResponse> getActiveCandidatesByElection(Long electionId);
 
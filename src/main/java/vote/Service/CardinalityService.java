@@ -0,0 +1,18 @@
+package vote.Service;
+
+
+
+import java.time.LocalDate;
+
+import vote.Response.CardinalityResponse;
+
+public interface CardinalityService {
+
+    void recordVerification(Long organizationId, String identifier);
+
+    CardinalityResponse getElectionCardinality(Long electionId, LocalDate from, LocalDate to, boolean exact);
+
+    CardinalityResponse getOrganizationCardinality(Long organizationId, LocalDate from, LocalDate to);
+
+    int flush();
+}
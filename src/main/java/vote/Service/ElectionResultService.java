@@ -0,0 +1,22 @@
+package vote.Service;
+
+
+import java.util.List;
+import java.util.Map;
+
+import vote.Response.ElectionResultResponse;
+
+public interface ElectionResultService {
+
+    void markStale(Long electionId);
+
+    int refresh();
+
+    void finalizeResults(Long electionId);
+
+    void finalizeResults(Long electionId, Map<Long, Long> votes, Map<Long, Long> weights);
+
+    List<ElectionResultResponse> getResults(Long electionId, String position);
+
+    ElectionResultResponse getLeader(Long electionId);
+}
@@ -5,7 +5,9 @@ package vote.Service;
 import java.util.List;
 
 import vote.Request.ElectionRequest;
+import vote.Response.CursorPage;
 import vote.Response.ElectionResponse;
+import vote.Response.ElectionResultResponse;
 import vote.Response.ElectionSummaryResponse;
 
 public interface ElectionService {
@@ -14,7 +16,7 @@ public interface ElectionService {
 
     ElectionResponse getElectionById(Long id);
 
-    List<ElectionResponse> getElectionsByOrganization(Long organizationId, String status);
+    CursorPage<ElectionResponse> getElectionsByOrganization(Long organizationId, String status, String cursor, int limit);
 
     List<ElectionResponse> getActiveElections(Long organizationId);
 
@@ -32,6 +34,8 @@ public interface ElectionService {
 
     ElectionSummaryResponse getElectionSummary(Long id);
 
+    List<ElectionResultResponse> getElectionResults(Long id, String position);
+
     boolean isElectionActive(Long id);
 
     void updateElectionStatuses(); // For scheduled task
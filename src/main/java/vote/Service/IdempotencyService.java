@@ -0,0 +1,13 @@
+package vote.Service;
+
+
+
+import vote.Request.VoteRequest;
+import vote.Response.VoteResponse;
+
+public interface IdempotencyService {
+
+    VoteResponse castVote(String scope, String idempotencyKey, VoteRequest request, VoteSubmission submission);
+
+    int purgeExpired();
+}
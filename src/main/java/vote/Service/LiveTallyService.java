@@ -0,0 +1,27 @@
+package vote.Service;
+
+
+
+import java.util.Map;
+
+public interface LiveTallyService {
+
+    void trackElection(Long electionId);
+
+    void releaseElection(Long electionId);
+
+    boolean isTracked(Long electionId);
+
+    long getElectionVoteCount(Long electionId);
+
+    long getCandidateVoteCount(Long candidateId);
+
+    Map<Long, Long> getCandidateVoteCounts(Long electionId);
+
+    // Summed vote weights in fixed-point units of VoteWeight
+    Map<Long, Long> getCandidateWeightedVotes(Long electionId);
+
+    int flush();
+
+    void rebuild();
+}
@@ -0,0 +1,15 @@
+package vote.Service;
+
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LiveTallyStreamService {
+
+    SseEmitter subscribe(Long electionId);
+
+    int publish();
+
+    int getSubscriberCount(Long electionId);
+
+    long getFramePeriodMillis();
+}
@@ -0,0 +1,13 @@
+package vote.Service;
+
+
+
+import vote.Response.ConcurrencyLimitResponse;
+import vote.Response.DatabaseLoadResponse;
+
+public interface MonitoringService {
+
+    DatabaseLoadResponse getDatabaseLoad();
+
+    ConcurrencyLimitResponse getConcurrencyLimit();
+}
@@ -1,8 +1,7 @@
 package vote.Service;
 
-import java.util.List;
-
 import vote.Request.OrganizationRequest;
+import vote.Response.CursorPage;
 import vote.Response.OrganizationResponse;
 
 public interface OrganizationService {
@@ -19,7 +18,7 @@ public interface OrganizationService {
 
 	boolean existsByName(String name);
 
-	List<OrganizationResponse> getAllOrganizations();
+	CursorPage<OrganizationResponse> getAllOrganizations(String cursor, int limit);
 
 	OrganizationResponse getOrganizationByCode(String code);
 
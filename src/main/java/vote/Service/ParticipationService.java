@@ -0,0 +1,16 @@
+package vote.Service;
+
+
+
+public interface ParticipationService {
+
+    boolean hasVoted(Long electionId, Long voterRegistryId);
+
+    long getVoterCount(Long electionId);
+
+    void recordVote(Long electionId, Long voterRegistryId, Long voteId);
+
+    void releaseElection(Long electionId);
+
+    int snapshot();
+}
@@ -0,0 +1,97 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * A ballot that has passed validation but has not been written yet. Carries
+ * everything the vote writer needs to insert the row and answer the caller
+ * without touching the election, candidate or voter entities again.
+ */
+public final class PendingVote {
+
+    private final Long electionId;
+    private final String electionTitle;
+    private final Long candidateId;
+    private final String candidateName;
+    private final Long voterRegistryId;
+    private final String voterIdentifier;
+    private final LocalDateTime castAt;
+    private final String ipAddress;
+    private final String userAgent;
+    private final boolean anonymous;
+    private final String writeInCandidateName;
+    private final String verificationMethod;
+    private final long weight;
+
+    public PendingVote(Long electionId, String electionTitle, Long candidateId, String candidateName,
+                       Long voterRegistryId, String voterIdentifier, LocalDateTime castAt,
+                       String ipAddress, String userAgent, boolean anonymous,
+                       String writeInCandidateName, String verificationMethod, long weight) {
+        this.electionId = electionId;
+        this.electionTitle = electionTitle;
+        this.candidateId = candidateId;
+        this.candidateName = candidateName;
+        this.voterRegistryId = voterRegistryId;
+        this.voterIdentifier = voterIdentifier;
+        this.castAt = castAt;
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.anonymous = anonymous;
+        this.writeInCandidateName = writeInCandidateName;
+        this.verificationMethod = verificationMethod;
+        this.weight = weight;
+    }
+
+    public Long getElectionId() {
+        return electionId;
+    }
+
+    public String getElectionTitle() {
+        return electionTitle;
+    }
+
+    public Long getCandidateId() {
+        return candidateId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public Long getVoterRegistryId() {
+        return voterRegistryId;
+    }
+
+    public String getVoterIdentifier() {
+        return voterIdentifier;
+    }
+
+    public LocalDateTime getCastAt() {
+        return castAt;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public boolean isAnonymous() {
+        return anonymous;
+    }
+
+    public String getWriteInCandidateName() {
+        return writeInCandidateName;
+    }
+
+    public String getVerificationMethod() {
+        return verificationMethod;
+    }
+
+    // Fixed-point units of VoteWeight
+    public long getWeight() {
+        return weight;
+    }
+}
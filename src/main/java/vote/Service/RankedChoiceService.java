@@ -0,0 +1,10 @@
+package vote.Service;
+
+
+
+import vote.Response.RankedChoiceResultResponse;
+
+public interface RankedChoiceService {
+
+    RankedChoiceResultResponse getRankedChoiceResults(Long electionId);
+}
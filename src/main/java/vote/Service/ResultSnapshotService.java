@@ -0,0 +1,13 @@
+package vote.Service;
+
+
+public interface ResultSnapshotService {
+
+    void seal(Long electionId);
+
+    SealedResults getSealedResults(Long electionId);
+
+    SealedResults getPublishedResults(Long electionId);
+
+    byte[] getPublishedResultsPayload(Long organizationId);
+}
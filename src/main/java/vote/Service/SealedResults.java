@@ -0,0 +1,68 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import vote.Response.ElectionResultResponse;
+
+/**
+ * A verified result snapshot held in memory: the sealed JSON payload as
+ * stored, its checksum, and the result lines decoded from it. Snapshots
+ * never change, so one instance is shared by every reader.
+ */
+public final class SealedResults {
+
+    private final Long electionId;
+    private final LocalDateTime sealedAt;
+    private final String checksum;
+    private final byte[] payload;
+    private final List<ElectionResultResponse> results;
+    private final Map<Long, Long> voteCounts;
+
+    public SealedResults(Long electionId, LocalDateTime sealedAt, String checksum, byte[] payload,
+                         List<ElectionResultResponse> results) {
+        this.electionId = electionId;
+        this.sealedAt = sealedAt;
+        this.checksum = checksum;
+        this.payload = payload.clone();
+        this.results = List.copyOf(results);
+        Map<Long, Long> counts = new HashMap<>();
+        for (ElectionResultResponse result : results) {
+            counts.put(result.getCandidateId(), result.getVotes());
+        }
+        this.voteCounts = Map.copyOf(counts);
+    }
+
+    public Long getElectionId() {
+        return electionId;
+    }
+
+    public LocalDateTime getSealedAt() {
+        return sealedAt;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    // Not copied, so it can be written out as is; callers must not modify it
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    // Ordered by overall rank; for one position, by rank within it
+    public List<ElectionResultResponse> getResults(String position) {
+        if (position == null) {
+            return results;
+        }
+        return results.stream()
+                .filter(result -> position.equals(result.getPosition()))
+                .toList();
+    }
+
+    public Map<Long, Long> getVoteCounts() {
+        return voteCounts;
+    }
+}
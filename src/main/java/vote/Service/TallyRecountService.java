@@ -0,0 +1,10 @@
+package vote.Service;
+
+
+
+import vote.Response.RecountResponse;
+
+public interface TallyRecountService {
+
+    RecountResponse recount(Long electionId, boolean repair);
+}
@@ -0,0 +1,18 @@
+package vote.Service;
+
+
+
+import java.util.List;
+
+import vote.Response.TurnoutBucketResponse;
+
+public interface TurnoutTrendService {
+
+    void trackElection(Long electionId);
+
+    void releaseElection(Long electionId);
+
+    boolean isTracked(Long electionId);
+
+    List<TurnoutBucketResponse> getVoterTurnoutTrend(Long electionId, String interval);
+}
@@ -0,0 +1,20 @@
+package vote.Service;
+
+
+
+import java.util.List;
+
+import vote.Response.SuspiciousIpResponse;
+
+public interface VoteAnomalyService {
+
+    void trackElection(Long electionId);
+
+    void checkVote(Long electionId, String ipAddress);
+
+    List<SuspiciousIpResponse> getSuspiciousIps(Long electionId);
+
+    void releaseElection(Long electionId);
+
+    boolean isTracked(Long electionId);
+}
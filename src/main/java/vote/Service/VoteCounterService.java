@@ -0,0 +1,29 @@
+package vote.Service;
+
+
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface VoteCounterService {
+
+    void registerCandidate(Long electionId, Long candidateId);
+
+    void incrementCandidateVotes(Long electionId, Long candidateId);
+
+    void incrementCandidateVotes(Long electionId, Long candidateId, long delta);
+
+    long getCandidateVoteCount(Long candidateId);
+
+    Map<Long, Long> getCandidateVoteCounts(Long electionId);
+
+    void registerElection(Long electionId);
+
+    void incrementParticipation(Long electionId);
+
+    void incrementParticipation(Long electionId, long delta);
+
+    long getParticipationCount(Long electionId);
+
+    Map<Long, Long> getParticipationCounts(Collection<Long> electionIds);
+}
@@ -0,0 +1,77 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * One vote as written by the vote export, read straight from a projection
+ * query so that exporting never loads {@code Vote} entities or their
+ * election, candidate and voter associations.
+ */
+public final class VoteExportRow {
+
+    private final Long voteId;
+    private final Long candidateId;
+    private final String candidateName;
+    private final String position;
+    private final Long voterRegistryId;
+    private final String voterIdentifier;
+    private final LocalDateTime castAt;
+    private final boolean anonymous;
+    private final String writeInCandidateName;
+    private final String verificationMethod;
+
+    public VoteExportRow(Long voteId, Long candidateId, String candidateName, String position,
+                         Long voterRegistryId, String voterIdentifier, LocalDateTime castAt,
+                         boolean anonymous, String writeInCandidateName, String verificationMethod) {
+        this.voteId = voteId;
+        this.candidateId = candidateId;
+        this.candidateName = candidateName;
+        this.position = position;
+        this.voterRegistryId = voterRegistryId;
+        this.voterIdentifier = voterIdentifier;
+        this.castAt = castAt;
+        this.anonymous = anonymous;
+        this.writeInCandidateName = writeInCandidateName;
+        this.verificationMethod = verificationMethod;
+    }
+
+    public Long getVoteId() {
+        return voteId;
+    }
+
+    public Long getCandidateId() {
+        return candidateId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public Long getVoterRegistryId() {
+        return voterRegistryId;
+    }
+
+    public String getVoterIdentifier() {
+        return voterIdentifier;
+    }
+
+    public LocalDateTime getCastAt() {
+        return castAt;
+    }
+
+    public boolean isAnonymous() {
+        return anonymous;
+    }
+
+    public String getWriteInCandidateName() {
+        return writeInCandidateName;
+    }
+
+    public String getVerificationMethod() {
+        return verificationMethod;
+    }
+}
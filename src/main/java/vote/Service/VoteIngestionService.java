@@ -0,0 +1,19 @@
+package vote.Service;
+
+
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import vote.Request.VoteRequest;
+import vote.Response.VoteResponse;
+
+public interface VoteIngestionService {
+
+    VoteResponse castVote(VoteRequest request, String ipAddress, String userAgent);
+
+    CompletableFuture<VoteResponse> submitVote(VoteRequest request, String ipAddress, String userAgent,
+                                               Consumer<VoteResponse> inTransaction);
+
+    int getQueueDepth();
+}
@@ -0,0 +1,102 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * One vote as listed by the vote endpoints, read with a projection query
+ * that joins in the election, candidate and voter columns the response
+ * shows instead of loading {@code Vote} entities and their associations.
+ */
+public final class VoteRow {
+
+    private final Long id;
+    private final Long electionId;
+    private final String electionTitle;
+    private final Long candidateId;
+    private final String candidateName;
+    private final Long voterRegistryId;
+    private final String voterIdentifier;
+    private final LocalDateTime castAt;
+    private final String ipAddress;
+    private final boolean anonymous;
+    private final String writeInCandidateName;
+    private final String verificationMethod;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public VoteRow(Long id, Long electionId, String electionTitle, Long candidateId, String candidateName,
+                   Long voterRegistryId, String voterIdentifier, LocalDateTime castAt, String ipAddress,
+                   boolean anonymous, String writeInCandidateName, String verificationMethod,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.electionId = electionId;
+        this.electionTitle = electionTitle;
+        this.candidateId = candidateId;
+        this.candidateName = candidateName;
+        this.voterRegistryId = voterRegistryId;
+        this.voterIdentifier = voterIdentifier;
+        this.castAt = castAt;
+        this.ipAddress = ipAddress;
+        this.anonymous = anonymous;
+        this.writeInCandidateName = writeInCandidateName;
+        this.verificationMethod = verificationMethod;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getElectionId() {
+        return electionId;
+    }
+
+    public String getElectionTitle() {
+        return electionTitle;
+    }
+
+    public Long getCandidateId() {
+        return candidateId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public Long getVoterRegistryId() {
+        return voterRegistryId;
+    }
+
+    public String getVoterIdentifier() {
+        return voterIdentifier;
+    }
+
+    public LocalDateTime getCastAt() {
+        return castAt;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public boolean isAnonymous() {
+        return anonymous;
+    }
+
+    public String getWriteInCandidateName() {
+        return writeInCandidateName;
+    }
+
+    public String getVerificationMethod() {
+        return verificationMethod;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
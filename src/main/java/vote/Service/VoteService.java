@@ -2,18 +2,28 @@ package vote.Service;
 
 
 
-import java.util.List;
+import java.io.OutputStream;
 
+import vote.Enum.ExportFormat;
+import vote.Request.BallotRequest;
 import vote.Request.VoteRequest;
+import vote.Response.BallotResponse;
+import vote.Response.CursorPage;
 import vote.Response.VoteResponse;
 
 public interface VoteService {
 
     VoteResponse castVote(VoteRequest request, String ipAddress, String userAgent);
 
-    List<VoteResponse> getVotesByElection(Long electionId);
+    BallotResponse castBallot(BallotRequest request, String ipAddress, String userAgent);
 
-    List<VoteResponse> getVotesByVoter(Long voterRegistryId);
+    PendingVote prepareVote(VoteRequest request, String ipAddress, String userAgent);
+
+    CursorPage<VoteResponse> getVotesByElection(Long electionId, String cursor, int limit);
+
+    long exportVotes(Long electionId, ExportFormat format, OutputStream out);
+
+    CursorPage<VoteResponse> getVotesByVoter(Long voterRegistryId, String cursor, int limit);
 
     boolean hasVoted(Long electionId, Long voterRegistryId);
 
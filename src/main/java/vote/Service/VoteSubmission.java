@@ -0,0 +1,18 @@
+package vote.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import vote.Response.VoteResponse;
+
+/**
+ * Starts casting one vote. {@code inTransaction} is handed the receipt
+ * inside the transaction that writes the vote, so anything it stores
+ * commits or rolls back with the ballot. The returned future completes
+ * once that transaction has settled.
+ */
+@FunctionalInterface
+public interface VoteSubmission {
+
+    CompletableFuture<VoteResponse> submit(Consumer<VoteResponse> inTransaction);
+}
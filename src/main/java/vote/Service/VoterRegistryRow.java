@@ -0,0 +1,104 @@
+package vote.Service;
+
+import java.time.LocalDateTime;
+
+import vote.Util.VoteWeight;
+
+/**
+ * One registry entry as listed by the voter registry endpoints, with its
+ * organization's name joined in by the projection query.
+ */
+public final class VoterRegistryRow {
+
+    private final Long id;
+    private final Long organizationId;
+    private final String organizationName;
+    private final String matricNumber;
+    private final String email;
+    private final String phone;
+    private final String fullName;
+    private final boolean used;
+    private final LocalDateTime votedAt;
+    private final int verificationAttempts;
+    private final LocalDateTime lastVerificationAttempt;
+    private final Long weight;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public VoterRegistryRow(Long id, Long organizationId, String organizationName, String matricNumber,
+                            String email, String phone, String fullName, boolean used, LocalDateTime votedAt,
+                            int verificationAttempts, LocalDateTime lastVerificationAttempt, Long weight,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.organizationId = organizationId;
+        this.organizationName = organizationName;
+        this.matricNumber = matricNumber;
+        this.email = email;
+        this.phone = phone;
+        this.fullName = fullName;
+        this.used = used;
+        this.votedAt = votedAt;
+        this.verificationAttempts = verificationAttempts;
+        this.lastVerificationAttempt = lastVerificationAttempt;
+        this.weight = weight;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public String getOrganizationName() {
+        return organizationName;
+    }
+
+    public String getMatricNumber() {
+        return matricNumber;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public boolean isUsed() {
+        return used;
+    }
+
+    public LocalDateTime getVotedAt() {
+        return votedAt;
+    }
+
+    public int getVerificationAttempts() {
+        return verificationAttempts;
+    }
+
+    public LocalDateTime getLastVerificationAttempt() {
+        return lastVerificationAttempt;
+    }
+
+    // Same default as VoterRegistry.getWeight()
+    public long getWeight() {
+        return weight != null ? weight : VoteWeight.ONE;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 import vote.Request.VoterRegistryRequest;
+import vote.Response.CursorPage;
 import vote.Response.VoterRegistryResponse;
 import vote.Response.VoterRegistrySummaryResponse;
 
@@ -16,7 +17,7 @@ public interface VoterRegistryService {
 
     VoterRegistryResponse getVoterById(Long id);
 
-    List<VoterRegistryResponse> getVotersByOrganization(Long organizationId, Boolean used);
+    CursorPage<VoterRegistryResponse> getVotersByOrganization(Long organizationId, Boolean used, String cursor, int limit);
 
     VoterRegistryResponse updateVoter(Long id, VoterRegistryRequest request);
 
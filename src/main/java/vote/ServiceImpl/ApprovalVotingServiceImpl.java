@@ -0,0 +1,139 @@
+package vote.ServiceImpl;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Enum.ElectionStatus;
+import vote.Enum.VotingMethod;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.VoteRepository;
+import vote.Response.ApprovalRaceResponse;
+import vote.Response.ApprovalResultResponse;
+import vote.Service.ApprovalVotingService;
+import vote.Service.BallotRaces;
+import vote.Util.ApprovalBallots;
+
+/**
+ * Counts approval elections, where a voter may select any number of a
+ * position's candidates and the {@code seats} most approved candidates of
+ * each position win.
+ *
+ * Ballots are packed into one bit-sliced {@link ApprovalBallots} per
+ * position, one bit per candidate per ballot, and approvals are popcounts
+ * over each candidate's bitmap. Results of completed elections cannot
+ * change and are kept after the first count.
+ */
+@Service
+public class ApprovalVotingServiceImpl implements ApprovalVotingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalVotingServiceImpl.class);
+
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoteRepository voteRepository;
+
+    private final Map<Long, ApprovalResultResponse> completed = new ConcurrentHashMap<>();
+
+    public ApprovalVotingServiceImpl(ElectionRepository electionRepository,
+                                     CandidateRepository candidateRepository,
+                                     VoteRepository voteRepository) {
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.voteRepository = voteRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApprovalResultResponse getApprovalResults(Long electionId) {
+        ApprovalResultResponse cached = completed.get(electionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        if (election.getVotingMethod() != VotingMethod.APPROVAL) {
+            throw new BusinessRuleException("Election " + electionId + " is not an approval election");
+        }
+
+        long started = System.nanoTime();
+        BallotRaces races = new BallotRaces(candidateRepository.findByElectionId(electionId));
+        ApprovalBallots.Builder[] builders = new ApprovalBallots.Builder[races.size()];
+        for (int race = 0; race < races.size(); race++) {
+            builders[race] = ApprovalBallots.builder(races.getCandidates(race).size());
+        }
+        long ballots;
+        try (Stream<Object[]> selections = voteRepository.streamBallotSelectionsByElectionId(electionId)) {
+            ballots = races.replay(selections, (race, approved, length) -> builders[race].add(approved, length));
+        }
+
+        List<ApprovalRaceResponse> responses = new ArrayList<>(races.size());
+        for (int race = 0; race < races.size(); race++) {
+            responses.add(count(races, race, builders[race].build(), election.getSeats()));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        logger.info("Counted {} approval ballots across {} races of election {} in {} ms", ballots,
+                races.size(), electionId, elapsedMillis);
+
+        ApprovalResultResponse response = ApprovalResultResponse.builder()
+                .electionId(electionId)
+                .ballots(ballots)
+                .races(responses)
+                .elapsedMillis(elapsedMillis)
+                .build();
+        if (election.getStatus() == ElectionStatus.COMPLETED) {
+            completed.put(electionId, response);
+        }
+        return response;
+    }
+
+    // Private helper methods
+    private ApprovalRaceResponse count(BallotRaces races, int race, ApprovalBallots ballots, int seats) {
+        long[] approvals = ballots.getApprovalCounts();
+        int[] top = ballots.topCandidates(seats);
+
+        Map<Long, String> candidates = new LinkedHashMap<>();
+        Map<Long, Long> approvalsById = new LinkedHashMap<>();
+        List<Candidate> raceCandidates = races.getCandidates(race);
+        for (int index = 0; index < raceCandidates.size(); index++) {
+            candidates.put(raceCandidates.get(index).getId(), raceCandidates.get(index).getName());
+            approvalsById.put(raceCandidates.get(index).getId(), approvals[index]);
+        }
+
+        // The last seat is a tie if a loser has as many approvals as the last winner
+        boolean tiedAtCutoff = false;
+        if (top.length > 0 && top.length < approvals.length) {
+            long cutoff = approvals[top[top.length - 1]];
+            long winners = Arrays.stream(approvals).filter(count -> count > cutoff).count();
+            long tied = Arrays.stream(approvals).filter(count -> count == cutoff).count();
+            tiedAtCutoff = winners + tied > top.length;
+        }
+
+        return ApprovalRaceResponse.builder()
+                .position(races.getPosition(race))
+                .seats(top.length)
+                .ballots(ballots.size())
+                .candidates(candidates)
+                .approvals(approvalsById)
+                .winners(Arrays.stream(top).mapToObj(index -> races.getCandidateId(race, index)).toList())
+                .tiedAtCutoff(tiedAtCutoff)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package vote.ServiceImpl;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Service.BallotSnapshot;
+import vote.Service.BallotSnapshotService;
+
+/**
+ * Caches one {@link BallotSnapshot} per election. Mutations evict after
+ * their transaction commits, so a snapshot is never built from, or
+ * outlives, uncommitted state. A snapshot that was being loaded while an
+ * eviction happened is handed to its caller but not cached.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BallotSnapshotServiceImpl implements BallotSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BallotSnapshotServiceImpl.class);
+
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final IdentityPolicyRepository identityPolicyRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    private final Map<Long, BallotSnapshot> snapshots = new ConcurrentHashMap<>();
+    // Bumped on every eviction; a load that straddles one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public BallotSnapshotServiceImpl(ElectionRepository electionRepository,
+                                   CandidateRepository candidateRepository,
+                                   IdentityPolicyRepository identityPolicyRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.identityPolicyRepository = identityPolicyRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.requiresNewTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public BallotSnapshot getSnapshot(Long electionId) {
+        BallotSnapshot snapshot = snapshots.get(electionId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long seen = generation.get();
+        snapshot = load(electionId);
+        if (generation.get() == seen) {
+            snapshots.putIfAbsent(electionId, snapshot);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void refresh(Long electionId) {
+        afterCommit(() -> {
+            evict(electionId);
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> getSnapshot(electionId));
+            } catch (RuntimeException e) {
+                // The next vote builds it instead
+                logger.warn("Could not prebuild ballot snapshot for election {}: {}", electionId, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long electionId) {
+        afterCommit(() -> evict(electionId));
+    }
+
+    @Override
+    public void invalidateOrganization(Long organizationId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            snapshots.values().removeIf(snapshot -> snapshot.getOrganizationId().equals(organizationId));
+        });
+    }
+
+    // Private helper methods
+    private BallotSnapshot load(Long electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        Long organizationId = election.getOrganization().getId();
+
+        List<Candidate> candidates = new ArrayList<>(candidateRepository.findByElectionIdAndActiveTrue(electionId));
+        candidates.sort(Comparator.comparing(Candidate::getId));
+        long[] candidateIds = new long[candidates.size()];
+        String[] candidateNames = new String[candidates.size()];
+        String[] positions = new String[candidates.size()];
+        boolean[] writeIn = new boolean[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            candidateIds[i] = candidate.getId();
+            candidateNames[i] = candidate.getName();
+            positions[i] = candidate.getPosition();
+            writeIn[i] = candidate.isWriteIn();
+        }
+
+        // Max votes per voter applies to each position on the ballot; ranked and approval ballots may select
+        // every candidate
+        Integer maxVotes = election.getMaxVotesPerVoter();
+        int maxSelectionsPerPosition = !election.getVotingMethod().isSelectionLimited()
+                ? candidates.size()
+                : maxVotes != null ? maxVotes : 1;
+
+        IdentityPolicy policy = identityPolicyRepository.findByOrganizationIdAndActiveTrue(organizationId).orElse(null);
+
+        logger.debug("Built ballot snapshot for election {} with {} candidates", electionId, candidates.size());
+        return new BallotSnapshot(election.getId(), election.getTitle(), organizationId, election.getStatus(),
+                election.getStartTime(), election.getEndTime(), candidateIds, candidateNames, positions, writeIn,
+                maxSelectionsPerPosition, election.isWeighted(), policy != null, policy != null && policy.isLocked());
+    }
+
+    private void evict(Long electionId) {
+        generation.incrementAndGet();
+        snapshots.remove(electionId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,10 +2,12 @@ package vote.ServiceImpl;
 
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +19,15 @@ import vote.Repository.CandidateRepository;
 import vote.Repository.ElectionRepository;
 import vote.Request.CandidateRequest;
 import vote.Response.CandidateResponse;
+import vote.Response.CursorPage;
+import vote.Service.BallotSnapshotService;
+import vote.Service.CandidateRow;
 import vote.Service.CandidateService;
+import vote.Service.ElectionResultService;
+import vote.Service.LiveTallyService;
+import vote.Service.ResultSnapshotService;
+import vote.Service.VoteCounterService;
+import vote.Util.CursorPagination;
 
 @Service
 @Transactional
@@ -27,11 +37,26 @@ public class CandidateServiceImpl implements CandidateService {
 
     private final CandidateRepository candidateRepository;
     private final ElectionRepository electionRepository;
+    private final VoteCounterService voteCounterService;
+    private final LiveTallyService liveTallyService;
+    private final BallotSnapshotService ballotSnapshotService;
+    private final ElectionResultService electionResultService;
+    private final ResultSnapshotService resultSnapshotService;
 
     public CandidateServiceImpl(CandidateRepository candidateRepository,
-                              ElectionRepository electionRepository) {
+                              ElectionRepository electionRepository,
+                              VoteCounterService voteCounterService,
+                              LiveTallyService liveTallyService,
+                              BallotSnapshotService ballotSnapshotService,
+                              ElectionResultService electionResultService,
+                              ResultSnapshotService resultSnapshotService) {
         this.candidateRepository = candidateRepository;
         this.electionRepository = electionRepository;
+        this.voteCounterService = voteCounterService;
+        this.liveTallyService = liveTallyService;
+        this.ballotSnapshotService = ballotSnapshotService;
+        this.electionResultService = electionResultService;
+        this.resultSnapshotService = resultSnapshotService;
     }
 
     @Override
@@ -67,28 +92,33 @@ public class CandidateServiceImpl implements CandidateService {
         candidate.setVoteCount(0);
 
         Candidate savedCandidate = candidateRepository.save(candidate);
+        voteCounterService.registerCandidate(electionId, savedCandidate.getId());
+        ballotSnapshotService.invalidate(electionId);
+        electionResultService.markStale(electionId);
 
-        return mapToResponse(savedCandidate);
+        return mapToResponse(savedCandidate, 0);
     }
 
     @Override
-    public List<CandidateResponse> getCandidatesByElection(Long electionId, boolean activeOnly) {
+    @Transactional(readOnly = true)
+    public CursorPage<CandidateResponse> getCandidatesByElection(Long electionId, boolean activeOnly,
+                                                                 String cursor, int limit) {
         logger.debug("Getting candidates for election ID: {}", electionId);
 
-        if (!electionRepository.existsById(electionId)) {
-            throw new ResourceNotFoundException("Election", "id", electionId);
-        }
+        long afterId = CursorPagination.afterId(cursor);
+        Limit fetch = Limit.of(CursorPagination.fetchSize(limit));
+        List<CandidateRow> candidates = activeOnly
+                ? candidateRepository.findActivePageByElectionId(electionId, afterId, fetch)
+                : candidateRepository.findPageByElectionId(electionId, afterId, fetch);
 
-        List<Candidate> candidates;
-        if (activeOnly) {
-            candidates = candidateRepository.findByElectionIdAndActiveTrue(electionId);
-        } else {
-            candidates = candidateRepository.findByElectionId(electionId);
+        // The election is only looked up to tell an empty page from a missing election
+        if (candidates.isEmpty() && !electionRepository.existsById(electionId)) {
+            throw new ResourceNotFoundException("Election", "id", electionId);
         }
 
-        return candidates.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        Map<Long, Long> voteCounts = liveTallyService.getCandidateVoteCounts(electionId);
+        return CursorPagination.page(candidates, limit, CandidateRow::getId, candidate -> mapToResponse(candidate,
+                voteCounts.getOrDefault(candidate.getId(), candidate.getVoteCount().longValue())));
     }
 
     @Override
@@ -103,8 +133,19 @@ public class CandidateServiceImpl implements CandidateService {
             throw new BusinessRuleException("Election is not active and results are not published");
         }
 
-        return candidateRepository.findByElectionIdAndActiveTrue(electionId).stream()
-                .map(this::mapToResponse)
+        // Published results are the sealed counts, whatever happened to the live tables since
+        if (election.isResultsPublished()) {
+            Map<Long, Long> sealedCounts = resultSnapshotService.getPublishedResults(electionId).getVoteCounts();
+            return candidateRepository.findActiveRowsByElectionId(electionId).stream()
+                    .filter(candidate -> sealedCounts.containsKey(candidate.getId()))
+                    .map(candidate -> mapToResponse(candidate, sealedCounts.get(candidate.getId())))
+                    .collect(Collectors.toList());
+        }
+
+        Map<Long, Long> voteCounts = liveTallyService.getCandidateVoteCounts(electionId);
+        return candidateRepository.findActiveRowsByElectionId(electionId).stream()
+                .map(candidate -> mapToResponse(candidate,
+                        voteCounts.getOrDefault(candidate.getId(), candidate.getVoteCount().longValue())))
                 .collect(Collectors.toList());
     }
 
@@ -120,7 +161,7 @@ public class CandidateServiceImpl implements CandidateService {
             throw new BusinessRuleException("Candidate does not belong to the specified election");
         }
 
-        return mapToResponse(candidate);
+        return mapToResponse(candidate, liveTallyService.getCandidateVoteCount(candidateId));
     }
 
     @Override
@@ -160,8 +201,10 @@ public class CandidateServiceImpl implements CandidateService {
         candidate.setPartyAffiliation(request.getPartyAffiliation());
 
         Candidate updatedCandidate = candidateRepository.save(candidate);
+        ballotSnapshotService.invalidate(electionId);
+        electionResultService.markStale(electionId);
 
-        return mapToResponse(updatedCandidate);
+        return mapToResponse(updatedCandidate, liveTallyService.getCandidateVoteCount(candidateId));
     }
 
     @Override
@@ -182,8 +225,10 @@ public class CandidateServiceImpl implements CandidateService {
 
         candidate.setActive(true);
         Candidate activatedCandidate = candidateRepository.save(candidate);
+        ballotSnapshotService.invalidate(electionId);
+        electionResultService.markStale(electionId);
 
-        return mapToResponse(activatedCandidate);
+        return mapToResponse(activatedCandidate, liveTallyService.getCandidateVoteCount(candidateId));
     }
 
     @Override
@@ -204,18 +249,18 @@ public class CandidateServiceImpl implements CandidateService {
 
         candidate.setActive(false);
         Candidate deactivatedCandidate = candidateRepository.save(candidate);
+        ballotSnapshotService.invalidate(electionId);
+        electionResultService.markStale(electionId);
 
-        return mapToResponse(deactivatedCandidate);
+        return mapToResponse(deactivatedCandidate, liveTallyService.getCandidateVoteCount(candidateId));
     }
 
     @Override
     public long getCandidateVoteCount(Long candidateId) {
-        return candidateRepository.findById(candidateId)
-                .map(Candidate::getVoteCount)
-                .orElse((int) 0L);
+        return liveTallyService.getCandidateVoteCount(candidateId);
     }
 
-    private CandidateResponse mapToResponse(Candidate candidate) {
+    private CandidateResponse mapToResponse(Candidate candidate, long voteCount) {
         return CandidateResponse.builder()
                 .id(candidate.getId())
                 .electionId(candidate.getElection().getId())
@@ -227,7 +272,25 @@ public class CandidateServiceImpl implements CandidateService {
                 .partyAffiliation(candidate.getPartyAffiliation())
                 .active(candidate.isActive())
                 .writeIn(candidate.isWriteIn())
-                .voteCount(candidate.getVoteCount())
+                .voteCount(Math.toIntExact(voteCount))
+                .createdAt(candidate.getCreatedAt())
+                .updatedAt(candidate.getUpdatedAt())
+                .build();
+    }
+
+    private CandidateResponse mapToResponse(CandidateRow candidate, long voteCount) {
+        return CandidateResponse.builder()
+                .id(candidate.getId())
+                .electionId(candidate.getElectionId())
+                .electionTitle(candidate.getElectionTitle())
+                .name(candidate.getName())
+                .position(candidate.getPosition())
+                .bio(candidate.getBio())
+                .photoUrl(candidate.getPhotoUrl())
+                .partyAffiliation(candidate.getPartyAffiliation())
+                .active(candidate.isActive())
+                .writeIn(candidate.isWriteIn())
+                .voteCount(Math.toIntExact(voteCount))
                 .createdAt(candidate.getCreatedAt())
                 .updatedAt(candidate.getUpdatedAt())
                 .build();
@@ -0,0 +1,312 @@
+package vote.ServiceImpl;
+
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.CardinalitySketch;
+import vote.Enum.CardinalityDimension;
+import vote.Event.VoteCastEvent;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.CardinalitySketchRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoteRepository;
+import vote.Response.CardinalityResponse;
+import vote.Service.CardinalityService;
+import vote.Util.HyperLogLog;
+
+/**
+ * Approximate distinct counts of voters, IP addresses and user agents per
+ * election, and of verification identifiers per organization, kept as
+ * {@link HyperLogLog}s per day. Votes are added from committed
+ * {@link VoteCastEvent}s into in-memory sketches, which are periodically
+ * merged into {@code cardinality_sketches} and dropped, so memory only
+ * holds what arrived since the last flush.
+ *
+ * Because sketches merge losslessly, every node can flush into the same
+ * rows, and a read merges the stored days of its range with this node's
+ * unflushed sketches. Organization counts are the union of its elections'
+ * sketches. Exact counts for an election are recounted from {@code votes}
+ * on request; official turnout never uses the estimates.
+ */
+@Service
+public class CardinalityServiceImpl implements CardinalityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardinalityServiceImpl.class);
+
+    private static final LocalDate EARLIEST = LocalDate.of(2000, 1, 1);
+
+    private final CardinalitySketchRepository cardinalitySketchRepository;
+    private final ElectionRepository electionRepository;
+    private final OrganizationRepository organizationRepository;
+    private final VoteRepository voteRepository;
+    private final TransactionTemplate writeTemplate;
+    private final int precision;
+    private final double standardError;
+
+    private final Map<SketchKey, PendingSketch> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> electionOrganizations = new ConcurrentHashMap<>();
+
+    public CardinalityServiceImpl(CardinalitySketchRepository cardinalitySketchRepository,
+                                  ElectionRepository electionRepository,
+                                  OrganizationRepository organizationRepository,
+                                  VoteRepository voteRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${voting.cardinality.precision:14}") int precision) {
+        this.cardinalitySketchRepository = cardinalitySketchRepository;
+        this.electionRepository = electionRepository;
+        this.organizationRepository = organizationRepository;
+        this.voteRepository = voteRepository;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.precision = precision;
+        this.standardError = new HyperLogLog(precision).getStandardError();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVoteCast(VoteCastEvent event) {
+        Long organizationId = organizationOf(event.getElectionId()).orElse(null);
+        if (organizationId == null) {
+            return;
+        }
+        LocalDate day = event.getCastAt().toLocalDate();
+        Long electionId = event.getElectionId();
+        add(new SketchKey(organizationId, electionId, CardinalityDimension.VOTERS, day),
+                event.getVoterRegistryId().toString());
+        if (event.getIpAddress() != null) {
+            add(new SketchKey(organizationId, electionId, CardinalityDimension.IP_ADDRESSES, day),
+                    event.getIpAddress());
+        }
+        if (event.getUserAgent() != null) {
+            add(new SketchKey(organizationId, electionId, CardinalityDimension.USER_AGENTS, day),
+                    event.getUserAgent());
+        }
+    }
+
+    @Override
+    public void recordVerification(Long organizationId, String identifier) {
+        if (identifier != null) {
+            add(new SketchKey(organizationId, null, CardinalityDimension.VERIFICATION_IDENTIFIERS,
+                    LocalDate.now()), identifier);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CardinalityResponse getElectionCardinality(Long electionId, LocalDate from, LocalDate to,
+                                                      boolean exact) {
+        Long organizationId = organizationOf(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        LocalDate first = from != null ? from : EARLIEST;
+        LocalDate last = to != null ? to : LocalDate.now();
+
+        CardinalityResponse.Builder response = CardinalityResponse.builder()
+                .organizationId(organizationId)
+                .electionId(electionId)
+                .from(first)
+                .to(last);
+
+        if (exact) {
+            LocalDateTime start = first.atStartOfDay();
+            LocalDateTime end = last.plusDays(1).atStartOfDay();
+            return response
+                    .voters(voteRepository.countUniqueVotersBetween(electionId, start, end))
+                    .ipAddresses(voteRepository.countDistinctIpAddressesBetween(electionId, start, end))
+                    .userAgents(voteRepository.countDistinctUserAgentsBetween(electionId, start, end))
+                    .exact(true)
+                    .build();
+        }
+
+        Map<CardinalityDimension, HyperLogLog> merged = new EnumMap<>(CardinalityDimension.class);
+        for (CardinalitySketch row : cardinalitySketchRepository.findByElectionIdAndBucketDateBetween(electionId,
+                first, last)) {
+            merge(merged, row.getDimension(), HyperLogLog.fromBytes(row.getRegisters()));
+        }
+        mergePending(merged, null, electionId, first, last);
+        return estimates(response, merged, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CardinalityResponse getOrganizationCardinality(Long organizationId, LocalDate from, LocalDate to) {
+        if (!organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization", "id", organizationId);
+        }
+        LocalDate first = from != null ? from : EARLIEST;
+        LocalDate last = to != null ? to : LocalDate.now();
+
+        Map<CardinalityDimension, HyperLogLog> merged = new EnumMap<>(CardinalityDimension.class);
+        for (CardinalitySketch row : cardinalitySketchRepository.findByOrganizationIdAndBucketDateBetween(
+                organizationId, first, last)) {
+            merge(merged, row.getDimension(), HyperLogLog.fromBytes(row.getRegisters()));
+        }
+        mergePending(merged, organizationId, null, first, last);
+        return estimates(CardinalityResponse.builder()
+                .organizationId(organizationId)
+                .from(first)
+                .to(last), merged, true);
+    }
+
+    @Override
+    public int flush() {
+        int written = 0;
+        for (Map.Entry<SketchKey, PendingSketch> entry : pending.entrySet()) {
+            SketchKey key = entry.getKey();
+            PendingSketch sketch = entry.getValue();
+            // Retire it so later adds start a new sketch; nothing writes to this one after this block
+            synchronized (sketch) {
+                sketch.retired = true;
+            }
+            pending.remove(key, sketch);
+            try {
+                writeTemplate.executeWithoutResult(status -> save(key, sketch.sketch));
+                written++;
+            } catch (RuntimeException e) {
+                // Usually another node updated the row first; fold the registers back in for the next flush
+                logger.warn("Could not flush {} sketch for election {} of organization {}: {}", key.dimension(),
+                        key.electionId(), key.organizationId(), e.getMessage());
+                requeue(key, sketch.sketch);
+            }
+        }
+        return written;
+    }
+
+    // Private helper methods
+    private Optional<Long> organizationOf(Long electionId) {
+        Long organizationId = electionOrganizations.get(electionId);
+        if (organizationId != null) {
+            return Optional.of(organizationId);
+        }
+        Optional<Long> found = electionRepository.findOrganizationIdById(electionId);
+        found.ifPresent(id -> electionOrganizations.put(electionId, id));
+        return found;
+    }
+
+    private void add(SketchKey key, String value) {
+        while (true) {
+            PendingSketch sketch = pending.computeIfAbsent(key, k -> new PendingSketch(new HyperLogLog(precision)));
+            synchronized (sketch) {
+                if (!sketch.retired) {
+                    sketch.sketch.add(value);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void requeue(SketchKey key, HyperLogLog registers) {
+        while (true) {
+            PendingSketch sketch = pending.computeIfAbsent(key, k -> new PendingSketch(new HyperLogLog(precision)));
+            synchronized (sketch) {
+                if (!sketch.retired) {
+                    sketch.sketch.merge(registers);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void save(SketchKey key, HyperLogLog sketch) {
+        List<CardinalitySketch> rows = cardinalitySketchRepository.findByKey(key.organizationId(),
+                key.electionId(), key.dimension(), key.day());
+        CardinalitySketch row = rows.isEmpty()
+                ? new CardinalitySketch(key.organizationId(), key.electionId(), key.dimension(), key.day())
+                : rows.get(0);
+        HyperLogLog merged = HyperLogLog.fromBytes(sketch.toBytes());
+        if (row.getRegisters() != null) {
+            HyperLogLog stored = HyperLogLog.fromBytes(row.getRegisters());
+            if (stored.getPrecision() == precision) {
+                merged.merge(stored);
+            } else {
+                // Precision was changed; start a new row rather than lose either
+                row = new CardinalitySketch(key.organizationId(), key.electionId(), key.dimension(), key.day());
+            }
+        }
+        row.setRegisters(merged.toBytes());
+        cardinalitySketchRepository.save(row);
+    }
+
+    private void mergePending(Map<CardinalityDimension, HyperLogLog> merged, Long organizationId, Long electionId,
+                              LocalDate first, LocalDate last) {
+        for (Map.Entry<SketchKey, PendingSketch> entry : pending.entrySet()) {
+            SketchKey key = entry.getKey();
+            boolean matches = electionId != null
+                    ? electionId.equals(key.electionId())
+                    : organizationId.equals(key.organizationId());
+            if (!matches || key.day().isBefore(first) || key.day().isAfter(last)) {
+                continue;
+            }
+            PendingSketch sketch = entry.getValue();
+            synchronized (sketch) {
+                merge(merged, key.dimension(), sketch.sketch);
+            }
+        }
+    }
+
+    private void merge(Map<CardinalityDimension, HyperLogLog> merged, CardinalityDimension dimension,
+                       HyperLogLog sketch) {
+        HyperLogLog into = merged.get(dimension);
+        if (into == null) {
+            into = new HyperLogLog(sketch.getPrecision());
+            merged.put(dimension, into);
+        }
+        if (into.getPrecision() != sketch.getPrecision()) {
+            logger.warn("Skipping {} sketch of precision {} while merging precision {}", dimension,
+                    sketch.getPrecision(), into.getPrecision());
+            return;
+        }
+        into.merge(sketch);
+    }
+
+    private CardinalityResponse estimates(CardinalityResponse.Builder response,
+                                          Map<CardinalityDimension, HyperLogLog> merged,
+                                          boolean withVerifications) {
+        return response
+                .voters(cardinality(merged, CardinalityDimension.VOTERS))
+                .ipAddresses(cardinality(merged, CardinalityDimension.IP_ADDRESSES))
+                .userAgents(cardinality(merged, CardinalityDimension.USER_AGENTS))
+                .verificationIdentifiers(withVerifications
+                        ? cardinality(merged, CardinalityDimension.VERIFICATION_IDENTIFIERS)
+                        : null)
+                .standardError(standardError)
+                .exact(false)
+                .build();
+    }
+
+    private static long cardinality(Map<CardinalityDimension, HyperLogLog> merged, CardinalityDimension dimension) {
+        HyperLogLog sketch = merged.get(dimension);
+        return sketch != null ? sketch.cardinality() : 0;
+    }
+
+    // One day of one distinct count; electionId is null for organization-wide counts
+    private record SketchKey(Long organizationId, Long electionId, CardinalityDimension dimension, LocalDate day) {
+    }
+
+    // Registers added since the last flush; guarded by its own monitor
+    private static final class PendingSketch {
+
+        private final HyperLogLog sketch;
+        private boolean retired;
+
+        private PendingSketch(HyperLogLog sketch) {
+            this.sketch = sketch;
+        }
+    }
+}
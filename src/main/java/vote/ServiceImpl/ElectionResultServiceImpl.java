@@ -0,0 +1,278 @@
+package vote.ServiceImpl;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.ElectionResult;
+import vote.Enum.ElectionStatus;
+import vote.Event.VoteCastEvent;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.ElectionResultRepository;
+import vote.Repository.VoteRepository;
+import vote.Response.ElectionResultResponse;
+import vote.Service.ElectionResultService;
+import vote.Service.LiveTallyService;
+import vote.Util.VoteWeight;
+
+/**
+ * Maintains the {@code election_results} read model. Vote events and
+ * candidate changes only mark an election stale; the scheduled refresh
+ * then recomputes ranks and shares for each stale election from the live
+ * tally and writes the rows that changed, so the vote path never touches
+ * the table. Completing an election recounts from {@code votes}, or takes
+ * the final tally it is given, and marks its rows final. Final rows are
+ * never refreshed again: completed elections are not marked stale, and a
+ * refresh skips any election that completed or was finalized meanwhile.
+ *
+ * Ranks and shares are over summed vote weights. Votes in an unweighted
+ * election all weigh one, so there they are plain vote ranks and shares.
+ *
+ * Reads are index lookups on the table and may trail the live tally by up
+ * to one refresh interval.
+ */
+@Service
+public class ElectionResultServiceImpl implements ElectionResultService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElectionResultServiceImpl.class);
+
+    private final ElectionResultRepository electionResultRepository;
+    private final CandidateRepository candidateRepository;
+    private final ElectionRepository electionRepository;
+    private final VoteRepository voteRepository;
+    private final LiveTallyService liveTallyService;
+    private final TransactionTemplate writeTemplate;
+
+    private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public ElectionResultServiceImpl(ElectionResultRepository electionResultRepository,
+                                   CandidateRepository candidateRepository,
+                                   ElectionRepository electionRepository,
+                                   VoteRepository voteRepository,
+                                   LiveTallyService liveTallyService,
+                                   PlatformTransactionManager transactionManager) {
+        this.electionResultRepository = electionResultRepository;
+        this.candidateRepository = candidateRepository;
+        this.electionRepository = electionRepository;
+        this.voteRepository = voteRepository;
+        this.liveTallyService = liveTallyService;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVoteCast(VoteCastEvent event) {
+        markStale(event.getElectionId());
+    }
+
+    @Override
+    public void markStale(Long electionId) {
+        // At most one status read per election and refresh interval
+        if (!stale.contains(electionId) && !isClosed(electionId)) {
+            stale.add(electionId);
+        }
+    }
+
+    @Override
+    public int refresh() {
+        int refreshed = 0;
+        for (Long electionId : List.copyOf(stale)) {
+            // Cleared first so that votes arriving during the refresh mark it again
+            stale.remove(electionId);
+            ReentrantLock lock = lock(electionId);
+            lock.lock();
+            try {
+                Boolean applied = writeTemplate.execute(status -> {
+                    if (isClosed(electionId)
+                            || electionResultRepository.existsByElectionIdAndFinalizedTrue(electionId)) {
+                        return false;
+                    }
+                    apply(electionId, liveTallyService.getCandidateVoteCounts(electionId),
+                            liveTallyService.getCandidateWeightedVotes(electionId), false);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(applied)) {
+                    refreshed++;
+                }
+            } catch (RuntimeException e) {
+                stale.add(electionId);
+                logger.warn("Could not refresh results for election {}: {}", electionId, e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+        return refreshed;
+    }
+
+    @Override
+    @Transactional
+    public void finalizeResults(Long electionId) {
+        Map<Long, Long> votes = new HashMap<>();
+        Map<Long, Long> weights = new HashMap<>();
+        for (Object[] row : voteRepository.countVotesGroupedByCandidate(electionId)) {
+            votes.put((Long) row[0], ((Number) row[1]).longValue());
+            weights.put((Long) row[0], ((Number) row[2]).longValue());
+        }
+        finalizeResults(electionId, votes, weights);
+    }
+
+    @Override
+    @Transactional
+    public void finalizeResults(Long electionId, Map<Long, Long> votes, Map<Long, Long> weights) {
+        // Held until the final rows commit, so a refresh waiting on it finds them finalized
+        ReentrantLock lock = lock(electionId);
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        stale.remove(electionId);
+        apply(electionId, votes, weights, true);
+        logger.info("Finalized results for election {}", electionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ElectionResultResponse> getResults(Long electionId, String position) {
+        List<ElectionResult> results = position == null
+                ? electionResultRepository.findByElectionIdOrderByOverallRankAscCandidateIdAsc(electionId)
+                : electionResultRepository.findByElectionIdAndPositionOrderByPositionRankAscCandidateIdAsc(
+                        electionId, position);
+
+        return results.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ElectionResultResponse getLeader(Long electionId) {
+        return electionResultRepository.findFirstByElectionIdOrderByOverallRankAscCandidateIdAsc(electionId)
+                .map(this::mapToResponse)
+                .orElse(null);
+    }
+
+    // Private helper methods
+    private ReentrantLock lock(Long electionId) {
+        return locks.computeIfAbsent(electionId, id -> new ReentrantLock());
+    }
+
+    private boolean isClosed(Long electionId) {
+        ElectionStatus status = electionRepository.findStatusById(electionId).orElse(null);
+        return status == null || status == ElectionStatus.COMPLETED;
+    }
+
+    // Recomputes every active candidate's line and saves the ones that changed
+    private void apply(Long electionId, Map<Long, Long> votes, Map<Long, Long> weights, boolean finalized) {
+        Map<Long, ElectionResult> existing = new HashMap<>();
+        for (ElectionResult result : electionResultRepository.findByElectionId(electionId)) {
+            existing.put(result.getCandidateId(), result);
+        }
+
+        List<Line> lines = new ArrayList<>();
+        for (Object[] row : candidateRepository.findActiveCandidateLabels(electionId)) {
+            Long candidateId = (Long) row[0];
+            lines.add(new Line(candidateId, (String) row[1], (String) row[2], votes.getOrDefault(candidateId, 0L),
+                    weights.getOrDefault(candidateId, 0L)));
+        }
+        lines.sort(Comparator.comparingLong(Line::weight).reversed().thenComparing(Line::candidateId));
+
+        Map<String, Long> positionTotals = new HashMap<>();
+        for (Line line : lines) {
+            positionTotals.merge(line.position(), line.weight(), Math::addExact);
+        }
+
+        List<ElectionResult> changed = new ArrayList<>();
+        Map<String, Rank> positionRanks = new HashMap<>();
+        Rank overall = new Rank();
+        for (Line line : lines) {
+            int overallRank = overall.next(line.weight());
+            int positionRank = positionRanks.computeIfAbsent(line.position(), p -> new Rank()).next(line.weight());
+            long positionTotal = positionTotals.get(line.position());
+            double share = positionTotal > 0 ? (double) line.weight() / positionTotal * 100 : 0;
+
+            ElectionResult result = existing.remove(line.candidateId());
+            if (result == null) {
+                result = new ElectionResult(electionId, line.candidateId());
+            } else if (result.getVotes() == line.votes() && result.getWeightedVotes() == line.weight()
+                    && result.getOverallRank() == overallRank
+                    && result.getPositionRank() == positionRank && result.getShare() == share
+                    && result.isFinalized() == finalized && line.name().equals(result.getCandidateName())
+                    && line.position().equals(result.getPosition())) {
+                continue;
+            }
+            result.setCandidateName(line.name());
+            result.setPosition(line.position());
+            result.setVotes(line.votes());
+            result.setWeightedVotes(line.weight());
+            result.setOverallRank(overallRank);
+            result.setPositionRank(positionRank);
+            result.setShare(share);
+            result.setFinalized(finalized);
+            changed.add(result);
+        }
+
+        // Candidates that were deactivated or removed drop out of the results
+        electionResultRepository.deleteAll(existing.values());
+        electionResultRepository.saveAll(changed);
+    }
+
+    private ElectionResultResponse mapToResponse(ElectionResult result) {
+        return ElectionResultResponse.builder()
+                .electionId(result.getElectionId())
+                .candidateId(result.getCandidateId())
+                .candidateName(result.getCandidateName())
+                .position(result.getPosition())
+                .votes(result.getVotes())
+                .weightedVotes(VoteWeight.toDecimal(result.getWeightedVotes()))
+                .overallRank(result.getOverallRank())
+                .positionRank(result.getPositionRank())
+                .sharePercentage(result.getShare())
+                .finalized(result.isFinalized())
+                .build();
+    }
+
+    // Weight is in fixed-point units of VoteWeight
+    private record Line(Long candidateId, String name, String position, long votes, long weight) {
+    }
+
+    // Standard competition ranking over lines sorted by weight: ties share a rank
+    private static final class Rank {
+
+        private int seen;
+        private int rank;
+        private long lastWeight = -1;
+
+        int next(long weight) {
+            seen++;
+            if (weight != lastWeight) {
+                rank = seen;
+                lastWeight = weight;
+            }
+            return rank;
+        }
+    }
+}
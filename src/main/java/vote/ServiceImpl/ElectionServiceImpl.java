@@ -3,25 +3,41 @@ package vote.ServiceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import vote.Entity.Election;
 import vote.Entity.Organization;
 import vote.Enum.ElectionStatus;
+import vote.Enum.VotingMethod;
+import vote.Event.ElectionCompletedEvent;
 import vote.Exception.BusinessRuleException;
 import vote.Exception.ResourceNotFoundException;
+import vote.Repository.CandidateRepository;
 import vote.Repository.ElectionRepository;
 import vote.Repository.OrganizationRepository;
-import vote.Repository.VoteRepository;
 import vote.Request.ElectionRequest;
+import vote.Response.CursorPage;
 import vote.Response.ElectionResponse;
+import vote.Response.ElectionResultResponse;
 import vote.Response.ElectionSummaryResponse;
+import vote.Service.BallotSnapshotService;
+import vote.Service.ElectionResultService;
 import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.ResultSnapshotService;
+import vote.Service.SealedResults;
+import vote.Service.TurnoutTrendService;
+import vote.Service.VoteAnomalyService;
+import vote.Service.VoteCounterService;
+import vote.Util.CursorPagination;
 
 @Service
 @Transactional
@@ -31,14 +47,38 @@ public class ElectionServiceImpl implements ElectionService {
 
     private final ElectionRepository electionRepository;
     private final OrganizationRepository organizationRepository;
-    private final VoteRepository voteRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoteCounterService voteCounterService;
+    private final LiveTallyService liveTallyService;
+    private final BallotSnapshotService ballotSnapshotService;
+    private final ElectionResultService electionResultService;
+    private final TurnoutTrendService turnoutTrendService;
+    private final VoteAnomalyService voteAnomalyService;
+    private final ResultSnapshotService resultSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ElectionServiceImpl(ElectionRepository electionRepository,
                              OrganizationRepository organizationRepository,
-                             VoteRepository voteRepository) {
+                             CandidateRepository candidateRepository,
+                             VoteCounterService voteCounterService,
+                             LiveTallyService liveTallyService,
+                             BallotSnapshotService ballotSnapshotService,
+                             ElectionResultService electionResultService,
+                             TurnoutTrendService turnoutTrendService,
+                             VoteAnomalyService voteAnomalyService,
+                             ResultSnapshotService resultSnapshotService,
+                             ApplicationEventPublisher eventPublisher) {
         this.electionRepository = electionRepository;
         this.organizationRepository = organizationRepository;
-        this.voteRepository = voteRepository;
+        this.candidateRepository = candidateRepository;
+        this.voteCounterService = voteCounterService;
+        this.liveTallyService = liveTallyService;
+        this.ballotSnapshotService = ballotSnapshotService;
+        this.electionResultService = electionResultService;
+        this.turnoutTrendService = turnoutTrendService;
+        this.voteAnomalyService = voteAnomalyService;
+        this.resultSnapshotService = resultSnapshotService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -51,6 +91,7 @@ public class ElectionServiceImpl implements ElectionService {
 
         // Validate dates
         validateElectionDates(request.getStartTime(), request.getEndTime());
+        validateVotingMethod(request.getVotingMethod(), request.getSeats(), request.isWeighted());
 
         // Create election
         Election election = new Election();
@@ -61,10 +102,14 @@ public class ElectionServiceImpl implements ElectionService {
         election.setEndTime(request.getEndTime());
         election.setStatus(ElectionStatus.DRAFT);
         election.setMaxVotesPerVoter(request.getMaxVotesPerVoter());
+        election.setVotingMethod(request.getVotingMethod());
+        election.setSeats(request.getSeats());
+        election.setWeighted(request.isWeighted());
         election.setAllowWriteIn(request.isAllowWriteIn());
         election.setRequirePhotoId(request.isRequirePhotoId());
 
         Election savedElection = electionRepository.save(election);
+        voteCounterService.registerElection(savedElection.getId());
         logger.info("Election created with ID: {}", savedElection.getId());
 
         return mapToResponse(savedElection);
@@ -81,29 +126,34 @@ public class ElectionServiceImpl implements ElectionService {
     }
 
     @Override
-    public List<ElectionResponse> getElectionsByOrganization(Long organizationId, String status) {
+    @Transactional(readOnly = true)
+    public CursorPage<ElectionResponse> getElectionsByOrganization(Long organizationId, String status,
+                                                                   String cursor, int limit) {
         logger.debug("Getting elections for organization: {}", organizationId);
 
-        // Validate organization exists
-        if (!organizationRepository.existsById(organizationId)) {
-            throw new ResourceNotFoundException("Organization", "id", organizationId);
-        }
-
+        long afterId = CursorPagination.afterId(cursor);
+        Limit fetch = Limit.of(CursorPagination.fetchSize(limit));
         List<Election> elections;
         if (status != null) {
+            ElectionStatus electionStatus;
             try {
-                ElectionStatus electionStatus = ElectionStatus.valueOf(status.toUpperCase());
-                elections = electionRepository.findByOrganizationIdAndStatus(organizationId, electionStatus);
+                electionStatus = ElectionStatus.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 throw new BusinessRuleException("Invalid election status: " + status);
             }
+            elections = electionRepository.findPageByOrganizationIdAndStatus(organizationId, electionStatus,
+                    afterId, fetch);
         } else {
-            elections = electionRepository.findByOrganizationId(organizationId);
+            elections = electionRepository.findPageByOrganizationId(organizationId, afterId, fetch);
         }
 
-        return elections.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        // The organization is only looked up to tell an empty page from a missing organization
+        if (elections.isEmpty() && !organizationRepository.existsById(organizationId)) {
+            throw new ResourceNotFoundException("Organization", "id", organizationId);
+        }
+
+        // Participation for the whole page is fetched in one query
+        return CursorPagination.pageInBulk(elections, limit, Election::getId, this::mapToResponses);
     }
 
     @Override
@@ -113,9 +163,7 @@ public class ElectionServiceImpl implements ElectionService {
         List<Election> elections = electionRepository.findActiveElectionsByOrganization(
                 organizationId, LocalDateTime.now());
 
-        return elections.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return mapToResponses(elections);
     }
 
     @Override
@@ -130,6 +178,11 @@ public class ElectionServiceImpl implements ElectionService {
             throw new BusinessRuleException("Cannot modify an active or completed election");
         }
 
+        // Votes keep the weight they were cast with, so a paused election cannot switch weighting
+        if (request.isWeighted() != election.isWeighted() && election.getStatus() != ElectionStatus.DRAFT) {
+            throw new BusinessRuleException("Weighted voting can only be changed before an election opens");
+        }
+
         // Update organization if changed
         if (!election.getOrganization().getId().equals(request.getOrganizationId())) {
             Organization organization = organizationRepository.findById(request.getOrganizationId())
@@ -139,6 +192,7 @@ public class ElectionServiceImpl implements ElectionService {
 
         // Validate dates
         validateElectionDates(request.getStartTime(), request.getEndTime());
+        validateVotingMethod(request.getVotingMethod(), request.getSeats(), request.isWeighted());
 
         // Update fields
         election.setTitle(request.getTitle());
@@ -146,10 +200,14 @@ public class ElectionServiceImpl implements ElectionService {
         election.setStartTime(request.getStartTime());
         election.setEndTime(request.getEndTime());
         election.setMaxVotesPerVoter(request.getMaxVotesPerVoter());
+        election.setVotingMethod(request.getVotingMethod());
+        election.setSeats(request.getSeats());
+        election.setWeighted(request.isWeighted());
         election.setAllowWriteIn(request.isAllowWriteIn());
         election.setRequirePhotoId(request.isRequirePhotoId());
 
         Election updatedElection = electionRepository.save(election);
+        ballotSnapshotService.invalidate(id);
         logger.info("Election updated ID: {}", id);
 
         return mapToResponse(updatedElection);
@@ -182,6 +240,11 @@ public class ElectionServiceImpl implements ElectionService {
 
         election.setStatus(ElectionStatus.ACTIVE);
         Election activatedElection = electionRepository.save(election);
+        liveTallyService.trackElection(id);
+        turnoutTrendService.trackElection(id);
+        voteAnomalyService.trackElection(id);
+        ballotSnapshotService.refresh(id);
+        electionResultService.markStale(id);
 
         logger.info("Election activated ID: {}", id);
         return mapToResponse(activatedElection);
@@ -200,6 +263,7 @@ public class ElectionServiceImpl implements ElectionService {
 
         election.setStatus(ElectionStatus.PAUSED);
         Election pausedElection = electionRepository.save(election);
+        ballotSnapshotService.invalidate(id);
 
         logger.info("Election paused ID: {}", id);
         return mapToResponse(pausedElection);
@@ -224,8 +288,12 @@ public class ElectionServiceImpl implements ElectionService {
         election.setStatus(ElectionStatus.COMPLETED);
         Election completedElection = electionRepository.save(election);
 
-        // Update voter turnout
+        // Update voter turnout and persist the turnout series; the live tally and anomaly detector are
+        // released and the recounted results sealed once this commits
         updateVoterTurnout(completedElection);
+        eventPublisher.publishEvent(new ElectionCompletedEvent(id));
+        turnoutTrendService.releaseElection(id);
+        ballotSnapshotService.invalidate(id);
 
         logger.info("Election completed ID: {}", id);
         return mapToResponse(completedElection);
@@ -246,6 +314,11 @@ public class ElectionServiceImpl implements ElectionService {
             throw new BusinessRuleException("Results are already published");
         }
 
+        // Elections completed before results were sealed are sealed on publication
+        if (resultSnapshotService.getSealedResults(id) == null) {
+            resultSnapshotService.seal(id);
+        }
+
         election.setResultsPublished(true);
         Election updatedElection = electionRepository.save(election);
 
@@ -260,23 +333,30 @@ public class ElectionServiceImpl implements ElectionService {
         Election election = electionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Election", "id", id));
 
-        long totalCandidates = election.getCandidates().stream()
-                .filter(candidate -> candidate.isActive())
-                .count();
+        long totalCandidates = candidateRepository.countByElectionIdAndActiveTrue(id);
 
-        long totalVotes = voteRepository.countByElectionId(id);
+        long votedCount = voteCounterService.getParticipationCount(id);
         long totalVoters = election.getTotalVoters() != null ? election.getTotalVoters() : 0;
-        long votedCount = election.getVoterTurnout() != null ?
-                (election.getVoterTurnout() * totalVoters / 100) : 0;
 
-        // Find leading candidate
+        // Selections and the leader both come from the live tally, so they always agree;
+        // the results read model trails it by up to one refresh
+        Map<Long, Long> voteCounts = liveTallyService.getCandidateVoteCounts(id);
+        Map<Long, Long> weights = liveTallyService.getCandidateWeightedVotes(id);
+        long totalVotes = voteCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        // Ranked like the results: most weight first, ties to the lower candidate id
         String leadingCandidate = "None";
         long leadingCandidateVotes = 0;
-
-        for (var candidate : election.getCandidates()) {
-            if (candidate.isActive() && candidate.getVoteCount() > leadingCandidateVotes) {
-                leadingCandidate = candidate.getName();
-                leadingCandidateVotes = candidate.getVoteCount();
+        Long leaderId = null;
+        long leaderWeight = 0;
+        for (Object[] row : candidateRepository.findActiveCandidateLabels(id)) {
+            Long candidateId = (Long) row[0];
+            long weight = weights.getOrDefault(candidateId, 0L);
+            if (weight > leaderWeight || (weight == leaderWeight && leaderId != null && candidateId < leaderId)) {
+                leaderId = candidateId;
+                leaderWeight = weight;
+                leadingCandidate = (String) row[1];
+                leadingCandidateVotes = voteCounts.getOrDefault(candidateId, 0L);
             }
         }
 
@@ -298,6 +378,23 @@ public class ElectionServiceImpl implements ElectionService {
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ElectionResultResponse> getElectionResults(Long id, String position) {
+        logger.debug("Getting results for election ID: {}", id);
+
+        if (!electionRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Election", "id", id);
+        }
+
+        // Sealed results cannot change; the read model can still be refreshed from live counts
+        SealedResults sealed = resultSnapshotService.getSealedResults(id);
+        if (sealed != null) {
+            return sealed.getResults(position);
+        }
+        return electionResultService.getResults(id, position);
+    }
+
     @Override
     public boolean isElectionActive(Long id) {
         Election election = electionRepository.findById(id)
@@ -318,6 +415,9 @@ public class ElectionServiceImpl implements ElectionService {
             election.setStatus(ElectionStatus.COMPLETED);
             updateVoterTurnout(election);
             electionRepository.save(election);
+            eventPublisher.publishEvent(new ElectionCompletedEvent(election.getId()));
+            turnoutTrendService.releaseElection(election.getId());
+            ballotSnapshotService.invalidate(election.getId());
             logger.info("Election {} marked as completed", election.getId());
         }
 
@@ -327,12 +427,31 @@ public class ElectionServiceImpl implements ElectionService {
             if (election.isDraft()) {
                 election.setStatus(ElectionStatus.ACTIVE);
                 electionRepository.save(election);
+                liveTallyService.trackElection(election.getId());
+                turnoutTrendService.trackElection(election.getId());
+                voteAnomalyService.trackElection(election.getId());
+                ballotSnapshotService.refresh(election.getId());
+                electionResultService.markStale(election.getId());
                 logger.info("Election {} activated", election.getId());
             }
         }
     }
 
     // Private helper methods
+    private void validateVotingMethod(VotingMethod votingMethod, Integer seats, boolean weighted) {
+        if (votingMethod == null) {
+            throw new BusinessRuleException("Voting method is required");
+        }
+        if (votingMethod == VotingMethod.INSTANT_RUNOFF && seats != null && seats > 1) {
+            throw new BusinessRuleException("Instant-runoff elects one candidate per position; "
+                    + "use single transferable vote or approval for more seats");
+        }
+        // Ranked and approval counts work on whole ballots and do not carry weights
+        if (weighted && votingMethod != VotingMethod.PLURALITY) {
+            throw new BusinessRuleException("Weighted voting is only supported for plurality elections");
+        }
+    }
+
     private void validateElectionDates(LocalDateTime startTime, LocalDateTime endTime) {
         LocalDateTime now = LocalDateTime.now();
 
@@ -361,16 +480,23 @@ public class ElectionServiceImpl implements ElectionService {
     }
 
     private void updateVoterTurnout(Election election) {
-        long totalVoters = election.getTotalVoters() != null ? election.getTotalVoters() : 0;
-        long voteCount = voteRepository.countByElectionId(election.getId());
+        election.updateVoterTurnout(voteCounterService.getParticipationCount(election.getId()));
+    }
 
-        if (totalVoters > 0) {
-            double turnout = (double) voteCount / totalVoters * 100;
-            election.setVoterTurnout((int) Math.round(turnout));
-        }
+    private List<ElectionResponse> mapToResponses(List<Election> elections) {
+        Map<Long, Long> participation = voteCounterService.getParticipationCounts(
+                elections.stream().map(Election::getId).collect(Collectors.toList()));
+
+        return elections.stream()
+                .map(election -> mapToResponse(election, participation.getOrDefault(election.getId(), 0L)))
+                .collect(Collectors.toList());
     }
 
     private ElectionResponse mapToResponse(Election election) {
+        return mapToResponse(election, voteCounterService.getParticipationCount(election.getId()));
+    }
+
+    private ElectionResponse mapToResponse(Election election, long participants) {
         boolean isOngoing = election.isOngoing();
         long remainingDays = election.getRemainingDays();
 
@@ -384,9 +510,12 @@ public class ElectionServiceImpl implements ElectionService {
                 .startTime(election.getStartTime())
                 .endTime(election.getEndTime())
                 .resultsPublished(election.isResultsPublished())
-                .voterTurnout(election.getVoterTurnout())
+                .voterTurnout(election.calculateVoterTurnout(participants))
                 .totalVoters(election.getTotalVoters())
                 .maxVotesPerVoter(election.getMaxVotesPerVoter())
+                .votingMethod(election.getVotingMethod())
+                .seats(election.getSeats())
+                .weighted(election.isWeighted())
                 .allowWriteIn(election.isAllowWriteIn())
                 .requirePhotoId(election.isRequirePhotoId())
                 .isOngoing(isOngoing)
@@ -0,0 +1,246 @@
+package vote.ServiceImpl;
+
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import vote.Entity.IdempotencyRecord;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ServiceUnavailableException;
+import vote.Repository.IdempotencyRecordRepository;
+import vote.Request.VoteRequest;
+import vote.Response.VoteResponse;
+import vote.Service.IdempotencyService;
+import vote.Service.VoteSubmission;
+import vote.Util.TtlCache;
+
+/**
+ * Replays the original receipt for a vote retried with the same
+ * {@code Idempotency-Key}. Keys are scoped to the submitting user and bound
+ * to a hash of the request body, so a key cannot be reused for a different
+ * ballot. Recent keys are answered from memory, older ones from the
+ * {@code idempotency_keys} table; neither path touches the vote tables.
+ * Concurrent retries of a request that is still being processed wait for
+ * its result instead of casting again, including after the original
+ * caller has given up waiting.
+ *
+ * Not transactional itself: the key is recorded inside the vote's own
+ * transaction (or group commit), so a committed vote always has its key
+ * and a rolled-back one never does. Failed attempts leave the key free
+ * for a retry.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final long ttlMinutes;
+    private final long receiptTimeoutMs;
+    private final TtlCache<String, StoredReceipt> recent;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository,
+                                @Value("${voting.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                                @Value("${voting.idempotency.cache-size:100000}") int cacheSize,
+                                @Value("${voting.ingestion.receipt-timeout-ms:10000}") long receiptTimeoutMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttlMinutes = ttlMinutes;
+        this.receiptTimeoutMs = receiptTimeoutMs;
+        this.recent = new TtlCache<>(cacheSize, TimeUnit.MINUTES.toNanos(ttlMinutes));
+    }
+
+    @Override
+    public VoteResponse castVote(String scope, String idempotencyKey, VoteRequest request,
+                                 VoteSubmission submission) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessRuleException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String cacheKey = scope + '\n' + idempotencyKey;
+        String requestHash = hash(request);
+
+        StoredReceipt stored = stored(cacheKey, scope, idempotencyKey);
+        if (stored != null) {
+            logger.debug("Replaying vote {} for Idempotency-Key", stored.response().getId());
+            return replay(stored.requestHash(), requestHash, stored.response());
+        }
+
+        InFlight mine = new InFlight(requestHash);
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            return replay(running.requestHash, requestHash, settle(running, cacheKey, scope, idempotencyKey));
+        }
+        // The previous holder may have settled between the lookup and the claim
+        stored = recent.get(cacheKey);
+        if (stored != null) {
+            inFlight.remove(cacheKey, mine);
+            return replay(stored.requestHash(), requestHash, stored.response());
+        }
+
+        CompletableFuture<VoteResponse> receipt;
+        try {
+            receipt = submission.submit(response -> remember(scope, idempotencyKey, requestHash, response));
+        } catch (RuntimeException e) {
+            receipt = CompletableFuture.failedFuture(e);
+        }
+
+        // The key stays in flight until the vote settles, even if this caller stops waiting,
+        // so a retry waits for the queued ballot instead of casting it again
+        receipt.whenComplete((response, failure) -> {
+            if (failure == null) {
+                recent.put(cacheKey, new StoredReceipt(requestHash, response));
+                inFlight.remove(cacheKey, mine);
+                mine.receipt.complete(response);
+            } else {
+                inFlight.remove(cacheKey, mine);
+                mine.receipt.completeExceptionally(failure);
+            }
+        });
+
+        return settle(mine, cacheKey, scope, idempotencyKey);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        return idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // Private helper methods
+    private StoredReceipt stored(String cacheKey, String scope, String idempotencyKey) {
+        StoredReceipt stored = recent.get(cacheKey);
+        if (stored == null) {
+            stored = idempotencyRecordRepository.findByScopeAndIdempotencyKey(scope, idempotencyKey)
+                    .filter(record -> !record.isExpired())
+                    .map(record -> new StoredReceipt(record.getRequestHash(), mapToResponse(record)))
+                    .orElse(null);
+            if (stored != null) {
+                recent.put(cacheKey, stored);
+            }
+        }
+        return stored;
+    }
+
+    private VoteResponse replay(String originalHash, String requestHash, VoteResponse response) {
+        if (!originalHash.equals(requestHash)) {
+            throw new BusinessRuleException("Idempotency-Key has already been used for a different request");
+        }
+        return response;
+    }
+
+    private VoteResponse settle(InFlight running, String cacheKey, String scope, String idempotencyKey) {
+        try {
+            return await(running);
+        } catch (DataIntegrityViolationException e) {
+            // Another node recorded the key first and this vote rolled back with it
+            StoredReceipt winner = stored(cacheKey, scope, idempotencyKey);
+            if (winner == null) {
+                throw e;
+            }
+            return replay(winner.requestHash(), running.requestHash, winner.response());
+        }
+    }
+
+    private VoteResponse await(InFlight running) {
+        try {
+            return running.receipt.get(receiptTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Vote submission failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Vote is still being recorded, retry with the same Idempotency-Key", 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Vote submission was interrupted", 1);
+        }
+    }
+
+    // Runs inside the vote's transaction
+    private void remember(String scope, String idempotencyKey, String requestHash, VoteResponse response) {
+        // An expired record may still hold the key until the purge gets to it
+        idempotencyRecordRepository.deleteExpiredKey(scope, idempotencyKey, LocalDateTime.now());
+
+        IdempotencyRecord record = new IdempotencyRecord(scope, idempotencyKey, requestHash,
+                LocalDateTime.now().plusMinutes(ttlMinutes));
+        record.setVoteId(response.getId());
+        record.setElectionId(response.getElectionId());
+        record.setElectionTitle(response.getElectionTitle());
+        record.setCandidateId(response.getCandidateId());
+        record.setCandidateName(response.getCandidateName());
+        record.setVoterRegistryId(response.getVoterRegistryId());
+        record.setVoterIdentifier(response.getVoterIdentifier());
+        record.setCastAt(response.getCastAt());
+        record.setIpAddress(response.getIpAddress());
+        record.setAnonymous(response.isAnonymous());
+        record.setWriteInCandidateName(response.getWriteInCandidateName());
+        record.setVerificationMethod(response.getVerificationMethod());
+        record.setVoteCreatedAt(response.getCreatedAt());
+
+        idempotencyRecordRepository.save(record);
+    }
+
+    private String hash(VoteRequest request) {
+        String canonical = request.getElectionId() + "|" + request.getCandidateId() + "|"
+                + request.getVoterRegistryId() + "|" + request.isAnonymous() + "|"
+                + Objects.toString(request.getWriteInCandidateName(), "");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private VoteResponse mapToResponse(IdempotencyRecord record) {
+        return VoteResponse.builder()
+                .id(record.getVoteId())
+                .electionId(record.getElectionId())
+                .electionTitle(record.getElectionTitle())
+                .candidateId(record.getCandidateId())
+                .candidateName(record.getCandidateName())
+                .voterRegistryId(record.getVoterRegistryId())
+                .voterIdentifier(record.getVoterIdentifier())
+                .castAt(record.getCastAt())
+                .ipAddress(record.getIpAddress())
+                .anonymous(record.isAnonymous())
+                .writeInCandidateName(record.getWriteInCandidateName())
+                .verificationMethod(record.getVerificationMethod())
+                .createdAt(record.getVoteCreatedAt())
+                .updatedAt(record.getVoteCreatedAt())
+                .build();
+    }
+
+    private record StoredReceipt(String requestHash, VoteResponse response) {
+    }
+
+    private static final class InFlight {
+        private final String requestHash;
+        private final CompletableFuture<VoteResponse> receipt = new CompletableFuture<>();
+
+        private InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import vote.Repository.IdentityPolicyRepository;
 import vote.Repository.OrganizationRepository;
 import vote.Request.IdentityPolicyRequest;
 import vote.Response.IdentityPolicyResponse;
+import vote.Service.BallotSnapshotService;
 import vote.Service.IdentityPolicyService;
 
 @Service
@@ -27,11 +28,14 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
 
     private final IdentityPolicyRepository identityPolicyRepository;
     private final OrganizationRepository organizationRepository;
+    private final BallotSnapshotService ballotSnapshotService;
 
     public IdentityPolicyServiceImpl(IdentityPolicyRepository identityPolicyRepository,
-                                   OrganizationRepository organizationRepository) {
+                                   OrganizationRepository organizationRepository,
+                                   BallotSnapshotService ballotSnapshotService) {
         this.identityPolicyRepository = identityPolicyRepository;
         this.organizationRepository = organizationRepository;
+        this.ballotSnapshotService = ballotSnapshotService;
     }
 
     @Override
@@ -66,6 +70,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
         policy.setLocked(false);
 
         IdentityPolicy savedPolicy = identityPolicyRepository.save(policy);
+        ballotSnapshotService.invalidateOrganization(organization.getId());
         logger.info("Identity policy created with ID: {}", savedPolicy.getId());
 
         return mapToResponse(savedPolicy);
@@ -121,6 +126,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
         if (!policy.getOrganization().getId().equals(request.getOrganizationId())) {
             Organization organization = organizationRepository.findById(request.getOrganizationId())
                     .orElseThrow(() -> new ResourceNotFoundException("Organization", "id", request.getOrganizationId()));
+            ballotSnapshotService.invalidateOrganization(policy.getOrganization().getId());
             policy.setOrganization(organization);
         }
 
@@ -136,6 +142,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
         policy.setMaxOtpAttempts(request.getMaxOtpAttempts());
 
         IdentityPolicy updatedPolicy = identityPolicyRepository.save(policy);
+        ballotSnapshotService.invalidateOrganization(updatedPolicy.getOrganization().getId());
         logger.info("Identity policy updated ID: {}", id);
 
         return mapToResponse(updatedPolicy);
@@ -154,6 +161,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
 
         policy.lockPolicy();
         IdentityPolicy lockedPolicy = identityPolicyRepository.save(policy);
+        ballotSnapshotService.invalidateOrganization(lockedPolicy.getOrganization().getId());
 
         return mapToResponse(lockedPolicy);
     }
@@ -178,6 +186,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
 
         policy.setActive(true);
         IdentityPolicy activatedPolicy = identityPolicyRepository.save(policy);
+        ballotSnapshotService.invalidateOrganization(activatedPolicy.getOrganization().getId());
 
         return mapToResponse(activatedPolicy);
     }
@@ -195,6 +204,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
 
         policy.setActive(false);
         IdentityPolicy deactivatedPolicy = identityPolicyRepository.save(policy);
+        ballotSnapshotService.invalidateOrganization(deactivatedPolicy.getOrganization().getId());
 
         return mapToResponse(deactivatedPolicy);
     }
@@ -211,6 +221,7 @@ public class IdentityPolicyServiceImpl implements IdentityPolicyService {
         }
 
         identityPolicyRepository.delete(policy);
+        ballotSnapshotService.invalidateOrganization(policy.getOrganization().getId());
     }
 
     @Override
@@ -0,0 +1,375 @@
+package vote.ServiceImpl;
+
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Enum.ElectionStatus;
+import vote.Event.ElectionCompletedEvent;
+import vote.Event.VoteCastEvent;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.VoteRepository;
+import vote.Service.LiveTallyService;
+import vote.Service.VoteCounterService;
+import vote.Util.FixedPointAdder;
+import vote.Util.VoteWeight;
+
+/**
+ * In-memory tallies for elections that can receive votes. Counts live in
+ * {@link LongAdder}s keyed by candidate id and are fed by committed
+ * {@link VoteCastEvent}s, so live count endpoints never touch the database.
+ * Each candidate's summed vote weight sits next to the count in a
+ * {@link FixedPointAdder}, which throws rather than wrap. Totals are
+ * periodically written back to {@code Candidate.voteCount} and
+ * {@code Candidate.weightedVotes}.
+ *
+ * Elections are loaded from {@code votes} on startup (before the web server
+ * accepts requests) and when they are activated, i.e. at points where no
+ * votes for them are in flight, and released once their completion has
+ * committed. Untracked elections are answered from the striped counters.
+ * A live election found untracked is loaded vote by vote; votes committing
+ * meanwhile are recorded into the loading tally, which counts each vote id
+ * once whichever of the load and the event sees it first.
+ */
+@Service
+@Transactional
+public class LiveTallyServiceImpl implements LiveTallyService, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveTallyServiceImpl.class);
+
+    private static final Set<ElectionStatus> LIVE_STATUSES = EnumSet.of(ElectionStatus.ACTIVE, ElectionStatus.PAUSED);
+
+    private final VoteRepository voteRepository;
+    private final CandidateRepository candidateRepository;
+    private final ElectionRepository electionRepository;
+    private final VoteCounterService voteCounterService;
+    private final TransactionTemplate readOnlyTemplate;
+
+    private final Map<Long, ElectionTally> elections = new ConcurrentHashMap<>();
+    // Tallies being loaded, not yet answering reads
+    private final Map<Long, ElectionTally> loading = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> candidates = new ConcurrentHashMap<>();
+
+    public LiveTallyServiceImpl(VoteRepository voteRepository,
+                              CandidateRepository candidateRepository,
+                              ElectionRepository electionRepository,
+                              VoteCounterService voteCounterService,
+                              PlatformTransactionManager transactionManager) {
+        this.voteRepository = voteRepository;
+        this.candidateRepository = candidateRepository;
+        this.electionRepository = electionRepository;
+        this.voteCounterService = voteCounterService;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVoteCast(VoteCastEvent event) {
+        ElectionTally tally = elections.get(event.getElectionId());
+        if (tally == null) {
+            ElectionStatus status = electionRepository.findStatusById(event.getElectionId()).orElse(null);
+            if (!LIVE_STATUSES.contains(status)) {
+                // A late vote for an election completed since it was validated: the striped counters
+                // already hold it, and a completed election is never tracked again
+                logger.warn("Vote {} committed for election {} after it became {}; not tracked",
+                        event.getVoteId(), event.getElectionId(), status);
+                return;
+            }
+            // Should not happen for a live election; load it so the view self-heals
+            logger.warn("Vote for untracked election {}, loading tally from votes", event.getElectionId());
+            tally = track(event.getElectionId());
+        }
+        tally.record(event.getVoteId(), event.getCandidateId(), event.getWeight());
+    }
+
+    // Released only once the completed status is committed, so votes still in flight are not lost to a
+    // tally that was flushed under them
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onElectionCompleted(ElectionCompletedEvent event) {
+        releaseElection(event.getElectionId());
+    }
+
+    @Override
+    public void trackElection(Long electionId) {
+        track(electionId);
+    }
+
+    @Override
+    public void releaseElection(Long electionId) {
+        ElectionTally tally = elections.get(electionId);
+        if (tally == null) {
+            return;
+        }
+        flush(tally);
+        elections.remove(electionId);
+        tally.candidates.keySet().forEach(candidates::remove);
+        logger.info("Released live tally for election {}", electionId);
+    }
+
+    @Override
+    public boolean isTracked(Long electionId) {
+        return elections.containsKey(electionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getElectionVoteCount(Long electionId) {
+        ElectionTally tally = elections.get(electionId);
+        if (tally != null) {
+            return tally.total.sum();
+        }
+        return voteCounterService.getCandidateVoteCounts(electionId).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getCandidateVoteCount(Long candidateId) {
+        LongAdder adder = candidates.get(candidateId);
+        return adder != null ? adder.sum() : voteCounterService.getCandidateVoteCount(candidateId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCandidateVoteCounts(Long electionId) {
+        ElectionTally tally = elections.get(electionId);
+        if (tally == null) {
+            return voteCounterService.getCandidateVoteCounts(electionId);
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        tally.candidates.forEach((candidateId, adder) -> counts.put(candidateId, adder.sum()));
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCandidateWeightedVotes(Long electionId) {
+        Map<Long, Long> weights = new HashMap<>();
+        ElectionTally tally = elections.get(electionId);
+        if (tally == null) {
+            for (Object[] row : candidateRepository.findWeightedVotesByElectionId(electionId)) {
+                weights.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+            return weights;
+        }
+        tally.weights.forEach((candidateId, adder) -> weights.put(candidateId, adder.sum()));
+        return weights;
+    }
+
+    @Override
+    public int flush() {
+        int updated = 0;
+        for (ElectionTally tally : elections.values()) {
+            updated += flush(tally);
+        }
+        return updated;
+    }
+
+    @Override
+    public void rebuild() {
+        Map<Long, ElectionTally> rebuilt = new HashMap<>();
+        for (Long electionId : electionRepository.findIdsByStatusIn(LIVE_STATUSES)) {
+            rebuilt.put(electionId, new ElectionTally());
+        }
+        for (Object[] row : voteRepository.countVotesGroupedByElectionAndCandidate(LIVE_STATUSES)) {
+            rebuilt.computeIfAbsent((Long) row[0], id -> new ElectionTally())
+                    .load((Long) row[1], ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+        }
+
+        // Report drift between the recounted votes and what was last persisted on the candidates
+        int drifted = 0;
+        for (Object[] row : candidateRepository.findVoteCountsByElectionStatus(LIVE_STATUSES)) {
+            Long candidateId = (Long) row[0];
+            ElectionTally tally = rebuilt.get((Long) row[1]);
+            long persisted = row[2] != null ? ((Number) row[2]).longValue() : 0;
+            long persistedWeight = row[3] != null ? ((Number) row[3]).longValue() : persisted * VoteWeight.ONE;
+            long counted = tally != null ? tally.count(candidateId) : 0;
+            long weighed = tally != null ? tally.weight(candidateId) : 0;
+            if (tally != null) {
+                tally.flushed.put(candidateId, persisted);
+                tally.flushedWeights.put(candidateId, persistedWeight);
+            }
+            if (persisted != counted || persistedWeight != weighed) {
+                drifted++;
+                logger.warn("Vote count drift for candidate {} in election {}: persisted={} ({} weight units), "
+                        + "votes={} ({} weight units)", candidateId, row[1], persisted, persistedWeight, counted,
+                        weighed);
+            }
+        }
+
+        elections.clear();
+        candidates.clear();
+        elections.putAll(rebuilt);
+        rebuilt.values().forEach(tally -> candidates.putAll(tally.candidates));
+        logger.info("Rebuilt live tallies for {} elections, {} candidates drifted from persisted counts",
+                rebuilt.size(), drifted);
+    }
+
+    // Private helper methods
+    // The election's tally, loaded from votes if untracked. Threads finding a load under way record
+    // into the loading tally rather than wait for it or load again
+    private ElectionTally track(Long electionId) {
+        ElectionTally tally = elections.get(electionId);
+        if (tally != null) {
+            return tally;
+        }
+        ElectionTally created = new ElectionTally(true);
+        ElectionTally pending = loading.putIfAbsent(electionId, created);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            // Published by a load that finished since the check above
+            tally = elections.get(electionId);
+            if (tally != null) {
+                return tally;
+            }
+            readOnlyTemplate.executeWithoutResult(status -> load(electionId, created));
+            created.loaded();
+            tally = elections.putIfAbsent(electionId, created);
+            return tally != null ? tally : created;
+        } finally {
+            loading.remove(electionId, created);
+        }
+    }
+
+    private void load(Long electionId, ElectionTally tally) {
+        try (Stream<Object[]> votes = voteRepository.streamTallyRowsByElectionId(electionId)) {
+            votes.forEach(row -> tally.record((Long) row[0], (Long) row[1], ((Number) row[2]).longValue()));
+        }
+        logger.info("Tracking live tally for election {} ({} votes)", electionId, tally.total.sum());
+    }
+
+    private int flush(ElectionTally tally) {
+        int updated = 0;
+        for (Map.Entry<Long, LongAdder> entry : tally.candidates.entrySet()) {
+            Long candidateId = entry.getKey();
+            long current = entry.getValue().sum();
+            long currentWeight = tally.weight(candidateId);
+            Long previous = tally.flushed.get(candidateId);
+            Long previousWeight = tally.flushedWeights.get(candidateId);
+            boolean changed = false;
+            if (previous == null || previous != current) {
+                candidateRepository.updateVoteCount(candidateId, Math.toIntExact(current));
+                tally.flushed.put(candidateId, current);
+                changed = true;
+            }
+            if (previousWeight == null || previousWeight != currentWeight) {
+                candidateRepository.updateWeightedVotes(candidateId, currentWeight);
+                tally.flushedWeights.put(candidateId, currentWeight);
+                changed = true;
+            }
+            if (changed) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private final class ElectionTally {
+
+        private final Map<Long, LongAdder> candidates = new ConcurrentHashMap<>();
+        private final Map<Long, FixedPointAdder> weights = new ConcurrentHashMap<>();
+        private final Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        private final Map<Long, Long> flushedWeights = new ConcurrentHashMap<>();
+        private final LongAdder total = new LongAdder();
+        // Ids of the votes counted while loading, null once loaded; guarded by the tally's monitor
+        private volatile Set<Long> loadingVotes;
+        // The same ids, sorted, once loaded: a vote committed before the load finished may have its
+        // event arrive after, and must not be counted twice
+        private volatile long[] loadedVotes = new long[0];
+
+        ElectionTally() {
+        }
+
+        ElectionTally(boolean loading) {
+            if (loading) {
+                loadingVotes = new HashSet<>();
+            }
+        }
+
+        void record(Long voteId, Long candidateId, long weight) {
+            if (loadingVotes != null) {
+                synchronized (this) {
+                    if (loadingVotes != null) {
+                        if (loadingVotes.add(voteId)) {
+                            record(candidateId, weight);
+                        }
+                        return;
+                    }
+                }
+            }
+            if (Arrays.binarySearch(loadedVotes, voteId) < 0) {
+                record(candidateId, weight);
+            }
+        }
+
+        // Ends loading and publishes the candidates' counters
+        synchronized void loaded() {
+            loadedVotes = loadingVotes.stream().mapToLong(Long::longValue).sorted().toArray();
+            loadingVotes = null;
+            LiveTallyServiceImpl.this.candidates.putAll(candidates);
+        }
+
+        void record(Long candidateId, long weight) {
+            // Weight first: if it would overflow, the vote is not counted either
+            weights.computeIfAbsent(candidateId, id -> new FixedPointAdder()).add(weight);
+            adder(candidateId).increment();
+            total.increment();
+        }
+
+        void load(Long candidateId, long votes, long weight) {
+            weights.computeIfAbsent(candidateId, id -> new FixedPointAdder()).add(weight);
+            adder(candidateId).add(votes);
+            total.add(votes);
+        }
+
+        long count(Long candidateId) {
+            LongAdder adder = candidates.get(candidateId);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        long weight(Long candidateId) {
+            FixedPointAdder adder = weights.get(candidateId);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        private LongAdder adder(Long candidateId) {
+            return candidates.computeIfAbsent(candidateId, id -> {
+                LongAdder adder = new LongAdder();
+                if (loadingVotes == null) {
+                    LiveTallyServiceImpl.this.candidates.put(id, adder);
+                }
+                return adder;
+            });
+        }
+    }
+}
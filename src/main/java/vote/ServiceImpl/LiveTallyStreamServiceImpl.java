@@ -0,0 +1,246 @@
+package vote.ServiceImpl;
+
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import vote.Entity.Election;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.ElectionRepository;
+import vote.Response.LiveTallyResponse;
+import vote.Service.LiveTallyService;
+import vote.Service.LiveTallyStreamService;
+import vote.Service.ParticipationService;
+
+/**
+ * Pushes live tallies to dashboards over server-sent events. Each publish
+ * tick reads the in-memory tally and participation once per watched
+ * election and, if anything moved, encodes one frame of the counts that
+ * changed and writes the same bytes to every watcher. However many votes
+ * land between ticks, a watcher gets at most one frame per tick, and
+ * watchers cost no queries after the first subscriber loads the election.
+ *
+ * A new watcher first gets a full frame of the current counts. Idle
+ * streams get a comment line now and then so proxies keep them open and
+ * closed connections are noticed.
+ */
+@Service
+public class LiveTallyStreamServiceImpl implements LiveTallyStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveTallyStreamServiceImpl.class);
+
+    private static final String EVENT_NAME = "tally";
+    private static final long HEARTBEAT_INTERVAL_MS = 15_000;
+    private static final int MAX_FRAMES_PER_SECOND = 1000;
+
+    private final LiveTallyService liveTallyService;
+    private final ParticipationService participationService;
+    private final ElectionRepository electionRepository;
+    private final long timeoutMs;
+    private final long framePeriodMillis;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public LiveTallyStreamServiceImpl(LiveTallyService liveTallyService,
+                                      ParticipationService participationService,
+                                      ElectionRepository electionRepository,
+                                      @Value("${voting.stream.timeout-ms:1800000}") long timeoutMs,
+                                      @Value("${voting.stream.max-frames-per-second:4}") int maxFramesPerSecond) {
+        // Checked here so a bad value fails with its name instead of as the publish schedule's period
+        if (maxFramesPerSecond < 1 || maxFramesPerSecond > MAX_FRAMES_PER_SECOND) {
+            throw new IllegalArgumentException("voting.stream.max-frames-per-second must be between 1 and "
+                    + MAX_FRAMES_PER_SECOND + ": " + maxFramesPerSecond);
+        }
+        this.liveTallyService = liveTallyService;
+        this.participationService = participationService;
+        this.electionRepository = electionRepository;
+        this.timeoutMs = timeoutMs;
+        this.framePeriodMillis = 1000 / maxFramesPerSecond;
+    }
+
+    @Override
+    public long getFramePeriodMillis() {
+        return framePeriodMillis;
+    }
+
+    @Override
+    public SseEmitter subscribe(Long electionId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        while (true) {
+            Channel channel = channels.get(electionId);
+            if (channel == null) {
+                Election election = electionRepository.findById(electionId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+                long totalVoters = election.getTotalVoters() != null ? election.getTotalVoters() : 0;
+                Channel created = new Channel(electionId, totalVoters);
+                channel = channels.putIfAbsent(electionId, created);
+                if (channel == null) {
+                    channel = created;
+                }
+            }
+
+            synchronized (channel) {
+                // Lost a race with publish() dropping the channel for having no watchers
+                if (channel.closed) {
+                    continue;
+                }
+                if (channel.sequence == 0) {
+                    channel.advance();
+                    channel.lastSentAt = System.currentTimeMillis();
+                }
+                Channel owner = channel;
+                emitter.onCompletion(() -> owner.emitters.remove(emitter));
+                emitter.onTimeout(() -> owner.emitters.remove(emitter));
+                emitter.onError(e -> owner.emitters.remove(emitter));
+                if (send(emitter, channel.fullFrame())) {
+                    channel.emitters.add(emitter);
+                }
+            }
+            logger.debug("Watcher subscribed to live tally of election {}", electionId);
+            return emitter;
+        }
+    }
+
+    @Override
+    public int publish() {
+        int frames = 0;
+        long now = System.currentTimeMillis();
+        for (Channel channel : channels.values()) {
+            synchronized (channel) {
+                if (channel.emitters.isEmpty()) {
+                    channel.closed = true;
+                    channels.remove(channel.electionId, channel);
+                    continue;
+                }
+
+                // Comparing counts every tick, rather than flagging elections from vote events, cannot miss
+                // a vote whose tally update lands after the flag was cleared
+                Set<DataWithMediaType> frame = channel.advance();
+                if (frame != null) {
+                    frames++;
+                } else if (now - channel.lastSentAt >= HEARTBEAT_INTERVAL_MS) {
+                    frame = SseEmitter.event().comment("keep-alive").build();
+                } else {
+                    continue;
+                }
+
+                channel.lastSentAt = now;
+                for (SseEmitter emitter : channel.emitters) {
+                    if (!send(emitter, frame)) {
+                        channel.emitters.remove(emitter);
+                    }
+                }
+            }
+        }
+        return frames;
+    }
+
+    @Override
+    public int getSubscriberCount(Long electionId) {
+        Channel channel = channels.get(electionId);
+        return channel != null ? channel.emitters.size() : 0;
+    }
+
+    // Private helper methods
+    private boolean send(SseEmitter emitter, Set<DataWithMediaType> frame) {
+        try {
+            emitter.send(frame);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The watcher went away; the container completes the emitter
+            logger.debug("Dropping live tally watcher: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Set<DataWithMediaType> encode(LiveTallyResponse tally) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(tally.getSequence()))
+                    .name(EVENT_NAME)
+                    .data(objectMapper.writeValueAsString(tally), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode live tally frame", e);
+        }
+    }
+
+    // Watchers of one election and the counts they were last sent; guarded by its own monitor
+    private final class Channel {
+
+        private final Long electionId;
+        private final long totalVoters;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private Map<Long, Long> candidateVotes = Map.of();
+        private long totalVotes;
+        private long participants;
+        private long sequence;
+        private long lastSentAt;
+        private boolean closed;
+
+        private Channel(Long electionId, long totalVoters) {
+            this.electionId = electionId;
+            this.totalVoters = totalVoters;
+        }
+
+        // Reads the current counts and returns a frame of what changed, or null if nothing did
+        private Set<DataWithMediaType> advance() {
+            Map<Long, Long> current = liveTallyService.getCandidateVoteCounts(electionId);
+            long currentParticipants = participationService.getVoterCount(electionId);
+
+            Map<Long, Long> changed = new HashMap<>();
+            long votes = 0;
+            for (Map.Entry<Long, Long> entry : current.entrySet()) {
+                votes += entry.getValue();
+                if (!entry.getValue().equals(candidateVotes.get(entry.getKey()))) {
+                    changed.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (sequence > 0 && changed.isEmpty() && currentParticipants == participants) {
+                return null;
+            }
+
+            candidateVotes = Map.copyOf(current);
+            totalVotes = votes;
+            participants = currentParticipants;
+            sequence++;
+            return encode(tally(false, changed));
+        }
+
+        private Set<DataWithMediaType> fullFrame() {
+            return encode(tally(true, candidateVotes));
+        }
+
+        private LiveTallyResponse tally(boolean full, Map<Long, Long> votes) {
+            double turnout = totalVoters > 0 ? (double) participants / totalVoters * 100 : 0;
+            return LiveTallyResponse.builder()
+                    .electionId(electionId)
+                    .sequence(sequence)
+                    .full(full)
+                    .totalVotes(totalVotes)
+                    .participants(participants)
+                    .totalVoters(totalVoters)
+                    .turnoutPercentage(turnout)
+                    .candidateVotes(votes)
+                    .timestamp(System.currentTimeMillis())
+                    .build();
+        }
+    }
+}
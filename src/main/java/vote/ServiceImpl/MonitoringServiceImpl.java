@@ -0,0 +1,69 @@
+package vote.ServiceImpl;
+
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import vote.Response.ConcurrencyLimitResponse;
+import vote.Response.DatabaseLoadResponse;
+import vote.Service.MonitoringService;
+import vote.Service.VoteIngestionService;
+import vote.Util.AdaptiveConcurrencyLimiter;
+import vote.Util.AdmissionGate;
+
+/**
+ * Reads load figures from in-memory counters only, so it stays answerable
+ * while the database is saturated.
+ */
+@Service
+public class MonitoringServiceImpl implements MonitoringService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final AdmissionGate databaseAdmissionGate;
+    private final AdaptiveConcurrencyLimiter votingConcurrencyLimiter;
+    private final VoteIngestionService voteIngestionService;
+    private final boolean virtualThreads;
+
+    public MonitoringServiceImpl(AdmissionGate databaseAdmissionGate,
+                               AdaptiveConcurrencyLimiter votingConcurrencyLimiter,
+                               VoteIngestionService voteIngestionService,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.databaseAdmissionGate = databaseAdmissionGate;
+        this.votingConcurrencyLimiter = votingConcurrencyLimiter;
+        this.voteIngestionService = voteIngestionService;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public DatabaseLoadResponse getDatabaseLoad() {
+        AdmissionGate gate = databaseAdmissionGate;
+        long attempts = gate.getAdmittedCount() + gate.getRejectedCount();
+
+        return DatabaseLoadResponse.builder()
+                .virtualThreads(virtualThreads)
+                .admissionPermits(gate.getCapacity())
+                .connectionsInUse(gate.getInUse())
+                .admissionQueueDepth(gate.getQueueDepth())
+                .admittedCount(gate.getAdmittedCount())
+                .rejectedCount(gate.getRejectedCount())
+                .averageWaitMillis(attempts > 0 ? gate.getTotalWaitNanos() / NANOS_PER_MILLI / attempts : 0)
+                .maxWaitMillis(gate.getMaxWaitNanos() / NANOS_PER_MILLI)
+                .voteQueueDepth(voteIngestionService.getQueueDepth())
+                .build();
+    }
+
+    @Override
+    public ConcurrencyLimitResponse getConcurrencyLimit() {
+        AdaptiveConcurrencyLimiter limiter = votingConcurrencyLimiter;
+
+        return ConcurrencyLimitResponse.builder()
+                .limit(limiter.getLimit())
+                .lowPriorityLimit(limiter.getLowPriorityLimit())
+                .inFlight(limiter.getInFlight())
+                .rejectedCritical(limiter.getRejectedCritical())
+                .rejectedLowPriority(limiter.getRejectedLow())
+                .baselineLatencyMillis(limiter.getLongRttMillis())
+                .build();
+    }
+}
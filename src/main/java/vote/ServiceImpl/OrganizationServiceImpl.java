@@ -1,10 +1,10 @@
 package vote.ServiceImpl;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,8 +13,10 @@ import vote.Exception.BusinessRuleException;
 import vote.Exception.ResourceNotFoundException;
 import vote.Repository.OrganizationRepository;
 import vote.Request.OrganizationRequest;
+import vote.Response.CursorPage;
 import vote.Response.OrganizationResponse;
 import vote.Service.OrganizationService;
+import vote.Util.CursorPagination;
 
 @Service
 @Transactional
@@ -102,10 +104,13 @@ public class OrganizationServiceImpl implements OrganizationService {
 	}
 
 	@Override
-	public List<OrganizationResponse> getAllOrganizations() {
-		logger.debug("Fetching all organizations");
+	@Transactional(readOnly = true)
+	public CursorPage<OrganizationResponse> getAllOrganizations(String cursor, int limit) {
+		logger.debug("Fetching organizations");
 
-		return organizationRepository.findAll().stream().map(this::mapToResponse).collect(Collectors.toList());
+		List<Organization> organizations = organizationRepository.findByIdGreaterThanOrderByIdAsc(
+				CursorPagination.afterId(cursor), Limit.of(CursorPagination.fetchSize(limit)));
+		return CursorPagination.page(organizations, limit, Organization::getId, this::mapToResponse);
 	}
 
 	@Override
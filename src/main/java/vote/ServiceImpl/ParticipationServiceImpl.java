@@ -0,0 +1,263 @@
+package vote.ServiceImpl;
+
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.ParticipationSnapshot;
+import vote.Enum.ElectionStatus;
+import vote.Event.ElectionCompletedEvent;
+import vote.Event.VoteCastEvent;
+import vote.Repository.ElectionRepository;
+import vote.Repository.ParticipationSnapshotRepository;
+import vote.Repository.VoteRepository;
+import vote.Service.ParticipationService;
+import vote.Util.ParticipationBitmap;
+
+/**
+ * Keeps, per election, a compressed bitmap of the voter registry ids that
+ * have voted, so "has this voter voted here" is answered from memory.
+ * Bitmaps are fed by {@link VoteCastEvent}s after commit. A bitmap is
+ * loaded from its last snapshot plus the votes written since, and checked
+ * against the distinct voter count in {@code votes}; on any mismatch it is
+ * rebuilt from {@code votes} alone. Live elections are loaded at startup
+ * or on first use, and dropped once their completion commits. Other
+ * elections get no bitmap; their questions go to {@code votes}.
+ *
+ * The bitmap lags a commit by the time it takes the event to arrive, so it
+ * is a fast path only: the unique key on {@code votes} still decides.
+ */
+@Service
+public class ParticipationServiceImpl implements ParticipationService, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipationServiceImpl.class);
+
+    private static final Set<ElectionStatus> LIVE_STATUSES = EnumSet.of(ElectionStatus.ACTIVE, ElectionStatus.PAUSED);
+
+    private final VoteRepository voteRepository;
+    private final ElectionRepository electionRepository;
+    private final ParticipationSnapshotRepository participationSnapshotRepository;
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    private final Map<Long, ElectionParticipation> elections = new ConcurrentHashMap<>();
+
+    public ParticipationServiceImpl(VoteRepository voteRepository,
+                                  ElectionRepository electionRepository,
+                                  ParticipationSnapshotRepository participationSnapshotRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.voteRepository = voteRepository;
+        this.electionRepository = electionRepository;
+        this.participationSnapshotRepository = participationSnapshotRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Long electionId : electionRepository.findIdsByStatusIn(LIVE_STATUSES)) {
+            elections.computeIfAbsent(electionId, id -> readOnlyTemplate.execute(status -> load(id)));
+        }
+        logger.info("Loaded participation bitmaps for {} live elections", elections.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVoteCast(VoteCastEvent event) {
+        recordVote(event.getElectionId(), event.getVoterRegistryId(), event.getVoteId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onElectionCompleted(ElectionCompletedEvent event) {
+        releaseElection(event.getElectionId());
+    }
+
+    @Override
+    public boolean hasVoted(Long electionId, Long voterRegistryId) {
+        ElectionParticipation participation = participation(electionId);
+        return participation != null
+                ? participation.contains(voterRegistryId)
+                : voteRepository.existsByElectionIdAndVoterRegistryId(electionId, voterRegistryId);
+    }
+
+    @Override
+    public long getVoterCount(Long electionId) {
+        ElectionParticipation participation = participation(electionId);
+        return participation != null ? participation.cardinality() : voteRepository.countUniqueVoters(electionId);
+    }
+
+    @Override
+    public void recordVote(Long electionId, Long voterRegistryId, Long voteId) {
+        // Votes for elections without a bitmap are already in votes, which answers for them
+        ElectionParticipation participation = participation(electionId);
+        if (participation != null) {
+            participation.add(voterRegistryId, voteId);
+        }
+    }
+
+    @Override
+    public void releaseElection(Long electionId) {
+        if (elections.remove(electionId) != null) {
+            logger.info("Released participation bitmap for election {}", electionId);
+        }
+    }
+
+    @Override
+    public int snapshot() {
+        int written = 0;
+        for (Map.Entry<Long, ElectionParticipation> entry : elections.entrySet()) {
+            ElectionParticipation participation = entry.getValue();
+            long changes = participation.changes();
+            if (changes == participation.snapshotted) {
+                continue;
+            }
+            Long electionId = entry.getKey();
+            try {
+                writeTemplate.executeWithoutResult(status -> save(electionId, participation));
+                participation.snapshotted = changes;
+                written++;
+            } catch (RuntimeException e) {
+                logger.warn("Could not snapshot participation for election {}: {}", electionId, e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    // Private helper methods
+    // The election's bitmap, loaded on first use if it is live; null for any other election. Loaded
+    // outside the map so no database work runs under its bin lock; a racing load simply loses
+    private ElectionParticipation participation(Long electionId) {
+        ElectionParticipation participation = elections.get(electionId);
+        if (participation != null) {
+            return participation;
+        }
+        ElectionStatus status = electionRepository.findStatusById(electionId).orElse(null);
+        if (!LIVE_STATUSES.contains(status)) {
+            return null;
+        }
+        ElectionParticipation loaded = readOnlyTemplate.execute(tx -> load(electionId));
+        ElectionParticipation existing = elections.putIfAbsent(electionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private ElectionParticipation load(Long electionId) {
+        ElectionParticipation participation = participationSnapshotRepository.findByElectionId(electionId)
+                .map(snapshot -> new ElectionParticipation(ParticipationBitmap.fromBytes(snapshot.getBitmap()),
+                        snapshot.getLastVoteId()))
+                .orElseGet(() -> new ElectionParticipation(new ParticipationBitmap(), 0));
+        long fromSnapshot = participation.cardinality();
+        replay(electionId, participation, participation.lastVoteId);
+
+        // Votes committed out of id order can slip past the snapshot's watermark
+        long voters = voteRepository.countUniqueVoters(electionId);
+        if (participation.cardinality() != voters) {
+            logger.warn("Participation snapshot for election {} is stale ({} of {} voters), rebuilding from votes",
+                    electionId, participation.cardinality(), voters);
+            participation = new ElectionParticipation(new ParticipationBitmap(), 0);
+            replay(electionId, participation, 0);
+        }
+
+        participation.snapshotted = participation.changes();
+        logger.debug("Loaded participation for election {}: {} voters ({} from snapshot)",
+                electionId, participation.cardinality(), fromSnapshot);
+        return participation;
+    }
+
+    private void replay(Long electionId, ElectionParticipation participation, long afterVoteId) {
+        try (Stream<Object[]> votes = voteRepository.streamVotersByElectionIdAfter(electionId, afterVoteId)) {
+            votes.forEach(row -> participation.add((Long) row[1], (Long) row[0]));
+        }
+    }
+
+    private void save(Long electionId, ElectionParticipation participation) {
+        ParticipationSnapshot snapshot = participationSnapshotRepository.findByElectionId(electionId)
+                .orElseGet(() -> new ParticipationSnapshot(electionId));
+        participation.writeTo(snapshot);
+        snapshot.setTakenAt(LocalDateTime.now());
+        participationSnapshotRepository.save(snapshot);
+    }
+
+    private static final class ElectionParticipation {
+
+        private final ParticipationBitmap bitmap;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private long lastVoteId;
+        private long changes;
+        // Only touched by the snapshot task
+        private long snapshotted;
+
+        private ElectionParticipation(ParticipationBitmap bitmap, long lastVoteId) {
+            this.bitmap = bitmap;
+            this.lastVoteId = lastVoteId;
+        }
+
+        boolean contains(long voterRegistryId) {
+            lock.readLock().lock();
+            try {
+                return bitmap.contains(voterRegistryId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long cardinality() {
+            lock.readLock().lock();
+            try {
+                return bitmap.getCardinality();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long changes() {
+            lock.readLock().lock();
+            try {
+                return changes;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(long voterRegistryId, long voteId) {
+            lock.writeLock().lock();
+            try {
+                if (bitmap.add(voterRegistryId)) {
+                    changes++;
+                }
+                lastVoteId = Math.max(lastVoteId, voteId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void writeTo(ParticipationSnapshot snapshot) {
+            lock.readLock().lock();
+            try {
+                snapshot.setBitmap(bitmap.toBytes());
+                snapshot.setVoterCount(bitmap.getCardinality());
+                snapshot.setLastVoteId(lastVoteId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
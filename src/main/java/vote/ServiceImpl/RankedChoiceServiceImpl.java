@@ -0,0 +1,157 @@
+package vote.ServiceImpl;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Enum.ElectionStatus;
+import vote.Enum.VotingMethod;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.VoteRepository;
+import vote.Response.RankedChoiceResultResponse;
+import vote.Response.RankedRaceResponse;
+import vote.Response.RankedRoundResponse;
+import vote.Service.BallotRaces;
+import vote.Service.RankedChoiceService;
+import vote.Util.RankedBallots;
+import vote.Util.RankedChoiceTally;
+
+/**
+ * Counts instant-runoff and single transferable vote elections. A ranked
+ * ballot is an ordinary ballot whose selections for a position, in
+ * selection order, are the voter's preferences, so each position is a
+ * separate race.
+ *
+ * The election's selections are streamed once, ordered by voter, grouped
+ * by {@link BallotRaces} and packed into one {@link RankedBallots} per
+ * race; the elimination rounds then run in memory with
+ * {@link RankedChoiceTally}. Results of completed elections cannot change
+ * and are kept after the first count.
+ */
+@Service
+public class RankedChoiceServiceImpl implements RankedChoiceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankedChoiceServiceImpl.class);
+
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoteRepository voteRepository;
+
+    private final Map<Long, RankedChoiceResultResponse> completed = new ConcurrentHashMap<>();
+
+    public RankedChoiceServiceImpl(ElectionRepository electionRepository,
+                                   CandidateRepository candidateRepository,
+                                   VoteRepository voteRepository) {
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.voteRepository = voteRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RankedChoiceResultResponse getRankedChoiceResults(Long electionId) {
+        RankedChoiceResultResponse cached = completed.get(electionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        VotingMethod method = election.getVotingMethod();
+        if (!method.isRanked()) {
+            throw new BusinessRuleException("Election " + electionId + " is not a ranked election");
+        }
+        int seats = method == VotingMethod.SINGLE_TRANSFERABLE_VOTE ? election.getSeats() : 1;
+
+        long started = System.nanoTime();
+        BallotRaces races = new BallotRaces(candidateRepository.findByElectionId(electionId));
+        RankedBallots.Builder[] builders = new RankedBallots.Builder[races.size()];
+        for (int race = 0; race < races.size(); race++) {
+            builders[race] = RankedBallots.builder(races.getCandidates(race).size());
+        }
+        long ballots;
+        try (Stream<Object[]> selections = voteRepository.streamBallotSelectionsByElectionId(electionId)) {
+            ballots = races.replay(selections, (race, ranking, length) -> builders[race].add(ranking, length));
+        }
+
+        List<RankedRaceResponse> responses = new ArrayList<>(races.size());
+        for (int race = 0; race < races.size(); race++) {
+            RankedBallots packed = builders[race].build();
+            int raceSeats = Math.min(seats, races.getCandidates(race).size());
+            RankedChoiceTally.Result result = method == VotingMethod.SINGLE_TRANSFERABLE_VOTE
+                    ? RankedChoiceTally.singleTransferableVote(packed, raceSeats)
+                    : RankedChoiceTally.instantRunoff(packed);
+            responses.add(toResponse(races, race, raceSeats, result));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        logger.info("Counted {} ranked ballots across {} races of election {} in {} ms", ballots,
+                races.size(), electionId, elapsedMillis);
+
+        RankedChoiceResultResponse response = RankedChoiceResultResponse.builder()
+                .electionId(electionId)
+                .votingMethod(method)
+                .ballots(ballots)
+                .races(responses)
+                .elapsedMillis(elapsedMillis)
+                .build();
+        if (election.getStatus() == ElectionStatus.COMPLETED) {
+            completed.put(electionId, response);
+        }
+        return response;
+    }
+
+    // Private helper methods
+    private RankedRaceResponse toResponse(BallotRaces races, int race, int seats, RankedChoiceTally.Result result) {
+        Map<Long, String> candidates = new LinkedHashMap<>();
+        for (Candidate candidate : races.getCandidates(race)) {
+            candidates.put(candidate.getId(), candidate.getName());
+        }
+
+        List<RankedRoundResponse> rounds = new ArrayList<>(result.getRounds().size());
+        for (RankedChoiceTally.Round round : result.getRounds()) {
+            Map<Long, Double> votes = new LinkedHashMap<>();
+            for (int index = 0; index < candidates.size(); index++) {
+                votes.put(races.getCandidateId(race, index), round.getVotes(index));
+            }
+            rounds.add(RankedRoundResponse.builder()
+                    .round(round.getNumber())
+                    .votes(votes)
+                    .exhausted(round.getExhausted())
+                    .quota(round.getQuota())
+                    .elected(Arrays.stream(round.getElected())
+                            .mapToObj(index -> races.getCandidateId(race, index))
+                            .toList())
+                    .eliminated(round.getEliminated() >= 0
+                            ? races.getCandidateId(race, round.getEliminated())
+                            : null)
+                    .build());
+        }
+
+        return RankedRaceResponse.builder()
+                .position(races.getPosition(race))
+                .seats(seats)
+                .validBallots(result.getValidBallots())
+                .candidates(candidates)
+                .winners(Arrays.stream(result.getWinners())
+                        .mapToObj(index -> races.getCandidateId(race, index))
+                        .toList())
+                .rounds(rounds)
+                .build();
+    }
+}
@@ -0,0 +1,360 @@
+package vote.ServiceImpl;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import vote.Entity.Election;
+import vote.Entity.ResultSnapshot;
+import vote.Event.ElectionCompletedEvent;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.ElectionRepository;
+import vote.Repository.ResultSnapshotRepository;
+import vote.Response.CandidateRecountResponse;
+import vote.Response.ElectionResultResponse;
+import vote.Response.RecountResponse;
+import vote.Service.ElectionResultService;
+import vote.Service.ResultSnapshotService;
+import vote.Service.SealedResults;
+import vote.Service.TallyRecountService;
+import vote.Util.VoteWeight;
+
+/**
+ * Seals the results of an election when it completes. The final tally is
+ * a parallel recount of {@code votes}; it is written to the results read
+ * model and then serialized, per position and candidate with turnout and
+ * the sealing time, into a JSON payload stored once with its SHA-256
+ * checksum in {@code result_snapshots}. Sealing runs once the completion
+ * has committed, in its own transaction, and is retried if the recount
+ * does not yet reconcile; completing an election never waits on it.
+ *
+ * Published results are served from that payload as stored. A snapshot is
+ * checked against its checksum when first loaded and then kept in memory,
+ * since it can never change, so reads of published results neither touch
+ * the live tables nor serialize anything.
+ */
+@Service
+public class ResultSnapshotServiceImpl implements ResultSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultSnapshotServiceImpl.class);
+
+    private static final int SEAL_ATTEMPTS = 3;
+    private static final long SEAL_RETRY_MILLIS = 500;
+
+    // Weights are read back as exact decimals rather than doubles
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    private final ResultSnapshotRepository resultSnapshotRepository;
+    private final ElectionRepository electionRepository;
+    private final TallyRecountService tallyRecountService;
+    private final ElectionResultService electionResultService;
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    private final Map<Long, SealedResults> sealed = new ConcurrentHashMap<>();
+    private final Set<Long> published = ConcurrentHashMap.newKeySet();
+    // Sealing recounts over JDBC, so waiters park rather than pin a virtual thread's carrier
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public ResultSnapshotServiceImpl(ResultSnapshotRepository resultSnapshotRepository,
+                                     ElectionRepository electionRepository,
+                                     TallyRecountService tallyRecountService,
+                                     ElectionResultService electionResultService,
+                                     PlatformTransactionManager transactionManager) {
+        this.resultSnapshotRepository = resultSnapshotRepository;
+        this.electionRepository = electionRepository;
+        this.tallyRecountService = tallyRecountService;
+        this.electionResultService = electionResultService;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Each attempt is its own transaction, so a recount that does not reconcile can simply be retried
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onElectionCompleted(ElectionCompletedEvent event) {
+        Long electionId = event.getElectionId();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                trySeal(electionId);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == SEAL_ATTEMPTS) {
+                    // Publication seals whatever is still unsealed
+                    logger.error("Could not seal results of election {} after {} attempts: {}", electionId,
+                            attempt, e.getMessage());
+                    return;
+                }
+                logger.warn("Sealing results of election {} failed ({}), retrying", electionId, e.getMessage());
+            }
+            try {
+                Thread.sleep(SEAL_RETRY_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while sealing results of election {}", electionId);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void seal(Long electionId) {
+        if (!trySeal(electionId)) {
+            throw new BusinessRuleException("Results of election " + electionId + " are already sealed");
+        }
+    }
+
+    @Override
+    public SealedResults getSealedResults(Long electionId) {
+        SealedResults results = sealed.get(electionId);
+        if (results != null) {
+            return results;
+        }
+        results = readOnlyTemplate.execute(status -> resultSnapshotRepository.findByElectionId(electionId)
+                .map(this::load)
+                .orElse(null));
+        if (results == null) {
+            return null;
+        }
+        SealedResults existing = sealed.putIfAbsent(electionId, results);
+        return existing != null ? existing : results;
+    }
+
+    @Override
+    public SealedResults getPublishedResults(Long electionId) {
+        if (!published.contains(electionId)) {
+            Election election = readOnlyTemplate.execute(status -> electionRepository.findById(electionId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+            if (!election.isResultsPublished()) {
+                throw new BusinessRuleException("Results of election " + electionId + " are not published");
+            }
+            published.add(electionId);
+        }
+
+        SealedResults results = getSealedResults(electionId);
+        if (results == null) {
+            // Published before results were sealed at completion
+            trySeal(electionId);
+            results = getSealedResults(electionId);
+        }
+        return results;
+    }
+
+    @Override
+    public byte[] getPublishedResultsPayload(Long organizationId) {
+        List<Long> electionIds = readOnlyTemplate.execute(status ->
+                electionRepository.findPublishedResults(organizationId));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        for (int i = 0; i < electionIds.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(getPublishedResults(electionIds.get(i)).getPayload());
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    // Private helper methods
+    // Seals in its own transaction, committed before the election's lock is released; false if it
+    // was sealed already
+    private boolean trySeal(Long electionId) {
+        ReentrantLock lock = locks.computeIfAbsent(electionId, id -> new ReentrantLock());
+        boolean sealedNow;
+        lock.lock();
+        try {
+            sealedNow = Boolean.TRUE.equals(requiresNewTemplate.execute(status -> {
+                if (resultSnapshotRepository.existsByElectionId(electionId)) {
+                    return false;
+                }
+                sealNow(electionId);
+                return true;
+            }));
+        } finally {
+            lock.unlock();
+        }
+        // A sealed election never needs its lock again; late waiters find the snapshot
+        locks.remove(electionId, lock);
+        return sealedNow;
+    }
+
+    private void sealNow(Long electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        if (!election.isCompleted()) {
+            throw new BusinessRuleException("Only completed elections can have their results sealed");
+        }
+
+        RecountResponse tally = tallyRecountService.recount(electionId, false);
+        if (!tally.isReconciled()) {
+            throw new BusinessRuleException("Final tally of election " + electionId
+                    + " does not reconcile with the votes table; try again");
+        }
+        Map<Long, Long> votes = new HashMap<>();
+        Map<Long, Long> weights = new HashMap<>();
+        for (CandidateRecountResponse candidate : tally.getCandidates()) {
+            votes.put(candidate.getCandidateId(), candidate.getRecountedVotes());
+            weights.put(candidate.getCandidateId(), VoteWeight.toUnits(candidate.getRecountedWeight()));
+        }
+        electionResultService.finalizeResults(electionId, votes, weights);
+        List<ElectionResultResponse> results = electionResultService.getResults(electionId, null);
+
+        LocalDateTime sealedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        byte[] payload = write(election, tally, results, sealedAt);
+        String checksum = checksum(payload);
+        resultSnapshotRepository.save(new ResultSnapshot(electionId, election.getOrganization().getId(),
+                sealedAt, checksum, payload));
+        logger.info("Sealed results of election {}: {} votes from {} voters, {} bytes, checksum {}",
+                electionId, tally.getVotes(), tally.getVoters(), payload.length, checksum);
+    }
+
+    // Positions in order of their leading candidate; candidates by rank within the position
+    private byte[] write(Election election, RecountResponse tally, List<ElectionResultResponse> results,
+                         LocalDateTime sealedAt) {
+        Map<String, List<ElectionResultResponse>> positions = new LinkedHashMap<>();
+        for (ElectionResultResponse result : results) {
+            positions.computeIfAbsent(result.getPosition(), position -> new ArrayList<>()).add(result);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator json = JSON.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeNumberField("electionId", election.getId());
+            json.writeNumberField("organizationId", election.getOrganization().getId());
+            json.writeStringField("title", election.getTitle());
+            json.writeStringField("votingMethod", election.getVotingMethod().name());
+            json.writeBooleanField("weighted", election.isWeighted());
+            json.writeStringField("sealedAt", sealedAt.toString());
+            json.writeNumberField("registeredVoters",
+                    election.getTotalVoters() != null ? election.getTotalVoters() : 0);
+            json.writeNumberField("voters", tally.getVoters());
+            if (tally.getRecountedTurnout() != null) {
+                json.writeNumberField("turnoutPercentage", tally.getRecountedTurnout());
+            } else {
+                json.writeNullField("turnoutPercentage");
+            }
+            json.writeNumberField("votes", tally.getVotes());
+            json.writeNumberField("weightedVotes", tally.getWeightedVotes());
+            json.writeArrayFieldStart("positions");
+            for (Map.Entry<String, List<ElectionResultResponse>> position : positions.entrySet()) {
+                long positionVotes = 0;
+                BigDecimal positionWeight = VoteWeight.toDecimal(0);
+                for (ElectionResultResponse result : position.getValue()) {
+                    positionVotes += result.getVotes();
+                    positionWeight = positionWeight.add(result.getWeightedVotes());
+                }
+                json.writeStartObject();
+                json.writeStringField("position", position.getKey());
+                json.writeNumberField("votes", positionVotes);
+                json.writeNumberField("weightedVotes", positionWeight);
+                json.writeArrayFieldStart("candidates");
+                for (ElectionResultResponse result : position.getValue()) {
+                    json.writeStartObject();
+                    json.writeNumberField("candidateId", result.getCandidateId());
+                    json.writeStringField("candidateName", result.getCandidateName());
+                    json.writeNumberField("votes", result.getVotes());
+                    json.writeNumberField("weightedVotes", result.getWeightedVotes());
+                    json.writeNumberField("overallRank", result.getOverallRank());
+                    json.writeNumberField("positionRank", result.getPositionRank());
+                    json.writeNumberField("sharePercentage", result.getSharePercentage());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write results of election " + election.getId(), e);
+        }
+        return out.toByteArray();
+    }
+
+    private SealedResults load(ResultSnapshot snapshot) {
+        byte[] payload = snapshot.getPayload();
+        if (!checksum(payload).equals(snapshot.getChecksum())) {
+            logger.error("Sealed results of election {} do not match their checksum {}", snapshot.getElectionId(),
+                    snapshot.getChecksum());
+            throw new IllegalStateException("Sealed results of election " + snapshot.getElectionId()
+                    + " fail their checksum");
+        }
+
+        JsonNode root;
+        try {
+            root = JSON.readTree(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read results of election " + snapshot.getElectionId(), e);
+        }
+        List<ElectionResultResponse> results = new ArrayList<>();
+        for (JsonNode position : root.get("positions")) {
+            for (JsonNode candidate : position.get("candidates")) {
+                results.add(ElectionResultResponse.builder()
+                        .electionId(snapshot.getElectionId())
+                        .candidateId(candidate.get("candidateId").asLong())
+                        .candidateName(candidate.get("candidateName").asText())
+                        .position(position.get("position").asText())
+                        .votes(candidate.get("votes").asLong())
+                        .weightedVotes(candidate.get("weightedVotes").decimalValue()
+                                .setScale(VoteWeight.SCALE, RoundingMode.UNNECESSARY))
+                        .overallRank(candidate.get("overallRank").asInt())
+                        .positionRank(candidate.get("positionRank").asInt())
+                        .sharePercentage(candidate.get("sharePercentage").asDouble())
+                        .finalized(true)
+                        .build());
+            }
+        }
+        results.sort((a, b) -> a.getOverallRank() != b.getOverallRank()
+                ? Integer.compare(a.getOverallRank(), b.getOverallRank())
+                : Long.compare(a.getCandidateId(), b.getCandidateId()));
+        return new SealedResults(snapshot.getElectionId(), snapshot.getSealedAt(), snapshot.getChecksum(), payload,
+                results);
+    }
+
+    private String checksum(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package vote.ServiceImpl;
+
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Enum.ElectionStatus;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Exception.ServiceUnavailableException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Response.CandidateRecountResponse;
+import vote.Response.RecountResponse;
+import vote.Service.LiveTallyService;
+import vote.Service.TallyRecountService;
+import vote.Service.VoteCounterService;
+import vote.Util.AdmissionGate;
+import vote.Util.VoteWeight;
+
+/**
+ * Recounts an election from {@code votes} and compares the result with
+ * {@code candidates.vote_count}, the striped counters and the stored
+ * turnout, which are all maintained separately from the vote inserts and
+ * can drift after a failed write.
+ *
+ * The election's vote ids are split into ranges of at most
+ * {@code voting.recount.partition-size} ids, scanned in parallel on a
+ * dedicated {@link ForkJoinPool} over plain JDBC (each range is a primary
+ * key range scan on its own connection), and tallied into {@code long[]}s
+ * indexed by candidate that are summed as the ranges join. Voters are
+ * counted as selection 0 rows, which every ballot has exactly one of.
+ * Those connections bypass the transaction manager, so each scan takes a
+ * permit from the database {@link AdmissionGate} like any transaction.
+ *
+ * The same scan sums each candidate's vote weights in fixed-point units
+ * with {@link Math#addExact}, compared exactly with
+ * {@code candidates.weighted_votes}. The scanned totals are reconciled
+ * against a single aggregate over the same id range; a recount that does
+ * not reconcile is reported but never used for a repair.
+ *
+ * With {@code repair} the counters, candidate counts and weights and (for
+ * completed elections) turnout are overwritten with the recount. Active
+ * elections cannot be repaired, as votes arriving during the scan would be
+ * lost.
+ */
+@Service
+public class TallyRecountServiceImpl implements TallyRecountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TallyRecountServiceImpl.class);
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM votes WHERE election_id = ?";
+    private static final String PARTITION_SQL = "SELECT candidate_id, selection_index, COALESCE(weight, "
+            + VoteWeight.ONE + ") FROM votes WHERE id >= ? AND id < ? AND election_id = ?";
+    private static final String AGGREGATE_SQL = "SELECT COUNT(*), SUM(COALESCE(weight, " + VoteWeight.ONE
+            + ")) FROM votes WHERE id >= ? AND id <= ? AND election_id = ?";
+    private static final int FETCH_SIZE = 10_000;
+
+    // Slots after the candidates in a tally array; each candidate's weight follows them, then unknown weight
+    private static final int UNKNOWN_SLOT = 0;
+    private static final int VOTERS_SLOT = 1;
+    private static final int PARTITIONS_SLOT = 2;
+    private static final int EXTRA_SLOTS = 3;
+
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoteCounterService voteCounterService;
+    private final LiveTallyService liveTallyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final AdmissionGate databaseAdmissionGate;
+    private final long admissionTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final ForkJoinPool pool;
+    private final long partitionSize;
+
+    public TallyRecountServiceImpl(ElectionRepository electionRepository,
+                                   CandidateRepository candidateRepository,
+                                   VoteCounterService voteCounterService,
+                                   LiveTallyService liveTallyService,
+                                   DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   AdmissionGate databaseAdmissionGate,
+                                   @Value("${voting.recount.parallelism:4}") int parallelism,
+                                   @Value("${voting.recount.partition-size:250000}") long partitionSize,
+                                   @Value("${voting.db.admission.timeout-ms:30000}") long admissionTimeoutMillis,
+                                   @Value("${voting.db.admission.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.voteCounterService = voteCounterService;
+        this.liveTallyService = liveTallyService;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.databaseAdmissionGate = databaseAdmissionGate;
+        this.admissionTimeoutMillis = admissionTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.pool = new ForkJoinPool(parallelism);
+        this.partitionSize = partitionSize;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public RecountResponse recount(Long electionId, boolean repair) {
+        Election election = readOnlyTemplate.execute(status -> electionRepository.findById(electionId))
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        if (repair && election.getStatus() == ElectionStatus.ACTIVE) {
+            throw new BusinessRuleException("Pause the election before repairing its tally");
+        }
+
+        List<Candidate> candidates = new ArrayList<>(
+                readOnlyTemplate.execute(status -> candidateRepository.findByElectionId(electionId)));
+        candidates.sort(Comparator.comparing(Candidate::getId));
+        long[] candidateIds = candidates.stream().mapToLong(Candidate::getId).toArray();
+
+        long started = System.nanoTime();
+        long[] range = idRange(electionId);
+        long[] tally = range != null
+                ? pool.invoke(new PartitionTask(electionId, candidateIds, range[0], range[1] + 1))
+                : new long[slots(candidateIds.length)];
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        int n = candidateIds.length;
+        long voters = tally[n + VOTERS_SLOT];
+        long unknownWeight = tally[weightSlot(n, n)];
+        Map<Long, Long> counters = voteCounterService.getCandidateVoteCounts(electionId);
+        long participation = voteCounterService.getParticipationCount(electionId);
+        // Turnout is only stored when the election completes
+        boolean turnoutStored = election.getStatus() == ElectionStatus.COMPLETED;
+        Integer recountedTurnout = election.calculateVoterTurnout(voters);
+
+        List<CandidateRecountResponse> diffs = new ArrayList<>(n);
+        long votes = tally[n + UNKNOWN_SLOT];
+        long weight = unknownWeight;
+        boolean consistent = tally[n + UNKNOWN_SLOT] == 0 && participation == voters
+                && (!turnoutStored || recountedTurnout.equals(election.getVoterTurnout()));
+        for (int i = 0; i < n; i++) {
+            Candidate candidate = candidates.get(i);
+            long persisted = candidate.getVoteCount() != null ? candidate.getVoteCount() : 0;
+            // Candidates without counter stripes are seeded from their persisted count on first increment
+            CandidateRecountResponse diff = CandidateRecountResponse.builder()
+                    .candidateId(candidate.getId())
+                    .candidateName(candidate.getName())
+                    .recountedVotes(tally[i])
+                    .persistedVotes(persisted)
+                    .counterVotes(counters.getOrDefault(candidate.getId(), persisted))
+                    .recountedWeight(VoteWeight.toDecimal(tally[weightSlot(n, i)]))
+                    .persistedWeight(VoteWeight.toDecimal(candidate.getWeightedVotes()))
+                    .build();
+            diffs.add(diff);
+            votes += tally[i];
+            weight = Math.addExact(weight, tally[weightSlot(n, i)]);
+            consistent &= diff.isConsistent();
+        }
+
+        // The scanned partitions must add up to what the database sums over the same ids, to the unit
+        long[] aggregate = range != null ? aggregate(electionId, range) : new long[2];
+        boolean reconciled = aggregate[0] == votes && aggregate[1] == weight;
+        if (!reconciled) {
+            logger.warn("Recount of election {} does not reconcile: scanned {} votes ({} weight units), "
+                    + "aggregate {} votes ({} weight units)", electionId, votes, weight, aggregate[0], aggregate[1]);
+        }
+        consistent &= reconciled;
+
+        if (tally[n + UNKNOWN_SLOT] > 0) {
+            logger.warn("Recount of election {} found {} votes for candidates outside the election", electionId,
+                    tally[n + UNKNOWN_SLOT]);
+        }
+        logger.info("Recounted election {}: {} votes from {} voters in {} partitions in {} ms ({})", electionId,
+                votes, voters, tally[n + PARTITIONS_SLOT], elapsedMillis, consistent ? "consistent" : "drifted");
+
+        boolean repaired = false;
+        if (repair && !consistent && reconciled) {
+            repair(electionId, diffs, voters - participation, turnoutStored ? voters : null);
+            repaired = true;
+        }
+
+        return RecountResponse.builder()
+                .electionId(electionId)
+                .votes(votes)
+                .voters(voters)
+                .unknownCandidateVotes(tally[n + UNKNOWN_SLOT])
+                .weightedVotes(VoteWeight.toDecimal(weight))
+                .aggregateVotes(aggregate[0])
+                .aggregateWeightedVotes(VoteWeight.toDecimal(aggregate[1]))
+                .reconciled(reconciled)
+                .participationCount(participation)
+                .persistedTurnout(election.getVoterTurnout())
+                .recountedTurnout(recountedTurnout)
+                .candidates(diffs)
+                .partitions((int) tally[n + PARTITIONS_SLOT])
+                .elapsedMillis(elapsedMillis)
+                .consistent(consistent)
+                .repaired(repaired)
+                .build();
+    }
+
+    // Private helper methods
+    private static int slots(int candidates) {
+        return candidates + EXTRA_SLOTS + candidates + 1;
+    }
+
+    // Weight of the candidate at index, or of unknown candidates for index == candidates
+    private static int weightSlot(int candidates, int index) {
+        return candidates + EXTRA_SLOTS + index;
+    }
+
+    // Lowest and highest vote id of the election, or null if it has no votes
+    private long[] idRange(Long electionId) {
+        return admitted(() -> jdbcTemplate.query(ID_RANGE_SQL, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[] { min, rs.getLong(2) };
+        }, electionId));
+    }
+
+    // Votes and weight units over the scanned id range, summed by the database in one statement
+    private long[] aggregate(Long electionId, long[] range) {
+        return admitted(() -> jdbcTemplate.query(AGGREGATE_SQL, rs -> {
+            rs.next();
+            BigDecimal weight = rs.getBigDecimal(2);
+            return new long[] { rs.getLong(1), weight != null ? weight.longValueExact() : 0 };
+        }, range[0], range[1], electionId));
+    }
+
+    // Plain JDBC outside a transaction borrows its own pooled connection, so it queues for a permit
+    // like a transaction would; inside one it runs on the transaction's connection
+    private <T> T admitted(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return query.get();
+        }
+        boolean admitted;
+        try {
+            admitted = databaseAdmissionGate.enter(admissionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for a database connection", retryAfterSeconds);
+        }
+        if (!admitted) {
+            throw new ServiceUnavailableException("Database is busy, please retry shortly", retryAfterSeconds);
+        }
+        try {
+            return query.get();
+        } finally {
+            databaseAdmissionGate.exit();
+        }
+    }
+
+    private void repair(Long electionId, List<CandidateRecountResponse> diffs, long participationDelta,
+                        Long turnoutVoters) {
+        // A paused election's live tally would write its own counts back; drop it and reload it afterwards
+        boolean tracked = liveTallyService.isTracked(electionId);
+        if (tracked) {
+            liveTallyService.releaseElection(electionId);
+        }
+        try {
+            writeTemplate.executeWithoutResult(status -> {
+                // Counters first: stripes missing for a candidate are seeded from its committed vote count
+                for (CandidateRecountResponse diff : diffs) {
+                    if (diff.getCounterDifference() != 0) {
+                        voteCounterService.incrementCandidateVotes(electionId, diff.getCandidateId(),
+                                -diff.getCounterDifference());
+                    }
+                }
+                if (participationDelta != 0) {
+                    voteCounterService.incrementParticipation(electionId, participationDelta);
+                }
+                for (CandidateRecountResponse diff : diffs) {
+                    if (diff.getPersistedDifference() != 0) {
+                        candidateRepository.updateVoteCount(diff.getCandidateId(),
+                                Math.toIntExact(diff.getRecountedVotes()));
+                    }
+                    if (diff.getPersistedWeightDifference().signum() != 0) {
+                        candidateRepository.updateWeightedVotes(diff.getCandidateId(),
+                                VoteWeight.toUnits(diff.getRecountedWeight()));
+                    }
+                }
+                if (turnoutVoters != null) {
+                    electionRepository.findById(electionId)
+                            .ifPresent(election -> election.updateVoterTurnout(turnoutVoters));
+                }
+            });
+        } finally {
+            if (tracked) {
+                liveTallyService.trackElection(electionId);
+            }
+        }
+        logger.warn("Repaired tally of election {} from recount", electionId);
+    }
+
+    // Tallies votes with ids in [fromId, toId), halving the range until it fits one partition
+    private final class PartitionTask extends RecursiveTask<long[]> {
+
+        private final Long electionId;
+        private final long[] candidateIds;
+        private final long fromId;
+        private final long toId;
+
+        private PartitionTask(Long electionId, long[] candidateIds, long fromId, long toId) {
+            this.electionId = electionId;
+            this.candidateIds = candidateIds;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (toId - fromId <= partitionSize) {
+                return scan();
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            PartitionTask left = new PartitionTask(electionId, candidateIds, fromId, middle);
+            left.fork();
+            long[] tally = new PartitionTask(electionId, candidateIds, middle, toId).compute();
+            long[] other = left.join();
+            for (int i = 0; i < tally.length; i++) {
+                tally[i] = Math.addExact(tally[i], other[i]);
+            }
+            return tally;
+        }
+
+        private long[] scan() {
+            int n = candidateIds.length;
+            long[] tally = new long[slots(n)];
+            admitted(() -> {
+                jdbcTemplate.query(PARTITION_SQL, rs -> {
+                    int index = Arrays.binarySearch(candidateIds, rs.getLong(1));
+                    tally[index >= 0 ? index : n + UNKNOWN_SLOT]++;
+                    int weight = weightSlot(n, index >= 0 ? index : n);
+                    tally[weight] = Math.addExact(tally[weight], rs.getLong(3));
+                    if (rs.getInt(2) == 0) {
+                        tally[n + VOTERS_SLOT]++;
+                    }
+                }, fromId, toId, electionId);
+                return null;
+            });
+            tally[n + PARTITIONS_SLOT] = 1;
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package vote.ServiceImpl;
+
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.Election;
+import vote.Entity.TurnoutBucket;
+import vote.Enum.ElectionStatus;
+import vote.Enum.TurnoutInterval;
+import vote.Event.VoteCastEvent;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.ElectionRepository;
+import vote.Repository.TurnoutBucketRepository;
+import vote.Repository.VoteRepository;
+import vote.Response.TurnoutBucketResponse;
+import vote.Service.TurnoutTrendService;
+import vote.Util.TimeBucketRing;
+
+/**
+ * Votes per minute and per hour for elections that can receive votes, kept
+ * in {@link TimeBucketRing}s fed by committed {@link VoteCastEvent}s, so
+ * turnout charts never scan {@code votes}. The minute ring holds the last
+ * 24 hours and the hour ring a whole election.
+ *
+ * Like the live tally, elections are loaded from {@code votes} on startup
+ * and when activated. On completion the non-empty buckets are written to
+ * {@code turnout_buckets}, which answers charts of untracked elections.
+ */
+@Service
+public class TurnoutTrendServiceImpl implements TurnoutTrendService, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TurnoutTrendServiceImpl.class);
+
+    private static final int MINUTE_BUCKETS = 24 * 60;
+    // Elections run at most 30 days
+    private static final int HOUR_BUCKETS = 31 * 24;
+
+    private static final Set<ElectionStatus> LIVE_STATUSES = EnumSet.of(ElectionStatus.ACTIVE, ElectionStatus.PAUSED);
+
+    private final VoteRepository voteRepository;
+    private final ElectionRepository electionRepository;
+    private final TurnoutBucketRepository turnoutBucketRepository;
+    private final TransactionTemplate readOnlyTemplate;
+
+    private final Map<Long, ElectionTurnout> elections = new ConcurrentHashMap<>();
+
+    public TurnoutTrendServiceImpl(VoteRepository voteRepository,
+                                   ElectionRepository electionRepository,
+                                   TurnoutBucketRepository turnoutBucketRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.voteRepository = voteRepository;
+        this.electionRepository = electionRepository;
+        this.turnoutBucketRepository = turnoutBucketRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Long electionId : electionRepository.findIdsByStatusIn(LIVE_STATUSES)) {
+            trackElection(electionId);
+        }
+        logger.info("Loaded turnout series for {} live elections", elections.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVoteCast(VoteCastEvent event) {
+        ElectionTurnout turnout = elections.get(event.getElectionId());
+        if (turnout == null) {
+            ElectionStatus status = electionRepository.findStatusById(event.getElectionId()).orElse(null);
+            if (!LIVE_STATUSES.contains(status)) {
+                // A late vote for an election completed since it was validated: its buckets are already
+                // persisted, and a completed election is never tracked again
+                logger.warn("Vote {} committed for election {} after it became {}; not tracked",
+                        event.getVoteId(), event.getElectionId(), status);
+                return;
+            }
+            // Should not happen for a live election; load it so the series self-heals
+            logger.warn("Vote for untracked election {}, loading turnout from votes", event.getElectionId());
+            trackElection(event.getElectionId());
+            return;
+        }
+        turnout.record(event.getCastAt());
+    }
+
+    @Override
+    public void trackElection(Long electionId) {
+        elections.computeIfAbsent(electionId, id -> readOnlyTemplate.execute(status -> load(id)));
+    }
+
+    @Override
+    @Transactional
+    public void releaseElection(Long electionId) {
+        ElectionTurnout turnout = elections.get(electionId);
+        if (turnout == null) {
+            return;
+        }
+        turnoutBucketRepository.deleteByElectionId(electionId);
+        List<TurnoutBucket> buckets = new ArrayList<>();
+        turnout.collect(electionId, TurnoutInterval.MINUTE, turnout.minutes, buckets);
+        turnout.collect(electionId, TurnoutInterval.HOUR, turnout.hours, buckets);
+        turnoutBucketRepository.saveAll(buckets);
+        elections.remove(electionId);
+        logger.info("Released turnout series for election {} ({} buckets persisted)", electionId, buckets.size());
+    }
+
+    @Override
+    public boolean isTracked(Long electionId) {
+        return elections.containsKey(electionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TurnoutBucketResponse> getVoterTurnoutTrend(Long electionId, String interval) {
+        TurnoutInterval turnoutInterval;
+        try {
+            turnoutInterval = TurnoutInterval.valueOf(interval.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Invalid turnout interval: " + interval);
+        }
+
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", electionId));
+        ElectionTurnout turnout = elections.get(electionId);
+        if (turnout != null) {
+            TimeBucketRing ring = turnoutInterval == TurnoutInterval.MINUTE ? turnout.minutes : turnout.hours;
+            return series(election.getStartTime(), election.getEndTime(), turnoutInterval, ring.getCapacity(),
+                    ring::get, turnout.total.sum());
+        }
+
+        // Not live: answer from the buckets persisted on completion, if any
+        Map<Long, Long> votes = new HashMap<>();
+        long total = 0;
+        for (TurnoutBucket bucket : turnoutBucketRepository.findByElectionId(electionId)) {
+            if (bucket.getInterval() == TurnoutInterval.HOUR) {
+                total += bucket.getVotes();
+            }
+            if (bucket.getInterval() == turnoutInterval) {
+                votes.put(bucketOf(bucket.getBucketStart(), turnoutInterval), bucket.getVotes());
+            }
+        }
+        int capacity = turnoutInterval == TurnoutInterval.MINUTE ? MINUTE_BUCKETS : HOUR_BUCKETS;
+        return series(election.getStartTime(), election.getEndTime(), turnoutInterval, capacity,
+                bucket -> votes.getOrDefault(bucket, 0L), total);
+    }
+
+    // Private helper methods
+    private ElectionTurnout load(Long electionId) {
+        ElectionTurnout turnout = new ElectionTurnout();
+        try (Stream<LocalDateTime> castTimes = voteRepository.streamCastTimesByElectionId(electionId)) {
+            castTimes.forEach(turnout::record);
+        }
+        logger.info("Tracking turnout for election {} ({} votes)", electionId, turnout.total.sum());
+        return turnout;
+    }
+
+    // One bucket per interval from the election's start up to now or its end, whichever is first, limited
+    // to the buckets kept; running totals end at the election total
+    private List<TurnoutBucketResponse> series(LocalDateTime startTime, LocalDateTime endTime,
+                                               TurnoutInterval interval, int capacity,
+                                               LongUnaryOperator votesAt, long total) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime last = now.isBefore(endTime) ? now : endTime;
+        if (last.isBefore(startTime)) {
+            return List.of();
+        }
+
+        long to = bucketOf(last, interval);
+        long from = Math.max(bucketOf(startTime, interval), to - capacity + 1);
+        long[] votes = new long[(int) (to - from + 1)];
+        long inRange = 0;
+        for (int i = 0; i < votes.length; i++) {
+            votes[i] = votesAt.applyAsLong(from + i);
+            inRange += votes[i];
+        }
+
+        List<TurnoutBucketResponse> buckets = new ArrayList<>(votes.length);
+        long cumulative = Math.max(0, total - inRange);
+        for (int i = 0; i < votes.length; i++) {
+            cumulative += votes[i];
+            buckets.add(TurnoutBucketResponse.builder()
+                    .bucketStart(startOf(from + i, interval))
+                    .votes(votes[i])
+                    .cumulativeVotes(cumulative)
+                    .build());
+        }
+        return buckets;
+    }
+
+    private static long bucketOf(LocalDateTime time, TurnoutInterval interval) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60L * interval.getMinutes());
+    }
+
+    private static LocalDateTime startOf(long bucket, TurnoutInterval interval) {
+        return LocalDateTime.ofEpochSecond(bucket * 60L * interval.getMinutes(), 0, ZoneOffset.UTC);
+    }
+
+    // Per-minute and per-hour vote counts of one election
+    private static final class ElectionTurnout {
+
+        private final TimeBucketRing minutes = new TimeBucketRing(MINUTE_BUCKETS);
+        private final TimeBucketRing hours = new TimeBucketRing(HOUR_BUCKETS);
+        private final LongAdder total = new LongAdder();
+
+        private void record(LocalDateTime castAt) {
+            minutes.add(bucketOf(castAt, TurnoutInterval.MINUTE), 1);
+            hours.add(bucketOf(castAt, TurnoutInterval.HOUR), 1);
+            total.increment();
+        }
+
+        private void collect(Long electionId, TurnoutInterval interval, TimeBucketRing ring,
+                             List<TurnoutBucket> buckets) {
+            long newest = ring.getNewestBucket();
+            if (newest == Long.MIN_VALUE) {
+                return;
+            }
+            for (long bucket = newest - ring.getCapacity() + 1; bucket <= newest; bucket++) {
+                long votes = ring.get(bucket);
+                if (votes > 0) {
+                    buckets.add(new TurnoutBucket(electionId, interval, startOf(bucket, interval), votes));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package vote.ServiceImpl;
+
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import vote.Enum.AnomalyAction;
+import vote.Enum.ElectionStatus;
+import vote.Event.ElectionCompletedEvent;
+import vote.Event.VoteCastEvent;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.ElectionRepository;
+import vote.Response.SuspiciousIpResponse;
+import vote.Service.VoteAnomalyService;
+import vote.Util.CountMinSketch;
+
+/**
+ * Spots IP addresses casting an unusual number of an election's votes
+ * while the election runs, replacing a GROUP BY over {@code votes}. Each
+ * election keeps a {@link CountMinSketch} of votes per IP, fed by
+ * committed {@link VoteCastEvent}s, and the top-K IPs by estimate. Memory
+ * per election is fixed however many addresses vote.
+ *
+ * IPs in the top K with at least {@code voting.anomaly.ip-threshold} votes
+ * are hot. Depending on {@code voting.anomaly.action}, further votes from
+ * a hot IP are only reported, flagged, or capped per minute.
+ *
+ * Detectors are created when an election is activated, or on its first
+ * vote after a restart, and dropped once its completion has committed.
+ */
+@Service
+public class VoteAnomalyServiceImpl implements VoteAnomalyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteAnomalyServiceImpl.class);
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int MAX_USER_AGENTS = 16;
+
+    private static final Set<ElectionStatus> LIVE_STATUSES = EnumSet.of(ElectionStatus.ACTIVE, ElectionStatus.PAUSED);
+
+    private final ElectionRepository electionRepository;
+    private final AnomalyAction action;
+    private final long ipThreshold;
+    private final int topK;
+    private final int throttlePerMinute;
+
+    private final Map<Long, ElectionDetector> elections = new ConcurrentHashMap<>();
+
+    public VoteAnomalyServiceImpl(ElectionRepository electionRepository,
+                                  @Value("${voting.anomaly.action:flag}") AnomalyAction action,
+                                  @Value("${voting.anomaly.ip-threshold:25}") long ipThreshold,
+                                  @Value("${voting.anomaly.top-k:32}") int topK,
+                                  @Value("${voting.anomaly.throttle-per-minute:5}") int throttlePerMinute) {
+        this.electionRepository = electionRepository;
+        this.action = action;
+        this.ipThreshold = ipThreshold;
+        this.topK = topK;
+        this.throttlePerMinute = throttlePerMinute;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVoteCast(VoteCastEvent event) {
+        if (event.getIpAddress() == null) {
+            return;
+        }
+        ElectionDetector detector = elections.get(event.getElectionId());
+        if (detector == null) {
+            ElectionStatus status = electionRepository.findStatusById(event.getElectionId()).orElse(null);
+            if (!LIVE_STATUSES.contains(status)) {
+                // A late vote for an election completed since it was validated; its detector is gone for good
+                return;
+            }
+            // Live but untracked, e.g. after a restart: the sketch starts from this vote
+            detector = elections.computeIfAbsent(event.getElectionId(), ElectionDetector::new);
+        }
+        detector.record(event.getIpAddress(), event.getUserAgent(), event.getCastAt());
+    }
+
+    // Released only once the completed status is committed, so a vote still in flight cannot bring it back
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onElectionCompleted(ElectionCompletedEvent event) {
+        releaseElection(event.getElectionId());
+    }
+
+    @Override
+    public void trackElection(Long electionId) {
+        elections.computeIfAbsent(electionId, ElectionDetector::new);
+    }
+
+    @Override
+    public void checkVote(Long electionId, String ipAddress) {
+        if (action == AnomalyAction.NONE || ipAddress == null) {
+            return;
+        }
+        ElectionDetector detector = elections.get(electionId);
+        if (detector != null) {
+            detector.admit(ipAddress);
+        }
+    }
+
+    @Override
+    public List<SuspiciousIpResponse> getSuspiciousIps(Long electionId) {
+        ElectionDetector detector = elections.get(electionId);
+        if (detector == null) {
+            if (!electionRepository.existsById(electionId)) {
+                throw new ResourceNotFoundException("Election", "id", electionId);
+            }
+            return List.of();
+        }
+        return detector.suspicious();
+    }
+
+    @Override
+    public void releaseElection(Long electionId) {
+        ElectionDetector detector = elections.remove(electionId);
+        if (detector != null) {
+            logger.info("Released anomaly detector for election {} ({} hot IPs)", electionId,
+                    detector.suspicious().size());
+        }
+    }
+
+    @Override
+    public boolean isTracked(Long electionId) {
+        return elections.containsKey(electionId);
+    }
+
+    // Sketch, top-K and throttle state of one election; the top-K map is guarded by the detector's monitor
+    private final class ElectionDetector {
+
+        private final Long electionId;
+        private final CountMinSketch ips = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        private final LongAdder total = new LongAdder();
+        private final Map<String, HotIp> top = new HashMap<>();
+        // Smallest estimate in a full top-K; anything at or below it cannot get in, so skips the lock
+        private volatile long floor;
+
+        private ElectionDetector(Long electionId) {
+            this.electionId = electionId;
+        }
+
+        private void record(String ipAddress, String userAgent, LocalDateTime castAt) {
+            total.increment();
+            long estimate = ips.add(ipAddress);
+            if (estimate <= floor) {
+                return;
+            }
+
+            synchronized (this) {
+                HotIp hot = top.get(ipAddress);
+                if (hot == null) {
+                    if (top.size() >= topK && !evictBelow(estimate)) {
+                        return;
+                    }
+                    hot = new HotIp(ipAddress, castAt);
+                    top.put(ipAddress, hot);
+                }
+                hot.seen(userAgent, castAt);
+                if (!hot.reported && estimate >= ipThreshold) {
+                    hot.reported = true;
+                    logger.warn("IP {} has cast about {} votes in election {}", ipAddress, estimate, electionId);
+                }
+                if (top.size() >= topK) {
+                    floor = minEstimate();
+                }
+            }
+        }
+
+        private void admit(String ipAddress) {
+            if (ips.estimate(ipAddress) < ipThreshold) {
+                return;
+            }
+
+            synchronized (this) {
+                HotIp hot = top.get(ipAddress);
+                if (hot == null) {
+                    return;
+                }
+                if (action == AnomalyAction.FLAG) {
+                    hot.flaggedVotes++;
+                    return;
+                }
+
+                long minute = Math.floorDiv(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC), 60);
+                if (hot.windowMinute != minute) {
+                    hot.windowMinute = minute;
+                    hot.windowVotes = 0;
+                }
+                if (hot.windowVotes >= throttlePerMinute) {
+                    hot.throttledVotes++;
+                    throw new BusinessRuleException("Too many votes from this network address; try again shortly");
+                }
+                hot.windowVotes++;
+            }
+        }
+
+        private synchronized List<SuspiciousIpResponse> suspicious() {
+            long votes = total.sum();
+            List<SuspiciousIpResponse> suspicious = new ArrayList<>();
+            for (HotIp hot : top.values()) {
+                long estimate = ips.estimate(hot.ipAddress);
+                if (estimate < ipThreshold) {
+                    continue;
+                }
+                suspicious.add(SuspiciousIpResponse.builder()
+                        .ipAddress(hot.ipAddress)
+                        .estimatedVotes(estimate)
+                        .sharePercentage(votes > 0 ? (double) Math.min(estimate, votes) / votes * 100 : 0)
+                        .distinctUserAgents(hot.userAgents.size())
+                        .firstSeenAt(hot.firstSeenAt)
+                        .lastSeenAt(hot.lastSeenAt)
+                        .flaggedVotes(hot.flaggedVotes)
+                        .throttledVotes(hot.throttledVotes)
+                        .build());
+            }
+            suspicious.sort(Comparator.comparingLong(SuspiciousIpResponse::getEstimatedVotes).reversed());
+            return suspicious;
+        }
+
+        // Drops the entry with the smallest estimate if it is below the newcomer's
+        private boolean evictBelow(long estimate) {
+            String smallest = null;
+            long smallestEstimate = Long.MAX_VALUE;
+            for (String ipAddress : top.keySet()) {
+                long current = ips.estimate(ipAddress);
+                if (current < smallestEstimate) {
+                    smallest = ipAddress;
+                    smallestEstimate = current;
+                }
+            }
+            if (smallest == null || smallestEstimate >= estimate) {
+                floor = smallestEstimate;
+                return false;
+            }
+            top.remove(smallest);
+            return true;
+        }
+
+        private long minEstimate() {
+            long smallest = Long.MAX_VALUE;
+            for (String ipAddress : top.keySet()) {
+                smallest = Math.min(smallest, ips.estimate(ipAddress));
+            }
+            return smallest;
+        }
+    }
+
+    private static final class HotIp {
+
+        private final String ipAddress;
+        private final Set<String> userAgents = new HashSet<>();
+        private final LocalDateTime firstSeenAt;
+        private LocalDateTime lastSeenAt;
+        private boolean reported;
+        private long flaggedVotes;
+        private long throttledVotes;
+        private long windowMinute;
+        private int windowVotes;
+
+        private HotIp(String ipAddress, LocalDateTime firstSeenAt) {
+            this.ipAddress = ipAddress;
+            this.firstSeenAt = firstSeenAt;
+            this.lastSeenAt = firstSeenAt;
+        }
+
+        private void seen(String userAgent, LocalDateTime castAt) {
+            // A few distinct agents behind one address is a shared network; one agent is more likely a script
+            if (userAgent != null && userAgents.size() < MAX_USER_AGENTS) {
+                userAgents.add(userAgent);
+            }
+            if (castAt.isAfter(lastSeenAt)) {
+                lastSeenAt = castAt;
+            }
+        }
+    }
+}
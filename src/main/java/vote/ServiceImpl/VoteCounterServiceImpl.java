@@ -0,0 +1,174 @@
+package vote.ServiceImpl;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.Candidate;
+import vote.Entity.VoteCounter;
+import vote.Enum.CounterScope;
+import vote.Repository.CandidateRepository;
+import vote.Repository.VoteCounterRepository;
+import vote.Repository.VoteRepository;
+import vote.Service.VoteCounterService;
+
+/**
+ * Striped vote counters. Each increment hits one randomly chosen stripe row
+ * with an in-place {@code UPDATE ... SET tally = tally + 1}, so concurrent
+ * votes for the same candidate (or election) spread their row locks over
+ * {@code stripes} rows instead of queueing on the candidate or election row.
+ * Reads sum the stripes.
+ */
+@Service
+@Transactional
+public class VoteCounterServiceImpl implements VoteCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteCounterServiceImpl.class);
+
+    private final VoteCounterRepository voteCounterRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoteRepository voteRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final int stripes;
+
+    public VoteCounterServiceImpl(VoteCounterRepository voteCounterRepository,
+                                CandidateRepository candidateRepository,
+                                VoteRepository voteRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${voting.counters.stripes:16}") int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("voting.counters.stripes must be at least 1");
+        }
+        this.voteCounterRepository = voteCounterRepository;
+        this.candidateRepository = candidateRepository;
+        this.voteRepository = voteRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = stripes;
+    }
+
+    @Override
+    public void registerCandidate(Long electionId, Long candidateId) {
+        createStripes(CounterScope.CANDIDATE, candidateId, electionId, 0, List.of());
+    }
+
+    @Override
+    public void incrementCandidateVotes(Long electionId, Long candidateId) {
+        incrementCandidateVotes(electionId, candidateId, 1);
+    }
+
+    @Override
+    public void incrementCandidateVotes(Long electionId, Long candidateId, long delta) {
+        // Carry over whatever was counted on the candidate row before striping
+        increment(CounterScope.CANDIDATE, candidateId, electionId, delta,
+                () -> candidateRepository.findById(candidateId).map(Candidate::getVoteCount).orElse(0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getCandidateVoteCount(Long candidateId) {
+        return voteCounterRepository.sumByScopeAndOwnerId(CounterScope.CANDIDATE, candidateId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCandidateVoteCounts(Long electionId) {
+        return toCountMap(voteCounterRepository.sumByElectionGroupedByOwner(CounterScope.CANDIDATE, electionId));
+    }
+
+    @Override
+    public void registerElection(Long electionId) {
+        createStripes(CounterScope.ELECTION, electionId, electionId, 0, List.of());
+    }
+
+    @Override
+    public void incrementParticipation(Long electionId) {
+        incrementParticipation(electionId, 1);
+    }
+
+    @Override
+    public void incrementParticipation(Long electionId, long delta) {
+        // Elections that predate the counter table start from their existing voters
+        increment(CounterScope.ELECTION, electionId, electionId, delta,
+                () -> voteRepository.countUniqueVoters(electionId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getParticipationCount(Long electionId) {
+        return getParticipationCounts(List.of(electionId)).getOrDefault(electionId, 0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getParticipationCounts(Collection<Long> electionIds) {
+        if (electionIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<Long, Long> counts = toCountMap(voteCounterRepository.sumByOwnerIds(CounterScope.ELECTION, electionIds));
+        for (Long electionId : electionIds) {
+            // No stripes yet: election predates the counter table and nobody has voted since
+            counts.computeIfAbsent(electionId, voteRepository::countUniqueVoters);
+        }
+        return counts;
+    }
+
+    // Private helper methods
+    private void increment(CounterScope scope, Long ownerId, Long electionId, long delta, LongSupplier seed) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+
+        if (voteCounterRepository.increment(scope, ownerId, stripe, delta) == 0) {
+            // Owner predates the counter table (or was created with fewer stripes)
+            ensureStripes(scope, ownerId, electionId, seed);
+            if (voteCounterRepository.increment(scope, ownerId, stripe, delta) == 0) {
+                throw new IllegalStateException("Missing " + scope + " counter stripe " + stripe + " for " + ownerId);
+            }
+        }
+    }
+
+    private void ensureStripes(CounterScope scope, Long ownerId, Long electionId, LongSupplier seed) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> {
+                List<Integer> existing = voteCounterRepository.findStripes(scope, ownerId);
+                createStripes(scope, ownerId, electionId, existing.isEmpty() ? seed.getAsLong() : 0, existing);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another transaction created the stripes first
+            logger.debug("Counter stripes for {} {} created concurrently", scope, ownerId);
+        }
+    }
+
+    private void createStripes(CounterScope scope, Long ownerId, Long electionId, long seed, List<Integer> existing) {
+        List<VoteCounter> rows = new ArrayList<>(stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (!existing.contains(stripe)) {
+                rows.add(new VoteCounter(scope, ownerId, electionId, stripe, stripe == 0 ? seed : 0));
+            }
+        }
+        voteCounterRepository.saveAll(rows);
+        voteCounterRepository.flush();
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
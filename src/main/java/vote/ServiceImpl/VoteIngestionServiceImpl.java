@@ -0,0 +1,396 @@
+package vote.ServiceImpl;
+
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import vote.Entity.Election;
+import vote.Entity.Vote;
+import vote.Enum.IngestionMode;
+import vote.Event.VoteCastEvent;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ServiceUnavailableException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.VoteRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.VoteResponse;
+import vote.Service.ParticipationService;
+import vote.Service.PendingVote;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteIngestionService;
+import vote.Service.VoteService;
+import vote.Util.VoteConstraints;
+
+/**
+ * Front door for cast votes. In {@code DIRECT} mode every vote is its own
+ * transaction via {@link VoteService#castVote}. In {@code BATCHED} mode the
+ * ballot is validated on the request thread and queued; a single writer
+ * thread drains up to {@code batch-size} ballots (waiting at most
+ * {@code linger-ms} for a batch to fill) and writes them in one transaction:
+ * one batched insert into {@code votes}, one JDBC batch marking the voters,
+ * and one counter update per candidate and election touched. Each
+ * election's status and voting window are read again in that transaction,
+ * and repeat voters are turned away from the participation bitmaps, before
+ * the insert.
+ * Callers get their receipt only after that transaction commits.
+ * {@link #submitVote} also runs a caller's hook inside the vote's
+ * transaction, in either mode.
+ */
+@Service
+public class VoteIngestionServiceImpl implements VoteIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteIngestionServiceImpl.class);
+
+    private static final String MARK_VOTED_SQL =
+            "UPDATE voter_registry SET used = TRUE, voted_at = :votedAt, updated_at = :now, " +
+            "version = COALESCE(version, 0) + 1 WHERE id = :voterRegistryId";
+
+    private final VoteService voteService;
+    private final VoteCounterService voteCounterService;
+    private final ParticipationService participationService;
+    private final VoteRepository voteRepository;
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoterRegistryRepository voterRegistryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IngestionMode mode;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long receiptTimeoutMs;
+    private final BlockingQueue<QueuedVote> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public VoteIngestionServiceImpl(VoteService voteService,
+                                  VoteCounterService voteCounterService,
+                                  ParticipationService participationService,
+                                  VoteRepository voteRepository,
+                                  ElectionRepository electionRepository,
+                                  CandidateRepository candidateRepository,
+                                  VoterRegistryRepository voterRegistryRepository,
+                                  NamedParameterJdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${voting.ingestion.mode:direct}") IngestionMode mode,
+                                  @Value("${voting.ingestion.batch-size:200}") int batchSize,
+                                  @Value("${voting.ingestion.linger-ms:5}") long lingerMs,
+                                  @Value("${voting.ingestion.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${voting.ingestion.receipt-timeout-ms:10000}") long receiptTimeoutMs) {
+        if (batchSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("voting.ingestion.batch-size and queue-capacity must be at least 1");
+        }
+        this.voteService = voteService;
+        this.voteCounterService = voteCounterService;
+        this.participationService = participationService;
+        this.voteRepository = voteRepository;
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.voterRegistryRepository = voterRegistryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.receiptTimeoutMs = receiptTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (mode != IngestionMode.BATCHED) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("vote-writer").daemon(true).start(this::drainLoop);
+        logger.info("Batched vote ingestion started (batch size {}, linger {} ms)",
+                batchSize, TimeUnit.NANOSECONDS.toMillis(lingerNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // Let the writer finish what is already queued
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    @Override
+    public VoteResponse castVote(VoteRequest request, String ipAddress, String userAgent) {
+        if (mode != IngestionMode.BATCHED) {
+            return voteService.castVote(request, ipAddress, userAgent);
+        }
+
+        CompletableFuture<VoteResponse> receipt = submitVote(request, ipAddress, userAgent, response -> { });
+        try {
+            return receipt.get(receiptTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Vote write failed", e.getCause());
+        } catch (TimeoutException e) {
+            // The ballot stays queued; a retry is rejected by the duplicate check if it lands
+            throw new ServiceUnavailableException("Vote is still being recorded, check your vote status before retrying", 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Vote submission was interrupted", 1);
+        }
+    }
+
+    @Override
+    public CompletableFuture<VoteResponse> submitVote(VoteRequest request, String ipAddress, String userAgent,
+                                                      Consumer<VoteResponse> inTransaction) {
+        if (mode != IngestionMode.BATCHED) {
+            // castVote joins this transaction, so the hook commits or rolls back with the vote
+            return CompletableFuture.completedFuture(transactionTemplate.execute(status -> {
+                VoteResponse response = voteService.castVote(request, ipAddress, userAgent);
+                inTransaction.accept(response);
+                return response;
+            }));
+        }
+
+        QueuedVote queued = new QueuedVote(voteService.prepareVote(request, ipAddress, userAgent), inTransaction);
+        if (!running || !queue.offer(queued)) {
+            throw new ServiceUnavailableException("Vote ingestion is at capacity, please retry", 1);
+        }
+        return queued.receipt;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // Private helper methods
+    private void drainLoop() {
+        List<QueuedVote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedVote first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Linger briefly so concurrent voters share the commit
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    QueuedVote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                logger.error("Vote writer failed on a batch of {}", batch.size(), e);
+                batch.forEach(queued -> queued.receipt.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        queue.forEach(queued -> queued.receipt.completeExceptionally(
+                new ServiceUnavailableException("Vote ingestion stopped, please retry", 5)));
+    }
+
+    private void writeBatch(List<QueuedVote> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistBatch(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).receipt.completeExceptionally(translate(e));
+                return;
+            }
+            // One bad ballot must not sink the rest: retry each on its own
+            logger.warn("Batch of {} votes rolled back ({}), retrying individually", batch.size(), e.getMessage());
+            for (QueuedVote queued : batch) {
+                writeBatch(List.of(queued));
+            }
+            return;
+        }
+
+        for (QueuedVote queued : batch) {
+            if (queued.rejection != null) {
+                queued.receipt.completeExceptionally(queued.rejection);
+            } else {
+                queued.receipt.complete(queued.response);
+            }
+        }
+    }
+
+    private void persistBatch(List<QueuedVote> batch) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Ballots were validated before they queued; an election paused, completed or past its end
+        // time since then takes no more of them
+        Map<Long, Boolean> open = new HashMap<>();
+        for (QueuedVote queued : batch) {
+            open.computeIfAbsent(queued.vote.getElectionId(),
+                    id -> electionRepository.findById(id).map(Election::isOngoing).orElse(false));
+        }
+
+        // Turn away voters the participation bitmap already has, and repeats within the batch;
+        // anything that slips past both still hits the unique key on votes
+        Set<VoterKey> seen = new HashSet<>();
+        List<QueuedVote> accepted = new ArrayList<>(batch.size());
+        for (QueuedVote queued : batch) {
+            PendingVote vote = queued.vote;
+            queued.response = null;
+            queued.rejection = null;
+            if (!open.get(vote.getElectionId())) {
+                queued.rejection = new BusinessRuleException("Election is not active or has ended");
+            } else if (participationService.hasVoted(vote.getElectionId(), vote.getVoterRegistryId())
+                    || !seen.add(new VoterKey(vote.getElectionId(), vote.getVoterRegistryId()))) {
+                queued.rejection = new BusinessRuleException("Voter has already cast a vote in this election");
+            } else {
+                accepted.add(queued);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // Sequence ids let Hibernate send these as one JDBC batch
+        List<Vote> votes = new ArrayList<>(accepted.size());
+        for (QueuedVote queued : accepted) {
+            PendingVote pending = queued.vote;
+            Vote vote = new Vote(electionRepository.getReferenceById(pending.getElectionId()),
+                    candidateRepository.getReferenceById(pending.getCandidateId()),
+                    voterRegistryRepository.getReferenceById(pending.getVoterRegistryId()));
+            vote.setCastAt(pending.getCastAt());
+            vote.setIpAddress(pending.getIpAddress());
+            vote.setUserAgent(pending.getUserAgent());
+            vote.setAnonymous(pending.isAnonymous());
+            vote.setWriteInCandidateName(pending.getWriteInCandidateName());
+            vote.setVerificationMethod(pending.getVerificationMethod());
+            vote.setWeight(pending.getWeight());
+            votes.add(vote);
+        }
+        voteRepository.saveAll(votes);
+        voteRepository.flush();
+
+        SqlParameterSource[] voters = new SqlParameterSource[accepted.size()];
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingVote vote = accepted.get(i).vote;
+            voters[i] = new MapSqlParameterSource()
+                    .addValue("voterRegistryId", vote.getVoterRegistryId())
+                    .addValue("votedAt", vote.getCastAt())
+                    .addValue("now", now);
+        }
+        jdbcTemplate.batchUpdate(MARK_VOTED_SQL, voters);
+
+        // One counter update per candidate and election instead of one per vote
+        Map<Long, Map<Long, Long>> candidateDeltas = new HashMap<>();
+        for (QueuedVote queued : accepted) {
+            candidateDeltas.computeIfAbsent(queued.vote.getElectionId(), id -> new HashMap<>())
+                    .merge(queued.vote.getCandidateId(), 1L, Long::sum);
+        }
+        candidateDeltas.forEach((electionId, deltas) -> {
+            long participants = 0;
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                voteCounterService.incrementCandidateVotes(electionId, delta.getKey(), delta.getValue());
+                participants += delta.getValue();
+            }
+            voteCounterService.incrementParticipation(electionId, participants);
+        });
+
+        for (int i = 0; i < accepted.size(); i++) {
+            QueuedVote queued = accepted.get(i);
+            PendingVote pending = queued.vote;
+            Vote vote = votes.get(i);
+
+            eventPublisher.publishEvent(new VoteCastEvent(vote.getId(), pending.getElectionId(), pending.getCandidateId(),
+                    pending.getVoterRegistryId(), pending.getCastAt(), pending.getIpAddress(), pending.getUserAgent(),
+                    pending.getWeight()));
+            queued.response = mapToResponse(vote, pending);
+            queued.inTransaction.accept(queued.response);
+        }
+
+        logger.debug("Wrote batch of {} votes ({} rejected)", accepted.size(), batch.size() - accepted.size());
+    }
+
+    private RuntimeException translate(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException violation && VoteConstraints.isDuplicateBallot(violation)) {
+            return new BusinessRuleException("Voter has already cast a vote in this election");
+        }
+        return e;
+    }
+
+    private VoteResponse mapToResponse(Vote saved, PendingVote vote) {
+        return VoteResponse.builder()
+                .id(saved.getId())
+                .electionId(vote.getElectionId())
+                .electionTitle(vote.getElectionTitle())
+                .candidateId(vote.getCandidateId())
+                .candidateName(vote.getCandidateName())
+                .voterRegistryId(vote.getVoterRegistryId())
+                .voterIdentifier(vote.getVoterIdentifier())
+                .castAt(vote.getCastAt())
+                .ipAddress(vote.getIpAddress())
+                .anonymous(vote.isAnonymous())
+                .writeInCandidateName(vote.getWriteInCandidateName())
+                .verificationMethod(vote.getVerificationMethod())
+                .createdAt(saved.getCreatedAt())
+                .updatedAt(saved.getUpdatedAt())
+                .build();
+    }
+
+    private static final class QueuedVote {
+        private final PendingVote vote;
+        private final Consumer<VoteResponse> inTransaction;
+        private final CompletableFuture<VoteResponse> receipt = new CompletableFuture<>();
+        private VoteResponse response;
+        private RuntimeException rejection;
+
+        private QueuedVote(PendingVote vote, Consumer<VoteResponse> inTransaction) {
+            this.vote = vote;
+            this.inTransaction = inTransaction;
+        }
+    }
+
+    private record VoterKey(Long electionId, Long voterRegistryId) {
+    }
+}
@@ -1,29 +1,64 @@
 package vote.ServiceImpl;
 
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
 import vote.Entity.Candidate;
-import vote.Entity.Election;
-import vote.Entity.IdentityPolicy;
 import vote.Entity.Vote;
 import vote.Entity.VoterRegistry;
+import vote.Enum.ExportFormat;
+import vote.Event.VoteCastEvent;
 import vote.Exception.BusinessRuleException;
 import vote.Exception.ResourceNotFoundException;
 import vote.Repository.CandidateRepository;
 import vote.Repository.ElectionRepository;
-import vote.Repository.IdentityPolicyRepository;
 import vote.Repository.VoteRepository;
 import vote.Repository.VoterRegistryRepository;
+import vote.Request.BallotRequest;
+import vote.Request.BallotSelectionRequest;
 import vote.Request.VoteRequest;
+import vote.Response.BallotResponse;
+import vote.Response.CursorPage;
 import vote.Response.VoteResponse;
+import vote.Service.BallotSnapshot;
+import vote.Service.BallotSnapshotService;
+import vote.Service.LiveTallyService;
+import vote.Service.ParticipationService;
+import vote.Service.PendingVote;
+import vote.Service.VoteAnomalyService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteExportRow;
+import vote.Service.VoteRow;
 import vote.Service.VoteService;
+import vote.Util.CursorPagination;
+import vote.Util.VoteConstraints;
+import vote.Util.VoteWeight;
 
 @Service
 @Transactional
@@ -31,157 +66,220 @@ public class VoteServiceImpl implements VoteService {
 
     private static final Logger logger = LoggerFactory.getLogger(VoteServiceImpl.class);
 
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final String[] EXPORT_HEADERS = {"vote_id", "candidate_id", "candidate_name", "position",
+            "voter_registry_id", "voter_identifier", "cast_at", "anonymous", "write_in_candidate_name",
+            "verification_method"};
+
     private final VoteRepository voteRepository;
     private final ElectionRepository electionRepository;
     private final CandidateRepository candidateRepository;
     private final VoterRegistryRepository voterRegistryRepository;
-    private final IdentityPolicyRepository identityPolicyRepository;
+    private final BallotSnapshotService ballotSnapshotService;
+    private final ParticipationService participationService;
+    private final VoteCounterService voteCounterService;
+    private final LiveTallyService liveTallyService;
+    private final VoteAnomalyService voteAnomalyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public VoteServiceImpl(VoteRepository voteRepository,
                          ElectionRepository electionRepository,
                          CandidateRepository candidateRepository,
                          VoterRegistryRepository voterRegistryRepository,
-                         IdentityPolicyRepository identityPolicyRepository) {
+                         BallotSnapshotService ballotSnapshotService,
+                         ParticipationService participationService,
+                         VoteCounterService voteCounterService,
+                         LiveTallyService liveTallyService,
+                         VoteAnomalyService voteAnomalyService,
+                         ApplicationEventPublisher eventPublisher) {
         this.voteRepository = voteRepository;
         this.electionRepository = electionRepository;
         this.candidateRepository = candidateRepository;
         this.voterRegistryRepository = voterRegistryRepository;
-        this.identityPolicyRepository = identityPolicyRepository;
+        this.ballotSnapshotService = ballotSnapshotService;
+        this.participationService = participationService;
+        this.voteCounterService = voteCounterService;
+        this.liveTallyService = liveTallyService;
+        this.voteAnomalyService = voteAnomalyService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public VoteResponse castVote(VoteRequest request, String ipAddress, String userAgent) {
         logger.info("Processing vote for election ID: {}", request.getElectionId());
 
-        // Validate election
-        Election election = electionRepository.findById(request.getElectionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Election", "id", request.getElectionId()));
+        PendingVote pending = validateBallot(request, ipAddress, userAgent);
 
-        // Check if election is active
-        if (!election.isActive() || !election.isOngoing()) {
-            throw new BusinessRuleException("Election is not active or has ended");
-        }
+        // Only the voter row was read; election and candidate stay unloaded references
+        VoterRegistry voter = voterRegistryRepository.getReferenceById(pending.getVoterRegistryId());
+        Vote savedVote = insertVotes(List.of(toVote(pending, voter, 0))).get(0);
+        markVoted(voter.getId(), pending.getCastAt());
 
-        // Validate candidate
-        Candidate candidate = candidateRepository.findById(request.getCandidateId())
-                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", request.getCandidateId()));
+        // Update candidate vote count (striped, so the candidate row is never rewritten)
+        voteCounterService.incrementCandidateVotes(pending.getElectionId(), pending.getCandidateId());
 
-        // Verify candidate belongs to election
-        if (!candidate.getElection().getId().equals(election.getId())) {
-            throw new BusinessRuleException("Candidate does not belong to this election");
-        }
+        // Update election participation (turnout is derived from it on read)
+        voteCounterService.incrementParticipation(pending.getElectionId());
 
-        // Verify candidate is active
-        if (!candidate.isActive()) {
-            throw new BusinessRuleException("Candidate is not active");
-        }
+        // Feed in-memory views once the transaction commits
+        eventPublisher.publishEvent(new VoteCastEvent(savedVote.getId(), pending.getElectionId(),
+                pending.getCandidateId(), voter.getId(), savedVote.getCastAt(), ipAddress, userAgent,
+                pending.getWeight()));
 
-        // Validate voter registry entry
-        VoterRegistry voter = voterRegistryRepository.findById(request.getVoterRegistryId())
-                .orElseThrow(() -> new ResourceNotFoundException("VoterRegistry", "id", request.getVoterRegistryId()));
+        logger.info("Vote cast successfully for election ID: {}", pending.getElectionId());
 
-        // Verify voter belongs to election organization
-        if (!voter.getOrganization().getId().equals(election.getOrganization().getId())) {
-            throw new BusinessRuleException("Voter does not belong to this election's organization");
-        }
+        return mapToResponse(savedVote, pending);
+    }
 
-        // Check if voter has already voted
-        if (voteRepository.existsByElectionIdAndVoterRegistryId(election.getId(), voter.getId())) {
-            throw new BusinessRuleException("Voter has already cast a vote in this election");
+    @Override
+    public BallotResponse castBallot(BallotRequest request, String ipAddress, String userAgent) {
+        logger.info("Processing ballot with {} selections for election ID: {}",
+                request.getSelections().size(), request.getElectionId());
+
+        BallotSnapshot ballot = ballotSnapshotService.getSnapshot(request.getElectionId());
+        checkOngoing(ballot);
+        voteAnomalyService.checkVote(ballot.getElectionId(), ipAddress);
+
+        // Resolve every selection against the snapshot and enforce per-position limits in one pass
+        List<BallotSelectionRequest> selections = request.getSelections();
+        int[] candidates = new int[selections.size()];
+        BitSet chosen = new BitSet(ballot.getCandidateCount());
+        Map<String, Integer> selectionsPerPosition = new HashMap<>();
+        for (int i = 0; i < selections.size(); i++) {
+            Long candidateId = selections.get(i).getCandidateId();
+            int candidate = ballot.indexOfCandidate(candidateId);
+            if (candidate < 0) {
+                throw rejectCandidate(candidateId, ballot.getElectionId());
+            }
+            if (chosen.get(candidate)) {
+                throw new BusinessRuleException("Candidate " + candidateId + " is selected more than once");
+            }
+            chosen.set(candidate);
+
+            String position = ballot.getPosition(candidate);
+            if (selectionsPerPosition.merge(position, 1, Integer::sum) > ballot.getMaxSelectionsPerPosition()) {
+                throw new BusinessRuleException("Too many selections for position " + position
+                        + " (maximum " + ballot.getMaxSelectionsPerPosition() + ")");
+            }
+            candidates[i] = candidate;
         }
 
-        // Check if voter is marked as used
-        if (voter.isUsed()) {
-            throw new BusinessRuleException("Voter has already voted in another election");
-        }
+        VoterRegistry voter = validateVoter(ballot, request.getVoterRegistryId());
 
-        // Check voter verification attempts
-        if (voter.getVerificationAttempts() >= 5) {
-            throw new BusinessRuleException("Voter has exceeded maximum verification attempts");
+        LocalDateTime castAt = LocalDateTime.now();
+        List<PendingVote> pending = new ArrayList<>(selections.size());
+        List<Vote> votes = new ArrayList<>(selections.size());
+        for (int i = 0; i < selections.size(); i++) {
+            PendingVote selection = pendingVote(ballot, candidates[i], voter, castAt, ipAddress, userAgent,
+                    request.isAnonymous(), selections.get(i).getWriteInCandidateName());
+            pending.add(selection);
+            votes.add(toVote(selection, voter, i));
         }
 
-        // Check identity policy requirements
-        IdentityPolicy policy = identityPolicyRepository.findByOrganizationIdAndActiveTrue(election.getOrganization().getId())
-                .orElseThrow(() -> new BusinessRuleException("No active identity policy found for organization"));
+        // All selections go in as one JDBC batch; any conflict rolls back the whole ballot
+        List<Vote> savedVotes = insertVotes(votes);
+        markVoted(voter.getId(), castAt);
 
-        if (policy.isLocked()) {
-            // For locked policies, require OTP verification
-            // This would be checked by the verification service before voting
-            logger.debug("Identity policy is locked, OTP verification required");
+        for (PendingVote selection : pending) {
+            voteCounterService.incrementCandidateVotes(selection.getElectionId(), selection.getCandidateId());
         }
 
-        // Create vote
-        Vote vote = new Vote();
-        vote.setElection(election);
-        vote.setCandidate(candidate);
-        vote.setVoterRegistry(voter);
-        vote.setIpAddress(ipAddress);
-        vote.setUserAgent(userAgent);
-        vote.setAnonymous(request.isAnonymous());
-        vote.setVerificationMethod("OTP"); // Default verification method
+        // One participant, however many selections
+        voteCounterService.incrementParticipation(ballot.getElectionId());
 
-        // Handle write-in candidates
-        if (candidate.isWriteIn() && request.getWriteInCandidateName() != null) {
-            vote.setWriteInCandidateName(request.getWriteInCandidateName());
+        List<VoteResponse> responses = new ArrayList<>(savedVotes.size());
+        for (int i = 0; i < savedVotes.size(); i++) {
+            Vote savedVote = savedVotes.get(i);
+            PendingVote selection = pending.get(i);
+            eventPublisher.publishEvent(new VoteCastEvent(savedVote.getId(), selection.getElectionId(),
+                    selection.getCandidateId(), voter.getId(), castAt, ipAddress, userAgent, selection.getWeight()));
+            responses.add(mapToResponse(savedVote, selection));
         }
 
-        Vote savedVote = voteRepository.save(vote);
+        logger.info("Ballot cast successfully for election ID: {}", ballot.getElectionId());
 
-        // Update candidate vote count
-        candidate.incrementVoteCount();
-        candidateRepository.save(candidate);
+        return BallotResponse.builder()
+                .electionId(ballot.getElectionId())
+                .electionTitle(ballot.getTitle())
+                .voterRegistryId(voter.getId())
+                .voterIdentifier(voter.getIdentifier())
+                .castAt(castAt)
+                .anonymous(request.isAnonymous())
+                .votes(responses)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PendingVote prepareVote(VoteRequest request, String ipAddress, String userAgent) {
+        logger.debug("Validating vote for election ID: {}", request.getElectionId());
 
-        // Mark voter as used
-        voter.markAsVoted();
-        voterRegistryRepository.save(voter);
+        return validateBallot(request, ipAddress, userAgent);
+    }
 
-        // Update election voter turnout
-        updateElectionTurnout(election);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<VoteResponse> getVotesByElection(Long electionId, String cursor, int limit) {
+        logger.debug("Getting votes for election ID: {}", electionId);
 
-        logger.info("Vote cast successfully for election ID: {}", election.getId());
+        List<VoteRow> votes = voteRepository.findPageByElectionId(electionId, CursorPagination.afterId(cursor),
+                Limit.of(CursorPagination.fetchSize(limit)));
 
-        return mapToResponse(savedVote);
+        // The election is only looked up to tell an empty page from a missing election
+        if (votes.isEmpty() && !electionRepository.existsById(electionId)) {
+            throw new ResourceNotFoundException("Election", "id", electionId);
+        }
+        return CursorPagination.page(votes, limit, VoteRow::getId, this::mapToResponse);
     }
 
     @Override
-    public List<VoteResponse> getVotesByElection(Long electionId) {
-        logger.debug("Getting votes for election ID: {}", electionId);
+    @Transactional(readOnly = true)
+    public long exportVotes(Long electionId, ExportFormat format, OutputStream out) {
+        logger.info("Exporting votes for election ID: {} as {}", electionId, format);
 
         if (!electionRepository.existsById(electionId)) {
             throw new ResourceNotFoundException("Election", "id", electionId);
         }
 
-        return voteRepository.findByElectionId(electionId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        // Rows are projections read through a cursor, so memory stays flat however many votes there are
+        try (Stream<VoteExportRow> rows = voteRepository.streamExportRowsByElectionId(electionId)) {
+            long exported = format == ExportFormat.CSV ? writeCsv(rows, out) : writeNdjson(rows, out);
+            logger.info("Exported {} votes for election ID: {}", exported, electionId);
+            return exported;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Vote export failed for election " + electionId, e);
+        }
     }
 
     @Override
-    public List<VoteResponse> getVotesByVoter(Long voterRegistryId) {
+    @Transactional(readOnly = true)
+    public CursorPage<VoteResponse> getVotesByVoter(Long voterRegistryId, String cursor, int limit) {
         logger.debug("Getting votes for voter registry ID: {}", voterRegistryId);
 
-        if (!voterRegistryRepository.existsById(voterRegistryId)) {
+        List<VoteRow> votes = voteRepository.findPageByVoterRegistryId(voterRegistryId,
+                CursorPagination.afterId(cursor), Limit.of(CursorPagination.fetchSize(limit)));
+
+        if (votes.isEmpty() && !voterRegistryRepository.existsById(voterRegistryId)) {
             throw new ResourceNotFoundException("VoterRegistry", "id", voterRegistryId);
         }
-
-        return voteRepository.findByVoterRegistryId(voterRegistryId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return CursorPagination.page(votes, limit, VoteRow::getId, this::mapToResponse);
     }
 
     @Override
     public boolean hasVoted(Long electionId, Long voterRegistryId) {
-        return voteRepository.existsByElectionIdAndVoterRegistryId(electionId, voterRegistryId);
+        return participationService.hasVoted(electionId, voterRegistryId);
     }
 
     @Override
     public long getElectionVoteCount(Long electionId) {
-        return voteRepository.countByElectionId(electionId);
+        return liveTallyService.getElectionVoteCount(electionId);
     }
 
     @Override
     public long getCandidateVoteCount(Long candidateId) {
-        return voteRepository.countByCandidateId(candidateId);
+        return liveTallyService.getCandidateVoteCount(candidateId);
     }
 
     @Override
@@ -193,15 +291,167 @@ public class VoteServiceImpl implements VoteService {
     }
 
     // Private helper methods
-    private void updateElectionTurnout(Election election) {
-        long totalVotes = voteRepository.countByElectionId(election.getId());
-        long totalVoters = election.getTotalVoters() != null ? election.getTotalVoters() : 0;
+    private PendingVote validateBallot(VoteRequest request, String ipAddress, String userAgent) {
+        // Election, candidates and policy come from the cached snapshot
+        BallotSnapshot ballot = ballotSnapshotService.getSnapshot(request.getElectionId());
+        checkOngoing(ballot);
+        voteAnomalyService.checkVote(ballot.getElectionId(), ipAddress);
 
-        if (totalVoters > 0) {
-            double turnout = (double) totalVotes / totalVoters * 100;
-            election.setVoterTurnout((int) Math.round(turnout));
-            electionRepository.save(election);
+        // Validate candidate
+        int candidate = ballot.indexOfCandidate(request.getCandidateId());
+        if (candidate < 0) {
+            throw rejectCandidate(request.getCandidateId(), ballot.getElectionId());
         }
+
+        VoterRegistry voter = validateVoter(ballot, request.getVoterRegistryId());
+
+        return pendingVote(ballot, candidate, voter, LocalDateTime.now(), ipAddress, userAgent,
+                request.isAnonymous(), request.getWriteInCandidateName());
+    }
+
+    private void checkOngoing(BallotSnapshot ballot) {
+        // Check if election is active
+        if (!ballot.isOngoing(LocalDateTime.now())) {
+            throw new BusinessRuleException("Election is not active or has ended");
+        }
+    }
+
+    private VoterRegistry validateVoter(BallotSnapshot ballot, Long voterRegistryId) {
+        // Validate voter registry entry
+        VoterRegistry voter = voterRegistryRepository.findById(voterRegistryId)
+                .orElseThrow(() -> new ResourceNotFoundException("VoterRegistry", "id", voterRegistryId));
+
+        // Verify voter belongs to election organization
+        if (!voter.getOrganization().getId().equals(ballot.getOrganizationId())) {
+            throw new BusinessRuleException("Voter does not belong to this election's organization");
+        }
+
+        // In-memory fast path; the insert is what actually rejects a second vote
+        if (participationService.hasVoted(ballot.getElectionId(), voter.getId())) {
+            throw new BusinessRuleException("Voter has already cast a vote in this election");
+        }
+
+        // Check voter verification attempts
+        if (voter.getVerificationAttempts() >= 5) {
+            throw new BusinessRuleException("Voter has exceeded maximum verification attempts");
+        }
+
+        // Check identity policy requirements
+        if (!ballot.isPolicyActive()) {
+            throw new BusinessRuleException("No active identity policy found for organization");
+        }
+
+        if (ballot.isPolicyLocked()) {
+            // For locked policies, require OTP verification
+            // This would be checked by the verification service before voting
+            logger.debug("Identity policy is locked, OTP verification required");
+        }
+        return voter;
+    }
+
+    // The unique (election, voter, selection) key is the duplicate check: no query before the insert
+    private List<Vote> insertVotes(List<Vote> votes) {
+        try {
+            List<Vote> saved = voteRepository.saveAll(votes);
+            voteRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (VoteConstraints.isDuplicateBallot(e)) {
+                throw new BusinessRuleException("Voter has already cast a vote in this election");
+            }
+            throw e;
+        }
+    }
+
+    private void markVoted(Long voterRegistryId, LocalDateTime votedAt) {
+        voterRegistryRepository.markVoted(voterRegistryId, votedAt, LocalDateTime.now());
+    }
+
+    private PendingVote pendingVote(BallotSnapshot ballot, int candidate, VoterRegistry voter, LocalDateTime castAt,
+                                    String ipAddress, String userAgent, boolean anonymous, String writeInName) {
+        // Handle write-in candidates
+        String writeInCandidateName = ballot.isWriteIn(candidate) ? writeInName : null;
+
+        // The weight is fixed when the vote is cast; later registry changes do not move counted votes
+        long weight = ballot.isWeighted() ? voter.getWeight() : VoteWeight.ONE;
+
+        return new PendingVote(ballot.getElectionId(), ballot.getTitle(), ballot.getCandidateId(candidate),
+                ballot.getCandidateName(candidate), voter.getId(), voter.getIdentifier(), castAt,
+                ipAddress, userAgent, anonymous, writeInCandidateName,
+                "OTP", // Default verification method
+                weight);
+    }
+
+    private Vote toVote(PendingVote pending, VoterRegistry voter, int selectionIndex) {
+        Vote vote = new Vote(electionRepository.getReferenceById(pending.getElectionId()),
+                candidateRepository.getReferenceById(pending.getCandidateId()), voter);
+        vote.setCastAt(pending.getCastAt());
+        vote.setIpAddress(pending.getIpAddress());
+        vote.setUserAgent(pending.getUserAgent());
+        vote.setAnonymous(pending.isAnonymous());
+        vote.setWriteInCandidateName(pending.getWriteInCandidateName());
+        vote.setVerificationMethod(pending.getVerificationMethod());
+        vote.setSelectionIndex(selectionIndex);
+        vote.setWeight(pending.getWeight());
+        return vote;
+    }
+
+    // Work out why a candidate is not on the ballot; only reached on rejected votes
+    private RuntimeException rejectCandidate(Long candidateId, Long electionId) {
+        Candidate candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", candidateId));
+
+        // Verify candidate belongs to election
+        if (!candidate.getElection().getId().equals(electionId)) {
+            return new BusinessRuleException("Candidate does not belong to this election");
+        }
+        return new BusinessRuleException("Candidate is not active");
+    }
+
+    // Voter fields are left out of anonymous votes
+    private long writeNdjson(Stream<VoteExportRow> rows, OutputStream out) throws IOException {
+        long exported = 0;
+        try (JsonGenerator json = JSON.createGenerator(out)) {
+            for (VoteExportRow row : (Iterable<VoteExportRow>) rows::iterator) {
+                json.writeStartObject();
+                json.writeNumberField("voteId", row.getVoteId());
+                json.writeNumberField("candidateId", row.getCandidateId());
+                json.writeStringField("candidateName", row.getCandidateName());
+                json.writeStringField("position", row.getPosition());
+                if (!row.isAnonymous()) {
+                    json.writeNumberField("voterRegistryId", row.getVoterRegistryId());
+                    json.writeStringField("voterIdentifier", row.getVoterIdentifier());
+                }
+                json.writeStringField("castAt", row.getCastAt().toString());
+                json.writeBooleanField("anonymous", row.isAnonymous());
+                if (row.getWriteInCandidateName() != null) {
+                    json.writeStringField("writeInCandidateName", row.getWriteInCandidateName());
+                }
+                if (row.getVerificationMethod() != null) {
+                    json.writeStringField("verificationMethod", row.getVerificationMethod());
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    private long writeCsv(Stream<VoteExportRow> rows, OutputStream out) throws IOException {
+        long exported = 0;
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVPrinter csv = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(EXPORT_HEADERS).get());
+        for (VoteExportRow row : (Iterable<VoteExportRow>) rows::iterator) {
+            csv.printRecord(row.getVoteId(), row.getCandidateId(), row.getCandidateName(), row.getPosition(),
+                    row.isAnonymous() ? null : row.getVoterRegistryId(),
+                    row.isAnonymous() ? null : row.getVoterIdentifier(),
+                    row.getCastAt(), row.isAnonymous(), row.getWriteInCandidateName(), row.getVerificationMethod());
+            exported++;
+        }
+        // Flushed rather than closed: the caller owns the stream
+        csv.flush();
+        return exported;
     }
 
     private VoteResponse mapToResponse(Vote vote) {
@@ -222,4 +472,42 @@ public class VoteServiceImpl implements VoteService {
                 .updatedAt(vote.getUpdatedAt())
                 .build();
     }
+
+    private VoteResponse mapToResponse(VoteRow vote) {
+        return VoteResponse.builder()
+                .id(vote.getId())
+                .electionId(vote.getElectionId())
+                .electionTitle(vote.getElectionTitle())
+                .candidateId(vote.getCandidateId())
+                .candidateName(vote.getCandidateName())
+                .voterRegistryId(vote.getVoterRegistryId())
+                .voterIdentifier(vote.getVoterIdentifier())
+                .castAt(vote.getCastAt())
+                .ipAddress(vote.getIpAddress())
+                .anonymous(vote.isAnonymous())
+                .writeInCandidateName(vote.getWriteInCandidateName())
+                .verificationMethod(vote.getVerificationMethod())
+                .createdAt(vote.getCreatedAt())
+                .updatedAt(vote.getUpdatedAt())
+                .build();
+    }
+
+    private VoteResponse mapToResponse(Vote saved, PendingVote vote) {
+        return VoteResponse.builder()
+                .id(saved.getId())
+                .electionId(vote.getElectionId())
+                .electionTitle(vote.getElectionTitle())
+                .candidateId(vote.getCandidateId())
+                .candidateName(vote.getCandidateName())
+                .voterRegistryId(vote.getVoterRegistryId())
+                .voterIdentifier(vote.getVoterIdentifier())
+                .castAt(vote.getCastAt())
+                .ipAddress(vote.getIpAddress())
+                .anonymous(vote.isAnonymous())
+                .writeInCandidateName(vote.getWriteInCandidateName())
+                .verificationMethod(vote.getVerificationMethod())
+                .createdAt(saved.getCreatedAt())
+                .updatedAt(saved.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package vote.ServiceImpl;
 
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,10 +21,14 @@ import vote.Repository.ElectionRepository;
 import vote.Repository.OrganizationRepository;
 import vote.Repository.VoterRegistryRepository;
 import vote.Request.VoterRegistryRequest;
+import vote.Response.CursorPage;
 import vote.Response.VoterRegistryResponse;
 import vote.Response.VoterRegistrySummaryResponse;
+import vote.Service.VoterRegistryRow;
 import vote.Service.VoterRegistryService;
 import vote.Util.CSVProcessor;
+import vote.Util.CursorPagination;
+import vote.Util.VoteWeight;
 
 @Service
 @Transactional
@@ -91,6 +97,7 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
         voter.setEmail(request.getEmail());
         voter.setPhone(request.getPhone());
         voter.setFullName(request.getFullName());
+        voter.setWeight(weightUnits(request.getWeight()));
         voter.setUsed(false);
 
         VoterRegistry savedVoter = voterRegistryRepository.save(voter);
@@ -107,25 +114,20 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
     }
 
     @Override
-    public List<VoterRegistryResponse> getVotersByOrganization(Long organizationId, Boolean used) {
-        if (!organizationRepository.existsById(organizationId)) {
+    @Transactional(readOnly = true)
+    public CursorPage<VoterRegistryResponse> getVotersByOrganization(Long organizationId, Boolean used,
+                                                                     String cursor, int limit) {
+        long afterId = CursorPagination.afterId(cursor);
+        Limit fetch = Limit.of(CursorPagination.fetchSize(limit));
+        List<VoterRegistryRow> voters = used == null
+                ? voterRegistryRepository.findPageByOrganizationId(organizationId, afterId, fetch)
+                : voterRegistryRepository.findPageByOrganizationIdAndUsed(organizationId, used, afterId, fetch);
+
+        // The organization is only looked up to tell an empty page from a missing organization
+        if (voters.isEmpty() && !organizationRepository.existsById(organizationId)) {
             throw new ResourceNotFoundException("Organization", "id", organizationId);
         }
-
-        List<VoterRegistry> voters;
-        if (used == null) {
-            voters = voterRegistryRepository.findByOrganizationId(organizationId);
-        } else if (used) {
-            voters = voterRegistryRepository.findByOrganizationId(organizationId).stream()
-                    .filter(VoterRegistry::isUsed)
-                    .collect(Collectors.toList());
-        } else {
-            voters = voterRegistryRepository.findByOrganizationIdAndUsedFalse(organizationId);
-        }
-
-        return voters.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return CursorPagination.page(voters, limit, VoterRegistryRow::getId, this::mapToResponse);
     }
 
     @Override
@@ -151,6 +153,7 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
         voter.setEmail(request.getEmail());
         voter.setPhone(request.getPhone());
         voter.setFullName(request.getFullName());
+        voter.setWeight(weightUnits(request.getWeight()));
 
         VoterRegistry updatedVoter = voterRegistryRepository.save(voter);
 
@@ -247,12 +250,11 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
                                                    String email, String phone, String fullName) {
         logger.debug("Searching voters in organization: {}", organizationId);
 
-        if (!organizationRepository.existsById(organizationId)) {
+        List<VoterRegistryRow> voters = voterRegistryRepository.findRowsByOrganizationId(organizationId);
+        if (voters.isEmpty() && !organizationRepository.existsById(organizationId)) {
             throw new ResourceNotFoundException("Organization", "id", organizationId);
         }
 
-        List<VoterRegistry> voters = voterRegistryRepository.findByOrganizationId(organizationId);
-
         // Apply filters
         return voters.stream()
                 .filter(voter -> matricNumber == null || matricNumber.isEmpty() ||
@@ -270,7 +272,7 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
     @Override
     public boolean isVoterEligible(Long organizationId, String matricNumber, String email, String phone) {
         return voterRegistryRepository.findEligibleVoter(organizationId, matricNumber, email, phone)
-                .map(voter -> !voter.isUsed() && voter.getVerificationAttempts() < 5)
+                .map(VoterRegistry::isEligible)
                 .orElse(false);
     }
 
@@ -332,6 +334,18 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
                 .build();
     }
 
+    // Null keeps the default single vote
+    private Long weightUnits(BigDecimal weight) {
+        if (weight == null) {
+            return null;
+        }
+        try {
+            return VoteWeight.of(weight);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException(e.getMessage());
+        }
+    }
+
     private VoterRegistryResponse mapToResponse(VoterRegistry voter) {
         return VoterRegistryResponse.builder()
                 .id(voter.getId())
@@ -341,6 +355,26 @@ public class VoterRegistryServiceImpl implements VoterRegistryService {
                 .email(voter.getEmail())
                 .phone(voter.getPhone())
                 .fullName(voter.getFullName())
+                .weight(VoteWeight.toDecimal(voter.getWeight()))
+                .used(voter.isUsed())
+                .votedAt(voter.getVotedAt())
+                .verificationAttempts(voter.getVerificationAttempts())
+                .lastVerificationAttempt(voter.getLastVerificationAttempt())
+                .createdAt(voter.getCreatedAt())
+                .updatedAt(voter.getUpdatedAt())
+                .build();
+    }
+
+    private VoterRegistryResponse mapToResponse(VoterRegistryRow voter) {
+        return VoterRegistryResponse.builder()
+                .id(voter.getId())
+                .organizationId(voter.getOrganizationId())
+                .organizationName(voter.getOrganizationName())
+                .matricNumber(voter.getMatricNumber())
+                .email(voter.getEmail())
+                .phone(voter.getPhone())
+                .fullName(voter.getFullName())
+                .weight(VoteWeight.toDecimal(voter.getWeight()))
                 .used(voter.isUsed())
                 .votedAt(voter.getVotedAt())
                 .verificationAttempts(voter.getVerificationAttempts())
@@ -29,6 +29,7 @@ import vote.Request.OTPVerificationRequest;
 import vote.Request.VoterVerificationRequest;
 import vote.Response.OTPResponse;
 import vote.Response.VoterVerificationResponse;
+import vote.Service.CardinalityService;
 import vote.Service.OTPService;
 import vote.Service.VoterVerificationService;
 
@@ -43,17 +44,20 @@ public class VoterVerificationServiceImpl implements VoterVerificationService {
     private final OrganizationRepository organizationRepository;
     private final OTPService otpService;
     private final OTPCodeRepository otpCodeRepository;
+    private final CardinalityService cardinalityService;
 
     public VoterVerificationServiceImpl(VoterRegistryRepository voterRegistryRepository,
                                       IdentityPolicyRepository identityPolicyRepository,
                                       OrganizationRepository organizationRepository,
                                       OTPService otpService,
-                                      OTPCodeRepository otpCodeRepository) {
+                                      OTPCodeRepository otpCodeRepository,
+                                      CardinalityService cardinalityService) {
         this.voterRegistryRepository = voterRegistryRepository;
         this.identityPolicyRepository = identityPolicyRepository;
         this.organizationRepository = organizationRepository;
         this.otpService = otpService;
         this.otpCodeRepository = otpCodeRepository;
+        this.cardinalityService = cardinalityService;
     }
 
     @Override
@@ -100,15 +104,13 @@ public class VoterVerificationServiceImpl implements VoterVerificationService {
 
         if (!voterOptional.isPresent()) {
             logger.warn("Voter not found in registry for organization: {}", request.getOrganizationId());
-            throw new BusinessRuleException("Voter not found in registry or already voted");
+            throw new BusinessRuleException("Voter not found in registry");
         }
 
         VoterRegistry voter = voterOptional.get();
+        cardinalityService.recordVerification(organization.getId(), voter.getIdentifier());
 
-        // Check if voter has already voted
-        if (voter.isUsed()) {
-            throw new BusinessRuleException("Voter has already cast a vote");
-        }
+        // Whether they have voted is checked per election when the vote is cast
 
         // Check verification attempts
         if (voter.getVerificationAttempts() >= 5) {
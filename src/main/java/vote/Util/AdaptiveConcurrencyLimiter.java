@@ -0,0 +1,140 @@
+package vote.Util;
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of the
+ * gradient limiters used for load shedding. A slow moving average of
+ * response time stands in for the latency of an unloaded system; while
+ * recent samples stay close to it the limit grows by roughly its square
+ * root, and when they rise above it the limit shrinks in proportion.
+ * Requests the caller reports as dropped (timeouts, 503s from further
+ * down) cut the limit multiplicatively.
+ *
+ * Low-priority requests only get the first {@code lowPriorityShare} of the
+ * limit, so they are shed before critical ones.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        CRITICAL, LOW
+    }
+
+    private static final double LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double lowPriorityShare;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedCritical = new LongAdder();
+    private final LongAdder rejectedLow = new LongAdder();
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRttNanos;
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double lowPriorityShare) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (tolerance < 1 || lowPriorityShare <= 0 || lowPriorityShare > 1) {
+            throw new IllegalArgumentException("Tolerance must be >= 1 and low-priority share in (0, 1]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.lowPriorityShare = lowPriorityShare;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if it fits under the current limit for its priority.
+     * Returns false if it should be shed; otherwise the caller must report
+     * the outcome with {@link #onSuccess(long)} or {@link #onDropped()}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = priority == Priority.CRITICAL ? limit : Math.max(1, (int) (limit * lowPriorityShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                (priority == Priority.CRITICAL ? rejectedCritical : rejectedLow).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int concurrent = inFlight.getAndDecrement();
+        update(rttNanos, concurrent);
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+            limit = (int) estimatedLimit;
+        }
+    }
+
+    // Gradient update: shrink when recent latency exceeds the long-term average
+    private synchronized void update(long rttNanos, int concurrent) {
+        rttNanos = Math.max(rttNanos, 1);
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+        longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        // After a sustained drop in latency, let the baseline follow it down quickly
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Not enough load to tell whether a higher limit would help
+        if (concurrent < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double target = estimatedLimit * gradient + queueSize;
+        estimatedLimit = estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getLowPriorityLimit() {
+        return Math.max(1, (int) (limit * lowPriorityShare));
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCritical() {
+        return rejectedCritical.sum();
+    }
+
+    public long getRejectedLow() {
+        return rejectedLow.sum();
+    }
+
+    public synchronized double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,133 @@
+package vote.Util;
+
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fair semaphore that limits how many threads use a scarce resource at once
+ * and records how long they queued for it. Every {@link #enter} takes a real
+ * permit, nested ones included, so permits in use never exceed the capacity.
+ * A thread's first permit must also fit outside the nested reserve: nested
+ * entries from threads that already hold one can always draw on the reserve,
+ * so they cannot deadlock behind new arrivals. Waiting is cheap on virtual
+ * threads, so callers can queue here far longer than they could block inside
+ * a connection pool.
+ */
+public class AdmissionGate {
+
+    private final Semaphore permits;
+    private final Semaphore outermost;
+    private final int capacity;
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public AdmissionGate(int capacity, int nestedReserve) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("AdmissionGate needs at least one permit");
+        }
+        if (nestedReserve < 0 || nestedReserve >= capacity) {
+            throw new IllegalArgumentException("AdmissionGate nested reserve must be between 0 and capacity - 1");
+        }
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity, true);
+        this.outermost = new Semaphore(capacity - nestedReserve, true);
+    }
+
+    /**
+     * Takes a permit, waiting up to the timeout. Returns false if none became
+     * free in time; every successful call must be paired with {@link #exit()}.
+     */
+    public boolean enter(long timeout, TimeUnit unit) throws InterruptedException {
+        int[] held = depth.get();
+        long start = System.nanoTime();
+        long deadline = start + unit.toNanos(timeout);
+
+        boolean acquired;
+        if (held[0] > 0) {
+            acquired = acquire(permits, deadline);
+        } else {
+            acquired = acquire(outermost, deadline);
+            if (acquired && !acquire(permits, deadline)) {
+                outermost.release();
+                acquired = false;
+            }
+        }
+        long waited = System.nanoTime() - start;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+
+        if (!acquired) {
+            rejected.increment();
+            if (held[0] == 0) {
+                depth.remove();
+            }
+            return false;
+        }
+        admitted.increment();
+        held[0]++;
+        return true;
+    }
+
+    public void exit() {
+        int[] held = depth.get();
+        if (held[0] == 0) {
+            depth.remove();
+            throw new IllegalStateException("exit() without a matching enter()");
+        }
+        permits.release();
+        if (--held[0] == 0) {
+            depth.remove();
+            outermost.release();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getInUse() {
+        return capacity - permits.availablePermits();
+    }
+
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    // Private helper methods
+    private boolean acquire(Semaphore semaphore, long deadline) throws InterruptedException {
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        waiting.incrementAndGet();
+        try {
+            return semaphore.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package vote.Util;
+
+
+import java.util.Arrays;
+
+/**
+ * Approval ballots of one race stored bit-sliced: one bitmap per
+ * candidate, with bit {@code i} set when ballot {@code i} approves them.
+ * A ballot costs one bit per candidate however many it approves, and a
+ * candidate's approvals are a popcount over their bitmap, 64 ballots per
+ * {@link Long#bitCount} (a single POPCNT instruction once compiled).
+ * Ballots approving two given candidates are the popcount of the AND of
+ * their bitmaps.
+ *
+ * Candidates are indexed from 0 within the race. Built once, then
+ * read-only.
+ */
+public class ApprovalBallots {
+
+    private final int candidateCount;
+    // columns[candidate][word] holds ballots word * 64 to word * 64 + 63
+    private final long[][] columns;
+    private final int size;
+
+    private ApprovalBallots(int candidateCount, long[][] columns, int size) {
+        this.candidateCount = candidateCount;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    public static Builder builder(int candidateCount) {
+        return new Builder(candidateCount);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    public boolean isApproved(int ballot, int candidate) {
+        return (columns[candidate][ballot >>> 6] & (1L << ballot)) != 0;
+    }
+
+    public long getApprovals(int candidate) {
+        long approvals = 0;
+        for (long word : columns[candidate]) {
+            approvals += Long.bitCount(word);
+        }
+        return approvals;
+    }
+
+    public long[] getApprovalCounts() {
+        long[] approvals = new long[candidateCount];
+        for (int candidate = 0; candidate < candidateCount; candidate++) {
+            approvals[candidate] = getApprovals(candidate);
+        }
+        return approvals;
+    }
+
+    // Ballots approving both candidates
+    public long getCoApprovals(int first, int second) {
+        long[] a = columns[first];
+        long[] b = columns[second];
+        long approvals = 0;
+        for (int word = 0; word < a.length; word++) {
+            approvals += Long.bitCount(a[word] & b[word]);
+        }
+        return approvals;
+    }
+
+    // The seats most approved candidates, most approved first; ties go to the lower index
+    public int[] topCandidates(int seats) {
+        long[] approvals = getApprovalCounts();
+        Integer[] order = new Integer[candidateCount];
+        Arrays.setAll(order, candidate -> candidate);
+        Arrays.sort(order, (a, b) -> approvals[a] != approvals[b]
+                ? Long.compare(approvals[b], approvals[a])
+                : Integer.compare(a, b));
+        int[] top = new int[Math.min(seats, candidateCount)];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = order[i];
+        }
+        return top;
+    }
+
+    public static class Builder {
+
+        private final int candidateCount;
+        private long[][] columns;
+        private int size;
+
+        private Builder(int candidateCount) {
+            if (candidateCount < 0) {
+                throw new IllegalArgumentException("Candidate count must not be negative: " + candidateCount);
+            }
+            this.candidateCount = candidateCount;
+            this.columns = new long[candidateCount][16];
+        }
+
+        // Adds one ballot approving the first length entries of candidates
+        public Builder add(int[] candidates, int length) {
+            int ballot = size;
+            int word = ballot >>> 6;
+            if (candidateCount > 0 && word >= columns[0].length) {
+                for (int candidate = 0; candidate < candidateCount; candidate++) {
+                    columns[candidate] = Arrays.copyOf(columns[candidate], columns[candidate].length * 2);
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                if (candidates[i] < 0 || candidates[i] >= candidateCount) {
+                    throw new IllegalArgumentException("No candidate " + candidates[i] + " among " + candidateCount);
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                columns[candidates[i]][word] |= 1L << ballot;
+            }
+            size++;
+            return this;
+        }
+
+        public ApprovalBallots build() {
+            int words = (size + 63) >>> 6;
+            long[][] trimmed = new long[candidateCount][];
+            for (int candidate = 0; candidate < candidateCount; candidate++) {
+                trimmed[candidate] = Arrays.copyOf(columns[candidate], words);
+            }
+            return new ApprovalBallots(candidateCount, trimmed, size);
+        }
+    }
+}
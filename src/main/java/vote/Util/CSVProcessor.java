@@ -3,6 +3,7 @@ package vote.Util;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -26,7 +27,7 @@ public class CSVProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(CSVProcessor.class);
 
-    private static final String[] HEADERS = {"matric_number", "email", "phone", "full_name"};
+    private static final String[] HEADERS = {"matric_number", "email", "phone", "full_name", "weight"};
 
     public List<VoterRegistry> processVoterRegistryFile(MultipartFile file, Organization organization) {
         logger.info("Processing CSV file: {}", file.getOriginalFilename());
@@ -50,6 +51,7 @@ public class CSVProcessor {
                     String email = getValue(record, "email");
                     String phone = getValue(record, "phone");
                     String fullName = getValue(record, "full_name");
+                    String weight = getValue(record, "weight");
 
                     // Validate at least one identifier is present
                     if (matricNumber == null && email == null && phone == null) {
@@ -78,6 +80,17 @@ public class CSVProcessor {
                             String.format("Line %d: Invalid phone format: %s", lineNumber, phone));
                     }
 
+                    // Weight is optional; entries without one carry a single vote
+                    Long weightUnits = null;
+                    if (weight != null) {
+                        try {
+                            weightUnits = VoteWeight.of(new BigDecimal(weight));
+                        } catch (IllegalArgumentException e) {
+                            throw new BusinessRuleException(
+                                String.format("Line %d: Invalid weight: %s", lineNumber, weight));
+                        }
+                    }
+
                     // Create voter registry entry
                     VoterRegistry voter = new VoterRegistry();
                     voter.setOrganization(organization);
@@ -85,6 +98,7 @@ public class CSVProcessor {
                     voter.setEmail(email);
                     voter.setPhone(phone);
                     voter.setFullName(fullName);
+                    voter.setWeight(weightUnits);
                     voter.setUsed(false);
 
                     voters.add(voter);
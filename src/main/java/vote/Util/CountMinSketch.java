@@ -0,0 +1,57 @@
+package vote.Util;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min sketch over string keys: {@code depth} rows of {@code width}
+ * counters, each row indexed by its own hash of the key. Adding a key
+ * bumps one counter per row; its estimate is the smallest of those
+ * counters, which never undercounts and overcounts by at most about
+ * {@code total / width} with probability {@code 1 - 2^-depth}. Memory is
+ * fixed however many distinct keys are seen.
+ *
+ * Counters are atomic, so adds and estimates need no lock.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("Depth and width must be positive: " + depth + "x" + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    // Counts one occurrence of the key and returns its new estimate
+    public long add(String key) {
+        long hash = Hashing.hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        long hash = Hashing.hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    // Private helper methods
+    private int index(long hash, int row) {
+        // Double hashing: row i uses h1 + i * h2, which is as good as independent hashes for this purpose
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+}
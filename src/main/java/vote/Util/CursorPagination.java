@@ -0,0 +1,83 @@
+package vote.Util;
+
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import vote.Exception.BusinessRuleException;
+import vote.Response.CursorPage;
+
+/**
+ * Keyset pagination over id-ordered lists. A page is the first
+ * {@code limit} rows with an id greater than the last id of the previous
+ * page, so every page is an index range scan however deep it is. The last
+ * id travels to the client as an opaque continuation token.
+ *
+ * Callers fetch {@link #fetchSize(int)} rows (one more than the limit) and
+ * hand them to {@link #page}, which uses the extra row to tell whether
+ * there is a next page.
+ */
+public final class CursorPagination {
+
+    public static final int MAX_LIMIT = 500;
+
+    private static final String TOKEN_PREFIX = "k1:";
+
+    private CursorPagination() {
+        // Utility class
+    }
+
+    /** Id to continue after; 0 (before every id) when there is no cursor. */
+    public static long afterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(TOKEN_PREFIX)) {
+                long afterId = Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+                if (afterId >= 0) {
+                    return afterId;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Falls through to the rejection below
+        }
+        throw new BusinessRuleException("Invalid page cursor");
+    }
+
+    public static String cursorAfter(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int limit(int requested) {
+        return Math.max(1, Math.min(requested, MAX_LIMIT));
+    }
+
+    public static int fetchSize(int limit) {
+        return limit(limit) + 1;
+    }
+
+    public static <E, R> CursorPage<R> page(List<E> rows, int limit, Function<E, Long> id, Function<E, R> mapper) {
+        return pageInBulk(rows, limit, id, pageRows -> pageRows.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    /** Like {@link #page}, for mappers that look up data for the whole page at once. */
+    public static <E, R> CursorPage<R> pageInBulk(List<E> rows, int limit, Function<E, Long> id,
+                                                  Function<List<E>, List<R>> mapper) {
+        int pageSize = limit(limit);
+        boolean hasMore = rows.size() > pageSize;
+        List<E> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return CursorPage.<R>builder()
+                .items(mapper.apply(pageRows))
+                .nextCursor(hasMore ? cursorAfter(id.apply(pageRows.get(pageRows.size() - 1))) : null)
+                .hasMore(hasMore)
+                .limit(pageSize)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package vote.Util;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A striped adder, like {@link java.util.concurrent.atomic.LongAdder}, for
+ * fixed-point sums that must never wrap. Each stripe is updated by a
+ * compare-and-set of {@link Math#addExact}, so an add that would overflow
+ * its stripe throws and leaves the stripe as it was, and {@link #sum}
+ * throws rather than return a wrapped total.
+ *
+ * Threads are spread over the stripes by thread id. Stripes are a cache
+ * line apart, so threads adding to different stripes do not contend on
+ * the same line.
+ */
+public class FixedPointAdder {
+
+    // Longs per stripe: one 64-byte cache line
+    private static final int SPACING = 8;
+    private static final int MAX_STRIPES = 16;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    public FixedPointAdder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public FixedPointAdder(int parallelism) {
+        int stripes = Math.min(parallelism <= 1 ? 1 : Integer.highestOneBit(parallelism - 1) << 1, MAX_STRIPES);
+        this.cells = new AtomicLongArray(stripes * SPACING);
+        this.mask = stripes - 1;
+    }
+
+    public void add(long units) {
+        long id = Thread.currentThread().threadId();
+        int cell = (Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask) * SPACING;
+        long current;
+        do {
+            current = cells.get(cell);
+        } while (!cells.compareAndSet(cell, current, Math.addExact(current, units)));
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int cell = 0; cell < cells.length(); cell += SPACING) {
+            sum = Math.addExact(sum, cells.get(cell));
+        }
+        return sum;
+    }
+}
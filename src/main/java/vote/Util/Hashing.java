@@ -0,0 +1,33 @@
+package vote.Util;
+
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64-bit string hash for the probabilistic counters: FNV-1a over the UTF-8
+ * bytes, finished with MurmurHash3's mixer so every bit depends on every
+ * input byte. Stable across JVMs, so sketches built on different nodes
+ * can be merged.
+ */
+public final class Hashing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    public static long hash64(String key) {
+        long hash = FNV_OFFSET;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
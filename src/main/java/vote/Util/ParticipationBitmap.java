@@ -0,0 +1,220 @@
+package vote.Util;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compressed set of non-negative ids, laid out like a roaring bitmap: ids
+ * are split into a high key and a 16-bit low part, and each key owns a
+ * container holding its low parts. Sparse containers are sorted
+ * {@code char} arrays, and a container switches to a plain 8 KB bitset once
+ * it holds more than 4096 values, so a dense range of ids costs one bit
+ * each. Lookups are a hash probe plus a bit test or a short binary search.
+ *
+ * Not thread-safe; callers guard each instance with a lock.
+ */
+public class ParticipationBitmap {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int ARRAY_LIMIT = 4096;
+    private static final byte ARRAY = 0;
+    private static final byte BITSET = 1;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+    private long cardinality;
+
+    /** Adds an id; returns false if it was already present. */
+    public boolean add(long id) {
+        checkId(id);
+        long key = id >>> 16;
+        char low = (char) id;
+        Container container = containers.get(key);
+        if (container == null) {
+            container = new ArrayContainer();
+            containers.put(key, container);
+        }
+        if (!container.add(low)) {
+            return false;
+        }
+        if (container instanceof ArrayContainer array && array.size > ARRAY_LIMIT) {
+            containers.put(key, array.toBitset());
+        }
+        cardinality++;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        if (id < 0) {
+            return false;
+        }
+        Container container = containers.get(id >>> 16);
+        return container != null && container.contains((char) id);
+    }
+
+    public long getCardinality() {
+        return cardinality;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(containers.size());
+            Long[] keys = containers.keySet().toArray(new Long[0]);
+            Arrays.sort(keys);
+            for (Long key : keys) {
+                out.writeLong(key);
+                containers.get(key).write(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ParticipationBitmap fromBytes(byte[] data) {
+        ParticipationBitmap bitmap = new ParticipationBitmap();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported participation bitmap format " + version);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long key = in.readLong();
+                Container container = in.readByte() == BITSET ? BitsetContainer.read(in) : ArrayContainer.read(in);
+                bitmap.containers.put(key, container);
+                bitmap.cardinality += container.cardinality();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupt participation bitmap", e);
+        }
+        return bitmap;
+    }
+
+    private static void checkId(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Ids must be non-negative: " + id);
+        }
+    }
+
+    private interface Container {
+        boolean add(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return false;
+            }
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_LIMIT + 1));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        BitsetContainer toBitset() {
+            BitsetContainer bitset = new BitsetContainer();
+            for (int i = 0; i < size; i++) {
+                bitset.add(values[i]);
+            }
+            return bitset;
+        }
+
+        @Override
+        public void write(DataOutputStream out) throws IOException {
+            out.writeByte(ARRAY);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeChar(values[i]);
+            }
+        }
+
+        static ArrayContainer read(DataInputStream in) throws IOException {
+            ArrayContainer container = new ArrayContainer();
+            container.size = in.readInt();
+            container.values = new char[Math.max(container.size, 4)];
+            for (int i = 0; i < container.size; i++) {
+                container.values[i] = in.readChar();
+            }
+            return container;
+        }
+    }
+
+    private static final class BitsetContainer implements Container {
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        public boolean add(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) != 0) {
+                return false;
+            }
+            words[word] |= mask;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void write(DataOutputStream out) throws IOException {
+            out.writeByte(BITSET);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+
+        static BitsetContainer read(DataInputStream in) throws IOException {
+            BitsetContainer container = new BitsetContainer();
+            for (int i = 0; i < container.words.length; i++) {
+                container.words[i] = in.readLong();
+                container.cardinality += Long.bitCount(container.words[i]);
+            }
+            return container;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package vote.Util;
+
+
+import java.util.Arrays;
+
+/**
+ * Ranked ballots of one race packed into two arrays: the preferences of
+ * every ballot (candidate indexes, most preferred first) back to back in a
+ * {@code short[]}, and where each ballot starts in an {@code int[]}. A
+ * three-preference ballot takes 10 bytes, so millions of ballots fit in a
+ * few tens of megabytes and a count walks them without allocating.
+ *
+ * Candidates are indexed from 0 within the race. Built once, then
+ * read-only.
+ */
+public class RankedBallots {
+
+    public static final int MAX_CANDIDATES = Short.MAX_VALUE;
+
+    private final int candidateCount;
+    private final short[] preferences;
+    // Ballot i's preferences are preferences[offsets[i]] up to preferences[offsets[i + 1]]
+    private final int[] offsets;
+    private final int size;
+
+    private RankedBallots(int candidateCount, short[] preferences, int[] offsets, int size) {
+        this.candidateCount = candidateCount;
+        this.preferences = preferences;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    public static Builder builder(int candidateCount) {
+        return new Builder(candidateCount);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    public int getLength(int ballot) {
+        return offsets[ballot + 1] - offsets[ballot];
+    }
+
+    public int getPreference(int ballot, int rank) {
+        return preferences[offsets[ballot] + rank];
+    }
+
+    // Flat positions, for counts that keep a cursor per ballot
+    int start(int ballot) {
+        return offsets[ballot];
+    }
+
+    int end(int ballot) {
+        return offsets[ballot + 1];
+    }
+
+    int preferenceAt(int position) {
+        return preferences[position];
+    }
+
+    public static class Builder {
+
+        private final int candidateCount;
+        private short[] preferences = new short[1024];
+        private int[] offsets = new int[257];
+        private int size;
+
+        private Builder(int candidateCount) {
+            if (candidateCount < 0 || candidateCount > MAX_CANDIDATES) {
+                throw new IllegalArgumentException("Candidate count must be between 0 and " + MAX_CANDIDATES
+                        + ": " + candidateCount);
+            }
+            this.candidateCount = candidateCount;
+        }
+
+        // Adds the first length entries of ranking as one ballot
+        public Builder add(int[] ranking, int length) {
+            int from = offsets[size];
+            if (from + length > preferences.length) {
+                preferences = Arrays.copyOf(preferences, Math.max(preferences.length * 2, from + length));
+            }
+            for (int i = 0; i < length; i++) {
+                int candidate = ranking[i];
+                if (candidate < 0 || candidate >= candidateCount) {
+                    throw new IllegalArgumentException("No candidate " + candidate + " among " + candidateCount);
+                }
+                preferences[from + i] = (short) candidate;
+            }
+            if (size + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[++size] = from + length;
+            return this;
+        }
+
+        public RankedBallots build() {
+            return new RankedBallots(candidateCount, Arrays.copyOf(preferences, offsets[size]),
+                    Arrays.copyOf(offsets, size + 1), size);
+        }
+    }
+}
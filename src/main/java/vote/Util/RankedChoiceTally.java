@@ -0,0 +1,282 @@
+package vote.Util;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Instant-runoff and single transferable vote counts over
+ * {@link RankedBallots}. Every round is counted in memory from the packed
+ * ballots; nothing is re-read between rounds.
+ *
+ * Each ballot keeps a cursor to its current preference and sits in a
+ * linked list (two {@code int[]}s) of the candidate it counts for, so a
+ * transfer only walks the ballots of the candidate being elected or
+ * eliminated, and each ballot's cursor only ever moves forward. A whole
+ * count costs about one pass over all preferences plus one pass over the
+ * candidates per round.
+ *
+ * Instant-runoff elects the first candidate with a majority of the
+ * ballots still counting. Single transferable vote uses the Droop quota
+ * and moves an elected candidate's surplus by reducing the weight of all
+ * of their ballots (Gregory method). A candidate with the fewest votes is
+ * eliminated when nobody reaches the quota; ties are broken by first
+ * preferences, then by candidate index.
+ */
+public final class RankedChoiceTally {
+
+    private static final byte CONTINUING = 0;
+    private static final byte ELECTED = 1;
+    private static final byte ELIMINATED = 2;
+
+    // Surplus weights are fractions; a tally this close to the quota has reached it
+    private static final double EPSILON = 1e-9;
+
+    private final RankedBallots ballots;
+    private final int seats;
+    private final boolean transferable;
+
+    private final int[] cursor;
+    private final double[] weight;
+    private final int[] next;
+    private final int[] head;
+    private final double[] votes;
+    private final long[] firstPreferences;
+    private final byte[] state;
+    private double exhausted;
+
+    private RankedChoiceTally(RankedBallots ballots, int seats, boolean transferable) {
+        int candidates = ballots.getCandidateCount();
+        this.ballots = ballots;
+        this.seats = seats;
+        this.transferable = transferable;
+        this.cursor = new int[ballots.size()];
+        this.weight = new double[ballots.size()];
+        this.next = new int[ballots.size()];
+        this.head = new int[candidates];
+        this.votes = new double[candidates];
+        this.firstPreferences = new long[candidates];
+        this.state = new byte[candidates];
+        Arrays.fill(head, -1);
+    }
+
+    public static Result instantRunoff(RankedBallots ballots) {
+        return new RankedChoiceTally(ballots, 1, false).count();
+    }
+
+    public static Result singleTransferableVote(RankedBallots ballots, int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("At least one seat is required: " + seats);
+        }
+        return new RankedChoiceTally(ballots, seats, true).count();
+    }
+
+    // Private helper methods
+    private Result count() {
+        int valid = 0;
+        for (int ballot = 0; ballot < ballots.size(); ballot++) {
+            if (ballots.start(ballot) == ballots.end(ballot)) {
+                continue;
+            }
+            valid++;
+            cursor[ballot] = ballots.start(ballot);
+            weight[ballot] = 1;
+            int candidate = ballots.preferenceAt(cursor[ballot]);
+            firstPreferences[candidate]++;
+            place(ballot, candidate);
+        }
+
+        double droopQuota = Math.floor(valid / (double) (seats + 1)) + 1;
+        List<Integer> winners = new ArrayList<>(seats);
+        List<Round> rounds = new ArrayList<>();
+        while (winners.size() < seats) {
+            int continuing = 0;
+            for (byte candidateState : state) {
+                if (candidateState == CONTINUING) {
+                    continuing++;
+                }
+            }
+            if (continuing == 0) {
+                break;
+            }
+
+            // Instant-runoff needs a majority of the ballots that have not run out of preferences
+            double quota = transferable ? droopQuota : Math.floor((valid - exhausted) / 2) + 1;
+            Round round = new Round(rounds.size() + 1, votes.clone(), exhausted, quota);
+            rounds.add(round);
+
+            if (continuing <= seats - winners.size()) {
+                // As many seats left as candidates: the rest are elected, strongest first
+                for (int i = 0; i < continuing; i++) {
+                    elect(leader(), winners, round);
+                }
+                break;
+            }
+
+            int leader = leader();
+            if (votes[leader] + EPSILON >= quota) {
+                elect(leader, winners, round);
+                if (transferable && winners.size() < seats) {
+                    double surplus = votes[leader] - quota;
+                    transfer(leader, surplus > EPSILON ? surplus / votes[leader] : 0);
+                    votes[leader] = quota;
+                }
+            } else {
+                int trailing = trailing();
+                state[trailing] = ELIMINATED;
+                round.eliminated = trailing;
+                transfer(trailing, 1);
+                votes[trailing] = 0;
+            }
+        }
+
+        return new Result(winners.stream().mapToInt(Integer::intValue).toArray(), rounds, valid);
+    }
+
+    private void place(int ballot, int candidate) {
+        next[ballot] = head[candidate];
+        head[candidate] = ballot;
+        votes[candidate] += weight[ballot];
+    }
+
+    // Moves every ballot of the candidate to its next continuing preference at factor times its weight
+    private void transfer(int candidate, double factor) {
+        int ballot = head[candidate];
+        head[candidate] = -1;
+        while (ballot >= 0) {
+            int following = next[ballot];
+            weight[ballot] *= factor;
+            if (weight[ballot] > 0) {
+                int to = advance(ballot);
+                if (to >= 0) {
+                    place(ballot, to);
+                } else {
+                    exhausted += weight[ballot];
+                }
+            }
+            ballot = following;
+        }
+    }
+
+    // Next continuing preference of the ballot, or -1 once it has none left
+    private int advance(int ballot) {
+        int end = ballots.end(ballot);
+        for (int position = cursor[ballot] + 1; position < end; position++) {
+            int candidate = ballots.preferenceAt(position);
+            if (state[candidate] == CONTINUING) {
+                cursor[ballot] = position;
+                return candidate;
+            }
+        }
+        cursor[ballot] = end;
+        return -1;
+    }
+
+    private void elect(int candidate, List<Integer> winners, Round round) {
+        state[candidate] = ELECTED;
+        winners.add(candidate);
+        round.elected = Arrays.copyOf(round.elected, round.elected.length + 1);
+        round.elected[round.elected.length - 1] = candidate;
+    }
+
+    private int leader() {
+        int leader = -1;
+        for (int candidate = 0; candidate < state.length; candidate++) {
+            if (state[candidate] == CONTINUING && (leader < 0 || compare(candidate, leader) > 0)) {
+                leader = candidate;
+            }
+        }
+        return leader;
+    }
+
+    private int trailing() {
+        int trailing = -1;
+        for (int candidate = 0; candidate < state.length; candidate++) {
+            if (state[candidate] == CONTINUING && (trailing < 0 || compare(candidate, trailing) < 0)) {
+                trailing = candidate;
+            }
+        }
+        return trailing;
+    }
+
+    // Orders candidates by votes, then first preferences, then the lower index as stronger
+    private int compare(int a, int b) {
+        if (Math.abs(votes[a] - votes[b]) > EPSILON) {
+            return Double.compare(votes[a], votes[b]);
+        }
+        if (firstPreferences[a] != firstPreferences[b]) {
+            return Long.compare(firstPreferences[a], firstPreferences[b]);
+        }
+        return Integer.compare(b, a);
+    }
+
+    // Votes at the start of a round, and who was elected or eliminated in it
+    public static final class Round {
+
+        private final int number;
+        private final double[] votes;
+        private final double exhausted;
+        private final double quota;
+        private int[] elected = new int[0];
+        private int eliminated = -1;
+
+        private Round(int number, double[] votes, double exhausted, double quota) {
+            this.number = number;
+            this.votes = votes;
+            this.exhausted = exhausted;
+            this.quota = quota;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public double getVotes(int candidate) {
+            return votes[candidate];
+        }
+
+        public double getExhausted() {
+            return exhausted;
+        }
+
+        public double getQuota() {
+            return quota;
+        }
+
+        public int[] getElected() {
+            return elected.clone();
+        }
+
+        // Candidate eliminated in this round, or -1
+        public int getEliminated() {
+            return eliminated;
+        }
+    }
+
+    public static final class Result {
+
+        private final int[] winners;
+        private final List<Round> rounds;
+        private final int validBallots;
+
+        private Result(int[] winners, List<Round> rounds, int validBallots) {
+            this.winners = winners;
+            this.rounds = rounds;
+            this.validBallots = validBallots;
+        }
+
+        // Candidate indexes in the order they were elected
+        public int[] getWinners() {
+            return winners.clone();
+        }
+
+        public List<Round> getRounds() {
+            return rounds;
+        }
+
+        public int getValidBallots() {
+            return validBallots;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package vote.Util;
+
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size ring of counters over consecutive time buckets (e.g. epoch
+ * minutes). The ring remembers the newest bucket written and the
+ * {@code capacity - 1} buckets before it; writing a newer bucket moves the
+ * window forward and clears the slots it passes over, and counts older
+ * than the window are dropped.
+ *
+ * Adds within the window are a single atomic increment. Moving the window
+ * takes a lock, clears the reused slots and only then publishes the new
+ * newest bucket, so a writer that sees the new window never sees stale
+ * counts in it. A write racing a move of a whole window ahead can land in
+ * the new window; at minute resolution that needs a writer stalled for the
+ * full window.
+ */
+public class TimeBucketRing {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final int capacity;
+    private final AtomicLongArray counts;
+    private final Object rotation = new Object();
+    private volatile long newest = EMPTY;
+
+    public TimeBucketRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counts = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Adds {@code delta} to a bucket, moving the window forward if the
+     * bucket is newer than any seen. Returns false if the bucket has
+     * already fallen out of the window.
+     */
+    public boolean add(long bucket, long delta) {
+        long head = newest;
+        if (head == EMPTY || bucket > head) {
+            head = advance(bucket);
+        }
+        if (bucket <= head - capacity) {
+            return false;
+        }
+        counts.addAndGet(slot(bucket), delta);
+        return true;
+    }
+
+    public long get(long bucket) {
+        long head = newest;
+        if (head == EMPTY || bucket > head || bucket <= head - capacity) {
+            return 0;
+        }
+        return counts.get(slot(bucket));
+    }
+
+    // Newest bucket written, or Long.MIN_VALUE while the ring is empty
+    public long getNewestBucket() {
+        return newest;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Private helper methods
+    private long advance(long bucket) {
+        synchronized (rotation) {
+            long head = newest;
+            if (head != EMPTY && bucket <= head) {
+                return head;
+            }
+            if (head == EMPTY || bucket - head >= capacity) {
+                for (int i = 0; i < capacity; i++) {
+                    counts.set(i, 0);
+                }
+            } else {
+                for (long b = head + 1; b <= bucket; b++) {
+                    counts.set(slot(b), 0);
+                }
+            }
+            newest = bucket;
+            return bucket;
+        }
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) capacity);
+    }
+}
@@ -0,0 +1,68 @@
+package vote.Util;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Small bounded cache whose entries expire a fixed time after they were
+ * written. Entries are kept in insertion order, which with a single TTL is
+ * also expiry order, so the oldest entry is evicted first when the cache is
+ * full. Thread-safe; every operation is O(1) under one lock.
+ */
+public class TtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public TtlCache(int maxEntries, long ttlNanos) {
+        this(maxEntries, ttlNanos, System::nanoTime);
+    }
+
+    public TtlCache(int maxEntries, long ttlNanos, LongSupplier clock) {
+        if (maxEntries < 1 || ttlNanos < 1) {
+            throw new IllegalArgumentException("TtlCache needs a positive size and ttl");
+        }
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        // Re-insert so the entry moves to the young end
+        entries.remove(key);
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,35 @@
+package vote.Util;
+
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Names of the constraints on {@code votes} that the vote path relies on,
+ * and how to recognise a violation of them. Only a collision on the ballot
+ * selection key means the voter has already voted; foreign key, NOT NULL
+ * and length violations are errors in their own right.
+ */
+public final class VoteConstraints {
+
+    // Unique (election_id, voter_registry_id, selection_index)
+    public static final String BALLOT_SELECTION_KEY = "uk_votes_ballot_selection";
+
+    private VoteConstraints() {
+    }
+
+    public static boolean isDuplicateBallot(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // Drivers report the name in their own case, some with a schema or table prefix
+                String name = violation.getConstraintName();
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                        && name != null
+                        && name.toLowerCase(Locale.ROOT).contains(BALLOT_SELECTION_KEY);
+            }
+        }
+        return false;
+    }
+}
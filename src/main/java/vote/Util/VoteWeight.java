@@ -0,0 +1,54 @@
+package vote.Util;
+
+
+import java.math.BigDecimal;
+
+/**
+ * Voting weights as fixed-point longs. A weight is stored and summed as a
+ * whole number of units, {@link #ONE} units to a vote, so weighted tallies
+ * are integer sums that reconcile exactly rather than floating-point sums
+ * that only agree to within a tolerance. Four decimal places cover
+ * fractional shareholdings and split delegate votes.
+ */
+public final class VoteWeight {
+
+    public static final int SCALE = 4;
+    public static final long ONE = 10_000L;
+    // Largest voter registry weighted tallies are sized for
+    public static final long MAX_ENTRIES = 1_000_000L;
+    // Most a single registry entry may carry (about 922 million votes), so a candidate's sum over
+    // MAX_ENTRIES voters still fits a long
+    public static final long MAX = Long.MAX_VALUE / MAX_ENTRIES;
+
+    private VoteWeight() {
+    }
+
+    // A registry entry's weight: positive, at most SCALE decimal places and at most MAX units
+    public static long of(BigDecimal weight) {
+        if (weight.signum() <= 0) {
+            throw new IllegalArgumentException("Voting weight must be positive: " + weight.toPlainString());
+        }
+        long units;
+        try {
+            units = toUnits(weight);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Voting weight must have at most " + SCALE
+                    + " decimal places and be at most " + toDecimal(MAX).toPlainString() + ": "
+                    + weight.toPlainString());
+        }
+        if (units > MAX) {
+            throw new IllegalArgumentException("Voting weight must be at most " + toDecimal(MAX).toPlainString()
+                    + ": " + weight.toPlainString());
+        }
+        return units;
+    }
+
+    // Exact: throws ArithmeticException rather than round or wrap
+    public static long toUnits(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+}
@@ -0,0 +1,57 @@
+package vote.interceptor;
+
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import vote.Exception.ServiceUnavailableException;
+import vote.Util.AdaptiveConcurrencyLimiter;
+import vote.Util.AdaptiveConcurrencyLimiter.Priority;
+
+/**
+ * Sheds load on the voting and verification endpoints before it reaches
+ * the database. Submissions (anything but GET) are critical; reads such as
+ * vote listings and counts are shed first. A 503 from further down, such as
+ * a database admission timeout, tells the limiter it is set too high.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".startedAt";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Priority priority = HttpMethod.GET.matches(request.getMethod()) ? Priority.LOW : Priority.CRITICAL;
+        if (!limiter.tryAcquire(priority)) {
+            throw new ServiceUnavailableException("Server is busy, please retry shortly", retryAfterSeconds);
+        }
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (startedAt == null) {
+            return;
+        }
+        request.removeAttribute(STARTED_AT);
+
+        if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            limiter.onDropped();
+        } else {
+            limiter.onSuccess(System.nanoTime() - (Long) startedAt);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package vote.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Exception.ServiceUnavailableException;
+import vote.Repository.OrganizationRepository;
+import vote.Util.AdmissionGate;
+
+@SpringBootTest(properties = { "spring.threads.virtual.enabled=true", "voting.db.admission.permits=3",
+		"voting.db.admission.nested-reserve=1", "voting.db.admission.timeout-ms=200",
+		"voting.tally.flush-interval-ms=600000", "voting.results.refresh-interval-ms=600000" })
+class AdmissionControlledTransactionManagerTest {
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private AdmissionGate databaseAdmissionGate;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Test
+	void transactionsQueueForThePoolAndTimeOutWith503() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		CountDownLatch holding = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// Scheduled tasks run once on startup; let them give their permits back first
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (databaseAdmissionGate.getInUse() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+
+		// A nested transaction holds a second connection, so it takes a second permit
+		transaction.executeWithoutResult(status -> requiresNew
+				.executeWithoutResult(inner -> assertEquals(2, databaseAdmissionGate.getInUse())));
+		assertEquals(0, databaseAdmissionGate.getInUse());
+
+		try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<?> first = threads.submit(() -> hold(transaction, requiresNew, holding, release));
+			Future<?> second = threads.submit(() -> hold(transaction, requiresNew, holding, release));
+			assertTrue(holding.await(10, TimeUnit.SECONDS));
+			assertEquals(2, databaseAdmissionGate.getInUse());
+
+			// The permits outside the nested reserve are taken, so a third caller queues and then gets 503
+			long rejectedBefore = databaseAdmissionGate.getRejectedCount();
+			ServiceUnavailableException busy = assertThrows(ServiceUnavailableException.class,
+					() -> organizationRepository.count());
+			assertEquals(2, busy.getRetryAfterSeconds());
+			assertEquals(rejectedBefore + 1, databaseAdmissionGate.getRejectedCount());
+
+			// Once a permit frees up, a queued caller gets through
+			Future<Long> queued = threads.submit(() -> organizationRepository.count());
+			release.countDown();
+			queued.get(10, TimeUnit.SECONDS);
+			first.get(10, TimeUnit.SECONDS);
+			second.get(10, TimeUnit.SECONDS);
+		}
+		assertEquals(0, databaseAdmissionGate.getInUse());
+		assertEquals(0, databaseAdmissionGate.getQueueDepth());
+	}
+
+	private void hold(TransactionTemplate transaction, TransactionTemplate requiresNew, CountDownLatch holding,
+			CountDownLatch release) {
+		transaction.executeWithoutResult(status -> {
+			organizationRepository.count();
+			// Nested transactions draw on the reserve, so they never wait behind new callers
+			requiresNew.executeWithoutResult(inner -> organizationRepository.count());
+			holding.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+	}
+}
@@ -0,0 +1,35 @@
+package vote.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class VoteKeyMigrationConfigTest {
+
+	private static final String COUNT_LEGACY_KEY =
+			"SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'LEGACY_VOTES_VOTER'";
+
+	@Autowired
+	private VoteKeyMigrationConfig voteKeyMigrationConfig;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void theOldOneVotePerVoterKeyIsDropped() {
+		// A schema from before multi-selection ballots
+		jdbcTemplate.execute("CREATE UNIQUE INDEX legacy_votes_voter ON votes (election_id, voter_registry_id)");
+		assertEquals(1, jdbcTemplate.queryForObject(COUNT_LEGACY_KEY, Integer.class));
+
+		voteKeyMigrationConfig.afterSingletonsInstantiated();
+		assertEquals(0, jdbcTemplate.queryForObject(COUNT_LEGACY_KEY, Integer.class));
+
+		// Once it is gone there is nothing left to do
+		voteKeyMigrationConfig.afterSingletonsInstantiated();
+		assertEquals(0, jdbcTemplate.queryForObject(COUNT_LEGACY_KEY, Integer.class));
+	}
+}
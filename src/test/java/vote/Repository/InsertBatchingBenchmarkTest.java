@@ -0,0 +1,108 @@
+package vote.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import jakarta.persistence.EntityManagerFactory;
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.Organization;
+import vote.Entity.Vote;
+import vote.Entity.VoterRegistry;
+
+/**
+ * Measures registry import ({@code saveAll} of voters, as in
+ * {@code processRegistryFile}) and vote inserts, and checks that Hibernate
+ * sends them as JDBC batches rather than one INSERT per row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InsertBatchingBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(InsertBatchingBenchmarkTest.class);
+
+	private static final int ROWS = 2000;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void enableStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void registryImportAndVoteInsertsAreBatched() {
+		Organization organization = new Organization();
+		organization.setName("Benchmark Org");
+		organization.setCode("BENCH");
+		organization = organizationRepository.save(organization);
+		Election election = electionRepository.save(new Election(organization, "Benchmark", "Insert batching",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1)));
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Candidate", "Chair"));
+		voterRegistryRepository.flush();
+
+		List<VoterRegistry> voters = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			voters.add(new VoterRegistry(organization, "B" + i, "b" + i + "@example.org", null, "Voter " + i));
+		}
+		long registryStatements = measure("registry import", () -> {
+			voterRegistryRepository.saveAll(voters);
+			voterRegistryRepository.flush();
+		});
+
+		List<Vote> votes = new ArrayList<>(ROWS);
+		for (VoterRegistry voter : voters) {
+			votes.add(new Vote(election, candidate, voter));
+		}
+		long voteStatements = measure("vote insert", () -> {
+			voteRepository.saveAll(votes);
+			voteRepository.flush();
+		});
+
+		assertEquals(ROWS, voteRepository.countByElectionId(election.getId()));
+		assertTrue(registryStatements < ROWS / 10, "registry import sent " + registryStatements + " statements");
+		assertTrue(voteStatements < ROWS / 10, "vote insert sent " + voteStatements + " statements");
+	}
+
+	private long measure(String label, Runnable work) {
+		statistics.clear();
+		long start = System.nanoTime();
+		work.run();
+		long elapsedNanos = System.nanoTime() - start;
+
+		long statements = statistics.getPrepareStatementCount();
+		logger.info("{}: {} rows in {} ms ({} rows/s, {} statements prepared)", label, ROWS,
+				elapsedNanos / 1_000_000, ROWS * 1_000_000_000L / Math.max(elapsedNanos, 1), statements);
+		return statements;
+	}
+}
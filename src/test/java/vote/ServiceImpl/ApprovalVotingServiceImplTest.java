@@ -0,0 +1,126 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Enum.VotingMethod;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.BallotRequest;
+import vote.Request.BallotSelectionRequest;
+import vote.Response.ApprovalRaceResponse;
+import vote.Response.ApprovalResultResponse;
+import vote.Service.ApprovalVotingService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+
+@SpringBootTest
+class ApprovalVotingServiceImplTest {
+
+	@Autowired
+	private ApprovalVotingService approvalVotingService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	private int voters;
+
+	@Test
+	void mostApprovedCandidatesWinTheSeats() {
+		Organization organization = new Organization();
+		organization.setName("Approval Org");
+		organization.setCode("APPROVAL");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Board", "Approve as many as you like",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setVotingMethod(VotingMethod.APPROVAL);
+		election.setSeats(2);
+		election = electionRepository.save(election);
+		Candidate a = candidateRepository.save(new Candidate(election, "A", "Board"));
+		Candidate b = candidateRepository.save(new Candidate(election, "B", "Board"));
+		Candidate c = candidateRepository.save(new Candidate(election, "C", "Board"));
+		voteCounterService.registerElection(election.getId());
+		for (Candidate candidate : List.of(a, b, c)) {
+			voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		}
+
+		// Approving every candidate is allowed even though max votes per voter is 1
+		cast(organization, election, a, b, c);
+		cast(organization, election, a, c);
+		cast(organization, election, c);
+		cast(organization, election, b);
+
+		ApprovalResultResponse results = approvalVotingService.getApprovalResults(election.getId());
+		assertEquals(4, results.getBallots());
+		ApprovalRaceResponse board = results.getRaces().get(0);
+		assertEquals(2, board.getSeats());
+		assertEquals(3, board.getApprovals().get(c.getId()));
+		assertEquals(2, board.getApprovals().get(a.getId()));
+		// A and B both have two approvals; A takes the second seat on candidate order
+		assertEquals(List.of(c.getId(), a.getId()), board.getWinners());
+		assertTrue(board.isTiedAtCutoff());
+
+		Election plurality = electionRepository.save(new Election(organization, "Plain", "First past the post",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1)));
+		assertThrows(BusinessRuleException.class, () -> approvalVotingService.getApprovalResults(plurality.getId()));
+	}
+
+	private void cast(Organization organization, Election election, Candidate... ranking) {
+		int n = voters++;
+		VoterRegistry voter = voterRegistryRepository
+				.save(new VoterRegistry(organization, "AP" + n, "ap" + n + "@example.org", null, "Voter " + n));
+		List<BallotSelectionRequest> selections = new ArrayList<>();
+		for (Candidate candidate : ranking) {
+			BallotSelectionRequest selection = new BallotSelectionRequest();
+			selection.setCandidateId(candidate.getId());
+			selections.add(selection);
+		}
+		BallotRequest request = new BallotRequest();
+		request.setElectionId(election.getId());
+		request.setVoterRegistryId(voter.getId());
+		request.setSelections(selections);
+		voteService.castBallot(request, "127.0.0.1", "test");
+	}
+}
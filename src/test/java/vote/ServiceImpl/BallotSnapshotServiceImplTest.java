@@ -0,0 +1,124 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import jakarta.persistence.EntityManagerFactory;
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Service.BallotSnapshotService;
+import vote.Service.CandidateService;
+import vote.Service.LiveTallyService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BallotSnapshotServiceImplTest {
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private CandidateService candidateService;
+
+	@Autowired
+	private BallotSnapshotService ballotSnapshotService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void votesAreValidatedAgainstTheSnapshot() {
+		Organization organization = new Organization();
+		organization.setName("Snapshot Org");
+		organization.setCode("SNAP");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Snapshot", "Cached ballot",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate first = candidateRepository.save(new Candidate(election, "First", "Chair"));
+		Candidate second = candidateRepository.save(new Candidate(election, "Second", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), first.getId());
+		voteCounterService.registerCandidate(election.getId(), second.getId());
+		liveTallyService.trackElection(election.getId());
+
+		VoterRegistry alice = voterRegistryRepository
+				.save(new VoterRegistry(organization, "SN1", "alice@example.org", null, "Alice"));
+		VoterRegistry bob = voterRegistryRepository
+				.save(new VoterRegistry(organization, "SN2", "bob@example.org", null, "Bob"));
+
+		assertEquals(2, ballotSnapshotService.getSnapshot(election.getId()).getCandidateCount());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		voteService.castVote(ballot(election, first, alice), "127.0.0.1", "test");
+
+		// Only the voter row is read on the vote path
+		assertEquals(0, statistics.getEntityStatistics(Election.class.getName()).getLoadCount());
+		assertEquals(0, statistics.getEntityStatistics(Candidate.class.getName()).getLoadCount());
+		assertEquals(0, statistics.getEntityStatistics(IdentityPolicy.class.getName()).getLoadCount());
+		assertEquals(1, statistics.getEntityStatistics(VoterRegistry.class.getName()).getLoadCount());
+
+		// Mutations evict the snapshot
+		candidateService.deactivateCandidate(second.getId(), election.getId());
+		assertEquals(1, ballotSnapshotService.getSnapshot(election.getId()).getCandidateCount());
+		VoteRequest inactive = ballot(election, second, bob);
+		BusinessRuleException rejected = assertThrows(BusinessRuleException.class,
+				() -> voteService.castVote(inactive, "127.0.0.1", "test"));
+		assertEquals("Candidate is not active", rejected.getMessage());
+	}
+
+	private VoteRequest ballot(Election election, Candidate candidate, VoterRegistry voter) {
+		VoteRequest request = new VoteRequest();
+		request.setElectionId(election.getId());
+		request.setCandidateId(candidate.getId());
+		request.setVoterRegistryId(voter.getId());
+		return request;
+	}
+}
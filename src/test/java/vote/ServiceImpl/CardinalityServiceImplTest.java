@@ -0,0 +1,131 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Repository.CandidateRepository;
+import vote.Repository.CardinalitySketchRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.CardinalityResponse;
+import vote.Service.CardinalityService;
+import vote.Service.LiveTallyService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+
+@SpringBootTest
+class CardinalityServiceImplTest {
+
+	@Autowired
+	private CardinalityService cardinalityService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private CardinalitySketchRepository cardinalitySketchRepository;
+
+	@Test
+	void distinctCountsSurviveAFlushAndMatchTheExactRecount() {
+		Organization organization = new Organization();
+		organization.setName("Distinct Org");
+		organization.setCode("DISTINCT");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Distinct", "Counted",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		liveTallyService.trackElection(election.getId());
+
+		// 12 voters from 4 addresses with 3 user agents
+		for (int i = 0; i < 12; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "DC" + i, "dc" + i + "@example.org", null, "Voter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(candidate.getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "192.0.2." + i % 4, "Agent " + i % 3);
+		}
+		cardinalityService.recordVerification(organization.getId(), "dc1@example.org");
+		cardinalityService.recordVerification(organization.getId(), "dc1@example.org");
+		cardinalityService.recordVerification(organization.getId(), "dc2@example.org");
+
+		CardinalityResponse live = cardinalityService.getElectionCardinality(election.getId(), null, null, false);
+		assertCounts(live, 12, 4, 3);
+		assertFalse(live.isExact());
+		assertNull(live.getVerificationIdentifiers());
+
+		// After a flush (the scheduler may already have run one) the same counts come from the stored sketches
+		cardinalityService.flush();
+		assertEquals(3, cardinalitySketchRepository.findByElectionIdAndBucketDateBetween(election.getId(),
+				LocalDate.now(), LocalDate.now()).size());
+		assertCounts(cardinalityService.getElectionCardinality(election.getId(), null, null, false), 12, 4, 3);
+
+		CardinalityResponse organizationWide = cardinalityService.getOrganizationCardinality(organization.getId(),
+				LocalDate.now(), LocalDate.now());
+		assertCounts(organizationWide, 12, 4, 3);
+		assertEquals(2, organizationWide.getVerificationIdentifiers());
+
+		CardinalityResponse exact = cardinalityService.getElectionCardinality(election.getId(), null, null, true);
+		assertCounts(exact, 12, 4, 3);
+		assertTrue(exact.isExact());
+
+		// Nothing before the election
+		CardinalityResponse earlier = cardinalityService.getElectionCardinality(election.getId(),
+				LocalDate.now().minusDays(3), LocalDate.now().minusDays(2), false);
+		assertCounts(earlier, 0, 0, 0);
+	}
+
+	private static void assertCounts(CardinalityResponse response, long voters, long ipAddresses, long userAgents) {
+		assertEquals(voters, response.getVoters());
+		assertEquals(ipAddresses, response.getIpAddresses());
+		assertEquals(userAgents, response.getUserAgents());
+	}
+}
@@ -0,0 +1,135 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.ElectionResultResponse;
+import vote.Response.ElectionSummaryResponse;
+import vote.Service.ElectionResultService;
+import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+
+@SpringBootTest
+class ElectionResultServiceImplTest {
+
+	@Autowired
+	private ElectionResultService electionResultService;
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Test
+	void resultsAreRankedPerPositionAndFinalizedOnCompletion() {
+		Organization organization = new Organization();
+		organization.setName("Results Org");
+		organization.setCode("RESULTS");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Council", "Chair and treasurer",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate chairA = candidateRepository.save(new Candidate(election, "Chair A", "Chair"));
+		Candidate chairB = candidateRepository.save(new Candidate(election, "Chair B", "Chair"));
+		Candidate chairC = candidateRepository.save(new Candidate(election, "Chair C", "Chair"));
+		Candidate treasurer = candidateRepository.save(new Candidate(election, "Treasurer", "Treasurer"));
+		voteCounterService.registerElection(election.getId());
+		for (Candidate candidate : List.of(chairA, chairB, chairC, treasurer)) {
+			voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		}
+		liveTallyService.trackElection(election.getId());
+
+		// Chair: B 3, A 1, C 1; Treasurer: 2
+		Candidate[] choices = { chairB, chairB, chairB, chairA, chairC, treasurer, treasurer };
+		for (int i = 0; i < choices.length; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "RS" + i, "rs" + i + "@example.org", null, "Voter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(choices[i].getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+		electionResultService.refresh();
+
+		List<ElectionResultResponse> results = electionService.getElectionResults(election.getId(), null);
+		assertEquals(4, results.size());
+		assertEquals(chairB.getId(), results.get(0).getCandidateId());
+		assertEquals(1, results.get(0).getOverallRank());
+		assertEquals(60.0, results.get(0).getSharePercentage(), 1e-9);
+		assertEquals(treasurer.getId(), results.get(1).getCandidateId());
+		assertEquals(2, results.get(1).getOverallRank());
+		assertEquals(1, results.get(1).getPositionRank());
+		assertEquals(100.0, results.get(1).getSharePercentage(), 1e-9);
+		assertFalse(results.get(0).isFinalized());
+
+		// Tied candidates share a rank
+		List<ElectionResultResponse> chair = electionService.getElectionResults(election.getId(), "Chair");
+		assertEquals(List.of(1, 2, 2), chair.stream().map(ElectionResultResponse::getPositionRank).toList());
+		assertEquals(List.of(chairB.getId(), chairA.getId(), chairC.getId()),
+				chair.stream().map(ElectionResultResponse::getCandidateId).toList());
+
+		ElectionSummaryResponse summary = electionService.getElectionSummary(election.getId());
+		assertEquals("Chair B", summary.getLeadingCandidate());
+		assertEquals(3, summary.getLeadingCandidateVotes());
+		assertEquals(4, summary.getTotalCandidates());
+
+		// Completion recounts from the votes table and marks the rows final
+		election = electionRepository.findById(election.getId()).orElseThrow();
+		election.setEndTime(LocalDateTime.now().minusMinutes(1));
+		electionRepository.save(election);
+		electionService.completeElection(election.getId());
+		List<ElectionResultResponse> finalResults = electionService.getElectionResults(election.getId(), null);
+		assertTrue(finalResults.stream().allMatch(ElectionResultResponse::isFinalized));
+		assertEquals(3, finalResults.get(0).getVotes());
+	}
+}
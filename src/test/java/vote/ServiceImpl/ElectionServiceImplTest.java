@@ -0,0 +1,225 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Event.VoteCastEvent;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.BallotRequest;
+import vote.Request.BallotSelectionRequest;
+import vote.Response.ElectionSummaryResponse;
+import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.VoteAnomalyService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Util.VoteWeight;
+
+@SpringBootTest
+class ElectionServiceImplTest {
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private VoteAnomalyService voteAnomalyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void summaryCountsSelectionsAndLeaderFromTheSameTally() {
+		Organization organization = new Organization();
+		organization.setName("Summary Org");
+		organization.setCode("SUMMARY");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Board", "Summarised live",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(2));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setTotalVoters(4);
+		election = electionRepository.save(election);
+		Candidate first = candidateRepository.save(new Candidate(election, "A", "President"));
+		Candidate second = candidateRepository.save(new Candidate(election, "B", "President"));
+		Candidate treasurer = candidateRepository.save(new Candidate(election, "T", "Treasurer"));
+		voteCounterService.registerElection(election.getId());
+		for (Candidate candidate : List.of(first, second, treasurer)) {
+			voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		}
+		liveTallyService.trackElection(election.getId());
+
+		// One ballot with two selections, then two single-selection ballots for A
+		voteService.castBallot(ballot(election, voter(organization, 0), second, treasurer), "10.0.0.1", "test");
+		voteService.castBallot(ballot(election, voter(organization, 1), first), "10.0.0.2", "test");
+		voteService.castBallot(ballot(election, voter(organization, 2), first), "10.0.0.3", "test");
+
+		// Read straight away, before any scheduled results refresh
+		ElectionSummaryResponse summary = electionService.getElectionSummary(election.getId());
+		assertEquals(4, summary.getTotalVotes());
+		assertEquals(3, summary.getVotedCount());
+		assertEquals("A", summary.getLeadingCandidate());
+		assertEquals(2, summary.getLeadingCandidateVotes());
+		assertEquals(75, summary.getVoterTurnoutPercentage());
+		assertEquals(75, electionService.getElectionById(election.getId()).getVoterTurnout());
+	}
+
+	@Test
+	void lateVotesDoNotTrackACompletedElectionAgain() {
+		Organization organization = new Organization();
+		organization.setName("Late Vote Org");
+		organization.setCode("LATE");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Closing", "Votes racing the close",
+				LocalDateTime.now().minusHours(2), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Long electionId = election.getId();
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(electionId);
+		voteCounterService.registerCandidate(electionId, candidate.getId());
+		liveTallyService.trackElection(electionId);
+		voteAnomalyService.trackElection(electionId);
+		voteService.castBallot(ballot(election, voter(organization, 10), candidate), "10.0.0.1", "test");
+		Election ended = electionRepository.findById(electionId).orElseThrow();
+		ended.setEndTime(LocalDateTime.now().minusMinutes(1));
+		electionRepository.save(ended);
+
+		// Released once the completion commits, with the vote flushed to the candidate
+		electionService.completeElection(electionId);
+		assertFalse(liveTallyService.isTracked(electionId));
+		assertFalse(voteAnomalyService.isTracked(electionId));
+		assertEquals(1, candidateRepository.findById(candidate.getId()).orElseThrow().getVoteCount());
+
+		// A vote validated while the election was still active commits after the close
+		Long lateVoterId = voter(organization, 11).getId();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(
+				new VoteCastEvent(-1L, electionId, candidate.getId(), lateVoterId, LocalDateTime.now(), "10.0.0.2", "test",
+						VoteWeight.ONE)));
+		assertFalse(liveTallyService.isTracked(electionId));
+		assertFalse(voteAnomalyService.isTracked(electionId));
+
+		// Live elections still self-heal
+		Election live = electionRepository.save(new Election(organization, "Open", "Still voting",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1)));
+		live.setStatus(ElectionStatus.ACTIVE);
+		Long liveId = electionRepository.save(live).getId();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(
+				new VoteCastEvent(-2L, liveId, candidate.getId(), lateVoterId, LocalDateTime.now(), "10.0.0.3", "test",
+						VoteWeight.ONE)));
+		assertTrue(liveTallyService.isTracked(liveId));
+		assertTrue(voteAnomalyService.isTracked(liveId));
+	}
+
+	@Test
+	void selfHealedTalliesCountEachVoteOnce() {
+		Organization organization = new Organization();
+		organization.setName("Self Heal Org");
+		organization.setCode("HEAL");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Untracked", "Live but not in memory",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Long electionId = election.getId();
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(electionId);
+		voteCounterService.registerCandidate(electionId, candidate.getId());
+
+		// The first vote's event loads the tally, which already holds that vote
+		Long voteId = voteService.castBallot(ballot(election, voter(organization, 20), candidate), "10.0.1.1", "test")
+				.getVotes().get(0).getId();
+		assertTrue(liveTallyService.isTracked(electionId));
+		assertEquals(1, liveTallyService.getElectionVoteCount(electionId));
+
+		// An event arriving late for a vote the load counted is not counted again
+		publish(new VoteCastEvent(voteId, electionId, candidate.getId(), null, LocalDateTime.now(), "10.0.1.1", "test",
+				VoteWeight.ONE));
+		assertEquals(1, liveTallyService.getElectionVoteCount(electionId));
+
+		// A vote the load did not see is recorded once the tally is loaded, not lost to it
+		liveTallyService.releaseElection(electionId);
+		publish(new VoteCastEvent(-3L, electionId, candidate.getId(), null, LocalDateTime.now(), "10.0.1.2", "test",
+				VoteWeight.ONE));
+		assertEquals(2, liveTallyService.getElectionVoteCount(electionId));
+		assertEquals(2, liveTallyService.getCandidateVoteCount(candidate.getId()));
+	}
+
+	private void publish(VoteCastEvent event) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(event));
+	}
+
+	private VoterRegistry voter(Organization organization, int index) {
+		return voterRegistryRepository.save(new VoterRegistry(organization, "SM" + index,
+				"summary" + index + "@example.org", null, "Voter " + index));
+	}
+
+	private BallotRequest ballot(Election election, VoterRegistry voter, Candidate... candidates) {
+		List<BallotSelectionRequest> selections = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			BallotSelectionRequest selection = new BallotSelectionRequest();
+			selection.setCandidateId(candidate.getId());
+			selections.add(selection);
+		}
+		BallotRequest request = new BallotRequest();
+		request.setElectionId(election.getId());
+		request.setVoterRegistryId(voter.getId());
+		request.setSelections(selections);
+		return request;
+	}
+}
@@ -0,0 +1,168 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ServiceUnavailableException;
+import vote.Repository.IdempotencyRecordRepository;
+import vote.Request.VoteRequest;
+import vote.Response.VoteResponse;
+import vote.Service.VoteSubmission;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceImplTest {
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void retriesReplayTheOriginalReceipt() {
+		IdempotencyServiceImpl idempotency = new IdempotencyServiceImpl(idempotencyRecordRepository, 60, 100, 5000);
+		AtomicInteger casts = new AtomicInteger();
+		VoteRequest request = ballot(11L);
+
+		VoteResponse first = idempotency.castVote("voter1", "key-1", request, receipt(casts, 500L));
+		VoteResponse retry = idempotency.castVote("voter1", "key-1", ballot(11L), receipt(casts, 501L));
+
+		assertEquals(1, casts.get());
+		assertEquals(500L, first.getId());
+		assertEquals(500L, retry.getId());
+
+		// Same key, different ballot
+		VoteRequest changed = ballot(12L);
+		assertThrows(BusinessRuleException.class,
+				() -> idempotency.castVote("voter1", "key-1", changed, receipt(casts, 502L)));
+
+		// Keys are per user
+		assertEquals(503L, idempotency.castVote("voter2", "key-1", ballot(11L), receipt(casts, 503L)).getId());
+
+		// A cold cache answers from the table
+		IdempotencyServiceImpl restarted = new IdempotencyServiceImpl(idempotencyRecordRepository, 60, 100, 5000);
+		VoteResponse replayed = restarted.castVote("voter1", "key-1", ballot(11L), receipt(casts, 504L));
+		assertEquals(500L, replayed.getId());
+		assertEquals("Candidate 11", replayed.getCandidateName());
+		assertEquals(2, casts.get());
+	}
+
+	@Test
+	void concurrentRetriesCastOnce() throws Exception {
+		IdempotencyServiceImpl idempotency = new IdempotencyServiceImpl(idempotencyRecordRepository, 60, 100, 5000);
+		AtomicInteger casts = new AtomicInteger();
+		VoteSubmission slowCast = inTransaction -> {
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return receipt(casts, 600L).submit(inTransaction);
+		};
+
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<VoteResponse>> responses = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				responses.add(pool.submit(() -> idempotency.castVote("voter3", "key-2", ballot(11L), slowCast)));
+			}
+			for (Future<VoteResponse> response : responses) {
+				assertEquals(600L, response.get().getId());
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(1, casts.get());
+	}
+
+	@Test
+	void retriesAfterATimeoutWaitForTheQueuedVote() {
+		IdempotencyServiceImpl idempotency = new IdempotencyServiceImpl(idempotencyRecordRepository, 60, 100, 100);
+		AtomicInteger casts = new AtomicInteger();
+		CompletableFuture<VoteResponse> queued = new CompletableFuture<>();
+		List<Consumer<VoteResponse>> hooks = new ArrayList<>();
+		VoteSubmission slowWriter = inTransaction -> {
+			casts.incrementAndGet();
+			hooks.add(inTransaction);
+			return queued;
+		};
+
+		assertThrows(ServiceUnavailableException.class,
+				() -> idempotency.castVote("voter4", "key-3", ballot(11L), slowWriter));
+		assertThrows(ServiceUnavailableException.class,
+				() -> idempotency.castVote("voter4", "key-3", ballot(11L), receipt(casts, 701L)));
+		assertEquals(1, casts.get());
+
+		// The writer commits the original ballot, and its key with it
+		VoteResponse committed = response(700L);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> hooks.get(0).accept(committed));
+		queued.complete(committed);
+
+		assertEquals(700L, idempotency.castVote("voter4", "key-3", ballot(11L), receipt(casts, 702L)).getId());
+		assertTrue(idempotencyRecordRepository.findByScopeAndIdempotencyKey("voter4", "key-3").isPresent());
+		assertEquals(1, casts.get());
+	}
+
+	@Test
+	void aRolledBackVoteLeavesTheKeyFree() {
+		IdempotencyServiceImpl idempotency = new IdempotencyServiceImpl(idempotencyRecordRepository, 60, 100, 5000);
+		AtomicInteger casts = new AtomicInteger();
+		VoteSubmission failing = inTransaction -> new TransactionTemplate(transactionManager).execute(status -> {
+			casts.incrementAndGet();
+			inTransaction.accept(response(800L));
+			throw new BusinessRuleException("Election is not active or has ended");
+		});
+
+		assertThrows(BusinessRuleException.class,
+				() -> idempotency.castVote("voter5", "key-4", ballot(11L), failing));
+		assertTrue(idempotencyRecordRepository.findByScopeAndIdempotencyKey("voter5", "key-4").isEmpty());
+		assertEquals(801L, idempotency.castVote("voter5", "key-4", ballot(11L), receipt(casts, 801L)).getId());
+		assertEquals(2, casts.get());
+	}
+
+	private VoteRequest ballot(Long candidateId) {
+		VoteRequest request = new VoteRequest();
+		request.setElectionId(1L);
+		request.setCandidateId(candidateId);
+		request.setVoterRegistryId(7L);
+		return request;
+	}
+
+	// Stands in for a vote write: the hook runs in the same transaction as the ballot would
+	private VoteSubmission receipt(AtomicInteger casts, Long voteId) {
+		return inTransaction -> CompletableFuture
+				.completedFuture(new TransactionTemplate(transactionManager).execute(status -> {
+					casts.incrementAndGet();
+					VoteResponse response = response(voteId);
+					inTransaction.accept(response);
+					return response;
+				}));
+	}
+
+	private VoteResponse response(Long voteId) {
+		return VoteResponse.builder().id(voteId).electionId(1L).electionTitle("Election").candidateId(11L)
+				.candidateName("Candidate 11").voterRegistryId(7L).castAt(LocalDateTime.now())
+				.createdAt(LocalDateTime.now()).build();
+	}
+}
@@ -0,0 +1,197 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Service.CandidateService;
+import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.OrganizationService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Service.VoterRegistryService;
+
+/**
+ * Every list endpoint runs a fixed number of statements however many rows
+ * the page holds, so an association navigated per row fails here.
+ * Statements are counted on the calling thread only, so scheduled tasks
+ * writing in the background do not disturb the counts.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "vote.ServiceImpl.ListQueryCountTest$ThreadStatementCounter")
+class ListQueryCountTest {
+
+	private static final int ROWS = 4;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private CandidateService candidateService;
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private VoterRegistryService voterRegistryService;
+
+	@Autowired
+	private OrganizationService organizationService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	private Organization organization;
+	private Election election;
+	private VoterRegistry firstVoter;
+
+	@BeforeEach
+	void createElectionWithVotes() {
+		organization = new Organization();
+		organization.setName("Query Count Org " + System.nanoTime());
+		organization.setCode("QC" + System.nanoTime());
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		for (int e = 0; e < ROWS; e++) {
+			Election created = new Election(organization, "Election " + e, "Query count",
+					LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+			created.setStatus(ElectionStatus.ACTIVE);
+			created = electionRepository.save(created);
+			voteCounterService.registerElection(created.getId());
+			liveTallyService.trackElection(created.getId());
+			election = created;
+		}
+
+		Candidate[] candidates = new Candidate[ROWS];
+		for (int c = 0; c < ROWS; c++) {
+			candidates[c] = candidateRepository.save(new Candidate(election, "Candidate " + c, "Position " + c));
+			voteCounterService.registerCandidate(election.getId(), candidates[c].getId());
+		}
+		liveTallyService.trackElection(election.getId());
+
+		for (int v = 0; v < ROWS; v++) {
+			VoterRegistry voter = voterRegistryRepository.save(new VoterRegistry(organization, null,
+					"qc" + v + "." + organization.getId() + "@example.org", null, "Voter " + v));
+			if (v == 0) {
+				firstVoter = voter;
+			}
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(candidates[v].getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+	}
+
+	@Test
+	void electionVotesPageIsOneStatement() {
+		assertStatements(1, ROWS, () -> voteService.getVotesByElection(election.getId(), null, 50).getItems());
+	}
+
+	@Test
+	void voterVotesPageIsOneStatement() {
+		assertStatements(1, 1, () -> voteService.getVotesByVoter(firstVoter.getId(), null, 50).getItems());
+	}
+
+	@Test
+	void candidatePageIsOneStatement() {
+		assertStatements(1, ROWS,
+				() -> candidateService.getCandidatesByElection(election.getId(), true, null, 50).getItems());
+	}
+
+	@Test
+	void publicCandidateListReadsTheElectionAndOneProjection() {
+		assertStatements(2, ROWS, () -> candidateService.getActiveCandidatesByElection(election.getId()));
+	}
+
+	@Test
+	void voterRegistryPageIsOneStatement() {
+		assertStatements(1, ROWS,
+				() -> voterRegistryService.getVotersByOrganization(organization.getId(), null, null, 50).getItems());
+	}
+
+	@Test
+	void voterSearchIsOneStatement() {
+		assertStatements(1, ROWS,
+				() -> voterRegistryService.searchVoters(organization.getId(), null, "@example.org", null, null));
+	}
+
+	// Elections add one batched participation lookup for the whole page
+	@Test
+	void electionPageIsOneStatementPlusParticipation() {
+		assertStatements(2, ROWS,
+				() -> electionService.getElectionsByOrganization(organization.getId(), null, null, 50).getItems());
+	}
+
+	@Test
+	void activeElectionsAreOneStatementPlusParticipation() {
+		assertStatements(2, ROWS, () -> electionService.getActiveElections(organization.getId()));
+	}
+
+	@Test
+	void organizationPageIsOneStatement() {
+		assertStatements(1, 1, () -> organizationService.getAllOrganizations(null, 1).getItems());
+	}
+
+	private void assertStatements(long expected, int expectedRows, Supplier<List<?>> call) {
+		ThreadStatementCounter.STATEMENTS.set(0L);
+		List<?> rows = call.get();
+		assertEquals(expectedRows, rows.size());
+		assertEquals(expected, ThreadStatementCounter.STATEMENTS.get());
+	}
+
+	public static class ThreadStatementCounter implements StatementInspector {
+
+		private static final long serialVersionUID = 1L;
+
+		static final ThreadLocal<Long> STATEMENTS = ThreadLocal.withInitial(() -> 0L);
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.set(STATEMENTS.get() + 1);
+			return sql;
+		}
+	}
+}
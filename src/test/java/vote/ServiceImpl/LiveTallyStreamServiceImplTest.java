@@ -0,0 +1,145 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import vote.Controller.VotingController;
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Service.LiveTallyService;
+import vote.Service.LiveTallyStreamService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+
+@SpringBootTest
+class LiveTallyStreamServiceImplTest {
+
+	@Autowired
+	private LiveTallyStreamService liveTallyStreamService;
+
+	@Autowired
+	private VotingController votingController;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Test
+	@WithMockUser(roles = "SUPER_ADMIN")
+	void watchersShareOneCoalescedFramePerTick() throws Exception {
+		Organization organization = new Organization();
+		organization.setName("Stream Org");
+		organization.setCode("STREAM");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Streamed", "Watched live",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setTotalVoters(10);
+		election = electionRepository.save(election);
+		Candidate first = candidateRepository.save(new Candidate(election, "First", "Chair"));
+		Candidate second = candidateRepository.save(new Candidate(election, "Second", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), first.getId());
+		voteCounterService.registerCandidate(election.getId(), second.getId());
+		liveTallyService.trackElection(election.getId());
+
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(votingController).build();
+		MvcResult[] watchers = new MvcResult[2];
+		for (int i = 0; i < watchers.length; i++) {
+			watchers[i] = mockMvc.perform(get("/api/votes/election/{electionId}/stream", election.getId()))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+		}
+		assertEquals(2, liveTallyStreamService.getSubscriberCount(election.getId()));
+		String opening = watchers[0].getResponse().getContentAsString();
+		assertTrue(opening.startsWith("id:1\nevent:tally\ndata:"), opening);
+		assertTrue(opening.contains("\"full\":true"), opening);
+
+		// Five quick votes are coalesced; the scheduler may have published some of them already
+		Candidate[] choices = { first, first, first, second, second };
+		for (int i = 0; i < choices.length; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "ST" + i, "st" + i + "@example.org", null, "Watcher " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(choices[i].getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+		liveTallyStreamService.publish();
+		assertEquals(0, liveTallyStreamService.publish());
+
+		// After its opening frame, every watcher gets the same bytes
+		String stream = watchers[0].getResponse().getContentAsString();
+		String other = watchers[1].getResponse().getContentAsString();
+		assertEquals(stream.substring(stream.indexOf("\n\n")), other.substring(other.indexOf("\n\n")));
+		String[] frames = stream.split("\n\n");
+		assertTrue(frames.length > 1 && frames.length - 1 < choices.length, stream);
+		String last = frames[frames.length - 1];
+		assertTrue(last.startsWith("id:" + frames.length + "\nevent:tally\ndata:"), last);
+		assertTrue(last.contains("\"full\":false"), last);
+		assertTrue(last.contains("\"totalVotes\":5"), last);
+		assertTrue(last.contains("\"participants\":5"), last);
+		assertTrue(last.contains("\"turnoutPercentage\":50.0"), last);
+		assertTrue(stream.contains("\"" + first.getId() + "\":3"), stream);
+		assertTrue(stream.contains("\"" + second.getId() + "\":2"), stream);
+	}
+
+	@Test
+	void framePeriodIsValidatedAtStartup() {
+		assertEquals(250, liveTallyStreamService.getFramePeriodMillis());
+		assertEquals(1, new LiveTallyStreamServiceImpl(liveTallyService, null, electionRepository, 1000, 1000)
+				.getFramePeriodMillis());
+		assertThrows(IllegalArgumentException.class,
+				() -> new LiveTallyStreamServiceImpl(liveTallyService, null, electionRepository, 1000, 0));
+		assertThrows(IllegalArgumentException.class,
+				() -> new LiveTallyStreamServiceImpl(liveTallyService, null, electionRepository, 1000, 1001));
+	}
+}
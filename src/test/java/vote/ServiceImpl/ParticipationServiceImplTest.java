@@ -0,0 +1,198 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.persistence.EntityManagerFactory;
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.ParticipationSnapshot;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.ParticipationSnapshotRepository;
+import vote.Repository.VoteRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Service.ElectionService;
+import vote.Service.ParticipationService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Util.ParticipationBitmap;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ParticipationServiceImplTest {
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private ParticipationService participationService;
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Autowired
+	private ParticipationSnapshotRepository participationSnapshotRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void votersCanVoteInEachElectionOnceAndStatusIsServedFromMemory() {
+		Organization organization = new Organization();
+		organization.setName("Participation Org");
+		organization.setCode("PART");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election senate = election(organization, "Senate");
+		Election union = election(organization, "Union");
+		Candidate senator = candidate(senate, "Senator");
+		Candidate president = candidate(union, "President");
+		VoterRegistry alice = voterRegistryRepository
+				.save(new VoterRegistry(organization, "PT1", "alice@example.org", null, "Alice"));
+		VoterRegistry bob = voterRegistryRepository
+				.save(new VoterRegistry(organization, "PT2", "bob@example.org", null, "Bob"));
+
+		// One registry, two elections
+		voteService.castVote(vote(senate, senator, alice), "127.0.0.1", "test");
+		voteService.castVote(vote(union, president, alice), "127.0.0.1", "test");
+		voteService.castVote(vote(senate, senator, bob), "127.0.0.1", "test");
+		assertEquals(2, voteRepository.countByElectionId(senate.getId()));
+		assertEquals(1, voteRepository.countByElectionId(union.getId()));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertTrue(voteService.hasVoted(senate.getId(), alice.getId()));
+		assertTrue(voteService.hasVoted(union.getId(), alice.getId()));
+		assertTrue(voteService.hasVoted(senate.getId(), bob.getId()));
+		assertFalse(voteService.hasVoted(union.getId(), bob.getId()));
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertEquals(2, participationService.getVoterCount(senate.getId()));
+
+		// A restarted node loads the snapshot and replays nothing
+		// The context may be shared with other tests' elections
+		assertTrue(participationService.snapshot() >= 2);
+		assertEquals(0, participationService.snapshot());
+		ParticipationServiceImpl restarted = new ParticipationServiceImpl(voteRepository, electionRepository,
+				participationSnapshotRepository, transactionManager);
+		assertTrue(restarted.hasVoted(union.getId(), alice.getId()));
+		assertFalse(restarted.hasVoted(union.getId(), bob.getId()));
+		assertEquals(2, restarted.getVoterCount(senate.getId()));
+
+		// A snapshot that disagrees with the votes table is rebuilt from it
+		ParticipationSnapshot stale = participationSnapshotRepository.findByElectionId(senate.getId()).orElseThrow();
+		stale.setBitmap(new ParticipationBitmap().toBytes());
+		stale.setVoterCount(0);
+		participationSnapshotRepository.save(stale);
+		ParticipationServiceImpl recovered = new ParticipationServiceImpl(voteRepository, electionRepository,
+				participationSnapshotRepository, transactionManager);
+		assertTrue(recovered.hasVoted(senate.getId(), bob.getId()));
+		assertEquals(2, recovered.getVoterCount(senate.getId()));
+	}
+
+	@Test
+	void onlyLiveElectionsAreHeldInMemory() {
+		Organization organization = new Organization();
+		organization.setName("Closing Org");
+		organization.setCode("CLOSE");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election board = election(organization, "Board");
+		Candidate chair = candidate(board, "Chair");
+		VoterRegistry carol = voterRegistryRepository
+				.save(new VoterRegistry(organization, "CL1", "carol@example.org", null, "Carol"));
+		VoterRegistry dave = voterRegistryRepository
+				.save(new VoterRegistry(organization, "CL2", "dave@example.org", null, "Dave"));
+		voteService.castVote(vote(board, chair, carol), "127.0.0.1", "test");
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertTrue(participationService.hasVoted(board.getId(), carol.getId()));
+		assertEquals(0, statistics.getPrepareStatementCount());
+
+		// Completion drops the bitmap; the votes table answers from then on
+		Election ended = electionRepository.findById(board.getId()).orElseThrow();
+		ended.setEndTime(LocalDateTime.now().minusMinutes(1));
+		electionRepository.save(ended);
+		electionService.completeElection(board.getId());
+		for (int i = 0; i < 2; i++) {
+			statistics.clear();
+			assertTrue(participationService.hasVoted(board.getId(), carol.getId()));
+			assertFalse(participationService.hasVoted(board.getId(), dave.getId()));
+			assertEquals(1, participationService.getVoterCount(board.getId()));
+			assertTrue(statistics.getPrepareStatementCount() > 0);
+		}
+
+		// Unknown elections are never cached either
+		participationService.recordVote(-1L, carol.getId(), 1L);
+		assertFalse(participationService.hasVoted(-1L, carol.getId()));
+		assertEquals(0, participationService.getVoterCount(-1L));
+	}
+
+	private Election election(Organization organization, String title) {
+		Election election = new Election(organization, title, title + " election",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		voteCounterService.registerElection(election.getId());
+		return election;
+	}
+
+	private Candidate candidate(Election election, String name) {
+		Candidate candidate = candidateRepository.save(new Candidate(election, name, name));
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		return candidate;
+	}
+
+	private VoteRequest vote(Election election, Candidate candidate, VoterRegistry voter) {
+		VoteRequest request = new VoteRequest();
+		request.setElectionId(election.getId());
+		request.setCandidateId(candidate.getId());
+		request.setVoterRegistryId(voter.getId());
+		return request;
+	}
+}
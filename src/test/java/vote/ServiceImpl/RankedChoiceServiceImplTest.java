@@ -0,0 +1,135 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Enum.VotingMethod;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.BallotRequest;
+import vote.Request.BallotSelectionRequest;
+import vote.Response.RankedChoiceResultResponse;
+import vote.Response.RankedRaceResponse;
+import vote.Service.RankedChoiceService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+
+@SpringBootTest
+class RankedChoiceServiceImplTest {
+
+	@Autowired
+	private RankedChoiceService rankedChoiceService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	private int voters;
+
+	@Test
+	void rankedBallotsAreCountedPerPosition() {
+		Organization organization = new Organization();
+		organization.setName("Ranked Org");
+		organization.setCode("RANKED");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Ranked", "Preferences",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setVotingMethod(VotingMethod.INSTANT_RUNOFF);
+		election = electionRepository.save(election);
+		Candidate a = candidateRepository.save(new Candidate(election, "A", "Chair"));
+		Candidate b = candidateRepository.save(new Candidate(election, "B", "Chair"));
+		Candidate c = candidateRepository.save(new Candidate(election, "C", "Chair"));
+		Candidate treasurer = candidateRepository.save(new Candidate(election, "T", "Treasurer"));
+		voteCounterService.registerElection(election.getId());
+		for (Candidate candidate : List.of(a, b, c, treasurer)) {
+			voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		}
+
+		// A leads on first preferences, but C's voters prefer B to A; the treasurer race is uncontested
+		for (int i = 0; i < 4; i++) {
+			cast(organization, election, a, treasurer);
+		}
+		for (int i = 0; i < 3; i++) {
+			cast(organization, election, b, c);
+		}
+		for (int i = 0; i < 2; i++) {
+			cast(organization, election, treasurer, c, b);
+		}
+
+		RankedChoiceResultResponse results = rankedChoiceService.getRankedChoiceResults(election.getId());
+		assertEquals(9, results.getBallots());
+		assertEquals(2, results.getRaces().size());
+
+		RankedRaceResponse chair = results.getRaces().get(0);
+		assertEquals("Chair", chair.getPosition());
+		assertEquals(9, chair.getValidBallots());
+		assertEquals(List.of(b.getId()), chair.getWinners());
+		assertEquals(c.getId(), chair.getRounds().get(0).getEliminated());
+		assertEquals(5, chair.getRounds().get(1).getVotes().get(b.getId()));
+
+		RankedRaceResponse treasury = results.getRaces().get(1);
+		assertEquals(6, treasury.getValidBallots());
+		assertEquals(List.of(treasurer.getId()), treasury.getWinners());
+
+		Election plurality = electionRepository.save(new Election(organization, "Plain", "First past the post",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1)));
+		assertThrows(BusinessRuleException.class, () -> rankedChoiceService.getRankedChoiceResults(plurality.getId()));
+	}
+
+	private void cast(Organization organization, Election election, Candidate... ranking) {
+		int n = voters++;
+		VoterRegistry voter = voterRegistryRepository
+				.save(new VoterRegistry(organization, "RK" + n, "rk" + n + "@example.org", null, "Voter " + n));
+		List<BallotSelectionRequest> selections = new ArrayList<>();
+		for (Candidate candidate : ranking) {
+			BallotSelectionRequest selection = new BallotSelectionRequest();
+			selection.setCandidateId(candidate.getId());
+			selections.add(selection);
+		}
+		BallotRequest request = new BallotRequest();
+		request.setElectionId(election.getId());
+		request.setVoterRegistryId(voter.getId());
+		request.setSelections(selections);
+		voteService.castBallot(request, "127.0.0.1", "test");
+	}
+}
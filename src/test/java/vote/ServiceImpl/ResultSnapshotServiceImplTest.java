@@ -0,0 +1,217 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.ResultSnapshot;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.ResultSnapshotRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.CandidateResponse;
+import vote.Response.ElectionResultResponse;
+import vote.Service.CandidateService;
+import vote.Service.ElectionResultService;
+import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.ResultSnapshotService;
+import vote.Service.SealedResults;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Util.VoteWeight;
+
+@SpringBootTest
+class ResultSnapshotServiceImplTest {
+
+	@Autowired
+	private ResultSnapshotService resultSnapshotService;
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private CandidateService candidateService;
+
+	@Autowired
+	private ElectionResultService electionResultService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private ResultSnapshotRepository resultSnapshotRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void completionSealsResultsThatLiveChangesCannotReach() throws Exception {
+		Organization organization = new Organization();
+		organization.setName("Sealed Org");
+		organization.setCode("SEALED");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Board", "Sealed at close",
+				LocalDateTime.now().minusHours(2), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setTotalVoters(4);
+		election = electionRepository.save(election);
+		Long electionId = election.getId();
+		Candidate chair = candidateRepository.save(new Candidate(election, "Chair One", "Chair"));
+		Candidate rival = candidateRepository.save(new Candidate(election, "Chair Two", "Chair"));
+		Candidate treasurer = candidateRepository.save(new Candidate(election, "Treasurer", "Treasurer"));
+		voteCounterService.registerElection(electionId);
+		for (Candidate candidate : List.of(chair, rival, treasurer)) {
+			voteCounterService.registerCandidate(electionId, candidate.getId());
+		}
+		liveTallyService.trackElection(electionId);
+
+		Long[] ballots = { chair.getId(), chair.getId(), rival.getId() };
+		for (int i = 0; i < ballots.length; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "SL" + i, "sl" + i + "@example.org", null, "Voter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(electionId);
+			request.setCandidateId(ballots[i]);
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+
+		Election ended = electionRepository.findById(electionId).orElseThrow();
+		ended.setEndTime(LocalDateTime.now().minusMinutes(1));
+		electionRepository.save(ended);
+		electionService.completeElection(electionId);
+
+		// Sealed but not yet published
+		assertThrows(BusinessRuleException.class, () -> resultSnapshotService.getPublishedResults(electionId));
+		assertThrows(BusinessRuleException.class, () -> resultSnapshotService.seal(electionId));
+		electionService.publishResults(electionId);
+
+		SealedResults sealed = resultSnapshotService.getPublishedResults(electionId);
+		byte[] payload = sealed.getPayload().clone();
+		assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload)),
+				sealed.getChecksum());
+
+		JsonNode root = new ObjectMapper().readTree(payload);
+		assertEquals("Board", root.get("title").asText());
+		assertEquals(3, root.get("voters").asLong());
+		assertEquals(75, root.get("turnoutPercentage").asInt());
+		assertEquals("Chair", root.get("positions").get(0).get("position").asText());
+		assertEquals(chair.getId(), root.get("positions").get(0).get("candidates").get(0).get("candidateId").asLong());
+		assertEquals(2, root.get("positions").get(0).get("candidates").get(0).get("votes").asLong());
+		assertEquals(0, root.get("positions").get(1).get("votes").asLong());
+
+		// The live tables move on after the election closed
+		new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> {
+					candidateRepository.updateVoteCount(rival.getId(), 40);
+					candidateRepository.updateWeightedVotes(rival.getId(), 40 * VoteWeight.ONE);
+				});
+		// and a refresh of a completed election leaves its final rows alone
+		electionResultService.markStale(electionId);
+		electionResultService.refresh();
+		assertEquals(chair.getId(), electionResultService.getLeader(electionId).getCandidateId());
+		assertTrue(electionResultService.getLeader(electionId).isFinalized());
+
+		List<ElectionResultResponse> results = electionService.getElectionResults(electionId, "Chair");
+		assertEquals(chair.getId(), results.get(0).getCandidateId());
+		assertEquals(1, results.get(1).getVotes());
+		CandidateResponse publicRival = candidateService.getActiveCandidatesByElection(electionId).stream()
+				.filter(candidate -> candidate.getId().equals(rival.getId()))
+				.findFirst()
+				.orElseThrow();
+		assertEquals(1, publicRival.getVoteCount());
+
+		// Deactivating a candidate after the close does not drop its final line
+		candidateService.deactivateCandidate(rival.getId(), electionId);
+		electionResultService.refresh();
+		assertEquals(3, electionResultService.getResults(electionId, null).size());
+
+		assertArrayEquals(payload, resultSnapshotService.getPublishedResults(electionId).getPayload());
+		byte[] organizationResults = resultSnapshotService.getPublishedResultsPayload(organization.getId());
+		assertEquals(electionId, new ObjectMapper().readTree(organizationResults).get(0).get("electionId").asLong());
+		assertNull(resultSnapshotService.getSealedResults(-1L));
+	}
+
+	@Test
+	void completionDoesNotDependOnSealing() {
+		Organization organization = new Organization();
+		organization.setName("Unsealed Org");
+		organization.setCode("UNSEALED");
+		organization = organizationRepository.save(organization);
+
+		// A snapshot is already in place for one of them, so sealing it is not possible
+		Election stuck = ended(organization, "Stuck");
+		Election clean = ended(organization, "Clean");
+		byte[] payload = "{}".getBytes();
+		resultSnapshotRepository.save(new ResultSnapshot(stuck.getId(), organization.getId(), LocalDateTime.now(),
+				"0".repeat(64), payload));
+
+		// One scheduler run completes both, and seals the one that can be sealed
+		electionService.updateElectionStatuses();
+		assertEquals(ElectionStatus.COMPLETED, electionRepository.findById(stuck.getId()).orElseThrow().getStatus());
+		assertEquals(ElectionStatus.COMPLETED, electionRepository.findById(clean.getId()).orElseThrow().getStatus());
+		assertTrue(resultSnapshotRepository.existsByElectionId(clean.getId()));
+		assertArrayEquals(payload, resultSnapshotRepository.findByElectionId(stuck.getId()).orElseThrow().getPayload());
+	}
+
+	private Election ended(Organization organization, String title) {
+		Election election = new Election(organization, title, title + " election",
+				LocalDateTime.now().minusHours(2), LocalDateTime.now().minusMinutes(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		voteCounterService.registerElection(election.getId());
+		return election;
+	}
+}
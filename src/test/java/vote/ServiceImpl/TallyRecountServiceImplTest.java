@@ -0,0 +1,211 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Exception.BusinessRuleException;
+import vote.Exception.ResourceNotFoundException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.CandidateRecountResponse;
+import vote.Response.RecountResponse;
+import vote.Service.ElectionResultService;
+import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.TallyRecountService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Util.VoteWeight;
+
+@SpringBootTest(properties = "voting.recount.partition-size=2")
+class TallyRecountServiceImplTest {
+
+	@Autowired
+	private TallyRecountService tallyRecountService;
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private ElectionResultService electionResultService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void recountReportsDriftAndRepairsIt() {
+		Organization organization = new Organization();
+		organization.setName("Recount Org");
+		organization.setCode("RECOUNT");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Recount", "Audited",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Long electionId = election.getId();
+		Candidate first = candidateRepository.save(new Candidate(election, "First", "Chair"));
+		Candidate second = candidateRepository.save(new Candidate(election, "Second", "Chair"));
+		voteCounterService.registerElection(electionId);
+		voteCounterService.registerCandidate(electionId, first.getId());
+		voteCounterService.registerCandidate(electionId, second.getId());
+		liveTallyService.trackElection(electionId);
+
+		for (int i = 0; i < 5; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "RC" + i, "rc" + i + "@example.org", null, "Voter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(electionId);
+			request.setCandidateId(i < 3 ? first.getId() : second.getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+		liveTallyService.flush();
+
+		// Several small partitions still add up to the whole election
+		RecountResponse clean = tallyRecountService.recount(electionId, false);
+		assertTrue(clean.isConsistent());
+		assertEquals(5, clean.getVotes());
+		assertEquals(5, clean.getVoters());
+		assertTrue(clean.getPartitions() > 1, clean.getPartitions() + " partitions");
+		assertEquals(3, candidate(clean, first.getId()).getRecountedVotes());
+
+		// A lost vote_count update and a counter bumped twice
+		new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> candidateRepository.updateVoteCount(first.getId(), 7));
+		voteCounterService.incrementCandidateVotes(electionId, second.getId(), 4);
+
+		RecountResponse drifted = tallyRecountService.recount(electionId, false);
+		assertFalse(drifted.isConsistent());
+		assertFalse(drifted.isRepaired());
+		assertEquals(4, candidate(drifted, first.getId()).getPersistedDifference());
+		assertEquals(0, candidate(drifted, first.getId()).getCounterDifference());
+		assertEquals(4, candidate(drifted, second.getId()).getCounterDifference());
+		assertThrows(BusinessRuleException.class, () -> tallyRecountService.recount(electionId, true));
+
+		electionService.pauseElection(electionId);
+		assertTrue(tallyRecountService.recount(electionId, true).isRepaired());
+		assertTrue(liveTallyService.isTracked(electionId));
+		assertEquals(3, candidateRepository.findById(first.getId()).orElseThrow().getVoteCount());
+		assertEquals(2, voteCounterService.getCandidateVoteCount(second.getId()));
+		assertTrue(tallyRecountService.recount(electionId, false).isConsistent());
+
+		assertThrows(ResourceNotFoundException.class, () -> tallyRecountService.recount(-1L, false));
+	}
+
+	@Test
+	void weightedVotesAreSummedExactlyAndReconciled() {
+		Organization organization = new Organization();
+		organization.setName("Shareholder Org");
+		organization.setCode("SHARES");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "AGM", "Weighted by shares",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setWeighted(true);
+		election = electionRepository.save(election);
+		Long electionId = election.getId();
+		Candidate first = candidateRepository.save(new Candidate(election, "First", "Chair"));
+		Candidate second = candidateRepository.save(new Candidate(election, "Second", "Chair"));
+		voteCounterService.registerElection(electionId);
+		voteCounterService.registerCandidate(electionId, first.getId());
+		voteCounterService.registerCandidate(electionId, second.getId());
+		liveTallyService.trackElection(electionId);
+
+		// Two holders for First (2.5 and the default single vote) are outweighed by one for Second
+		String[] weights = { "2.5", null, "10.0001" };
+		for (int i = 0; i < weights.length; i++) {
+			VoterRegistry voter = new VoterRegistry(organization, "SH" + i, "sh" + i + "@example.org", null,
+					"Holder " + i);
+			voter.setWeight(weights[i] != null ? VoteWeight.of(new BigDecimal(weights[i])) : null);
+			voter = voterRegistryRepository.save(voter);
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(electionId);
+			request.setCandidateId(i < 2 ? first.getId() : second.getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+		liveTallyService.flush();
+		assertEquals(35_000L, liveTallyService.getCandidateWeightedVotes(electionId).get(first.getId()));
+		assertEquals(100_001L, candidateRepository.findById(second.getId()).orElseThrow().getWeightedVotes());
+
+		RecountResponse clean = tallyRecountService.recount(electionId, false);
+		assertTrue(clean.isConsistent());
+		assertTrue(clean.isReconciled());
+		assertEquals(3, clean.getAggregateVotes());
+		assertEquals(0, new BigDecimal("13.5001").compareTo(clean.getWeightedVotes()));
+		assertEquals(0, new BigDecimal("3.5").compareTo(candidate(clean, first.getId()).getRecountedWeight()));
+
+		electionResultService.refresh();
+		assertEquals(second.getId(), electionResultService.getLeader(electionId).getCandidateId());
+
+		// A lost weighted_votes update is a drift even though every count is right
+		new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> candidateRepository.updateWeightedVotes(first.getId(), 1L));
+		electionService.pauseElection(electionId);
+		RecountResponse drifted = tallyRecountService.recount(electionId, true);
+		assertFalse(drifted.isConsistent());
+		assertEquals(0, new BigDecimal("-3.4999")
+				.compareTo(candidate(drifted, first.getId()).getPersistedWeightDifference()));
+		assertTrue(drifted.isRepaired());
+		assertEquals(35_000L, candidateRepository.findById(first.getId()).orElseThrow().getWeightedVotes());
+		assertTrue(tallyRecountService.recount(electionId, false).isConsistent());
+	}
+
+	private static CandidateRecountResponse candidate(RecountResponse response, Long candidateId) {
+		return response.getCandidates().stream()
+				.filter(candidate -> candidate.getCandidateId().equals(candidateId))
+				.findFirst()
+				.orElseThrow();
+	}
+}
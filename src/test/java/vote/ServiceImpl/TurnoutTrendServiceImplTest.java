@@ -0,0 +1,140 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.OTPChannel;
+import vote.Event.VoteCastEvent;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.TurnoutBucketRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.TurnoutBucketResponse;
+import vote.Service.ElectionService;
+import vote.Service.LiveTallyService;
+import vote.Service.TurnoutTrendService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Util.VoteWeight;
+
+@SpringBootTest
+class TurnoutTrendServiceImplTest {
+
+	@Autowired
+	private TurnoutTrendService turnoutTrendService;
+
+	@Autowired
+	private TurnoutTrendServiceImpl turnoutTrendServiceImpl;
+
+	@Autowired
+	private ElectionService electionService;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private TurnoutBucketRepository turnoutBucketRepository;
+
+	@Test
+	void trendIsServedFromMemoryWhileLiveAndFromBucketsOnceCompleted() {
+		Organization organization = new Organization();
+		organization.setName("Turnout Org");
+		organization.setCode("TURNOUT");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Trend", "Charted",
+				LocalDateTime.now().minusHours(2), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		liveTallyService.trackElection(election.getId());
+		turnoutTrendService.trackElection(election.getId());
+
+		for (int i = 0; i < 3; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "TT" + i, "tt" + i + "@example.org", null, "Voter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(candidate.getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+
+		// Two hours of minutes, every one but the last few empty
+		List<TurnoutBucketResponse> minutes = turnoutTrendService.getVoterTurnoutTrend(election.getId(), "minute");
+		assertTrue(minutes.size() >= 120 && minutes.size() <= 122, minutes.size() + " buckets");
+		assertEquals(3, sum(minutes));
+		assertEquals(3, minutes.get(minutes.size() - 1).getCumulativeVotes());
+		assertEquals(0, minutes.get(0).getCumulativeVotes());
+		List<TurnoutBucketResponse> hours = turnoutTrendService.getVoterTurnoutTrend(election.getId(), "HOUR");
+		assertTrue(hours.size() >= 2 && hours.size() <= 3, hours.size() + " buckets");
+		assertEquals(3, hours.get(hours.size() - 1).getVotes() + hours.get(hours.size() - 2).getVotes());
+		Long electionId = election.getId();
+		assertThrows(BusinessRuleException.class, () -> turnoutTrendService.getVoterTurnoutTrend(electionId, "week"));
+
+		// Completion writes the non-empty buckets and the series leaves memory
+		election.setEndTime(LocalDateTime.now().minusSeconds(1));
+		electionRepository.save(election);
+		electionService.completeElection(election.getId());
+		assertFalse(turnoutTrendService.isTracked(election.getId()));
+		assertTrue(turnoutBucketRepository.findByElectionId(election.getId()).size() <= 4);
+
+		List<TurnoutBucketResponse> persisted = turnoutTrendService.getVoterTurnoutTrend(election.getId(), "hour");
+		assertEquals(3, sum(persisted));
+		assertEquals(3, persisted.get(persisted.size() - 1).getCumulativeVotes());
+		assertEquals(3, sum(turnoutTrendService.getVoterTurnoutTrend(election.getId(), "minute")));
+
+		// A vote committing after completion does not bring the series back
+		turnoutTrendServiceImpl.onVoteCast(new VoteCastEvent(Long.MAX_VALUE, election.getId(), candidate.getId(),
+				null, LocalDateTime.now(), "127.0.0.1", "test", VoteWeight.ONE));
+		assertFalse(turnoutTrendService.isTracked(election.getId()));
+	}
+
+	private static long sum(List<TurnoutBucketResponse> buckets) {
+		return buckets.stream().mapToLong(TurnoutBucketResponse::getVotes).sum();
+	}
+}
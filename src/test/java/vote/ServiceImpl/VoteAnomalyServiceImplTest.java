@@ -0,0 +1,76 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import vote.Enum.AnomalyAction;
+import vote.Event.VoteCastEvent;
+import vote.Exception.BusinessRuleException;
+import vote.Response.SuspiciousIpResponse;
+import vote.Util.VoteWeight;
+
+class VoteAnomalyServiceImplTest {
+
+	private static final Long ELECTION = 1L;
+
+	@Test
+	void hotIpsAreReportedAndThrottled() {
+		VoteAnomalyServiceImpl service = new VoteAnomalyServiceImpl(null, AnomalyAction.THROTTLE, 20, 4, 2);
+		service.trackElection(ELECTION);
+
+		// Background: one vote each from many addresses, then one address casting 30 with a single agent
+		long voteId = 0;
+		for (int i = 0; i < 200; i++) {
+			service.onVoteCast(vote(++voteId, "10.1." + i / 100 + "." + i % 100, "Browser " + i % 5));
+		}
+		for (int i = 0; i < 30; i++) {
+			service.onVoteCast(vote(++voteId, "203.0.113.9", "curl/8.0"));
+		}
+
+		List<SuspiciousIpResponse> suspicious = service.getSuspiciousIps(ELECTION);
+		assertEquals(1, suspicious.size());
+		SuspiciousIpResponse hot = suspicious.get(0);
+		assertEquals("203.0.113.9", hot.getIpAddress());
+		assertTrue(hot.getEstimatedVotes() >= 30, "estimate " + hot.getEstimatedVotes());
+		assertEquals(1, hot.getDistinctUserAgents());
+		assertTrue(hot.getSharePercentage() > 10 && hot.getSharePercentage() < 15, "share " + hot.getSharePercentage());
+
+		// Quiet addresses pass; the hot one gets its per-minute allowance and no more
+		service.checkVote(ELECTION, "10.1.0.1");
+		service.checkVote(ELECTION, "203.0.113.9");
+		service.checkVote(ELECTION, "203.0.113.9");
+		assertThrows(BusinessRuleException.class, () -> service.checkVote(ELECTION, "203.0.113.9"));
+		assertEquals(1, service.getSuspiciousIps(ELECTION).get(0).getThrottledVotes());
+
+		service.releaseElection(ELECTION);
+		service.checkVote(ELECTION, "203.0.113.9");
+	}
+
+	@Test
+	void flaggingCountsVotesWithoutRejectingThem() {
+		VoteAnomalyServiceImpl service = new VoteAnomalyServiceImpl(null, AnomalyAction.FLAG, 5, 4, 2);
+		service.trackElection(ELECTION);
+		for (int i = 0; i < 5; i++) {
+			service.onVoteCast(vote(i + 1, "198.51.100.4", "Agent " + i));
+		}
+		for (int i = 0; i < 3; i++) {
+			service.checkVote(ELECTION, "198.51.100.4");
+		}
+
+		SuspiciousIpResponse hot = service.getSuspiciousIps(ELECTION).get(0);
+		assertEquals(3, hot.getFlaggedVotes());
+		assertEquals(0, hot.getThrottledVotes());
+		assertEquals(5, hot.getDistinctUserAgents());
+	}
+
+	private static VoteCastEvent vote(long voteId, String ipAddress, String userAgent) {
+		return new VoteCastEvent(voteId, ELECTION, 1L, voteId, LocalDateTime.now(), ipAddress, userAgent,
+				VoteWeight.ONE);
+	}
+}
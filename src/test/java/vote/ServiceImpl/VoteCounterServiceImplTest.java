@@ -0,0 +1,113 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import vote.Repository.CandidateRepository;
+import vote.Repository.VoteCounterRepository;
+import vote.Repository.VoteRepository;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VoteCounterServiceImplTest {
+
+	private static final int THREADS = 8;
+	private static final int VOTES_PER_THREAD = 40;
+	// Time each transaction keeps its row lock, standing in for commit latency
+	private static final long HOLD_MILLIS = 3;
+
+	@Autowired
+	private VoteCounterRepository voteCounterRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void concurrentIncrementsAreNotLost() throws Exception {
+		VoteCounterServiceImpl counters = new VoteCounterServiceImpl(voteCounterRepository, candidateRepository,
+				voteRepository, transactionManager, 16);
+		counters.registerCandidate(1L, 101L);
+
+		castConcurrently(counters, 1L, 101L);
+
+		assertEquals(THREADS * VOTES_PER_THREAD, counters.getCandidateVoteCount(101L));
+		assertEquals(THREADS * VOTES_PER_THREAD, counters.getCandidateVoteCounts(1L).get(101L));
+	}
+
+	@Test
+	void stripedThroughputScalesPastSingleHotRow() throws Exception {
+		VoteCounterServiceImpl hotRow = new VoteCounterServiceImpl(voteCounterRepository, candidateRepository,
+				voteRepository, transactionManager, 1);
+		VoteCounterServiceImpl striped = new VoteCounterServiceImpl(voteCounterRepository, candidateRepository,
+				voteRepository, transactionManager, 32);
+		hotRow.registerCandidate(2L, 201L);
+		striped.registerCandidate(3L, 301L);
+
+		double hotRowRate = castConcurrently(hotRow, 2L, 201L);
+		double stripedRate = castConcurrently(striped, 3L, 301L);
+
+		assertEquals(THREADS * VOTES_PER_THREAD, hotRow.getCandidateVoteCount(201L));
+		assertEquals(THREADS * VOTES_PER_THREAD, striped.getCandidateVoteCount(301L));
+		// A single row serialises every transaction; stripes let them overlap
+		assertTrue(stripedRate > hotRowRate * 2,
+				"striped counters should scale with " + THREADS + " threads: " + stripedRate
+						+ " votes/s striped vs " + hotRowRate + " votes/s on a single row");
+	}
+
+	private double castConcurrently(VoteCounterServiceImpl counters, Long electionId, Long candidateId)
+			throws Exception {
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				tasks.add(() -> {
+					for (int i = 0; i < VOTES_PER_THREAD; i++) {
+						tx.executeWithoutResult(status -> {
+							counters.incrementCandidateVotes(electionId, candidateId);
+							sleepQuietly(HOLD_MILLIS);
+						});
+					}
+					return null;
+				});
+			}
+			long start = System.nanoTime();
+			for (Future<Void> future : pool.invokeAll(tasks)) {
+				future.get();
+			}
+			double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+			return THREADS * VOTES_PER_THREAD / seconds;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.IngestionMode;
+import vote.Enum.OTPChannel;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdempotencyRecordRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoteRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.VoteRequest;
+import vote.Response.VoteResponse;
+import vote.Service.IdempotencyService;
+import vote.Service.ParticipationService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteIngestionService;
+import vote.Service.VoteService;
+
+@SpringBootTest(properties = { "voting.ingestion.mode=batched", "voting.ingestion.batch-size=32",
+		"voting.ingestion.linger-ms=20" })
+class VoteIngestionServiceImplTest {
+
+	private static final int VOTERS = 60;
+
+	@Autowired
+	private VoteIngestionService voteIngestionService;
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private ParticipationService participationService;
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void concurrentBallotsAreGroupCommitted() throws Exception {
+		Organization organization = new Organization();
+		organization.setName("Ingestion Org");
+		organization.setCode("INGEST");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Ingestion", "Batched writes",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate first = candidateRepository.save(new Candidate(election, "First", "Chair"));
+		Candidate second = candidateRepository.save(new Candidate(election, "Second", "Chair"));
+
+		List<VoteRequest> requests = new ArrayList<>();
+		for (int i = 0; i < VOTERS; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "ING" + i, "ing" + i + "@example.org", null, "Voter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(i % 3 == 0 ? second.getId() : first.getId());
+			request.setVoterRegistryId(voter.getId());
+			requests.add(request);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<VoteResponse>> receipts = new ArrayList<>();
+			for (VoteRequest request : requests) {
+				receipts.add(pool.submit(() -> voteIngestionService.castVote(request, "127.0.0.1", "test")));
+			}
+			Set<Long> voteIds = new HashSet<>();
+			for (Future<VoteResponse> receipt : receipts) {
+				VoteResponse response = receipt.get();
+				assertNotNull(response.getId());
+				voteIds.add(response.getId());
+			}
+			assertEquals(VOTERS, voteIds.size());
+		} finally {
+			pool.shutdown();
+		}
+
+		assertEquals(VOTERS, voteRepository.countByElectionId(election.getId()));
+		assertEquals(VOTERS, voteCounterService.getParticipationCount(election.getId()));
+		assertEquals(VOTERS / 3, voteCounterService.getCandidateVoteCount(second.getId()));
+		assertEquals(VOTERS - VOTERS / 3, voteCounterService.getCandidateVoteCount(first.getId()));
+		assertTrue(voterRegistryRepository.findAll().stream()
+				.filter(voter -> voter.getMatricNumber() != null && voter.getMatricNumber().startsWith("ING"))
+				.allMatch(VoterRegistry::isUsed));
+
+		// A second ballot from the same voter is refused, not queued
+		assertThrows(BusinessRuleException.class,
+				() -> voteIngestionService.castVote(requests.get(0), "127.0.0.1", "test"));
+
+		// An Idempotency-Key is committed by the writer together with the ballot
+		VoterRegistry late = voterRegistryRepository
+				.save(new VoterRegistry(organization, "INGK", "ingk@example.org", null, "Keyed voter"));
+		VoteRequest keyed = new VoteRequest();
+		keyed.setElectionId(election.getId());
+		keyed.setCandidateId(first.getId());
+		keyed.setVoterRegistryId(late.getId());
+		VoteResponse original = idempotencyService.castVote("ingk", "batched-key", keyed,
+				inTransaction -> voteIngestionService.submitVote(keyed, "127.0.0.1", "test", inTransaction));
+		assertEquals(original.getId(),
+				idempotencyRecordRepository.findByScopeAndIdempotencyKey("ingk", "batched-key").orElseThrow().getVoteId());
+		VoteResponse retried = idempotencyService.castVote("ingk", "batched-key", keyed,
+				inTransaction -> voteIngestionService.submitVote(keyed, "127.0.0.1", "test", inTransaction));
+		assertEquals(original.getId(), retried.getId());
+		assertEquals(VOTERS + 1, voteRepository.countByElectionId(election.getId()));
+	}
+
+	@Test
+	void ballotsQueuedBeforeAPauseAreTurnedAway() throws Exception {
+		Organization organization = new Organization();
+		organization.setName("Paused Ingestion Org");
+		organization.setCode("INGPAUSE");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Paused", "Paused while queued",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		VoterRegistry voter = voterRegistryRepository
+				.save(new VoterRegistry(organization, "INGP", "ingp@example.org", null, "Paused voter"));
+		VoteRequest request = new VoteRequest();
+		request.setElectionId(election.getId());
+		request.setCandidateId(candidate.getId());
+		request.setVoterRegistryId(voter.getId());
+
+		// A long linger keeps the validated ballot waiting for its batch
+		VoteIngestionServiceImpl lingering = new VoteIngestionServiceImpl(voteService, voteCounterService,
+				participationService, voteRepository, electionRepository, candidateRepository, voterRegistryRepository,
+				jdbcTemplate, transactionManager, eventPublisher, IngestionMode.BATCHED, 32, 2000, 100, 10000);
+		lingering.start();
+		try {
+			CompletableFuture<VoteResponse> receipt = lingering.submitVote(request, "127.0.0.1", "test",
+					response -> { });
+			Election paused = electionRepository.findById(election.getId()).orElseThrow();
+			paused.setStatus(ElectionStatus.PAUSED);
+			electionRepository.save(paused);
+
+			ExecutionException rejected = assertThrows(ExecutionException.class,
+					() -> receipt.get(10, TimeUnit.SECONDS));
+			assertTrue(rejected.getCause() instanceof BusinessRuleException);
+			assertEquals(0, voteRepository.countByElectionId(election.getId()));
+		} finally {
+			lingering.stop();
+		}
+	}
+}
@@ -0,0 +1,337 @@
+package vote.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import vote.Entity.Candidate;
+import vote.Entity.Election;
+import vote.Entity.IdentityPolicy;
+import vote.Entity.Organization;
+import vote.Entity.Vote;
+import vote.Entity.VoterRegistry;
+import vote.Enum.ElectionStatus;
+import vote.Enum.ExportFormat;
+import vote.Enum.OTPChannel;
+import vote.Exception.BusinessRuleException;
+import vote.Repository.CandidateRepository;
+import vote.Repository.ElectionRepository;
+import vote.Repository.IdentityPolicyRepository;
+import vote.Repository.OrganizationRepository;
+import vote.Repository.VoteRepository;
+import vote.Repository.VoterRegistryRepository;
+import vote.Request.BallotRequest;
+import vote.Request.BallotSelectionRequest;
+import vote.Request.VoteRequest;
+import vote.Response.BallotResponse;
+import vote.Response.CursorPage;
+import vote.Response.VoteResponse;
+import vote.Service.LiveTallyService;
+import vote.Service.VoteCounterService;
+import vote.Service.VoteService;
+import vote.Util.VoteConstraints;
+
+@SpringBootTest
+class VoteServiceImplTest {
+
+	@Autowired
+	private VoteService voteService;
+
+	@Autowired
+	private VoteCounterService voteCounterService;
+
+	@Autowired
+	private LiveTallyService liveTallyService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private IdentityPolicyRepository identityPolicyRepository;
+
+	@Autowired
+	private ElectionRepository electionRepository;
+
+	@Autowired
+	private CandidateRepository candidateRepository;
+
+	@Autowired
+	private VoterRegistryRepository voterRegistryRepository;
+
+	@Autowired
+	private VoteRepository voteRepository;
+
+	@Test
+	void ballotIsValidatedPerPositionAndWrittenAtomically() {
+		Organization organization = new Organization();
+		organization.setName("Ballot Org");
+		organization.setCode("BALLOT");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Board", "Two seats per position",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election.setMaxVotesPerVoter(2);
+		election = electionRepository.save(election);
+		Candidate chairA = candidateRepository.save(new Candidate(election, "Chair A", "Chair"));
+		Candidate chairB = candidateRepository.save(new Candidate(election, "Chair B", "Chair"));
+		Candidate chairC = candidateRepository.save(new Candidate(election, "Chair C", "Chair"));
+		Candidate treasurer = candidateRepository.save(new Candidate(election, "Treasurer", "Treasurer"));
+		voteCounterService.registerElection(election.getId());
+		for (Candidate candidate : List.of(chairA, chairB, chairC, treasurer)) {
+			voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		}
+		liveTallyService.trackElection(election.getId());
+
+		VoterRegistry alice = voterRegistryRepository
+				.save(new VoterRegistry(organization, "BL1", "alice@example.org", null, "Alice"));
+
+		// Three selections for a two-seat position
+		BallotRequest overvote = ballot(election, alice, chairA, chairB, chairC);
+		BusinessRuleException rejected = assertThrows(BusinessRuleException.class,
+				() -> voteService.castBallot(overvote, "127.0.0.1", "test"));
+		assertEquals("Too many selections for position Chair (maximum 2)", rejected.getMessage());
+
+		// The same candidate twice
+		BallotRequest duplicate = ballot(election, alice, chairA, chairA);
+		assertThrows(BusinessRuleException.class, () -> voteService.castBallot(duplicate, "127.0.0.1", "test"));
+		assertEquals(0, voteRepository.countByElectionId(election.getId()));
+
+		BallotResponse response = voteService.castBallot(ballot(election, alice, chairA, treasurer, chairC),
+				"127.0.0.1", "test");
+		assertEquals(3, response.getVotes().size());
+		assertEquals(3, voteRepository.countByElectionId(election.getId()));
+		assertEquals(1, voteCounterService.getParticipationCount(election.getId()));
+		assertEquals(1, voteCounterService.getCandidateVoteCount(treasurer.getId()));
+		assertEquals(3, liveTallyService.getElectionVoteCount(election.getId()));
+		assertEquals(0, liveTallyService.getCandidateVoteCount(chairB.getId()));
+
+		// A voter gets one ballot
+		BallotRequest again = ballot(election, alice, chairB);
+		BusinessRuleException repeated = assertThrows(BusinessRuleException.class,
+				() -> voteService.castBallot(again, "127.0.0.1", "test"));
+		assertEquals("Voter has already cast a vote in this election", repeated.getMessage());
+	}
+
+	@Test
+	void concurrentDoubleSubmitRecordsExactlyOneVote() throws Exception {
+		Organization organization = new Organization();
+		organization.setName("Double Submit Org");
+		organization.setCode("DOUBLE");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Race", "Same voter, many requests",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		liveTallyService.trackElection(election.getId());
+		VoterRegistry voter = voterRegistryRepository
+				.save(new VoterRegistry(organization, "DS1", "racer@example.org", null, "Racer"));
+
+		VoteRequest request = new VoteRequest();
+		request.setElectionId(election.getId());
+		request.setCandidateId(candidate.getId());
+		request.setVoterRegistryId(voter.getId());
+
+		int attempts = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<VoteResponse>> results = new ArrayList<>();
+		try (ExecutorService threads = Executors.newFixedThreadPool(attempts)) {
+			for (int i = 0; i < attempts; i++) {
+				results.add(threads.submit(() -> {
+					start.await();
+					return voteService.castVote(request, "127.0.0.1", "test");
+				}));
+			}
+			start.countDown();
+
+			int accepted = 0;
+			for (Future<VoteResponse> result : results) {
+				try {
+					result.get(30, TimeUnit.SECONDS);
+					accepted++;
+				} catch (ExecutionException e) {
+					assertEquals(BusinessRuleException.class, e.getCause().getClass(), e.getCause().toString());
+					assertEquals("Voter has already cast a vote in this election", e.getCause().getMessage());
+				}
+			}
+			assertEquals(1, accepted);
+		}
+
+		assertEquals(1, voteRepository.countByElectionId(election.getId()));
+		assertEquals(1, voteCounterService.getParticipationCount(election.getId()));
+		assertEquals(1, voteCounterService.getCandidateVoteCount(candidate.getId()));
+		assertTrue(voterRegistryRepository.findById(voter.getId()).orElseThrow().isUsed());
+	}
+
+	@Test
+	void onlyTheBallotKeyReadsAsAlreadyVoted() {
+		Organization organization = new Organization();
+		organization.setName("Constraint Org");
+		organization.setCode("CONSTRAINT");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Race", "Bad rows are not duplicates",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		liveTallyService.trackElection(election.getId());
+		VoterRegistry voter = voterRegistryRepository
+				.save(new VoterRegistry(organization, "CK1", "keyed@example.org", null, "Keyed"));
+
+		VoteRequest request = new VoteRequest();
+		request.setElectionId(election.getId());
+		request.setCandidateId(candidate.getId());
+		request.setVoterRegistryId(voter.getId());
+
+		// A user agent too long for its column is an error of its own, not a second vote
+		assertThrows(DataIntegrityViolationException.class,
+				() -> voteService.castVote(request, "127.0.0.1", "x".repeat(300)));
+		assertEquals(0, voteRepository.countByElectionId(election.getId()));
+
+		voteService.castVote(request, "127.0.0.1", "test");
+		assertEquals(1, voteRepository.countByElectionId(election.getId()));
+
+		// Past the participation check, a second ballot collides on the ballot selection key
+		Vote repeat = new Vote(election, candidate, voter);
+		repeat.setCastAt(LocalDateTime.now());
+		DataIntegrityViolationException duplicate = assertThrows(DataIntegrityViolationException.class,
+				() -> voteRepository.saveAndFlush(repeat));
+		assertTrue(VoteConstraints.isDuplicateBallot(duplicate), duplicate.getMessage());
+	}
+
+	@Test
+	void exportStreamsEveryVoteAndHidesAnonymousVoters() {
+		Organization organization = new Organization();
+		organization.setName("Export Org");
+		organization.setCode("EXPORT");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Export", "Votes to export",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Smith, \"Jo\"", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		liveTallyService.trackElection(election.getId());
+
+		for (int i = 0; i < 3; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "EX" + i, "ex" + i + "@example.org", null, "Exporter " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(candidate.getId());
+			request.setVoterRegistryId(voter.getId());
+			request.setAnonymous(i == 2);
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		assertEquals(3, voteService.exportVotes(election.getId(), ExportFormat.NDJSON, ndjson));
+		String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(3, lines.length);
+		assertTrue(lines[0].startsWith("{\"voteId\":"), lines[0]);
+		assertTrue(lines[0].contains("\"candidateName\":\"Smith, \\\"Jo\\\"\""), lines[0]);
+		assertTrue(lines[0].contains("\"voterIdentifier\":\"EX0\""), lines[0]);
+		assertFalse(lines[2].contains("voterIdentifier"), lines[2]);
+		assertTrue(lines[2].contains("\"anonymous\":true"), lines[2]);
+
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		assertEquals(3, voteService.exportVotes(election.getId(), ExportFormat.CSV, csv));
+		String[] rows = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+		assertEquals(4, rows.length);
+		assertTrue(rows[0].startsWith("vote_id,candidate_id,candidate_name"), rows[0]);
+		assertTrue(rows[1].contains(",\"Smith, \"\"Jo\"\"\",Chair,"), rows[1]);
+		assertTrue(rows[3].contains(",Chair,,,"), rows[3]);
+	}
+
+	@Test
+	void votesArePagedInIdOrderWithOpaqueCursors() {
+		Organization organization = new Organization();
+		organization.setName("Paging Org");
+		organization.setCode("PAGING");
+		organization = organizationRepository.save(organization);
+		identityPolicyRepository.save(new IdentityPolicy(organization, "Default", Set.of("email"), OTPChannel.NONE));
+
+		Election election = new Election(organization, "Paging", "Votes to page through",
+				LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+		election.setStatus(ElectionStatus.ACTIVE);
+		election = electionRepository.save(election);
+		Candidate candidate = candidateRepository.save(new Candidate(election, "Only", "Chair"));
+		voteCounterService.registerElection(election.getId());
+		voteCounterService.registerCandidate(election.getId(), candidate.getId());
+		liveTallyService.trackElection(election.getId());
+
+		for (int i = 0; i < 5; i++) {
+			VoterRegistry voter = voterRegistryRepository
+					.save(new VoterRegistry(organization, "PG" + i, "pg" + i + "@example.org", null, "Pager " + i));
+			VoteRequest request = new VoteRequest();
+			request.setElectionId(election.getId());
+			request.setCandidateId(candidate.getId());
+			request.setVoterRegistryId(voter.getId());
+			voteService.castVote(request, "127.0.0.1", "test");
+		}
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			CursorPage<VoteResponse> page = voteService.getVotesByElection(election.getId(), cursor, 2);
+			page.getItems().forEach(vote -> seen.add(vote.getId()));
+			assertEquals(page.isHasMore(), page.getNextCursor() != null);
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(3, pages);
+		assertEquals(5, seen.size());
+		assertEquals(seen.stream().sorted().toList(), seen);
+
+		Long electionId = election.getId();
+		assertThrows(BusinessRuleException.class, () -> voteService.getVotesByElection(electionId, "42", 2));
+	}
+
+	private BallotRequest ballot(Election election, VoterRegistry voter, Candidate... candidates) {
+		List<BallotSelectionRequest> selections = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			BallotSelectionRequest selection = new BallotSelectionRequest();
+			selection.setCandidateId(candidate.getId());
+			selections.add(selection);
+		}
+		BallotRequest request = new BallotRequest();
+		request.setElectionId(election.getId());
+		request.setVoterRegistryId(voter.getId());
+		request.setSelections(selections);
+		return request;
+	}
+}
@@ -0,0 +1,59 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ApprovalBallotsTest {
+
+	@Test
+	void approvalsAreCountedAcrossWords() {
+		ApprovalBallots.Builder builder = ApprovalBallots.builder(4);
+		// 2000 ballots span many 64-ballot words and force the columns to grow
+		for (int ballot = 0; ballot < 2000; ballot++) {
+			if (ballot % 2 == 0) {
+				builder.add(new int[] { 0, 2 }, 2);
+			} else if (ballot % 3 == 0) {
+				builder.add(new int[] { 1, 2, 3 }, 3);
+			} else {
+				builder.add(new int[] { 1 }, 1);
+			}
+		}
+		ApprovalBallots ballots = builder.build();
+
+		assertEquals(2000, ballots.size());
+		assertArrayEquals(new long[] { 1000, 1000, 1333, 333 }, ballots.getApprovalCounts());
+		assertEquals(333, ballots.getCoApprovals(1, 3));
+		assertEquals(1000, ballots.getCoApprovals(0, 2));
+		assertEquals(0, ballots.getCoApprovals(0, 1));
+		assertTrue(ballots.isApproved(1999, 1));
+		assertFalse(ballots.isApproved(1999, 0));
+	}
+
+	@Test
+	void topCandidatesBreakTiesByIndex() {
+		ApprovalBallots.Builder builder = ApprovalBallots.builder(3);
+		builder.add(new int[] { 1, 2 }, 2);
+		builder.add(new int[] { 0, 2 }, 2);
+		builder.add(new int[] { 2 }, 1);
+		ApprovalBallots ballots = builder.build();
+
+		assertArrayEquals(new int[] { 2, 0 }, ballots.topCandidates(2));
+		assertArrayEquals(new int[] { 2, 0, 1 }, ballots.topCandidates(5));
+	}
+
+	@Test
+	void rejectedBallotLeavesNoApprovals() {
+		ApprovalBallots.Builder builder = ApprovalBallots.builder(2);
+		assertThrows(IllegalArgumentException.class, () -> builder.add(new int[] { 0, 2 }, 2));
+		builder.add(new int[] { 1 }, 1);
+		ApprovalBallots ballots = builder.build();
+
+		assertEquals(1, ballots.size());
+		assertArrayEquals(new long[] { 0, 1 }, ballots.getApprovalCounts());
+	}
+}
@@ -0,0 +1,27 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+	@Test
+	void estimatesNeverUndercountAndStayCloseForHeavyKeys() {
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+		for (int i = 0; i < 20_000; i++) {
+			sketch.add("10.0." + (i % 250) + "." + (i % 97));
+		}
+		for (int i = 0; i < 500; i++) {
+			sketch.add("203.0.113.7");
+		}
+
+		long heavy = sketch.estimate("203.0.113.7");
+		assertTrue(heavy >= 500, "estimate " + heavy);
+		// Overcount is bounded by about total / width
+		assertTrue(heavy <= 500 + 2 * 20_500 / 1024, "estimate " + heavy);
+		assertTrue(sketch.estimate("198.51.100.1") <= 2 * 20_500 / 1024);
+		assertEquals(heavy + 1, sketch.add("203.0.113.7"));
+	}
+}
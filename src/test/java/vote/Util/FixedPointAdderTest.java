@@ -0,0 +1,60 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FixedPointAdderTest {
+
+	@Test
+	void concurrentAddsSumExactly() throws InterruptedException {
+		FixedPointAdder adder = new FixedPointAdder(8);
+		long weight = VoteWeight.of(new BigDecimal("1.2345"));
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			threads.add(Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 100_000; i++) {
+					adder.add(weight);
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(8 * 100_000 * weight, adder.sum());
+		assertEquals(0, new BigDecimal("987600").compareTo(VoteWeight.toDecimal(adder.sum())));
+	}
+
+	@Test
+	void overflowThrowsInsteadOfWrapping() {
+		FixedPointAdder stripe = new FixedPointAdder(1);
+		stripe.add(Long.MAX_VALUE - 1);
+		assertThrows(ArithmeticException.class, () -> stripe.add(2));
+		// The failed add left the stripe as it was
+		assertEquals(Long.MAX_VALUE - 1, stripe.sum());
+		stripe.add(-(Long.MAX_VALUE - 1));
+		assertEquals(0, stripe.sum());
+	}
+
+	@Test
+	void weightsAreValidatedAndConvertedExactly() {
+		assertEquals(VoteWeight.ONE, VoteWeight.of(BigDecimal.ONE));
+		assertEquals(25_000L, VoteWeight.of(new BigDecimal("2.50000")));
+		assertThrows(IllegalArgumentException.class, () -> VoteWeight.of(new BigDecimal("0.00001")));
+		assertThrows(IllegalArgumentException.class, () -> VoteWeight.of(BigDecimal.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> VoteWeight.of(new BigDecimal("-1")));
+		assertEquals(VoteWeight.MAX, VoteWeight.of(new BigDecimal("922337203.6854")));
+		assertThrows(IllegalArgumentException.class, () -> VoteWeight.of(new BigDecimal("922337203.6855")));
+		assertThrows(IllegalArgumentException.class, () -> VoteWeight.of(new BigDecimal("1000000000000")));
+		// A full registry at the maximum weight still sums without overflow
+		assertTrue(Math.multiplyExact(VoteWeight.MAX, VoteWeight.MAX_ENTRIES) > 0);
+		assertEquals("12.3400", VoteWeight.toDecimal(123_400L).toPlainString());
+	}
+}
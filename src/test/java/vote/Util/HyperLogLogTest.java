@@ -0,0 +1,62 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+	@Test
+	void estimatesStayWithinTheStandardError() {
+		HyperLogLog sketch = new HyperLogLog(14);
+		assertTrue(sketch.isEmpty());
+		for (int i = 0; i < 200_000; i++) {
+			sketch.add("voter-" + i);
+		}
+		// Repeats do not count
+		for (int i = 0; i < 50_000; i++) {
+			sketch.add("voter-" + i);
+		}
+		assertWithin(200_000, sketch.cardinality(), 4 * sketch.getStandardError());
+
+		// Small counts use linear counting and are all but exact
+		HyperLogLog small = new HyperLogLog(14);
+		for (int i = 0; i < 100; i++) {
+			small.add("10.0.0." + i);
+		}
+		assertWithin(100, small.cardinality(), 0.02);
+	}
+
+	@Test
+	void mergeGivesTheSketchOfTheUnion() {
+		HyperLogLog monday = new HyperLogLog(12);
+		HyperLogLog tuesday = new HyperLogLog(12);
+		HyperLogLog both = new HyperLogLog(12);
+		for (int i = 0; i < 30_000; i++) {
+			monday.add("id-" + i);
+			both.add("id-" + i);
+		}
+		for (int i = 20_000; i < 50_000; i++) {
+			tuesday.add("id-" + i);
+			both.add("id-" + i);
+		}
+
+		// Through bytes, as sketches from another node would arrive
+		HyperLogLog merged = HyperLogLog.fromBytes(monday.toBytes());
+		merged.merge(HyperLogLog.fromBytes(tuesday.toBytes()));
+		assertEquals(both.cardinality(), merged.cardinality());
+		assertWithin(50_000, merged.cardinality(), 4 * merged.getStandardError());
+		assertFalse(merged.add("id-42"));
+
+		assertThrows(IllegalArgumentException.class, () -> merged.merge(new HyperLogLog(14)));
+		assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[] { 1, 12, 0 }));
+	}
+
+	private static void assertWithin(long expected, long actual, double relativeError) {
+		assertTrue(Math.abs(actual - expected) <= expected * relativeError,
+				actual + " is not within " + relativeError + " of " + expected);
+	}
+}
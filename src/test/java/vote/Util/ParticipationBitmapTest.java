@@ -0,0 +1,41 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ParticipationBitmapTest {
+
+	@Test
+	void sparseAndDenseIdsSurviveARoundTrip() {
+		ParticipationBitmap bitmap = new ParticipationBitmap();
+		// Dense block: forces the first container over to a bitset
+		for (long id = 1; id <= 10_000; id++) {
+			assertTrue(bitmap.add(id));
+		}
+		// Sparse ids in other containers
+		long[] sparse = { 70_000L, 1_000_003L, 5_000_000_000L };
+		for (long id : sparse) {
+			assertTrue(bitmap.add(id));
+		}
+		assertFalse(bitmap.add(42));
+		assertEquals(10_003, bitmap.getCardinality());
+
+		ParticipationBitmap restored = ParticipationBitmap.fromBytes(bitmap.toBytes());
+		assertEquals(10_003, restored.getCardinality());
+		for (long id = 1; id <= 10_000; id++) {
+			assertTrue(restored.contains(id));
+		}
+		for (long id : sparse) {
+			assertTrue(restored.contains(id));
+		}
+		assertFalse(restored.contains(0));
+		assertFalse(restored.contains(10_001));
+		assertFalse(restored.contains(70_001));
+		assertFalse(restored.contains(-1));
+		// Dense ids cost about a bit each
+		assertTrue(bitmap.toBytes().length < 9_000, bitmap.toBytes().length + " bytes");
+	}
+}
@@ -0,0 +1,131 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RankedChoiceTallyTest {
+
+	private static final double DELTA = 1e-9;
+
+	@Test
+	void instantRunoffTransfersEliminatedBallots() {
+		RankedBallots.Builder builder = RankedBallots.builder(3);
+		add(builder, 4, 0);
+		add(builder, 3, 1, 2);
+		add(builder, 2, 2, 1);
+
+		RankedChoiceTally.Result result = RankedChoiceTally.instantRunoff(builder.build());
+
+		// C is eliminated and both of C's ballots give B a majority
+		assertArrayEquals(new int[] { 1 }, result.getWinners());
+		List<RankedChoiceTally.Round> rounds = result.getRounds();
+		assertEquals(2, rounds.size());
+		assertEquals(2, rounds.get(0).getEliminated());
+		assertEquals(5, rounds.get(1).getVotes(1), DELTA);
+		assertArrayEquals(new int[] { 1 }, rounds.get(1).getElected());
+	}
+
+	@Test
+	void instantRunoffMajorityShrinksAsBallotsExhaust() {
+		RankedBallots.Builder builder = RankedBallots.builder(3);
+		add(builder, 4, 0);
+		add(builder, 3, 1);
+		add(builder, 2, 2);
+
+		RankedChoiceTally.Result result = RankedChoiceTally.instantRunoff(builder.build());
+
+		// Four of the seven ballots still counting is a majority
+		assertArrayEquals(new int[] { 0 }, result.getWinners());
+		RankedChoiceTally.Round last = result.getRounds().get(1);
+		assertEquals(2, last.getExhausted(), DELTA);
+		assertEquals(4, last.getQuota(), DELTA);
+	}
+
+	@Test
+	void singleTransferableVoteMovesSurplusAtReducedWeight() {
+		RankedBallots.Builder builder = RankedBallots.builder(3);
+		add(builder, 8, 0, 1);
+		add(builder, 3, 2);
+		add(builder, 1, 1);
+
+		RankedChoiceTally.Result result = RankedChoiceTally.singleTransferableVote(builder.build(), 2);
+
+		// Droop quota of 12 ballots for 2 seats is 5; A's surplus of 3 moves to B at 3/8 a ballot
+		assertArrayEquals(new int[] { 0, 1 }, result.getWinners());
+		List<RankedChoiceTally.Round> rounds = result.getRounds();
+		assertEquals(5, rounds.get(0).getQuota(), DELTA);
+		assertEquals(4, rounds.get(1).getVotes(1), DELTA);
+		assertEquals(2, rounds.get(1).getEliminated());
+		assertEquals(3, rounds.get(2).getExhausted(), DELTA);
+	}
+
+	@Test
+	void tiesEliminateTheLaterCandidate() {
+		RankedBallots.Builder builder = RankedBallots.builder(2);
+		add(builder, 2, 0);
+		add(builder, 2, 1);
+
+		RankedChoiceTally.Result result = RankedChoiceTally.instantRunoff(builder.build());
+
+		assertArrayEquals(new int[] { 0 }, result.getWinners());
+		assertEquals(1, result.getRounds().get(0).getEliminated());
+	}
+
+	@Test
+	void votesAreConservedAcrossRounds() {
+		Random random = new Random(42);
+		int candidates = 12;
+		RankedBallots.Builder builder = RankedBallots.builder(candidates);
+		int[] ranking = new int[candidates];
+		for (int ballot = 0; ballot < 200_000; ballot++) {
+			for (int i = 0; i < candidates; i++) {
+				ranking[i] = i;
+			}
+			int length = 1 + random.nextInt(4);
+			for (int i = 0; i < length; i++) {
+				int swap = i + random.nextInt(candidates - i);
+				int candidate = ranking[swap];
+				ranking[swap] = ranking[i];
+				ranking[i] = candidate;
+			}
+			builder.add(ranking, length);
+		}
+		RankedBallots ballots = builder.build();
+		assertEquals(200_000, ballots.size());
+
+		RankedChoiceTally.Result result = RankedChoiceTally.singleTransferableVote(ballots, 3);
+
+		assertEquals(3, result.getWinners().length);
+		for (RankedChoiceTally.Round round : result.getRounds()) {
+			double total = round.getExhausted();
+			for (int candidate = 0; candidate < candidates; candidate++) {
+				total += round.getVotes(candidate);
+			}
+			// Elected candidates keep the quota and pass the rest on, so nothing is created or lost
+			assertEquals(result.getValidBallots(), total, 1e-6 * result.getValidBallots());
+		}
+	}
+
+	@Test
+	void ballotsAreValidatedAndPacked() {
+		RankedBallots.Builder builder = RankedBallots.builder(3);
+		assertThrows(IllegalArgumentException.class, () -> builder.add(new int[] { 3 }, 1));
+		builder.add(new int[] { 2, 0, 9 }, 2);
+		RankedBallots ballots = builder.build();
+		assertEquals(1, ballots.size());
+		assertEquals(2, ballots.getLength(0));
+		assertEquals(0, ballots.getPreference(0, 1));
+	}
+
+	private static void add(RankedBallots.Builder builder, int copies, int... ranking) {
+		for (int i = 0; i < copies; i++) {
+			builder.add(ranking, ranking.length);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package vote.Util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TimeBucketRingTest {
+
+	@Test
+	void windowMovesForwardAndForgetsOldBuckets() {
+		TimeBucketRing ring = new TimeBucketRing(4);
+		assertEquals(Long.MIN_VALUE, ring.getNewestBucket());
+		assertTrue(ring.add(100, 2));
+		assertTrue(ring.add(101, 1));
+		assertTrue(ring.add(100, 1));
+		assertEquals(3, ring.get(100));
+		assertEquals(1, ring.get(101));
+
+		// Moving to 103 keeps 100..103; 102 was skipped and reads as empty
+		assertTrue(ring.add(103, 5));
+		assertEquals(3, ring.get(100));
+		assertEquals(0, ring.get(102));
+		assertEquals(103, ring.getNewestBucket());
+
+		// 104 reuses 100's slot
+		assertTrue(ring.add(104, 1));
+		assertEquals(0, ring.get(100));
+		assertEquals(1, ring.get(104));
+		assertFalse(ring.add(100, 1));
+		assertEquals(0, ring.get(105));
+
+		// A gap wider than the window clears everything
+		assertTrue(ring.add(200, 7));
+		assertEquals(0, ring.get(101));
+		assertEquals(0, ring.get(103));
+		assertEquals(7, ring.get(200));
+		assertEquals(0, ring.get(196));
+	}
+
+	@Test
+	void concurrentAddsAreNotLost() throws InterruptedException {
+		TimeBucketRing ring = new TimeBucketRing(60);
+		Thread[] writers = new Thread[4];
+		for (int t = 0; t < writers.length; t++) {
+			writers[t] = new Thread(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					ring.add(i % 50, 1);
+				}
+			});
+			writers[t].start();
+		}
+		for (Thread writer : writers) {
+			writer.join();
+		}
+		long total = 0;
+		for (long bucket = 0; bucket < 50; bucket++) {
+			total += ring.get(bucket);
+		}
+		assertEquals(40_000, total);
+	}
+}
@@ -0,0 +1,81 @@
+package vote.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import vote.Exception.ServiceUnavailableException;
+import vote.Util.AdaptiveConcurrencyLimiter;
+import vote.Util.AdaptiveConcurrencyLimiter.Priority;
+
+class ConcurrencyLimitInterceptorTest {
+
+	@Test
+	void readsAreShedBeforeVotes() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 100, 2.0, 0.5);
+		ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(limiter, 3);
+
+		// Two reads fill the low-priority share
+		assertTrue(interceptor.preHandle(request("GET"), new MockHttpServletResponse(), null));
+		assertTrue(interceptor.preHandle(request("GET"), new MockHttpServletResponse(), null));
+		ServiceUnavailableException shed = assertThrows(ServiceUnavailableException.class,
+				() -> interceptor.preHandle(request("GET"), new MockHttpServletResponse(), null));
+		assertEquals(3, shed.getRetryAfterSeconds());
+
+		// Votes still get the rest of the limit
+		MockHttpServletRequest vote = request("POST");
+		assertTrue(interceptor.preHandle(vote, new MockHttpServletResponse(), null));
+		assertTrue(interceptor.preHandle(request("POST"), new MockHttpServletResponse(), null));
+		assertThrows(ServiceUnavailableException.class,
+				() -> interceptor.preHandle(request("POST"), new MockHttpServletResponse(), null));
+		assertEquals(1, limiter.getRejectedLow());
+		assertEquals(1, limiter.getRejectedCritical());
+
+		// A 503 from further down counts as a drop and backs the limit off
+		MockHttpServletResponse unavailable = new MockHttpServletResponse();
+		unavailable.setStatus(503);
+		interceptor.afterCompletion(vote, unavailable, null, null);
+		assertEquals(3, limiter.getInFlight());
+		assertEquals(3, limiter.getLimit());
+	}
+
+	@Test
+	void limitFollowsLatency() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 2.0, 0.5);
+		long fast = TimeUnit.MILLISECONDS.toNanos(5);
+		long slow = TimeUnit.MILLISECONDS.toNanos(50);
+
+		// Fully used at steady latency: the limit grows
+		for (int i = 0; i < 200; i++) {
+			runBatch(limiter, limiter.getLimit(), fast);
+		}
+		int grown = limiter.getLimit();
+		assertTrue(grown > 10, "limit " + grown);
+
+		// Latency jumps tenfold: the limit shrinks while the baseline catches up
+		runBatch(limiter, limiter.getLimit(), slow);
+		runBatch(limiter, limiter.getLimit(), slow);
+		assertTrue(limiter.getLimit() < grown / 2, "limit " + limiter.getLimit() + " from " + grown);
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	private void runBatch(AdaptiveConcurrencyLimiter limiter, int size, long rttNanos) {
+		int admitted = 0;
+		while (admitted < size && limiter.tryAcquire(Priority.CRITICAL)) {
+			admitted++;
+		}
+		for (int i = 0; i < admitted; i++) {
+			limiter.onSuccess(rttNanos);
+		}
+	}
+
+	private MockHttpServletRequest request(String method) {
+		return new MockHttpServletRequest(method, "/api/votes");
+	}
+}